@@ -0,0 +1,89 @@
+package com.c4.hero.common.ai;
+
+import java.time.Duration;
+import java.util.function.LongSupplier;
+
+/**
+ * <pre>
+ * Class Name: AiCircuitBreaker
+ * Description: AI 서버 호출 서킷 브레이커
+ *
+ * - CLOSED    : 정상 호출, 연속 실패가 기준 횟수에 도달하면 OPEN
+ * - OPEN      : 차단 시간 동안 호출하지 않고 즉시 실패
+ * - HALF_OPEN : 차단 시간이 지나면 시험 호출 1건만 허용 → 성공 시 CLOSED, 실패 시 다시 OPEN
+ *
+ * History
+ * 2026/10/18 (김승민) 최초 작성
+ * </pre>
+ *
+ * @author 김승민
+ * @version 1.0
+ */
+public class AiCircuitBreaker {
+
+    enum State { CLOSED, OPEN, HALF_OPEN }
+
+    private final int failureThreshold;
+    private final long openNanos;
+    private final LongSupplier clock;
+
+    private State state = State.CLOSED;
+    private int consecutiveFailures;
+    private long openedAt;
+    private boolean trialInFlight;
+
+    public AiCircuitBreaker(int failureThreshold, Duration openDuration) {
+        this(failureThreshold, openDuration, System::nanoTime);
+    }
+
+    AiCircuitBreaker(int failureThreshold, Duration openDuration, LongSupplier clock) {
+        this.failureThreshold = Math.max(1, failureThreshold);
+        this.openNanos = openDuration.toNanos();
+        this.clock = clock;
+    }
+
+    /**
+     * 호출 허용 여부
+     * @return 호출 가능하면 true (HALF_OPEN 에서는 시험 호출 1건만 true)
+     */
+    public synchronized boolean tryAcquire() {
+        if (state == State.OPEN && clock.getAsLong() - openedAt >= openNanos) {
+            state = State.HALF_OPEN;
+            trialInFlight = false;
+        }
+        return switch (state) {
+            case CLOSED -> true;
+            case OPEN -> false;
+            case HALF_OPEN -> {
+                if (trialInFlight) yield false;
+                trialInFlight = true;
+                yield true;
+            }
+        };
+    }
+
+    /**
+     * 호출 성공 (AI 서버가 응답함)
+     */
+    public synchronized void onSuccess() {
+        state = State.CLOSED;
+        consecutiveFailures = 0;
+        trialInFlight = false;
+    }
+
+    /**
+     * 호출 실패 (타임아웃, 연결 실패, 5xx)
+     */
+    public synchronized void onFailure() {
+        if (state == State.HALF_OPEN || ++consecutiveFailures >= failureThreshold) {
+            state = State.OPEN;
+            openedAt = clock.getAsLong();
+            consecutiveFailures = 0;
+            trialInFlight = false;
+        }
+    }
+
+    synchronized State state() {
+        return state;
+    }
+}
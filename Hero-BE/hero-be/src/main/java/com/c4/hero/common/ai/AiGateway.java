@@ -0,0 +1,204 @@
+package com.c4.hero.common.ai;
+
+import com.c4.hero.common.cache.NearCache;
+import com.c4.hero.common.exception.BusinessException;
+import com.c4.hero.common.exception.ErrorCode;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Mono;
+import reactor.util.retry.Retry;
+import tools.jackson.databind.ObjectMapper;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeoutException;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+/**
+ * <pre>
+ * Class Name: AiGateway
+ * Description: AI 서버(Fast API) 호출 게이트웨이
+ *
+ * 호출 순서
+ * 1. 결과 캐시 조회 (키: 작업명 + 요청 본문 SHA-256) → 같은 평가를 다시 열어도 모델을 다시 호출하지 않음
+ * 2. 같은 키로 진행 중인 호출이 있으면 그 결과를 함께 사용 (중복 호출 병합)
+ * 3. 동시 호출 한도 확인 → 초과 시 대기하지 않고 AI_SERVER_BUSY
+ * 4. 서킷 브레이커 확인 → 차단 중이면 AI_SERVER_UNAVAILABLE
+ * 5. 호출 (작업별 타임아웃, 연결 실패 시 1회 재시도) → 성공 결과 캐시 저장
+ *
+ * - 요청 스레드를 막지 않도록 CompletableFuture 로 반환 (block() 사용 안 함)
+ * - 4xx 응답은 서버가 살아있는 것으로 보고 서킷 실패로 세지 않음
+ *
+ * History
+ * 2026/10/18 (김승민) 최초 작성
+ * 2026/10/18 (김승민) 결과 캐시를 공통 NearCache 로 교체
+ * </pre>
+ *
+ * @author 김승민
+ * @version 1.1
+ */
+@Slf4j
+@Component
+public class AiGateway {
+
+    private final ObjectMapper objectMapper;
+    private final Semaphore permits;
+    private final AiCircuitBreaker circuitBreaker;
+    /** 분석 결과 캐시 (키: 작업명 + 요청 본문 해시) */
+    private final NearCache<String, Object> resultCache;
+    private final Map<String, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+
+    public AiGateway(
+            ObjectMapper objectMapper,
+            @Value("${ai.gateway.max-concurrency:8}") int maxConcurrency,
+            @Value("${ai.gateway.circuit-breaker.failure-threshold:5}") int failureThreshold,
+            @Value("${ai.gateway.circuit-breaker.open-duration:PT30S}") Duration openDuration,
+            @Value("${ai.gateway.cache.max-size:1000}") int cacheMaxSize,
+            @Value("${ai.gateway.cache.ttl:P1D}") Duration cacheTtl
+    ) {
+        this(objectMapper, maxConcurrency, new AiCircuitBreaker(failureThreshold, openDuration),
+                cacheMaxSize, cacheTtl, System::nanoTime);
+    }
+
+    AiGateway(
+            ObjectMapper objectMapper,
+            int maxConcurrency,
+            AiCircuitBreaker circuitBreaker,
+            int cacheMaxSize,
+            Duration cacheTtl,
+            LongSupplier clock
+    ) {
+        this.objectMapper = objectMapper;
+        this.permits = new Semaphore(Math.max(1, maxConcurrency));
+        this.circuitBreaker = circuitBreaker;
+        this.resultCache = new NearCache<>(cacheMaxSize, cacheTtl, clock);
+    }
+
+    /**
+     * 요청 본문 기준 캐시 키 생성
+     * @param operation 작업명 (예: member, violation)
+     * @param payload   AI 서버로 보낼 요청 본문
+     * @return 작업명:SHA-256(직렬화된 요청 본문)
+     */
+    public String cacheKey(String operation, Object payload) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(objectMapper.writeValueAsBytes(payload));
+            return operation + ":" + HexFormat.of().formatHex(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 을 사용할 수 없습니다.", e);
+        }
+    }
+
+    /**
+     * AI 서버 호출
+     * @param cacheKey 캐시/중복 병합 키 ({@link #cacheKey(String, Object)})
+     * @param timeout  호출 타임아웃 (재시도 포함)
+     * @param request  호출 Mono 생성 (실제 호출이 필요할 때만 실행)
+     * @return 분석 결과
+     */
+    @SuppressWarnings("unchecked")
+    public <T> CompletableFuture<T> call(String cacheKey, Duration timeout, Supplier<Mono<T>> request) {
+        Object cached = resultCache.get(cacheKey);
+        if (cached != null) {
+            return CompletableFuture.completedFuture((T) cached);
+        }
+
+        CompletableFuture<Object> created = new CompletableFuture<>();
+        CompletableFuture<Object> existing = inFlight.putIfAbsent(cacheKey, created);
+        if (existing != null) {
+            log.debug("AI 분석 중복 요청 병합: {}", cacheKey);
+            return existing.thenApply(value -> (T) value);
+        }
+
+        // 캐시 조회와 등록 사이에 앞선 호출이 끝났을 수 있으므로 다시 확인
+        cached = resultCache.get(cacheKey);
+        if (cached != null) {
+            inFlight.remove(cacheKey, created);
+            created.complete(cached);
+            return created.thenApply(value -> (T) value);
+        }
+
+        execute(cacheKey, timeout, request, created);
+        return created.thenApply(value -> (T) value);
+    }
+
+    private <T> void execute(String key, Duration timeout, Supplier<Mono<T>> request, CompletableFuture<Object> future) {
+        if (!permits.tryAcquire()) {
+            fail(key, future, new BusinessException(ErrorCode.AI_SERVER_BUSY));
+            return;
+        }
+        if (!circuitBreaker.tryAcquire()) {
+            permits.release();
+            fail(key, future, new BusinessException(ErrorCode.AI_SERVER_UNAVAILABLE));
+            return;
+        }
+
+        Mono.defer(request)
+                .retryWhen(Retry.backoff(1, Duration.ofMillis(300))
+                        .filter(WebClientRequestException.class::isInstance)
+                        .onRetryExhaustedThrow((spec, signal) -> signal.failure()))
+                .timeout(timeout)
+                .toFuture()
+                .whenComplete((value, error) -> {
+                    permits.release();
+                    if (error == null) {
+                        circuitBreaker.onSuccess();
+                        if (value != null) resultCache.put(key, value);
+                        inFlight.remove(key, future);
+                        future.complete(value);
+                        return;
+                    }
+
+                    Throwable cause = error instanceof CompletionException && error.getCause() != null
+                            ? error.getCause() : error;
+                    if (isServerFailure(cause)) {
+                        circuitBreaker.onFailure();
+                    } else {
+                        circuitBreaker.onSuccess();
+                    }
+                    fail(key, future, translate(key, cause));
+                });
+    }
+
+    private void fail(String key, CompletableFuture<Object> future, RuntimeException exception) {
+        inFlight.remove(key, future);
+        future.completeExceptionally(exception);
+    }
+
+    private static boolean isServerFailure(Throwable cause) {
+        return cause instanceof TimeoutException
+                || cause instanceof WebClientRequestException
+                || (cause instanceof WebClientResponseException response && response.getStatusCode().is5xxServerError());
+    }
+
+    private static RuntimeException translate(String key, Throwable cause) {
+        if (cause instanceof BusinessException business) {
+            return business;
+        }
+        if (cause instanceof TimeoutException) {
+            log.warn("AI 분석 응답 시간 초과: {}", key);
+            return new BusinessException(ErrorCode.AI_SERVER_TIMEOUT);
+        }
+        if (cause instanceof WebClientResponseException response) {
+            log.error("AI 서버 오류 응답: {} status={}, body={}", key, response.getStatusCode(), response.getResponseBodyAsString());
+            return new BusinessException(ErrorCode.AI_SERVER_ERROR);
+        }
+        if (cause instanceof WebClientRequestException) {
+            log.error("AI 서버 연결 실패: {} {}", key, cause.getMessage());
+            return new BusinessException(ErrorCode.AI_SERVER_UNAVAILABLE);
+        }
+        log.error("AI 분석 호출 실패: {}", key, cause);
+        return new BusinessException(ErrorCode.AI_SERVER_ERROR);
+    }
+}
@@ -0,0 +1,100 @@
+package com.c4.hero.common.cache;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.LongSupplier;
+
+/**
+ * <pre>
+ * Class Name: NearCache
+ * Description: 노드 로컬 캐시 (최대 건수 제한 LRU + 항목별 만료 시간)
+ *
+ * - 최대 건수를 넘으면 가장 오래 조회되지 않은 항목부터 제거
+ * - 만료된 항목은 조회 시점에 제거
+ * - 기본 만료 시간 대신 항목별 만료 시간 지정 가능 (토큰 / 서명 URL 처럼 값마다 유효 기간이 다른 경우)
+ *
+ * History
+ * 2026/10/18 (혜원) 최초 작성
+ * 2026/10/18 (혜원) 전체 무효화(evictAll) 추가
+ * 2026/10/18 (혜원) 알림 외 도메인(근무제 템플릿 / 급여 수식)에서도 사용하므로 common.cache 로 이동
+ * 2026/10/18 (혜원) 항목별 만료 시간 저장(put with ttl) 추가, 시계 지정 생성자 공개
+ * </pre>
+ *
+ * @author 혜원
+ * @version 1.3
+ */
+public class NearCache<K, V> {
+
+    private final long ttlNanos;
+    private final LongSupplier nanoClock;
+    private final LinkedHashMap<K, Entry<V>> entries;
+
+    public NearCache(int maxSize, Duration ttl) {
+        this(maxSize, ttl, System::nanoTime);
+    }
+
+    /**
+     * @param maxSize   최대 건수
+     * @param ttl       기본 만료 시간
+     * @param nanoClock 나노초 단위 시계 (테스트 / 벽시계 기준 만료가 필요한 경우 지정)
+     */
+    public NearCache(int maxSize, Duration ttl, LongSupplier nanoClock) {
+        int limit = Math.max(1, maxSize);
+        this.ttlNanos = ttl.toNanos();
+        this.nanoClock = nanoClock;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<K, Entry<V>> eldest) {
+                return size() > limit;
+            }
+        };
+    }
+
+    /**
+     * @return 캐시 값 (없거나 만료되었으면 null)
+     */
+    public synchronized V get(K key) {
+        Entry<V> entry = entries.get(key);
+        if (entry == null) return null;
+        if (nanoClock.getAsLong() >= entry.expiresAt()) {
+            entries.remove(key);
+            return null;
+        }
+        return entry.value();
+    }
+
+    public synchronized void put(K key, V value) {
+        entries.put(key, new Entry<>(value, nanoClock.getAsLong() + ttlNanos));
+    }
+
+    /**
+     * 항목별 만료 시간으로 저장 (만료 시간이 0 이하이면 저장하지 않고 기존 항목 제거)
+     *
+     * @param key   키
+     * @param value 값
+     * @param ttl   이 항목의 만료 시간
+     */
+    public synchronized void put(K key, V value, Duration ttl) {
+        if (ttl.isNegative() || ttl.isZero()) {
+            entries.remove(key);
+            return;
+        }
+        entries.put(key, new Entry<>(value, nanoClock.getAsLong() + ttl.toNanos()));
+    }
+
+    public synchronized void evict(K key) {
+        entries.remove(key);
+    }
+
+    public synchronized void evictAll() {
+        entries.clear();
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    private record Entry<V>(V value, long expiresAt) {
+    }
+}
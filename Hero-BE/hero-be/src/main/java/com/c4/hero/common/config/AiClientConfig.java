@@ -1,11 +1,16 @@
 package com.c4.hero.common.config;
 
+import io.netty.channel.ChannelOption;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
 import org.springframework.web.reactive.function.client.WebClient;
+import reactor.netty.http.client.HttpClient;
+
+import java.time.Duration;
 
 /**
  * <pre>
@@ -14,10 +19,11 @@ import org.springframework.web.reactive.function.client.WebClient;
  *
  * History
  * 2025/12/30 (김승민) 최초 작성
+ * 2026/10/18 (김승민) 연결 타임아웃 설정 추가 (응답 타임아웃은 AiGateway 에서 작업별로 적용)
  * </pre>
  *
  * @author 승민
- * @version 1.0
+ * @version 1.1
  */
 
 @Configuration
@@ -25,10 +31,15 @@ public class AiClientConfig {
 
     @Bean
     public WebClient aiWebClient(
-            @Value("${ai.server.base-url}") String baseUrl
+            @Value("${ai.server.base-url}") String baseUrl,
+            @Value("${ai.gateway.connect-timeout:PT3S}") Duration connectTimeout
     ) {
+        HttpClient httpClient = HttpClient.create()
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, (int) connectTimeout.toMillis());
+
         return WebClient.builder()
                 .baseUrl(baseUrl)
+                .clientConnector(new ReactorClientHttpConnector(httpClient))
                 .defaultHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
                 .build();
     }
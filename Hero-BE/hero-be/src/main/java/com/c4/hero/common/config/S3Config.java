@@ -1,14 +1,31 @@
 package com.c4.hero.common.config;
 
+import com.amazonaws.auth.AWSCredentialsProvider;
 import com.amazonaws.auth.AWSStaticCredentialsProvider;
 import com.amazonaws.auth.BasicAWSCredentials;
 import com.amazonaws.auth.InstanceProfileCredentialsProvider; // ★ 이거 추가됨!
+import com.amazonaws.client.builder.AwsClientBuilder;
 import com.amazonaws.services.s3.AmazonS3;
 import com.amazonaws.services.s3.AmazonS3ClientBuilder;
+import com.amazonaws.services.s3.transfer.TransferManager;
+import com.amazonaws.services.s3.transfer.TransferManagerBuilder;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.util.unit.DataSize;
 
+/**
+ * <pre>
+ * Class Name: S3Config
+ * Description: AWS S3 클라이언트 설정
+ *
+ * - cloud.aws.s3.endpoint 를 지정하면 S3 호환 저장소(MinIO, LocalStack 등)로 연결 (path-style 접근)
+ * - 대용량 파일은 TransferManager 로 분할(multipart) 업로드
+ *
+ * History
+ * 2026/10/18 (혜원) S3 호환 엔드포인트 설정, 분할 업로드용 TransferManager 추가
+ * </pre>
+ */
 @Configuration
 public class S3Config {
 
@@ -22,25 +39,49 @@ public class S3Config {
     @Value("${cloud.aws.region.static}")
     private String region;
 
+    // 비워두면 AWS S3 사용
+    @Value("${cloud.aws.s3.endpoint:}")
+    private String endpoint;
+
     @Bean
     public AmazonS3 amazonS3() {
+        AmazonS3ClientBuilder builder = AmazonS3ClientBuilder
+                .standard()
+                .withCredentials(credentialsProvider());
+
+        if (endpoint.isEmpty()) {
+            builder.withRegion(region);
+        } else {
+            builder.withEndpointConfiguration(new AwsClientBuilder.EndpointConfiguration(endpoint, region))
+                    .withPathStyleAccessEnabled(true);
+        }
+        return builder.build();
+    }
+
+    /**
+     * 분할 업로드용 TransferManager
+     * 임계값 이상 파일은 part-size 단위로 나누어 스트림에서 읽어 업로드 (파일 전체를 메모리에 올리지 않음)
+     */
+    @Bean(destroyMethod = "")
+    public TransferManager transferManager(
+            AmazonS3 amazonS3,
+            @Value("${cloud.aws.s3.upload.multipart-threshold:16MB}") DataSize multipartThreshold,
+            @Value("${cloud.aws.s3.upload.part-size:8MB}") DataSize partSize
+    ) {
+        return TransferManagerBuilder.standard()
+                .withS3Client(amazonS3)
+                .withMultipartUploadThreshold(multipartThreshold.toBytes())
+                .withMinimumUploadPartSize(partSize.toBytes())
+                .build();
+    }
+
+    private AWSCredentialsProvider credentialsProvider() {
         // 2. 핵심: 키가 비어있으면 IAM Role (Instance Profile) 사용
         if (accessKey.isEmpty() || secretKey.isEmpty()) {
-            return AmazonS3ClientBuilder
-                    .standard()
-                    .withRegion(region)
-                    .withCredentials(InstanceProfileCredentialsProvider.getInstance())
-                    .build();
+            return InstanceProfileCredentialsProvider.getInstance();
         }
 
         // 3. 키가 있으면 로컬 개발용 Access Key 사용
-        else {
-            BasicAWSCredentials credentials = new BasicAWSCredentials(accessKey, secretKey);
-            return AmazonS3ClientBuilder
-                    .standard()
-                    .withRegion(region)
-                    .withCredentials(new AWSStaticCredentialsProvider(credentials))
-                    .build();
-        }
+        return new AWSStaticCredentialsProvider(new BasicAWSCredentials(accessKey, secretKey));
     }
-}
\ No newline at end of file
+}
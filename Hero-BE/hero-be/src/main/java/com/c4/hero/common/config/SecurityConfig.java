@@ -1,8 +1,10 @@
 package com.c4.hero.common.config;
 
 import com.c4.hero.domain.auth.security.AuthenticationFilter;
+import com.c4.hero.domain.auth.security.JwtAuthenticationCache;
 import com.c4.hero.domain.auth.security.JwtUtil;
 import com.c4.hero.domain.auth.security.JwtVerificationFilter;
+import jakarta.servlet.DispatcherType;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -40,10 +42,12 @@ import java.util.Arrays;
  * 2025/12/11 (혜원) WebSocket 설정 추가
  * 2025/12/14 (혜원) 개발 편의성을 위해 모든 시큐리티 허용
  * 2026/01/03 (동근) 급여 도메인 권한 인가 정책 구조 추가
+ * 2026/10/18 (승건) JWT 검증 필터에 인증 객체 캐시 주입
+ * 2026/10/18 (승민) 비동기 응답(AI 분석) 재디스패치 허용
  * </pre>
  *
  * @author 혜원
- * @version 1.4
+ * @version 1.6
  */
 @Configuration
 @EnableWebSecurity
@@ -52,6 +56,7 @@ import java.util.Arrays;
 public class SecurityConfig {
 
     private final JwtUtil jwtUtil;
+    private final JwtAuthenticationCache jwtAuthenticationCache;
     private final AuthenticationConfiguration authenticationConfiguration;
     private final ObjectMapper objectMapper;
 
@@ -92,6 +97,8 @@ public class SecurityConfig {
 
                 // URL별 권한 설정
                 .authorizeHttpRequests(auth -> auth
+//                         비동기 응답 재디스패치 (최초 요청에서 이미 인가 완료, Stateless라 재디스패치 시 인증 정보 없음)
+                                .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
 //                         WebsSocket
                                 .requestMatchers("/ws/**").permitAll()
 //                         Preflight 요청은 모두 허용
@@ -165,7 +172,7 @@ public class SecurityConfig {
                 // 1. 로그인 필터: UsernamePasswordAuthenticationFilter 위치에 추가
                 .addFilterAt(authenticationFilter, UsernamePasswordAuthenticationFilter.class)
                 // 2. JWT 검증 필터: 로그인 필터 이전에 추가
-                .addFilterBefore(new JwtVerificationFilter(jwtUtil), AuthenticationFilter.class)
+                .addFilterBefore(new JwtVerificationFilter(jwtUtil, jwtAuthenticationCache), AuthenticationFilter.class)
                 // WebSocket을 위한 프레임 옵션 설정
                 .headers(headers -> headers
                         .frameOptions(frame -> frame.sameOrigin())
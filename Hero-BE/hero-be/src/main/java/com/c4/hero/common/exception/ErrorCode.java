@@ -25,10 +25,13 @@ import org.springframework.http.HttpStatus;
  * 2025-12-29 (승건) 파일 업로드 실패 추가
  * 2025-12-31 (승건) 파일 크기 초과 추가
  * 2026-01-05 (민철) 결재 관련 에러 코드 추가
+ * 2026-10-18 (동근) 급여 배치 비동기 작업 관련 에러 코드 추가
+ * 2026-10-18 (승민) AI 서버 연동 관련 에러 코드 추가
+ * 2026-10-18 (승민) 승진 추천 분석 작업 관련 에러 코드 추가
  * </pre>
  *
  * @author 혜원
- * @version 1.7
+ * @version 1.10
  */
 @Getter
 @RequiredArgsConstructor
@@ -214,6 +217,16 @@ public enum ErrorCode {
      */
     PAYROLL_BATCH_HAS_FAILED(HttpStatus.CONFLICT, "P108", "실패(FAILED) 처리된 사원이 있어 배치를 확정할 수 없습니다."),
 
+    /**
+     * 배치에 대기/실행 중인 비동기 작업이 있어 새 작업 등록 불가
+     */
+    PAYROLL_BATCH_JOB_IN_PROGRESS(HttpStatus.CONFLICT, "P109", "해당 배치에 진행 중인 작업이 있습니다."),
+
+    /**
+     * 요청한 급여 배치 작업을 찾을 수 없는 경우
+     */
+    PAYROLL_BATCH_JOB_NOT_FOUND(HttpStatus.NOT_FOUND, "P110", "급여 배치 작업을 찾을 수 없습니다."),
+
 
     // ===== 승진(Promotion) 관련 에러 =====
     /**
@@ -304,7 +317,38 @@ public enum ErrorCode {
     /* 5. 파일/시스템 */
     FILE_UPLOAD_ERROR(HttpStatus.INTERNAL_SERVER_ERROR, "F001", "파일 업로드에 실패했습니다."),
     FILE_DELETE_ERROR(HttpStatus.INTERNAL_SERVER_ERROR, "F002", "파일 삭제에 실패했습니다."),
-    DOC_NO_GENERATION_ERROR(HttpStatus.CONFLICT, "S001", "문서 번호 생성 중 충돌이 발생했습니다.");
+    DOC_NO_GENERATION_ERROR(HttpStatus.CONFLICT, "S001", "문서 번호 생성 중 충돌이 발생했습니다."),
+
+    // ===== AI 분석 관련 에러 =====
+    /**
+     * 동시 분석 요청 한도 초과
+     */
+    AI_SERVER_BUSY(HttpStatus.SERVICE_UNAVAILABLE, "AI001", "AI 분석 요청이 많습니다. 잠시 후 다시 시도해주세요."),
+
+    /**
+     * 연속 실패로 AI 서버 호출 차단 중
+     */
+    AI_SERVER_UNAVAILABLE(HttpStatus.SERVICE_UNAVAILABLE, "AI002", "AI 서버를 일시적으로 사용할 수 없습니다."),
+
+    /**
+     * AI 분석 응답 시간 초과
+     */
+    AI_SERVER_TIMEOUT(HttpStatus.GATEWAY_TIMEOUT, "AI003", "AI 분석 응답 시간이 초과되었습니다."),
+
+    /**
+     * AI 서버 오류 응답
+     */
+    AI_SERVER_ERROR(HttpStatus.BAD_GATEWAY, "AI004", "AI 분석 중 오류가 발생했습니다."),
+
+    /**
+     * 승진 추천 분석 작업 없음
+     */
+    PROMOTION_ANALYSIS_JOB_NOT_FOUND(HttpStatus.NOT_FOUND, "AI005", "승진 추천 분석 작업을 찾을 수 없습니다."),
+
+    /**
+     * 같은 승진 계획에 진행 중인 분석 작업 존재
+     */
+    PROMOTION_ANALYSIS_JOB_IN_PROGRESS(HttpStatus.CONFLICT, "AI006", "이미 진행 중인 승진 추천 분석 작업이 있습니다.");
 
 
     /** HTTP 상태 코드 */
@@ -0,0 +1,71 @@
+package com.c4.hero.common.pagination;
+
+import com.c4.hero.common.exception.BusinessException;
+import com.c4.hero.common.exception.ErrorCode;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.Base64;
+
+/**
+ * <pre>
+ * Class Name: KeysetCursor
+ * Description: (날짜, ID) 기준 키셋 페이지네이션 커서
+ *
+ * - 목록이 (날짜 DESC, ID DESC)로 정렬된 경우 마지막 행의 (날짜, ID)를 커서로 사용
+ * - 다음 페이지는 OFFSET 없이 "커서보다 뒤" 조건으로 조회
+ * - 클라이언트에는 "yyyy-MM-dd:ID"를 URL-safe Base64로 인코딩한 문자열로 전달
+ *
+ * History
+ * 2026/10/18 (이지윤) 최초 작성
+ * </pre>
+ *
+ * @author 이지윤
+ * @version 1.0
+ */
+@Getter
+@AllArgsConstructor
+public class KeysetCursor {
+
+    /** 마지막 행의 날짜 */
+    private LocalDate date;
+
+    /** 마지막 행의 ID (같은 날짜 내 정렬 기준) */
+    private Integer id;
+
+    /**
+     * 커서를 클라이언트 전달용 문자열로 인코딩
+     *
+     * @return 인코딩된 커서 문자열
+     */
+    public String encode() {
+        String raw = date + ":" + id;
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 커서 문자열 디코딩
+     *
+     * @param cursor 인코딩된 커서 문자열 (null/공백이면 첫 페이지)
+     * @return 디코딩된 커서, 첫 페이지면 null
+     */
+    public static KeysetCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = raw.lastIndexOf(':');
+            return new KeysetCursor(
+                    LocalDate.parse(raw.substring(0, separator)),
+                    Integer.valueOf(raw.substring(separator + 1))
+            );
+        } catch (RuntimeException e) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE, "커서 값이 올바르지 않습니다.");
+        }
+    }
+}
@@ -1,5 +1,7 @@
 package com.c4.hero.common.pagination;
 
+import java.util.function.IntSupplier;
+
 /**
  * <pre>
  * Class Name: PageCalculator
@@ -8,9 +10,11 @@ package com.c4.hero.common.pagination;
  * - page / size 보정
  * - offset 계산
  * - totalPages 계산
+ * - 키셋(커서) 페이지 조회 크기 / 전체 개수 처리
  *
  * History
  * 2025/12/12 최초 작성
+ * 2026/10/18 키셋 페이지네이션 계산 추가
  * </pre>
  */
 public class PageCalculator {
@@ -52,4 +56,40 @@ public class PageCalculator {
                 totalPages
         );
     }
+
+    /**
+     * 키셋 페이지 조회 시 DB에서 가져올 행 수
+     *
+     * <p>요청 크기보다 1건 더 조회하여 다음 페이지 존재 여부를 COUNT 없이 판단합니다.</p>
+     *
+     * @param size 페이지당 데이터 개수
+     * @return 조회할 행 수 (보정된 size + 1)
+     */
+    public static int keysetFetchSize(int size) {
+        return Math.max(size, 1) + 1;
+    }
+
+    /**
+     * 키셋 페이지 응답에 담을 전체 개수 결정
+     *
+     * <ul>
+     *     <li>withTotal = false: COUNT 미조회 (-1)</li>
+     *     <li>knownTotal 전달: 클라이언트가 이전 응답에서 받은 값을 그대로 사용</li>
+     *     <li>그 외: COUNT 조회</li>
+     * </ul>
+     *
+     * @param withTotal  전체 개수 포함 여부
+     * @param knownTotal 이전 응답의 전체 개수 (없으면 null)
+     * @param counter    COUNT 조회 함수
+     * @return 전체 개수, 미조회 시 -1
+     */
+    public static long resolveKeysetTotal(boolean withTotal, Long knownTotal, IntSupplier counter) {
+        if (!withTotal) {
+            return -1L;
+        }
+        if (knownTotal != null && knownTotal >= 0) {
+            return knownTotal;
+        }
+        return counter.getAsInt();
+    }
 }
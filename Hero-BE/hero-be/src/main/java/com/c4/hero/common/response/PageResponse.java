@@ -1,9 +1,11 @@
 package com.c4.hero.common.response;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import lombok.Builder;
 import lombok.Getter;
 
 import java.util.List;
+import java.util.function.Function;
 
 /**
  * <pre>
@@ -15,13 +17,15 @@ import java.util.List;
  *
  * 사용 예시:
  * PageResponse.of(content, page, size, totalElements)
+ * PageResponse.ofKeyset(rows, size, first, totalElements, cursorOf)
  *
  * History
  * 2025/11/28 (혜원) 최초 작성
+ * 2026/10/18 (혜원) 키셋(커서) 페이지 응답 추가
  * </pre>
  *
  * @author 혜원
- * @version 1.0
+ * @version 1.1
  * @param <T> 응답 데이터 타입
  */
 @Getter
@@ -49,6 +53,10 @@ public class PageResponse<T> {
     /** 마지막 페이지 여부 */
     private boolean last;
 
+    /** 다음 페이지 커서 (키셋 페이지 응답에서만 사용, 마지막 페이지면 null) */
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private String nextCursor;
+
     /**
      * 페이징 응답 생성
      *
@@ -84,4 +92,37 @@ public class PageResponse<T> {
                 .last(page >= totalPages - 1)        // 마지막 페이지 여부
                 .build();
     }
-}
\ No newline at end of file
+
+    /**
+     * 키셋(커서) 페이징 응답 생성
+     *
+     * <p>rows는 {@code size + 1}건까지 조회한 결과이며, 초과분이 있으면 다음 페이지가 있는 것으로 판단합니다.
+     * 키셋 응답의 page는 항상 0이며, 전체 개수를 조회하지 않은 경우 totalElements/totalPages는 -1입니다.</p>
+     *
+     * @param rows          조회 결과 (최대 size + 1건)
+     * @param size          페이지 크기
+     * @param first         첫 페이지 여부 (요청 커서가 없었는지)
+     * @param totalElements 전체 데이터 개수 (미조회 시 -1)
+     * @param cursorOf      행 → 다음 페이지 커서 변환 함수
+     * @param <T>           응답 데이터 타입
+     * @return 키셋 페이징 응답
+     */
+    public static <T> PageResponse<T> ofKeyset(List<T> rows, int size, boolean first,
+                                               long totalElements, Function<T, String> cursorOf) {
+        boolean hasNext = rows.size() > size;
+        List<T> content = hasNext ? rows.subList(0, size) : rows;
+
+        int totalPages = totalElements < 0 ? -1 : (int) Math.ceil((double) totalElements / size);
+
+        return PageResponse.<T>builder()
+                .content(content)
+                .page(0)
+                .size(size)
+                .totalElements(totalElements)
+                .totalPages(totalPages)
+                .first(first)
+                .last(!hasNext)
+                .nextCursor(hasNext ? cursorOf.apply(content.get(content.size() - 1)) : null)
+                .build();
+    }
+}
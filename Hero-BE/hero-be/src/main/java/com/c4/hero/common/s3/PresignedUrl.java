@@ -0,0 +1,20 @@
+package com.c4.hero.common.s3;
+
+import java.time.Instant;
+
+/**
+ * <pre>
+ * Record Name: PresignedUrl
+ * Description: 서명된 S3 URL과 만료 시각
+ *
+ * History
+ * 2026/10/18 (혜원) 최초 작성
+ * </pre>
+ *
+ * @param url       Presigned URL
+ * @param expiresAt URL 만료 시각
+ * @author 혜원
+ * @version 1.0
+ */
+public record PresignedUrl(String url, Instant expiresAt) {
+}
@@ -0,0 +1,79 @@
+package com.c4.hero.common.s3;
+
+import com.c4.hero.common.cache.NearCache;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+
+/**
+ * <pre>
+ * Class Name: PresignedUrlCache
+ * Description: S3 키별 Presigned URL 캐시
+ *
+ * - 같은 S3 키는 만료 전까지 이미 서명한 URL을 재사용 (매 요청 서명 생략)
+ * - 남은 유효 시간이 갱신 여유 시간(refreshMargin) 이하가 되면 새로 서명
+ *   → 클라이언트가 받은 URL은 항상 refreshMargin 이상 유효
+ * - 최대 건수를 넘으면 가장 오래 사용되지 않은 항목부터 제거
+ *
+ * History
+ * 2026/10/18 (혜원) 최초 작성
+ * 2026/10/18 (혜원) 공통 NearCache 사용
+ * </pre>
+ *
+ * @author 혜원
+ * @version 1.1
+ */
+public class PresignedUrlCache {
+
+    private final long refreshMarginMillis;
+    private final LongSupplier clock;
+    private final NearCache<String, PresignedUrl> entries;
+
+    public PresignedUrlCache(int maxSize, Duration refreshMargin) {
+        this(maxSize, refreshMargin, System::currentTimeMillis);
+    }
+
+    PresignedUrlCache(int maxSize, Duration refreshMargin, LongSupplier clock) {
+        this.refreshMarginMillis = refreshMargin.toMillis();
+        this.clock = clock;
+        // URL 만료 시각(벽시계 ms) 기준으로 항목별 만료 시간만 사용
+        this.entries = new NearCache<>(maxSize, Duration.ZERO,
+                () -> TimeUnit.MILLISECONDS.toNanos(clock.getAsLong()));
+    }
+
+    /**
+     * 캐시된 URL 조회, 없거나 갱신 시점이 지났으면 새로 서명해서 저장
+     *
+     * @param s3Key  S3 키
+     * @param signer 서명 함수 (S3 키 → Presigned URL)
+     * @return Presigned URL (서명 결과가 null이면 null)
+     */
+    public PresignedUrl get(String s3Key, Function<String, PresignedUrl> signer) {
+        PresignedUrl cached = entries.get(s3Key);
+        if (cached != null) return cached;
+
+        // 서명은 네트워크 호출 없는 로컬 연산이지만 락 밖에서 수행 (동시 서명 시 마지막 결과 저장)
+        PresignedUrl signed = signer.apply(s3Key);
+        if (signed == null) return null;
+
+        // 갱신 시점(만료 시각 - refreshMargin)까지만 보관
+        long refreshAt = signed.expiresAt().toEpochMilli() - refreshMarginMillis;
+        entries.put(s3Key, signed, Duration.ofMillis(refreshAt - clock.getAsLong()));
+        return signed;
+    }
+
+    /**
+     * 캐시 항목 제거 (S3 객체 삭제 시)
+     *
+     * @param s3Key S3 키
+     */
+    public void evict(String s3Key) {
+        entries.evict(s3Key);
+    }
+
+    int size() {
+        return entries.size();
+    }
+}
@@ -4,14 +4,21 @@ import com.amazonaws.services.s3.AmazonS3;
 import com.amazonaws.services.s3.model.CannedAccessControlList;
 import com.amazonaws.services.s3.model.ObjectMetadata;
 import com.amazonaws.services.s3.model.PutObjectRequest;
-import lombok.RequiredArgsConstructor;
+import com.amazonaws.services.s3.transfer.TransferManager;
+import jakarta.annotation.PreDestroy;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collection;
 import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.UUID;
 
 /**
@@ -22,20 +29,38 @@ import java.util.UUID;
  * History
  * 2025/12/28 (혜원) 최초 작성
  * 2026/01/01 (민철) 파일 확장자 추가
+ * 2026/10/18 (혜원) 만료 시각을 함께 반환하는 Presigned URL 생성 추가
+ * 2026/10/18 (혜원) 기본 Presigned URL을 S3 키별 캐시로 재사용, 일괄 생성(generatePresignedUrls) 추가
+ * 2026/10/18 (혜원) TransferManager 스트리밍(분할) 업로드로 변경, 키 생성/업로드 분리, 실패를 알리는 삭제 추가
  * </pre>
  *
  * @author 혜원
- * @version 1.1
+ * @version 1.4
  */
 @Slf4j
 @Service
-@RequiredArgsConstructor
 public class S3Service {
 
     private final AmazonS3 amazonS3;
+    private final TransferManager transferManager;
+    private final String bucket;
+    private final Duration defaultValidity;
+    private final PresignedUrlCache presignedUrlCache;
 
-    @Value("${cloud.aws.s3.bucket}")
-    private String bucket;
+    public S3Service(
+            AmazonS3 amazonS3,
+            TransferManager transferManager,
+            @Value("${cloud.aws.s3.bucket}") String bucket,
+            @Value("${cloud.aws.s3.presigned-url.validity:P7D}") Duration defaultValidity,
+            @Value("${cloud.aws.s3.presigned-url.refresh-margin:P1D}") Duration refreshMargin,
+            @Value("${cloud.aws.s3.presigned-url.cache-size:20000}") int cacheSize
+    ) {
+        this.amazonS3 = amazonS3;
+        this.transferManager = transferManager;
+        this.bucket = bucket;
+        this.defaultValidity = defaultValidity;
+        this.presignedUrlCache = new PresignedUrlCache(cacheSize, refreshMargin);
+    }
 
     /**
      * 파일 업로드
@@ -45,6 +70,20 @@ public class S3Service {
      * @return 업로드된 파일의 URL
      */
     public String uploadFile(MultipartFile file, String directory) {
+        String s3Key = createObjectKey(file, directory);
+        upload(s3Key, file);
+        return s3Key;
+    }
+
+    /**
+     * 업로드할 S3 키 생성 (파일 검증 포함)
+     * 업로드 전에 키를 먼저 기록해야 하는 경우(첨부파일 outbox 등) 사용
+     *
+     * @param file 업로드할 파일
+     * @param directory S3 디렉토리 경로
+     * @return 생성된 S3 키
+     */
+    public String createObjectKey(MultipartFile file, String directory) {
         if (file.isEmpty()) {
             throw new IllegalArgumentException("파일이 비어있습니다.");
         }
@@ -61,32 +100,43 @@ public class S3Service {
 
         // 고유한 파일명 생성
         String uniqueFilename = generateUniqueFilename(originalFilename);
-        String s3Key = directory + "/" + uniqueFilename;
+        return directory + "/" + uniqueFilename;
+    }
 
+    /**
+     * 지정한 S3 키로 파일 업로드 (스트리밍)
+     * 임계값 이상 파일은 TransferManager가 part 단위로 나누어 업로드하므로 파일 전체를 메모리에 올리지 않음
+     *
+     * @param s3Key S3 키
+     * @param file 업로드할 파일
+     */
+    public void upload(String s3Key, MultipartFile file) {
         try {
-            // 메타데이터 설정
+            // 메타데이터 설정 (길이를 알려야 SDK가 스트림을 버퍼링하지 않음)
             ObjectMetadata metadata = new ObjectMetadata();
             metadata.setContentType(file.getContentType());
             metadata.setContentLength(file.getSize());
 
-            // S3 업로드 (Private ACL)
-            PutObjectRequest putObjectRequest = new PutObjectRequest(
-                    bucket,
-                    s3Key,
-                    file.getInputStream(),
-                    metadata
-            ).withCannedAcl(CannedAccessControlList.Private);
+            try (InputStream inputStream = file.getInputStream()) {
+                // S3 업로드 (Private ACL)
+                PutObjectRequest putObjectRequest = new PutObjectRequest(
+                        bucket,
+                        s3Key,
+                        inputStream,
+                        metadata
+                ).withCannedAcl(CannedAccessControlList.Private);
 
-            amazonS3.putObject(putObjectRequest);
-
-            // S3 키 반환 (URL이 아닌 키를 저장)
-            log.info("S3 파일 업로드 성공 - Key: {}", s3Key);
+                transferManager.upload(putObjectRequest).waitForCompletion();
+            }
 
-            return s3Key;
+            log.info("S3 파일 업로드 성공 - Key: {}, 크기: {}", s3Key, file.getSize());
 
         } catch (IOException e) {
-            log.error("S3 파일 업로드 실패 - 파일: {}", originalFilename, e);
+            log.error("S3 파일 업로드 실패 - 파일: {}", file.getOriginalFilename(), e);
             throw new RuntimeException("파일 업로드에 실패했습니다.", e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("파일 업로드가 중단되었습니다.", e);
         }
     }
 
@@ -101,6 +151,7 @@ public class S3Service {
         }
 
         try {
+            presignedUrlCache.evict(s3Key);
             if (amazonS3.doesObjectExist(bucket, s3Key)) {
                 amazonS3.deleteObject(bucket, s3Key);
                 log.info("S3 파일 삭제 성공 - Key: {}", s3Key);
@@ -111,6 +162,22 @@ public class S3Service {
         }
     }
 
+    /**
+     * 파일 삭제 (실패 시 예외 발생)
+     * 삭제 실패를 재시도해야 하는 경우(첨부파일 outbox 정리 등) 사용, 없는 키는 성공으로 처리
+     *
+     * @param s3Key 삭제할 파일의 S3 키
+     */
+    public void deleteObject(String s3Key) {
+        if (s3Key == null || s3Key.isEmpty()) {
+            return;
+        }
+
+        presignedUrlCache.evict(s3Key);
+        amazonS3.deleteObject(bucket, s3Key);
+        log.info("S3 파일 삭제 성공 - Key: {}", s3Key);
+    }
+
     /**
      * 파일 확장자 추출
      */
@@ -172,12 +239,84 @@ public class S3Service {
     }
 
     /**
-     * Presigned URL 생성 (기본 7일)
+     * Presigned URL 생성 (만료 시각 포함)
+     *
+     * @param s3Key S3 키
+     * @param validity 유효 기간
+     * @return Presigned URL과 만료 시각 (키가 없으면 null)
+     */
+    public PresignedUrl createPresignedUrl(String s3Key, Duration validity) {
+        if (s3Key == null || s3Key.isEmpty()) {
+            return null;
+        }
+
+        Instant expiresAt = Instant.now().plus(validity);
+        try {
+            String presignedUrl = amazonS3.generatePresignedUrl(bucket, s3Key, Date.from(expiresAt)).toString();
+            log.debug("Presigned URL 생성 - Key: {}, 만료: {}", s3Key, expiresAt);
+
+            return new PresignedUrl(presignedUrl, expiresAt);
+
+        } catch (Exception e) {
+            log.error("Presigned URL 생성 실패 - Key: {}", s3Key, e);
+            throw new RuntimeException("URL 생성에 실패했습니다.", e);
+        }
+    }
+
+    /**
+     * Presigned URL 조회 (캐시)
+     * 같은 S3 키는 만료 전 갱신 여유 시간까지 이미 서명한 URL을 재사용
+     *
+     * @param s3Key S3 키
+     * @return Presigned URL과 만료 시각 (키가 없으면 null)
+     */
+    public PresignedUrl getPresignedUrl(String s3Key) {
+        if (s3Key == null || s3Key.isEmpty()) {
+            return null;
+        }
+        return presignedUrlCache.get(s3Key, key -> createPresignedUrl(key, defaultValidity));
+    }
+
+    /**
+     * Presigned URL 생성 (기본 7일, 캐시 재사용)
      *
      * @param s3Key S3 키
      * @return Presigned URL
      */
     public String generatePresignedUrl(String s3Key) {
-        return generatePresignedUrl(s3Key, 7);
+        PresignedUrl presignedUrl = getPresignedUrl(s3Key);
+        return presignedUrl == null ? null : presignedUrl.url();
+    }
+
+    /**
+     * Presigned URL 일괄 생성 (캐시 재사용)
+     * 빈 키는 제외하고, 중복 키는 한 번만 서명
+     *
+     * @param s3Keys S3 키 목록
+     * @return S3 키 → Presigned URL (입력 순서 유지)
+     */
+    public Map<String, String> generatePresignedUrls(Collection<String> s3Keys) {
+        Map<String, String> urls = new LinkedHashMap<>();
+        if (s3Keys == null) {
+            return urls;
+        }
+
+        for (String s3Key : s3Keys) {
+            if (s3Key == null || s3Key.isEmpty() || urls.containsKey(s3Key)) {
+                continue;
+            }
+            try {
+                urls.put(s3Key, generatePresignedUrl(s3Key));
+            } catch (Exception e) {
+                // 한 건 실패가 나머지 URL 생성을 막지 않도록 건너뜀 (createPresignedUrl에서 로그 기록)
+            }
+        }
+        return urls;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        // S3 클라이언트는 다른 빈에서도 사용하므로 TransferManager 스레드 풀만 종료
+        transferManager.shutdownNow(false);
     }
-}
\ No newline at end of file
+}
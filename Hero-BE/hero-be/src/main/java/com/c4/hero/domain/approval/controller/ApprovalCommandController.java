@@ -4,6 +4,7 @@ import com.c4.hero.domain.approval.dto.request.ApprovalActionRequestDTO;
 import com.c4.hero.domain.approval.dto.request.ApprovalRequestDTO;
 import com.c4.hero.domain.approval.dto.response.ApprovalActionResponseDTO;
 import com.c4.hero.domain.approval.service.ApprovalCommandService;
+import com.c4.hero.domain.approval.service.ApprovalFileUploader;
 import com.c4.hero.domain.auth.security.CustomUserDetails;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -29,11 +30,12 @@ import java.util.List;
  * 2025/12/25 (민철) 작성화면 조회 api 및 CQRS 패턴 적용
  * 2025/12/31 (민철) 대기중 문서 회수처리 api
  * 2026/01/01 (민철) 임시저장 문서 삭제 api 추가
+ * 2026/10/18 (민철) 첨부파일을 문서 저장 트랜잭션 전에 업로드 (ApprovalFileUploader)
  *
  * </pre>
  *
  * @author 민철
- * @version 2.1
+ * @version 2.2
  */
 @Slf4j
 @RestController
@@ -43,6 +45,7 @@ import java.util.List;
 public class ApprovalCommandController {
 
     private final ApprovalCommandService approvalCommandService;
+    private final ApprovalFileUploader approvalFileUploader;
 
     /**
      * 문서 템플릿 즐겨찾기 토글
@@ -86,8 +89,8 @@ public class ApprovalCommandController {
             @AuthenticationPrincipal CustomUserDetails userDetails
     ) {
 
-        Integer docId =
-                approvalCommandService.createDocument(userDetails.getEmployeeId(), dto, files, "DRAFT");
+        Integer docId = approvalFileUploader.uploadAndApply(files, uploaded ->
+                approvalCommandService.createDocument(userDetails.getEmployeeId(), dto, uploaded, "DRAFT"));
 
         return ResponseEntity.ok().body("임시저장 완료. ID: " + docId);
     }
@@ -114,8 +117,8 @@ public class ApprovalCommandController {
     ) {
 
 
-        Integer docId =
-                approvalCommandService.createDocument(userDetails.getEmployeeId(), dto, files, "INPROGRESS");
+        Integer docId = approvalFileUploader.uploadAndApply(files, uploaded ->
+                approvalCommandService.createDocument(userDetails.getEmployeeId(), dto, uploaded, "INPROGRESS"));
 
         return ResponseEntity.ok().body("상신 완료. ID: " + docId);
     }
@@ -138,8 +141,8 @@ public class ApprovalCommandController {
             @RequestPart(value = "files", required = false) List<MultipartFile> files,
             @AuthenticationPrincipal CustomUserDetails userDetails
     ) {
-        Integer updatedDocId =
-                approvalCommandService.updateDraftDocument(userDetails.getEmployeeId(), docId, request, files);
+        Integer updatedDocId = approvalFileUploader.uploadAndApply(files, uploaded ->
+                approvalCommandService.updateDraftDocument(userDetails.getEmployeeId(), docId, request, uploaded));
 
         return ResponseEntity.ok(updatedDocId);
     }
@@ -165,8 +168,8 @@ public class ApprovalCommandController {
             @RequestPart(value = "files", required = false) List<MultipartFile> files,
             @AuthenticationPrincipal CustomUserDetails userDetails
     ) {
-        Integer submittedDocId =
-                approvalCommandService.submitDraftDocument(userDetails.getEmployeeId(), docId, data, files);
+        Integer submittedDocId = approvalFileUploader.uploadAndApply(files, uploaded ->
+                approvalCommandService.submitDraftDocument(userDetails.getEmployeeId(), docId, data, uploaded));
 
         return ResponseEntity.ok().body("상신 완료. ID: " + submittedDocId);
     }
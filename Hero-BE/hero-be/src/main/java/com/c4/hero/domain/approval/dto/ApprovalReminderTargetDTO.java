@@ -0,0 +1,50 @@
+package com.c4.hero.domain.approval.dto;
+
+import lombok.*;
+
+/**
+ * <pre>
+ * Class Name: ApprovalReminderTargetDTO
+ * Description: 결재 대기 독촉 대상 DTO
+ *              진행중 문서의 현재 결재 차례(대기중 결재선 중 가장 앞 순서) 결재자 1건
+ *
+ * History
+ * 2026/10/18 (혜원) 최초 작성
+ *
+ * </pre>
+ *
+ * @author 혜원
+ * @version 1.0
+ */
+@Getter
+@Builder
+@ToString
+@NoArgsConstructor
+@AllArgsConstructor
+public class ApprovalReminderTargetDTO {
+
+    /**
+     * 문서 ID
+     */
+    private Integer docId;
+
+    /**
+     * 문서 제목
+     */
+    private String title;
+
+    /**
+     * 기안자 이름
+     */
+    private String drafterName;
+
+    /**
+     * 현재 결재 차례 결재자 ID (알림 수신자)
+     */
+    private Integer approverId;
+
+    /**
+     * 대기 일수 (문서 생성 후 경과 일수)
+     */
+    private Integer waitingDays;
+}
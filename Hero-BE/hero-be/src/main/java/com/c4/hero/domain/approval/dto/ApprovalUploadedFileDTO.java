@@ -0,0 +1,19 @@
+package com.c4.hero.domain.approval.dto;
+
+/**
+ * <pre>
+ * Record Name : ApprovalUploadedFileDTO
+ * Description : S3 업로드가 끝난 첨부파일 정보 (문서 저장 트랜잭션에 전달)
+ *
+ * History
+ *   2026/10/18 (민철) 최초 작성
+ * </pre>
+ *
+ * @param s3Key      S3 저장 경로
+ * @param originName 원본 파일명
+ * @param fileSize   파일 크기 (Bytes)
+ * @author 민철
+ * @version 1.0
+ */
+public record ApprovalUploadedFileDTO(String s3Key, String originName, long fileSize) {
+}
@@ -0,0 +1,95 @@
+package com.c4.hero.domain.approval.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * <pre>
+ * Entity Name : ApprovalFileOutbox
+ * Description : 문서에 연결되지 않은 첨부파일 S3 객체 기록 (outbox)
+ *
+ * 역할
+ *  - 업로드 전: 업로드할 S3 키를 먼저 기록 (deleteAfter = 업로드 시각 + 유예 시간)
+ *    → 문서 저장 트랜잭션에서 첨부파일 저장과 함께 기록 삭제 (커밋되면 확정)
+ *    → 트랜잭션 실패/노드 중단으로 남은 기록은 유예 시간 이후 S3 객체와 함께 정리
+ *  - 첨부파일 교체/문서 삭제: 지울 S3 키를 같은 트랜잭션에서 기록 (deleteAfter = 즉시)
+ *    → 커밋된 뒤에만 정리 스케줄러가 S3 객체 삭제 (롤백되면 파일 유지)
+ *  - S3 삭제 실패: attempts 증가 + deleteAfter 를 뒤로 미뤄 재시도 (한도 초과 시 정리 대상에서 제외)
+ *
+ * History
+ *   2026/10/18 (민철) 최초 작성
+ *   2026/10/18 (민철) 정리 실패 횟수(attempts) 추가
+ * </pre>
+ *
+ * @author 민철
+ * @version 1.1
+ */
+@Entity
+@Table(name = "tbl_approval_file_outbox")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class ApprovalFileOutbox {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "outbox_id")
+    private Long outboxId;
+
+    /**
+     * S3 저장 경로 (S3 Key)
+     */
+    @Column(name = "s3_key", nullable = false, unique = true)
+    private String s3Key;
+
+    /**
+     * 이 시각 이후에도 기록이 남아있으면 S3 객체 삭제 대상
+     */
+    @Column(name = "delete_after", nullable = false)
+    private LocalDateTime deleteAfter;
+
+    /**
+     * S3 객체 삭제 실패 횟수
+     */
+    @Column(name = "attempts", nullable = false)
+    private int attempts;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    private ApprovalFileOutbox(String s3Key, LocalDateTime deleteAfter, LocalDateTime createdAt) {
+        this.s3Key = s3Key;
+        this.deleteAfter = deleteAfter;
+        this.createdAt = createdAt;
+    }
+
+    /**
+     * 업로드 예정 기록 (문서 저장 시 확정되지 않으면 deleteAfter 이후 정리)
+     *
+     * @param s3Key       S3 키
+     * @param deleteAfter 정리 가능 시각
+     * @return outbox 기록
+     */
+    public static ApprovalFileOutbox pendingUpload(String s3Key, LocalDateTime deleteAfter) {
+        return new ApprovalFileOutbox(s3Key, deleteAfter, LocalDateTime.now());
+    }
+
+    /**
+     * 삭제 예정 기록 (커밋 후 바로 정리 대상)
+     *
+     * @param s3Key S3 키
+     * @return outbox 기록
+     */
+    public static ApprovalFileOutbox pendingDelete(String s3Key) {
+        LocalDateTime now = LocalDateTime.now();
+        return new ApprovalFileOutbox(s3Key, now, now);
+    }
+}
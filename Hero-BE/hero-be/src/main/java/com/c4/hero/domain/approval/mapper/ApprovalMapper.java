@@ -2,10 +2,13 @@ package com.c4.hero.domain.approval.mapper;
 
 import com.c4.hero.domain.approval.dto.ApprovalDefaultLineDTO;
 import com.c4.hero.domain.approval.dto.ApprovalDefaultRefDTO;
+import com.c4.hero.domain.approval.dto.ApprovalReminderTargetDTO;
 import com.c4.hero.domain.approval.dto.response.*;
 import org.apache.ibatis.annotations.Mapper;
 import org.apache.ibatis.annotations.Param;
+import org.apache.ibatis.session.ResultHandler;
 
+import java.time.LocalDateTime;
 import java.util.List;
 /**
  * <pre>
@@ -16,11 +19,12 @@ import java.util.List;
  * 2025/12/25 (민철) 작성화면 관련 결재선/참조목록 자동지정을 위한 조회 mapper
  * 2025/12/26 (민철) 문서함 조회 메서드 추가
  * 2025/12/29 (민철) countInboxDocuments에 sortBy 파라미터 추가
+ * 2026/10/18 (혜원) 결재 독촉 대상 일괄 조회 추가 (스트리밍)
  *
  * </pre>
  *
  * @author 민철
- * @version 2.1
+ * @version 2.2
  */
 @Mapper
 public interface ApprovalMapper {
@@ -117,4 +121,18 @@ public interface ApprovalMapper {
      * @return 첨부파일 목록
      */
     List<ApprovalAttachmentResponseDTO> selectApprovalAttachments(@Param("docId") Integer docId);
-}
\ No newline at end of file
+
+    /**
+     * 결재 독촉 대상 일괄 조회 (스트리밍)
+     * 진행중 문서별 현재 결재 차례 결재자 1건씩, 결과를 메모리에 모으지 않고 한 행씩 handler 로 전달
+     *
+     * @param createdBefore 이 일시 이전에 생성된 문서만 조회 (기준 대기 일수 경과)
+     * @param now           대기 일수 계산 기준 일시
+     * @param handler       행 단위 처리 핸들러
+     */
+    void selectApprovalReminderTargets(
+            @Param("createdBefore") LocalDateTime createdBefore,
+            @Param("now") LocalDateTime now,
+            ResultHandler<ApprovalReminderTargetDTO> handler
+    );
+}
@@ -0,0 +1,75 @@
+package com.c4.hero.domain.approval.repository;
+
+import com.c4.hero.domain.approval.entity.ApprovalFileOutbox;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * <pre>
+ * Interface Name : ApprovalFileOutboxRepository
+ * Description    : 첨부파일 S3 객체 outbox 리포지토리
+ *
+ * History
+ *   2026/10/18 (민철) 최초 작성
+ *   2026/10/18 (민철) 정리 실패 기록 재시도 지연 / 시도 횟수 한도 추가
+ * </pre>
+ *
+ * @author 민철
+ * @version 1.1
+ */
+public interface ApprovalFileOutboxRepository extends JpaRepository<ApprovalFileOutbox, Long> {
+
+    /**
+     * 정리 대상 조회 (deleteAfter 가 지난 기록 중 시도 횟수 한도 미만, 오래된 순)
+     *
+     * @param now         기준 시각
+     * @param maxAttempts 정리 시도 횟수 한도 (이 횟수 이상 실패한 기록은 제외)
+     * @param pageable    조회 건수
+     * @return 정리 대상 outbox 기록
+     */
+    @Query("""
+        select o
+          from ApprovalFileOutbox o
+         where o.deleteAfter <= :now
+           and o.attempts < :maxAttempts
+         order by o.outboxId asc
+        """)
+    List<ApprovalFileOutbox> findDue(
+            @Param("now") LocalDateTime now,
+            @Param("maxAttempts") int maxAttempts,
+            Pageable pageable
+    );
+
+    /**
+     * 정리 실패 기록 (시도 횟수 증가 + 다음 시도 시각으로 deleteAfter 이동)
+     * 실패한 기록이 조회 앞쪽에 계속 남아 뒤의 정리 대상을 막지 않도록 함
+     *
+     * @param outboxId   outbox ID
+     * @param retryAfter 다음 정리 시도 시각
+     * @return 수정 건수
+     */
+    @Transactional
+    @Modifying
+    @Query("update ApprovalFileOutbox o set o.attempts = o.attempts + 1, o.deleteAfter = :retryAfter where o.outboxId = :outboxId")
+    int markFailed(@Param("outboxId") Long outboxId, @Param("retryAfter") LocalDateTime retryAfter);
+
+    /**
+     * S3 키로 기록 삭제 (업로드 확정 / 정리 완료)
+     * 호출한 쪽 트랜잭션에 참여하며, 트랜잭션 밖에서 호출하면 단독 트랜잭션으로 실행
+     *
+     * @param s3Keys S3 키 목록
+     * @return 삭제 건수
+     */
+    @Transactional
+    @Modifying
+    @Query("delete from ApprovalFileOutbox o where o.s3Key in :s3Keys")
+    int deleteByS3KeyIn(@Param("s3Keys") Collection<String> s3Keys);
+}
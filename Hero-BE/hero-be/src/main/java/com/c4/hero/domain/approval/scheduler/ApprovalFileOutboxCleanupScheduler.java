@@ -0,0 +1,109 @@
+package com.c4.hero.domain.approval.scheduler;
+
+import com.c4.hero.common.s3.S3Service;
+import com.c4.hero.domain.approval.entity.ApprovalFileOutbox;
+import com.c4.hero.domain.approval.repository.ApprovalFileOutboxRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import net.javacrumbs.shedlock.spring.annotation.SchedulerLock;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * <pre>
+ * Class Name  : ApprovalFileOutboxCleanupScheduler
+ * Description : 첨부파일 outbox 정리 스케줄러
+ *
+ * 정리 대상 (deleteAfter 가 지난 ApprovalFileOutbox 기록)
+ *  - 업로드했지만 문서 저장이 확정되지 않은 파일 (트랜잭션 실패, 노드 중단)
+ *  - 첨부파일 교체/문서 삭제가 커밋되어 더 이상 참조되지 않는 파일
+ *
+ * S3 객체를 먼저 지우고 기록을 삭제하므로, 중간에 실패하면 다음 실행에서 다시 정리됨
+ *
+ * S3 삭제 실패 시
+ *  - 시도 횟수를 올리고 deleteAfter 를 1분, 2분, 4분 … 뒤로 미룸 (최대 1시간)
+ *    → 계속 실패하는 기록이 조회 앞쪽을 차지해 뒤의 정리 대상이 처리되지 않는 문제 방지
+ *  - MAX_ATTEMPTS 회 실패한 기록은 더 이상 조회하지 않음 (기록은 남겨 수동 확인)
+ *
+ * History
+ *   2026/10/18 (민철) 최초 작성
+ *   2026/10/18 (민철) 정리 실패 시 재시도 지연 및 시도 횟수 한도 추가
+ * </pre>
+ *
+ * @author 민철
+ * @version 1.1
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ApprovalFileOutboxCleanupScheduler {
+
+    /** 1회 실행당 정리 건수 */
+    private static final int CLEANUP_SIZE = 200;
+
+    /** 정리 시도 횟수 한도 */
+    static final int MAX_ATTEMPTS = 10;
+
+    /** 재시도 지연 기본값 / 최대값 */
+    private static final Duration RETRY_BASE_DELAY = Duration.ofMinutes(1);
+    private static final Duration RETRY_MAX_DELAY = Duration.ofHours(1);
+
+    private final ApprovalFileOutboxRepository fileOutboxRepository;
+    private final S3Service s3Service;
+
+    /**
+     * 1분마다 정리 대상 S3 객체 삭제
+     */
+    @Scheduled(fixedDelay = 60_000, initialDelay = 60_000)
+    @SchedulerLock(name = "cleanupApprovalFileOutbox", lockAtLeastFor = "PT10S", lockAtMostFor = "PT5M")
+    public void cleanup() {
+        LocalDateTime now = LocalDateTime.now();
+        List<ApprovalFileOutbox> due =
+                fileOutboxRepository.findDue(now, MAX_ATTEMPTS, PageRequest.of(0, CLEANUP_SIZE));
+        if (due.isEmpty()) return;
+
+        List<String> deletedKeys = new ArrayList<>(due.size());
+        for (ApprovalFileOutbox outbox : due) {
+            try {
+                s3Service.deleteObject(outbox.getS3Key());
+                deletedKeys.add(outbox.getS3Key());
+            } catch (Exception e) {
+                markFailed(outbox, now, e);
+            }
+        }
+
+        if (!deletedKeys.isEmpty()) {
+            fileOutboxRepository.deleteByS3KeyIn(deletedKeys);
+        }
+        log.info("첨부파일 outbox 정리 - 대상 {}건, 삭제 {}건", due.size(), deletedKeys.size());
+    }
+
+    /**
+     * 정리 실패 기록 (다음 시도 시각을 뒤로 미룸)
+     */
+    private void markFailed(ApprovalFileOutbox outbox, LocalDateTime now, Exception e) {
+        int attempts = outbox.getAttempts() + 1;
+        fileOutboxRepository.markFailed(outbox.getOutboxId(), now.plus(retryDelay(attempts)));
+
+        if (attempts >= MAX_ATTEMPTS) {
+            log.error("첨부파일 정리 {}회 실패 - 재시도 중단, 수동 확인 필요. Key: {}, {}",
+                    attempts, outbox.getS3Key(), e.getMessage());
+        } else {
+            log.warn("첨부파일 정리 실패 ({}회) - Key: {}, {}", attempts, outbox.getS3Key(), e.getMessage());
+        }
+    }
+
+    /**
+     * 재시도 지연 (1분, 2분, 4분 … 최대 1시간)
+     */
+    static Duration retryDelay(int attempts) {
+        Duration delay = RETRY_BASE_DELAY.multipliedBy(1L << Math.min(attempts - 1, 6));
+        return delay.compareTo(RETRY_MAX_DELAY) > 0 ? RETRY_MAX_DELAY : delay;
+    }
+}
@@ -2,9 +2,9 @@ package com.c4.hero.domain.approval.service;
 
 import com.c4.hero.common.exception.BusinessException;
 import com.c4.hero.common.exception.ErrorCode;
-import com.c4.hero.common.s3.S3Service;
 import com.c4.hero.domain.approval.dto.ApprovalLineDTO;
 import com.c4.hero.domain.approval.dto.ApprovalReferenceDTO;
+import com.c4.hero.domain.approval.dto.ApprovalUploadedFileDTO;
 import com.c4.hero.domain.approval.dto.request.ApprovalActionRequestDTO;
 import com.c4.hero.domain.approval.dto.request.ApprovalRequestDTO;
 import com.c4.hero.domain.approval.dto.response.ApprovalActionResponseDTO;
@@ -20,7 +20,6 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import org.springframework.web.multipart.MultipartFile;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
@@ -53,10 +52,12 @@ import java.util.Optional;
  *   2026/01/02 (민철) 문서번호 생성 동시성 처리 (비관적 락 적용)
  *   2026/01/02 (민철) 메서드 주석 개선
  *   2026/01/02 (혜원) 결재 알림 이벤트 발행 추가
+ *   2026/10/18 (민철) 첨부파일 업로드를 트랜잭션 밖(ApprovalFileUploader)으로 분리, S3 삭제는 커밋 후 outbox 정리로 변경
+ *   2026/10/18 (혜원) 미사용 결재 독촉 이벤트 발행 메서드 제거 (독촉 알림은 ApprovalReminderScheduler 에서 일괄 처리)
  * </pre>
  *
  * @author 민철
- * @version 3.0
+ * @version 3.2
  */
 @Slf4j
 @Service
@@ -71,7 +72,7 @@ public class ApprovalCommandService {
     private final ApprovalTemplateRepository templateRepository;
     private final ApprovalSequenceRepository sequenceRepository;
     private final ApplicationEventPublisher eventPublisher;
-    private final S3Service s3Service;
+    private final ApprovalFileOutboxRepository fileOutboxRepository;
     private final EmployeeRepository employeeRepository;
 
 
@@ -111,7 +112,7 @@ public class ApprovalCommandService {
      * 1. 문서 본문 저장
      * 2. 결재선 저장 (seq=1 기안자는 APPROVED, 나머지는 PENDING)
      * 3. 참조자 저장
-     * 4. 첨부파일 S3 업로드 및 DB 저장
+     * 4. 첨부파일 DB 저장 (S3 업로드는 ApprovalFileUploader 가 트랜잭션 전에 완료)
      * 5. 상신(INPROGRESS)인 경우 결재선 확인
      *    5-1. 결재선이 기안자(seq=1)만 있으면 자동 승인 처리
      *    5-2. 문서 번호 생성 및 승인 완료 이벤트 발행
@@ -119,17 +120,16 @@ public class ApprovalCommandService {
      *
      * @param employeeId 기안자 ID
      * @param dto        문서 생성 요청 DTO
-     * @param files      첨부 파일 목록
+     * @param files      업로드된 첨부 파일 목록
      * @param status     문서 상태 (DRAFT: 임시저장 / INPROGRESS: 상신)
      * @return 생성된 문서 ID
-     * @throws ApprovalFileUploadException S3 파일 업로드 실패 시
      * @throws BusinessException           문서번호 생성 실패 시
      */
     @Transactional
     public Integer createDocument(
             Integer employeeId,
             ApprovalRequestDTO dto,
-            List<MultipartFile> files,
+            List<ApprovalUploadedFileDTO> files,
             String status
     ) {
 
@@ -145,7 +145,7 @@ public class ApprovalCommandService {
         }
 
         if (files != null && !files.isEmpty()) {
-            saveFilesToS3(files, savedDoc);
+            saveAttachments(files, savedDoc);
         }
 
         if ("INPROGRESS".equals(status)) {
@@ -301,36 +301,30 @@ public class ApprovalCommandService {
 
 
     /**
-     * 첨부파일을 S3에 업로드하고 DB에 저장
+     * 업로드된 첨부파일을 DB에 저장하고 outbox 기록을 지워 확정
      * <pre>
      * 처리 흐름:
-     * 1. S3에 파일 업로드 (S3Service 호출)
-     * 2. 반환된 S3 Key를 DB에 저장
-     * 3. 원본 파일명, 파일 크기 등 메타데이터도 함께 저장
+     * 1. S3 Key, 원본 파일명, 파일 크기를 첨부파일로 저장
+     * 2. 같은 트랜잭션에서 outbox 기록 삭제
+     *    - 커밋되면 첨부파일 확정 (정리 대상에서 제외)
+     *    - 롤백되면 outbox 기록이 남아 업로드 파일이 정리됨
      * </pre>
      *
-     * @param files    업로드할 파일 목록
+     * @param files    업로드된 파일 목록
      * @param document 문서 엔티티
-     * @throws ApprovalFileUploadException S3 파일 업로드 실패 시
      */
-    private void saveFilesToS3(List<MultipartFile> files, ApprovalDocument document) {
-        for (MultipartFile file : files) {
-            try {
-                String s3Key = s3Service.uploadFile(file, "approval");
-
-                ApprovalAttachment attachment = ApprovalAttachment.builder()
+    private void saveAttachments(List<ApprovalUploadedFileDTO> files, ApprovalDocument document) {
+        List<ApprovalAttachment> attachments = files.stream()
+                .map(file -> ApprovalAttachment.builder()
                         .document(document)
-                        .originName(file.getOriginalFilename())
-                        .savePath(s3Key)
-                        .fileSize(file.getSize())
-                        .build();
-
-                attachmentRepository.save(attachment);
-
-            } catch (BusinessException e) {
-                throw new ApprovalFileUploadException(ErrorCode.FILE_UPLOAD_ERROR);
-            }
-        }
+                        .originName(file.originName())
+                        .savePath(file.s3Key())
+                        .fileSize(file.fileSize())
+                        .build())
+                .toList();
+
+        attachmentRepository.saveAll(attachments);
+        fileOutboxRepository.deleteByS3KeyIn(files.stream().map(ApprovalUploadedFileDTO::s3Key).toList());
     }
 
 
@@ -345,27 +339,25 @@ public class ApprovalCommandService {
      * 1. 문서 본문 업데이트
      * 2. 기존 결재선 삭제 후 재생성
      * 3. 기존 참조자 삭제 후 재생성
-     * 4. 기존 첨부파일 삭제 (S3 및 DB)
-     * 5. 새 파일 업로드 (S3)
+     * 4. 기존 첨부파일 삭제 (DB, S3 객체는 커밋 후 정리)
+     * 5. 새 첨부파일 저장 (S3 업로드는 트랜잭션 전에 완료)
      * </pre>
      *
      * @param employeeId 사원 ID
      * @param docId      문서 ID
      * @param dto        수정할 내용
-     * @param files      새 첨부파일 목록
+     * @param files      업로드된 새 첨부파일 목록
      * @return 수정된 문서 ID
      * @throws ApprovalDocumentNotFoundException 문서를 찾을 수 없는 경우
      * @throws InvalidApprovalStateException     문서 상태가 DRAFT가 아닌 경우
      * @throws ApprovalLineAuthorityException    작성자 본인이 아닌 경우
-     * @throws ApprovalFileDeleteException       S3 파일 삭제 실패 시
-     * @throws ApprovalFileUploadException       S3 파일 업로드 실패 시
      */
     @Transactional
     public Integer updateDraftDocument(
             Integer employeeId,
             Integer docId,
             ApprovalRequestDTO dto,
-            List<MultipartFile> files
+            List<ApprovalUploadedFileDTO> files
     ) {
 
         ApprovalDocument document = documentRepository.findById(docId)
@@ -395,34 +387,36 @@ public class ApprovalCommandService {
         deleteAttachments(docId);
 
         if (files != null && !files.isEmpty()) {
-            saveFilesToS3(files, document);
+            saveAttachments(files, document);
         }
 
         return docId;
     }
 
     /**
-     * 문서의 모든 첨부파일 삭제 (S3 및 DB)
+     * 문서의 모든 첨부파일 삭제 (DB 삭제, S3 객체는 커밋 후 정리)
      * <pre>
      * 처리 흐름:
      * 1. DB에서 첨부파일 목록 조회
-     * 2. 각 파일에 대해 S3에서 삭제
+     * 2. 같은 트랜잭션에서 S3 키를 삭제 예정으로 outbox 기록
      * 3. DB에서 첨부파일 레코드 삭제
+     *
+     * 트랜잭션 안에서는 S3를 호출하지 않음
+     * - 커밋된 뒤 ApprovalFileOutboxCleanupScheduler 가 S3 객체 삭제
+     * - 롤백되면 기존 파일 유지
      * </pre>
      *
      * @param docId 문서 ID
-     * @throws ApprovalFileDeleteException S3 파일 삭제 실패 시
      */
     private void deleteAttachments(Integer docId) {
         List<ApprovalAttachment> existingFiles = attachmentRepository.findByDocumentDocId(docId);
+        if (existingFiles.isEmpty()) return;
 
-        for (ApprovalAttachment attachment : existingFiles) {
-            try {
-                s3Service.deleteFile(attachment.getSavePath());
-            } catch (BusinessException e) {
-                throw new ApprovalFileDeleteException(ErrorCode.FILE_DELETE_ERROR);
-            }
-        }
+        fileOutboxRepository.saveAll(existingFiles.stream()
+                .map(ApprovalAttachment::getSavePath)
+                .filter(savePath -> savePath != null && !savePath.isEmpty())
+                .map(ApprovalFileOutbox::pendingDelete)
+                .toList());
         attachmentRepository.deleteByDocumentDocId(docId);
     }
 
@@ -441,7 +435,7 @@ public class ApprovalCommandService {
      * 1. 문서 본문 업데이트
      * 2. 기존 결재선 삭제 후 재생성
      * 3. 기존 참조자 삭제 후 재생성
-     * 4. 기존 첨부파일 삭제 후 새 파일 업로드
+     * 4. 기존 첨부파일 삭제 후 새 첨부파일 저장
      * 5. 결재선 확인
      *    - 결재선이 1단계(기안)만 있으면 자동 승인 처리
      *    - 2단계 이상이면 INPROGRESS 상태로 변경
@@ -454,20 +448,18 @@ public class ApprovalCommandService {
      * @param employeeId 사원 ID
      * @param docId      문서 ID
      * @param dto        수정할 내용
-     * @param files      새 첨부파일 목록
+     * @param files      업로드된 새 첨부파일 목록
      * @return 상신된 문서 ID
      * @throws ApprovalDocumentNotFoundException  문서를 찾을 수 없는 경우
      * @throws InvalidApprovalStateException      문서 상태가 DRAFT가 아닌 경우
      * @throws ApprovalDocumentAuthorityException 작성자 본인이 아닌 경우
-     * @throws ApprovalFileDeleteException        S3 파일 삭제 실패 시
-     * @throws ApprovalFileUploadException        S3 파일 업로드 실패 시
      */
     @Transactional
     public Integer submitDraftDocument(
             Integer employeeId,
             Integer docId,
             ApprovalRequestDTO dto,
-            List<MultipartFile> files
+            List<ApprovalUploadedFileDTO> files
     ) {
 
         ApprovalDocument document = documentRepository.findById(docId)
@@ -497,7 +489,7 @@ public class ApprovalCommandService {
         deleteAttachments(docId);
 
         if (files != null && !files.isEmpty()) {
-            saveFilesToS3(files, document);
+            saveAttachments(files, document);
         }
 
         List<ApprovalLine> lines = lineRepository.findByDocIdOrderBySeqAsc(docId);
@@ -748,7 +740,7 @@ public class ApprovalCommandService {
      * 임시저장 문서 삭제
      * <pre>
      * 처리 흐름:
-     * 1. 첨부파일 삭제 (S3 및 DB)
+     * 1. 첨부파일 삭제 (DB, S3 객체는 커밋 후 정리)
      * 2. 결재선 삭제
      * 3. 참조자 삭제
      * 4. 문서 삭제
@@ -914,39 +906,4 @@ public class ApprovalCommandService {
 
         eventPublisher.publishEvent(event);
     }
-
-    /**
-     * 결재 대기 독촉 알림 이벤트 발행 (결재자에게)
-     * <pre>
-     * 호출 시점:
-     * - 스케줄러가 매일 오전 9시 자동 실행
-     * - N일 이상 대기중인 문서의 결재자에게 발송
-     *
-     * 수신자: 결재 대기중인 결재자
-     * 알림 내용: "OOO님의 'XXX' 문서가 N일째 결재 대기 중입니다."
-     *
-     * 사용처: ApprovalReminderScheduler에서 호출
-     * </pre>
-     *
-     * @param document    대기중인 문서
-     * @param approver    대기중인 결재자
-     * @param waitingDays 대기 일수
-     */
-    public void publishApprovalReminderEvent(ApprovalDocument document, ApprovalLine approver, int waitingDays) {
-        ApprovalTemplate template = templateRepository.findByTemplateId(document.getTemplateId());
-
-        ApprovalNotificationEvent.ApprovalReminderEvent event =
-                ApprovalNotificationEvent.ApprovalReminderEvent.builder()
-                        .docId(document.getDocId())
-                        .templateKey(template.getTemplateKey())
-                        .title(document.getTitle())
-                        .drafterId(document.getDrafterId())
-                        .drafterName(getDrafterName(document.getDrafterId()))
-                        .approverId(approver.getApproverId())
-                        .waitingDays(waitingDays)
-                        .requestedAt(document.getCreatedAt())
-                        .build();
-
-        eventPublisher.publishEvent(event);
-    }
 }
\ No newline at end of file
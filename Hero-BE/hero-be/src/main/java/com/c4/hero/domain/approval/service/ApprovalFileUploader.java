@@ -0,0 +1,207 @@
+package com.c4.hero.domain.approval.service;
+
+import com.c4.hero.common.exception.ErrorCode;
+import com.c4.hero.common.s3.S3Service;
+import com.c4.hero.domain.approval.dto.ApprovalUploadedFileDTO;
+import com.c4.hero.domain.approval.entity.ApprovalFileOutbox;
+import com.c4.hero.domain.approval.exception.ApprovalFileUploadException;
+import com.c4.hero.domain.approval.repository.ApprovalFileOutboxRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+/**
+ * <pre>
+ * Class Name  : ApprovalFileUploader
+ * Description : 결재 문서 첨부파일 S3 업로드 (문서 저장 트랜잭션 밖에서 실행)
+ *
+ * 처리 흐름
+ *  1. 첨부파일 검증 및 S3 키 생성 → outbox 기록 (ApprovalFileOutbox)
+ *  2. 전용 스레드 풀에서 첨부파일 병렬 업로드 (대용량 파일은 S3Service 에서 분할 업로드)
+ *  3. 업로드 결과로 문서 저장 작업 실행 (트랜잭션은 이 단계에서만 열림)
+ *     - 문서 저장 트랜잭션이 outbox 기록을 지우면서 첨부파일 확정
+ *  4. 업로드/문서 저장 실패 시 업로드한 S3 객체와 outbox 기록 즉시 정리
+ *     (정리하지 못한 기록은 ApprovalFileOutboxCleanupScheduler 가 유예 시간 이후 정리)
+ *
+ * 설정
+ *  - approval.attachment.upload.threads        : 업로드 스레드 수
+ *  - approval.attachment.upload.queue-capacity : 대기 가능한 업로드 작업 수 (초과 시 요청 스레드에서 업로드)
+ *  - approval.attachment.upload.orphan-after   : 확정되지 않은 업로드 파일 정리 유예 시간
+ *
+ * 주의: 호출하는 쪽은 트랜잭션 밖이어야 함 (업로드 동안 DB 커넥션을 점유하지 않기 위함)
+ *
+ * History
+ *   2026/10/18 (민철) 최초 작성
+ * </pre>
+ *
+ * @author 민철
+ * @version 1.0
+ */
+@Slf4j
+@Component
+public class ApprovalFileUploader {
+
+    private static final String APPROVAL_DIRECTORY = "approval";
+
+    private final S3Service s3Service;
+    private final ApprovalFileOutboxRepository fileOutboxRepository;
+    private final Duration orphanAfter;
+    private final ThreadPoolExecutor executor;
+
+    public ApprovalFileUploader(
+            S3Service s3Service,
+            ApprovalFileOutboxRepository fileOutboxRepository,
+            @Value("${approval.attachment.upload.threads:4}") int threads,
+            @Value("${approval.attachment.upload.queue-capacity:32}") int queueCapacity,
+            @Value("${approval.attachment.upload.orphan-after:PT1H}") Duration orphanAfter
+    ) {
+        this.s3Service = s3Service;
+        this.fileOutboxRepository = fileOutboxRepository;
+        this.orphanAfter = orphanAfter;
+
+        int poolSize = Math.max(1, threads);
+        AtomicInteger seq = new AtomicInteger();
+        ThreadFactory threadFactory = r -> {
+            Thread t = new Thread(r, "approval-upload-" + seq.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        };
+        this.executor = new ThreadPoolExecutor(
+                poolSize,
+                poolSize,
+                60L, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(Math.max(1, queueCapacity)),
+                threadFactory,
+                new ThreadPoolExecutor.AbortPolicy()
+        );
+        this.executor.allowCoreThreadTimeOut(true);
+    }
+
+    /**
+     * 첨부파일 업로드 후 문서 저장 작업 실행
+     *
+     * @param files  첨부파일 목록 (없으면 바로 문서 저장 작업 실행)
+     * @param action 문서 저장 작업 (업로드된 파일 목록을 받아 트랜잭션 안에서 저장)
+     * @return 문서 저장 작업 결과
+     * @throws ApprovalFileUploadException 파일 업로드 실패 시
+     */
+    public <T> T uploadAndApply(List<MultipartFile> files, Function<List<ApprovalUploadedFileDTO>, T> action) {
+        if (files == null || files.isEmpty()) {
+            return action.apply(List.of());
+        }
+
+        List<ApprovalUploadedFileDTO> uploaded = upload(files);
+        try {
+            return action.apply(uploaded);
+        } catch (RuntimeException e) {
+            discard(uploaded);
+            throw e;
+        }
+    }
+
+    /**
+     * 첨부파일 병렬 업로드
+     *
+     * @param files 첨부파일 목록
+     * @return 업로드된 파일 목록 (요청 순서 유지)
+     */
+    private List<ApprovalUploadedFileDTO> upload(List<MultipartFile> files) {
+        // 1. 검증 및 S3 키 생성 (업로드 전에 실패하는 파일이 있으면 아무것도 올리지 않음)
+        List<ApprovalUploadedFileDTO> targets = new ArrayList<>(files.size());
+        try {
+            for (MultipartFile file : files) {
+                targets.add(new ApprovalUploadedFileDTO(
+                        s3Service.createObjectKey(file, APPROVAL_DIRECTORY),
+                        file.getOriginalFilename(),
+                        file.getSize()));
+            }
+        } catch (IllegalArgumentException e) {
+            log.warn("첨부파일 검증 실패 - {}", e.getMessage());
+            throw new ApprovalFileUploadException(ErrorCode.FILE_UPLOAD_ERROR);
+        }
+
+        // 2. outbox 기록 (업로드 도중 노드가 중단되어도 정리 대상으로 남음)
+        LocalDateTime deleteAfter = LocalDateTime.now().plus(orphanAfter);
+        fileOutboxRepository.saveAll(targets.stream()
+                .map(target -> ApprovalFileOutbox.pendingUpload(target.s3Key(), deleteAfter))
+                .toList());
+
+        // 3. 병렬 업로드
+        List<CompletableFuture<Void>> futures = new ArrayList<>(targets.size());
+        for (int i = 0; i < targets.size(); i++) {
+            String s3Key = targets.get(i).s3Key();
+            MultipartFile file = files.get(i);
+            futures.add(submit(() -> s3Service.upload(s3Key, file)));
+        }
+
+        try {
+            CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).join();
+        } catch (CompletionException e) {
+            // allOf 는 모든 업로드가 끝난 뒤에 완료되므로 정리 시점에 진행 중인 업로드는 없음
+            log.error("첨부파일 업로드 실패 - {}건 중 일부 실패", targets.size(), e.getCause());
+            discard(targets);
+            throw new ApprovalFileUploadException(ErrorCode.FILE_UPLOAD_ERROR);
+        }
+
+        return targets;
+    }
+
+    private CompletableFuture<Void> submit(Runnable upload) {
+        try {
+            return CompletableFuture.runAsync(upload, executor);
+        } catch (RejectedExecutionException e) {
+            // 대기열 초과 시 요청 스레드에서 직접 업로드
+            try {
+                upload.run();
+                return CompletableFuture.completedFuture(null);
+            } catch (RuntimeException ex) {
+                return CompletableFuture.failedFuture(ex);
+            }
+        }
+    }
+
+    /**
+     * 확정되지 않은 업로드 정리 (S3 객체 삭제 후 outbox 기록 삭제)
+     * 삭제하지 못한 파일은 outbox 기록이 남아 정리 스케줄러가 다시 처리함
+     */
+    private void discard(List<ApprovalUploadedFileDTO> uploaded) {
+        List<String> deletedKeys = new ArrayList<>(uploaded.size());
+        for (ApprovalUploadedFileDTO file : uploaded) {
+            try {
+                s3Service.deleteObject(file.s3Key());
+                deletedKeys.add(file.s3Key());
+            } catch (Exception e) {
+                log.warn("미확정 첨부파일 삭제 실패 - 정리 스케줄러에서 재처리: Key={}, {}", file.s3Key(), e.getMessage());
+            }
+        }
+
+        try {
+            if (!deletedKeys.isEmpty()) {
+                fileOutboxRepository.deleteByS3KeyIn(deletedKeys);
+            }
+        } catch (Exception e) {
+            log.warn("첨부파일 outbox 기록 삭제 실패 - 정리 스케줄러에서 재처리: {}", e.getMessage());
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+}
@@ -10,7 +10,6 @@ import com.c4.hero.domain.approval.entity.*;
 import com.c4.hero.domain.approval.exception.ApprovalDocumentNotFoundException;
 import com.c4.hero.domain.approval.exception.ApprovalTemplateNotFoundException;
 import com.c4.hero.domain.approval.mapper.ApprovalMapper;
-import com.c4.hero.domain.approval.repository.ApprovalAttachmentRepository;
 import com.c4.hero.domain.approval.repository.ApprovalBookmarkRepository;
 import com.c4.hero.domain.approval.repository.ApprovalTemplateRepository;
 import lombok.RequiredArgsConstructor;
@@ -19,6 +18,7 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 /**
@@ -41,11 +41,12 @@ import java.util.stream.Collectors;
  * 2025/12/26 (민철) 페이지 인덱스 음수 방지 로직 추가
  * 2026/01/01 (민철) 첨부파일 다운로드 URL 생성 추가
  * 2026/01/03 (민철) 메서드 주석 개선
+ * 2026/10/18 (민철) 첨부파일 다운로드 URL 일괄 생성(캐시 재사용), 첨부파일 엔티티 재조회 제거
  *
  * </pre>
  *
  * @author 민철
- * @version 2.4
+ * @version 2.5
  */
 @Slf4j
 @Service
@@ -54,7 +55,6 @@ public class ApprovalQueryService {
 
     private final ApprovalTemplateRepository templateRepository;
     private final ApprovalBookmarkRepository bookmarkRepository;
-    private final ApprovalAttachmentRepository attachmentRepository;
     private final ApprovalMapper approvalMapper;
     private final S3Service s3Service;
 
@@ -179,12 +179,12 @@ public class ApprovalQueryService {
      * 2. 결재선 목록 조회
      * 3. 참조자 목록 조회
      * 4. 첨부파일 목록 조회 (MyBatis)
-     * 5. 각 첨부파일에 대해 S3 Presigned URL 생성
-     *    - JPA로 실제 파일 정보 다시 조회 (save_path 가져오기)
-     *    - attachmentId로 매칭하여 Presigned URL 생성 (7일 유효)
+     * 5. 첨부파일 S3 Presigned URL 일괄 생성
+     *    - 첨부파일 조회 결과의 save_path(S3 키)로 한 번에 생성
+     *    - 같은 파일은 만료 전까지 캐시된 URL 재사용
      *
      * S3 Presigned URL:
-     * - 임시 다운로드 URL (7일간 유효)
+     * - 임시 다운로드 URL (최대 7일, 최소 갱신 여유 시간만큼 유효)
      * - 인증 없이 파일 다운로드 가능
      * - URL 만료 후에는 재생성 필요
      * </pre>
@@ -211,24 +211,16 @@ public class ApprovalQueryService {
         List<ApprovalAttachmentResponseDTO> attachments = approvalMapper.selectApprovalAttachments(docId);
 
         if (attachments != null && !attachments.isEmpty()) {
-            List<ApprovalAttachment> entities = attachmentRepository.findByDocumentDocId(docId);
+            // fileUrl = save_path(S3 키): 키 목록을 한 번에 서명 (캐시된 URL 재사용)
+            Map<String, String> downloadUrls = s3Service.generatePresignedUrls(
+                    attachments.stream().map(ApprovalAttachmentResponseDTO::getFileUrl).toList());
 
             for (ApprovalAttachmentResponseDTO dto : attachments) {
-                try {
-                    ApprovalAttachment entity = entities.stream()
-                            .filter(e -> e.getFileId().equals(dto.getAttachmentId()))
-                            .findFirst()
-                            .orElse(null);
-
-                    if (entity != null && entity.getSavePath() != null) {
-                        String presignedUrl = s3Service.generatePresignedUrl(entity.getSavePath(), 7);
-                        dto.setDownloadUrl(presignedUrl);
-                    } else {
-                    }
-                } catch (Exception e) {
-                    log.error("Presigned URL 생성 실패 - attachmentId: {}", dto.getAttachmentId(), e);
-
+                String downloadUrl = downloadUrls.get(dto.getFileUrl());
+                if (downloadUrl == null && dto.getFileUrl() != null) {
+                    log.error("Presigned URL 생성 실패 - attachmentId: {}", dto.getAttachmentId());
                 }
+                dto.setDownloadUrl(downloadUrl);
             }
         }
 
@@ -2,6 +2,8 @@ package com.c4.hero.domain.approval.service;
 
 import com.c4.hero.domain.approval.dto.organization.*;
 import com.c4.hero.domain.approval.mapper.OrganizationMapper;
+import com.c4.hero.domain.department.graph.OrganizationGraph;
+import com.c4.hero.domain.department.graph.OrganizationGraphService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -26,11 +28,12 @@ import java.util.stream.Collectors;
  * History
  * 2025/12/26 (민철) 최초 작성
  * 2026/01/03 (민철) 메서드 주석 개선
+ * 2026/10/18 (민철) 부서 계층을 조직 그래프 스냅샷으로 구성 (노드마다 전체 부서 필터링 제거)
  *
  * </pre>
  *
  * @author 민철
- * @version 1.1
+ * @version 1.2
  */
 @Slf4j
 @Service
@@ -39,13 +42,14 @@ import java.util.stream.Collectors;
 public class OrganizationServiceImpl implements OrganizationService {
 
     private final OrganizationMapper organizationMapper;
+    private final OrganizationGraphService organizationGraphService;
 
 
     /**
      * 조직도 전체 조회 (계층 구조)
      * <pre>
      * 처리 흐름:
-     * 1. 모든 부서 조회 (MyBatis)
+     * 1. 조직 그래프 스냅샷 조회 (부서 계층, 부서 변경 커밋 전까지 DB 재조회 없음)
      * 2. 모든 직원 조회 (MyBatis)
      * 3. 부서별 직원 그룹핑 (Stream API 사용)
      * 4. depth=1인 최상위 부서만 필터링
@@ -73,7 +77,7 @@ public class OrganizationServiceImpl implements OrganizationService {
     @Override
     public OrganizationTreeResponseDTO getOrganizationTree() {
 
-        List<OrganizationDepartmentDTO> departments = organizationMapper.selectAllDepartments();
+        OrganizationGraph graph = organizationGraphService.current();
 
         List<OrganizationEmployeeDTO> employees = organizationMapper.selectAllEmployees();
 
@@ -82,16 +86,16 @@ public class OrganizationServiceImpl implements OrganizationService {
 
         List<OrganizationTreeNodeDTO> rootChildren = new ArrayList<>();
 
-        List<OrganizationDepartmentDTO> topLevelDepts = departments.stream()
-                .filter(dept -> dept.getDepth() != null && dept.getDepth() == 1)
+        List<Integer> topLevelDeptIds = graph.departmentIds().stream()
+                .filter(id -> {
+                    Integer depth = graph.depthOf(id);
+                    return depth != null && depth == 1;
+                })
+                .sorted()
                 .collect(Collectors.toList());
 
-
-        for (OrganizationDepartmentDTO topDept : topLevelDepts) {
-            OrganizationTreeNodeDTO deptNode = buildDepartmentNode(topDept, departments, employeesByDept);
-            if (deptNode != null) {
-                rootChildren.add(deptNode);
-            }
+        for (Integer topDeptId : topLevelDeptIds) {
+            rootChildren.add(buildDepartmentNode(topDeptId, graph, employeesByDept));
         }
 
         OrganizationTreeNodeDTO virtualRoot = OrganizationTreeNodeDTO.builder()
@@ -115,7 +119,7 @@ public class OrganizationServiceImpl implements OrganizationService {
      * <pre>
      * 처리 흐름:
      * 1. 하위 부서 찾기
-     *    - parentDepartmentId가 현재 부서 ID와 일치하는 부서 필터링
+     *    - 조직 그래프의 직속 하위 부서 목록 사용 (부서 ID 오름차순)
      *    - 각 하위 부서에 대해 재귀 호출
      * 2. 소속 직원 추가
      *    - 현재 부서에 속한 직원들을 children에 추가
@@ -125,28 +129,24 @@ public class OrganizationServiceImpl implements OrganizationService {
      * 재귀 종료 조건:
      * - 하위 부서도 없고 소속 직원도 없는 경우 (leaf 노드)
      * </pre>
-     * @param dept            현재 부서
-     * @param allDepartments  전체 부서 목록
+     * @param departmentId    현재 부서 ID
+     * @param graph           조직 그래프 스냅샷
      * @param employeesByDept 부서별 직원 맵 (key: departmentId, value: 직원 목록)
      * @return OrganizationTreeNodeDTO 부서 노드 (하위 부서 및 소속 직원 포함)
      */
     private OrganizationTreeNodeDTO buildDepartmentNode(
-            OrganizationDepartmentDTO dept,
-            List<OrganizationDepartmentDTO> allDepartments,
+            Integer departmentId,
+            OrganizationGraph graph,
             Map<Integer, List<OrganizationEmployeeDTO>> employeesByDept
     ) {
         List<OrganizationTreeNodeDTO> children = new ArrayList<>();
 
-        List<OrganizationDepartmentDTO> subDepartments = allDepartments.stream()
-                .filter(d -> dept.getDepartmentId().equals(d.getParentDepartmentId()))
-                .collect(Collectors.toList());
-
-        for (OrganizationDepartmentDTO subDept : subDepartments) {
-            children.add(buildDepartmentNode(subDept, allDepartments, employeesByDept));
+        for (Integer subDepartmentId : graph.childIdsOf(departmentId)) {
+            children.add(buildDepartmentNode(subDepartmentId, graph, employeesByDept));
         }
 
         List<OrganizationEmployeeDTO> deptEmployees = employeesByDept.getOrDefault(
-                dept.getDepartmentId(),
+                departmentId,
                 new ArrayList<>()
         );
 
@@ -160,9 +160,9 @@ public class OrganizationServiceImpl implements OrganizationService {
         }
 
         return OrganizationTreeNodeDTO.createDepartmentNode(
-                dept.getDepartmentId(),
-                dept.getDepartmentName(),
-                dept.getDepth(),
+                departmentId,
+                graph.nameOf(departmentId),
+                graph.depthOf(departmentId),
                 deptEmployees.size(),
                 children
         );
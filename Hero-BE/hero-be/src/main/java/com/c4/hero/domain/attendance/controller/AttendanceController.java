@@ -41,6 +41,7 @@ import io.swagger.v3.oas.annotations.responses.ApiResponses;
  * 2025/12/18 (이지윤) 개인 근태 요약, JWT 기반 조회 적용
  * 2025/12/24 (이지윤) 부서 근태 현황/대시보드/반기 대시보드 API 추가 및 코딩 컨벤션 정리
  * 2025/12/30 (이지윤) 개인 근태 기록 단건 조회 기능 개발
+ * 2026/10/18 (이지윤) 개인 근태/초과 근무/근태 정정/근무제 변경 이력 커서 페이지 API 추가
  * </pre>
  *
  * 개인별/부서별 근태 및 연관된 각종 현황을 조회하는 엔드포인트를 제공합니다.
@@ -51,7 +52,7 @@ import io.swagger.v3.oas.annotations.responses.ApiResponses;
  * JWT 토큰에서 employeeId를 파싱하여, 로그인한 사용자의 데이터를 조회하는 패턴을 기본으로 합니다.
  *
  * @author 이지윤
- * @version 1.2
+ * @version 1.3
  */
 @Tag( name = "근태 API", description = "개인/부서 근태 조회, 근태 점수 대시보드, 직원 반기 대시보드 API")
 @RestController
@@ -286,6 +287,170 @@ public class AttendanceController {
         return attendanceService.getChangeLogList(employeeId, page, size, startDate, endDate);
     }
 
+    /**
+     * 개인 근태 기록을 커서(키셋) 방식으로 조회합니다.
+     *
+     * <p>깊은 페이지에서도 OFFSET 없이 조회하며, 전체 개수는 옵션입니다.
+     * 첫 요청은 cursor 없이, 이후에는 응답의 nextCursor를 그대로 전달합니다.</p>
+     *
+     * @param request    로그인 정보(JWT)를 포함한 HTTP 요청
+     * @param cursor     이전 응답의 nextCursor (없으면 첫 페이지)
+     * @param size       한 페이지당 조회할 데이터 개수 (기본값 10)
+     * @param startDate  조회 시작일(yyyy-MM-dd), null인 경우 기간 필터 미적용
+     * @param endDate    조회 종료일(yyyy-MM-dd), null인 경우 기간 필터 미적용
+     * @param withTotal  전체 개수 포함 여부 (기본값 true, false면 totalElements = -1)
+     * @param knownTotal 이전 응답의 totalElements (전달 시 COUNT 재조회 생략)
+     * @return 개인 근태 기록 커서 페이지 응답 DTO
+     */
+    @Operation(
+            summary = "개인 근태 기록 커서 조회",
+            description = "개인 근태 기록을 커서(키셋) 방식으로 조회"
+    )
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "개인 근태 기록 커서 조회 성공",
+                    content = @Content(schema = @Schema(implementation = PageResponse.class))),
+            @ApiResponse(responseCode = "400", description = "요청 파라미터 오류(cursor/size/date 범위 등)"),
+            @ApiResponse(responseCode = "401", description = "인증 실패(JWT 누락/만료/위조)"),
+            @ApiResponse(responseCode = "500", description = "서버 내부 오류")
+    })
+    @GetMapping("/personal/cursor")
+    public PageResponse<PersonalDTO> getPersonalListByCursor(
+            HttpServletRequest request,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10") Integer size,
+            @RequestParam(required = false) LocalDate startDate,
+            @RequestParam(required = false) LocalDate endDate,
+            @RequestParam(defaultValue = "true") boolean withTotal,
+            @RequestParam(required = false) Long knownTotal
+    ) {
+        Integer employeeId = getEmployeeIdFromToken(request);
+
+        return attendanceService.getPersonalListByCursor(employeeId, cursor, size, startDate, endDate, withTotal, knownTotal);
+    }
+
+    /**
+     * 개인 초과 근무 이력을 커서(키셋) 방식으로 조회합니다.
+     *
+     * <p>깊은 페이지에서도 OFFSET 없이 조회하며, 전체 개수는 옵션입니다.
+     * 첫 요청은 cursor 없이, 이후에는 응답의 nextCursor를 그대로 전달합니다.</p>
+     *
+     * @param request    로그인 정보(JWT)를 포함한 HTTP 요청
+     * @param cursor     이전 응답의 nextCursor (없으면 첫 페이지)
+     * @param size       한 페이지당 조회할 데이터 개수 (기본값 10)
+     * @param startDate  조회 시작일(yyyy-MM-dd), null인 경우 기간 필터 미적용
+     * @param endDate    조회 종료일(yyyy-MM-dd), null인 경우 기간 필터 미적용
+     * @param withTotal  전체 개수 포함 여부 (기본값 true, false면 totalElements = -1)
+     * @param knownTotal 이전 응답의 totalElements (전달 시 COUNT 재조회 생략)
+     * @return 개인 초과 근무 이력 커서 페이지 응답 DTO
+     */
+    @Operation(
+            summary = "개인 초과 근무 이력 커서 조회",
+            description = "개인 초과 근무 이력을 커서(키셋) 방식으로 조회"
+    )
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "개인 초과 근무 이력 커서 조회 성공",
+                    content = @Content(schema = @Schema(implementation = PageResponse.class))),
+            @ApiResponse(responseCode = "400", description = "요청 파라미터 오류(cursor/size/date 범위 등)"),
+            @ApiResponse(responseCode = "401", description = "인증 실패(JWT 누락/만료/위조)"),
+            @ApiResponse(responseCode = "500", description = "서버 내부 오류")
+    })
+    @GetMapping("/overtime/cursor")
+    public PageResponse<OvertimeDTO> getOvertimeListByCursor(
+            HttpServletRequest request,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10") Integer size,
+            @RequestParam(required = false) LocalDate startDate,
+            @RequestParam(required = false) LocalDate endDate,
+            @RequestParam(defaultValue = "true") boolean withTotal,
+            @RequestParam(required = false) Long knownTotal
+    ) {
+        Integer employeeId = getEmployeeIdFromToken(request);
+
+        return attendanceService.getOvertimeListByCursor(employeeId, cursor, size, startDate, endDate, withTotal, knownTotal);
+    }
+
+    /**
+     * 개인 근태 정정 요청 이력을 커서(키셋) 방식으로 조회합니다.
+     *
+     * <p>깊은 페이지에서도 OFFSET 없이 조회하며, 전체 개수는 옵션입니다.
+     * 첫 요청은 cursor 없이, 이후에는 응답의 nextCursor를 그대로 전달합니다.</p>
+     *
+     * @param request    로그인 정보(JWT)를 포함한 HTTP 요청
+     * @param cursor     이전 응답의 nextCursor (없으면 첫 페이지)
+     * @param size       한 페이지당 조회할 데이터 개수 (기본값 10)
+     * @param startDate  조회 시작일(yyyy-MM-dd), null인 경우 기간 필터 미적용
+     * @param endDate    조회 종료일(yyyy-MM-dd), null인 경우 기간 필터 미적용
+     * @param withTotal  전체 개수 포함 여부 (기본값 true, false면 totalElements = -1)
+     * @param knownTotal 이전 응답의 totalElements (전달 시 COUNT 재조회 생략)
+     * @return 개인 근태 정정 요청 이력 커서 페이지 응답 DTO
+     */
+    @Operation(
+            summary = "개인 근태 정정 요청 이력 커서 조회",
+            description = "개인 근태 정정 요청 이력을 커서(키셋) 방식으로 조회"
+    )
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "개인 근태 정정 요청 이력 커서 조회 성공",
+                    content = @Content(schema = @Schema(implementation = PageResponse.class))),
+            @ApiResponse(responseCode = "400", description = "요청 파라미터 오류(cursor/size/date 범위 등)"),
+            @ApiResponse(responseCode = "401", description = "인증 실패(JWT 누락/만료/위조)"),
+            @ApiResponse(responseCode = "500", description = "서버 내부 오류")
+    })
+    @GetMapping("/correction/cursor")
+    public PageResponse<CorrectionDTO> getCorrectionListByCursor(
+            HttpServletRequest request,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10") Integer size,
+            @RequestParam(required = false) LocalDate startDate,
+            @RequestParam(required = false) LocalDate endDate,
+            @RequestParam(defaultValue = "true") boolean withTotal,
+            @RequestParam(required = false) Long knownTotal
+    ) {
+        Integer employeeId = getEmployeeIdFromToken(request);
+
+        return attendanceService.getCorrectionListByCursor(employeeId, cursor, size, startDate, endDate, withTotal, knownTotal);
+    }
+
+    /**
+     * 개인 근무제 변경 이력을 커서(키셋) 방식으로 조회합니다.
+     *
+     * <p>깊은 페이지에서도 OFFSET 없이 조회하며, 전체 개수는 옵션입니다.
+     * 첫 요청은 cursor 없이, 이후에는 응답의 nextCursor를 그대로 전달합니다.</p>
+     *
+     * @param request    로그인 정보(JWT)를 포함한 HTTP 요청
+     * @param cursor     이전 응답의 nextCursor (없으면 첫 페이지)
+     * @param size       한 페이지당 조회할 데이터 개수 (기본값 10)
+     * @param startDate  조회 시작일(yyyy-MM-dd), null인 경우 기간 필터 미적용
+     * @param endDate    조회 종료일(yyyy-MM-dd), null인 경우 기간 필터 미적용
+     * @param withTotal  전체 개수 포함 여부 (기본값 true, false면 totalElements = -1)
+     * @param knownTotal 이전 응답의 totalElements (전달 시 COUNT 재조회 생략)
+     * @return 개인 근무제 변경 이력 커서 페이지 응답 DTO
+     */
+    @Operation(
+            summary = "개인 근무제 변경 이력 커서 조회",
+            description = "개인 근무제 변경 이력을 커서(키셋) 방식으로 조회"
+    )
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "개인 근무제 변경 이력 커서 조회 성공",
+                    content = @Content(schema = @Schema(implementation = PageResponse.class))),
+            @ApiResponse(responseCode = "400", description = "요청 파라미터 오류(cursor/size/date 범위 등)"),
+            @ApiResponse(responseCode = "401", description = "인증 실패(JWT 누락/만료/위조)"),
+            @ApiResponse(responseCode = "500", description = "서버 내부 오류")
+    })
+    @GetMapping("/changelog/cursor")
+    public PageResponse<ChangeLogDTO> getChangeLogListByCursor(
+            HttpServletRequest request,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10") Integer size,
+            @RequestParam(required = false) LocalDate startDate,
+            @RequestParam(required = false) LocalDate endDate,
+            @RequestParam(defaultValue = "true") boolean withTotal,
+            @RequestParam(required = false) Long knownTotal
+    ) {
+        Integer employeeId = getEmployeeIdFromToken(request);
+
+        return attendanceService.getChangeLogListByCursor(employeeId, cursor, size, startDate, endDate, withTotal, knownTotal);
+    }
+
     /**
      * 부서 근태 현황(당일 기준)을 조회합니다.
      *
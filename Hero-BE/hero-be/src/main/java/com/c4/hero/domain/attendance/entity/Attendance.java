@@ -10,6 +10,7 @@ import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -26,13 +27,20 @@ import java.time.LocalTime;
  *
  * History
  * 2025/12/10 (이지윤) 최초 작성 및 컨벤션 적용
+ * 2026/10/18 (이지윤) 직원별 근무일 유니크 키 명시 (출근 중복 INSERT 방지)
  * </pre>
  *
  * @author 이지윤
- * @version 1.0
+ * @version 1.1
  */
 @Entity
-@Table(name = "tbl_attendance")
+@Table(
+        name = "tbl_attendance",
+        uniqueConstraints = @UniqueConstraint(
+                name = "uk_attendance_employee_work_date",
+                columnNames = {"employee_id", "work_date"}
+        )
+)
 @NoArgsConstructor
 @Getter
 @ToString
@@ -0,0 +1,83 @@
+package com.c4.hero.domain.attendance.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Immutable;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * <pre>
+ * Entity Name: AttendanceScoreMonthly
+ * Description: 직원별 월간 근태 점수 집계 엔티티 (근태 점수 대시보드 조회용)
+ *
+ * History
+ * 2026/10/18 (이지윤) 최초 작성
+ * </pre>
+ *
+ * 출근/퇴근/근태 정정 시 해당 직원의 해당 월 한 행만 다시 집계하며
+ * (AttendanceScoreRollupService), 대시보드는 근태 이력 대신 이 테이블을 조회합니다.
+ * 쓰기는 MyBatis(AttendanceScoreMapper)에서만 수행하므로 JPA에서는 읽기 전용입니다.
+ *
+ * 점수 계산:
+ * <pre>
+ * score = 100 - (지각 횟수 × 1) - (결근 횟수 × 2)
+ * </pre>
+ * 휴직자 0점 처리는 조회 시점의 직원 상태로 판단합니다.
+ *
+ * @author 이지윤
+ * @version 1.0
+ */
+@Entity
+@Immutable
+@Table(
+        name = "tbl_attendance_score_monthly",
+        uniqueConstraints = @UniqueConstraint(columnNames = {"employee_id", "score_month"})
+)
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Getter
+public class AttendanceScoreMonthly {
+
+    /** 집계 PK (식별자) */
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "attendance_score_id")
+    private Long attendanceScoreId;
+
+    /** 직원 ID */
+    @Column(name = "employee_id", nullable = false)
+    private Integer employeeId;
+
+    /** 집계 월 (해당 월 1일) */
+    @Column(name = "score_month", nullable = false)
+    private LocalDate scoreMonth;
+
+    /** 근태 기록 수 */
+    @Column(name = "work_count", nullable = false)
+    private Integer workCount;
+
+    /** 지각 횟수 */
+    @Column(name = "late_count", nullable = false)
+    private Integer lateCount;
+
+    /** 결근 횟수 */
+    @Column(name = "absent_count", nullable = false)
+    private Integer absentCount;
+
+    /** 근태 점수 (휴직 여부 미반영) */
+    @Column(name = "score", nullable = false)
+    private Integer score;
+
+    /** 마지막 집계 일시 */
+    @Column(name = "refreshed_at", nullable = false)
+    private LocalDateTime refreshedAt;
+}
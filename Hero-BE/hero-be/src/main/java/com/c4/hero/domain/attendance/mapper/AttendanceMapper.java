@@ -24,10 +24,11 @@ import java.util.Map;
  * 2025/12/30 (이지윤) 초과 근무 로직에 관한 mapper 추가
  * 2025/12/30 (이지윤) 근무제 수정 변경 로직에 관한 mapper 추가
  * 2026/01/02 (혜원) 알림 감지를 위한 mapper 추가
+ * 2026/10/18 (이지윤) 개인 근태/초과 근무/근태 정정/근무제 변경 이력 키셋 페이지 조회 추가
  * </pre>
  *
  * @author 이지윤
- * @version 1.2
+ * @version 1.3
  */
 @Mapper
 public interface AttendanceMapper {
@@ -264,6 +265,98 @@ public interface AttendanceMapper {
             @Param("endDate") LocalDate endDate
     );
 
+    /**
+     * 개인 근태 기록 목록을 키셋(커서) 방식으로 조회합니다.
+     *
+     * <p>(work_date, attendance_id) 내림차순 정렬에서 커서보다 뒤에 있는 행만 조회하므로
+     * 깊은 페이지에서도 앞 페이지 행을 읽고 버리지 않습니다.</p>
+     *
+     * @param employeeId 로그인한 사람의 정보 확인
+     * @param startDate  조회 시작일(yyyy-MM-dd), null인 경우 기간 필터 미적용
+     * @param endDate    조회 종료일(yyyy-MM-dd), null인 경우 기간 필터 미적용
+     * @param cursorDate 이전 페이지 마지막 행의 날짜, null이면 첫 페이지
+     * @param cursorId   이전 페이지 마지막 행의 ID
+     * @param limit      조회할 데이터 개수 (다음 페이지 판단용 1건 포함)
+     * @return 개인 근태 기록 리스트
+     */
+    List<PersonalDTO> selectPersonalKeyset(
+            @Param("employeeId") Integer employeeId,
+            @Param("startDate") LocalDate startDate,
+            @Param("endDate") LocalDate endDate,
+            @Param("cursorDate") LocalDate cursorDate,
+            @Param("cursorId") Integer cursorId,
+            @Param("limit") Integer limit
+    );
+
+    /**
+     * 초과 근무 기록 목록을 키셋(커서) 방식으로 조회합니다.
+     *
+     * <p>(date, overtime_id) 내림차순 정렬에서 커서보다 뒤에 있는 행만 조회하므로
+     * 깊은 페이지에서도 앞 페이지 행을 읽고 버리지 않습니다.</p>
+     *
+     * @param employeeId 로그인한 사람의 정보 확인
+     * @param startDate  조회 시작일(yyyy-MM-dd), null인 경우 기간 필터 미적용
+     * @param endDate    조회 종료일(yyyy-MM-dd), null인 경우 기간 필터 미적용
+     * @param cursorDate 이전 페이지 마지막 행의 날짜, null이면 첫 페이지
+     * @param cursorId   이전 페이지 마지막 행의 ID
+     * @param limit      조회할 데이터 개수 (다음 페이지 판단용 1건 포함)
+     * @return 초과 근무 기록 리스트
+     */
+    List<OvertimeDTO> selectOvertimeKeyset(
+            @Param("employeeId") Integer employeeId,
+            @Param("startDate") LocalDate startDate,
+            @Param("endDate") LocalDate endDate,
+            @Param("cursorDate") LocalDate cursorDate,
+            @Param("cursorId") Integer cursorId,
+            @Param("limit") Integer limit
+    );
+
+    /**
+     * 근태 정정 요청 목록을 키셋(커서) 방식으로 조회합니다.
+     *
+     * <p>(target_date, correction_request_id) 내림차순 정렬에서 커서보다 뒤에 있는 행만 조회하므로
+     * 깊은 페이지에서도 앞 페이지 행을 읽고 버리지 않습니다.</p>
+     *
+     * @param employeeId 로그인한 사람의 정보 확인
+     * @param startDate  조회 시작일(yyyy-MM-dd), null인 경우 기간 필터 미적용
+     * @param endDate    조회 종료일(yyyy-MM-dd), null인 경우 기간 필터 미적용
+     * @param cursorDate 이전 페이지 마지막 행의 날짜, null이면 첫 페이지
+     * @param cursorId   이전 페이지 마지막 행의 ID
+     * @param limit      조회할 데이터 개수 (다음 페이지 판단용 1건 포함)
+     * @return 근태 정정 요청 리스트
+     */
+    List<CorrectionDTO> selectCorrectionKeyset(
+            @Param("employeeId") Integer employeeId,
+            @Param("startDate") LocalDate startDate,
+            @Param("endDate") LocalDate endDate,
+            @Param("cursorDate") LocalDate cursorDate,
+            @Param("cursorId") Integer cursorId,
+            @Param("limit") Integer limit
+    );
+
+    /**
+     * 근무제 변경 이력 목록을 키셋(커서) 방식으로 조회합니다.
+     *
+     * <p>(date, work_system_change_log_id) 내림차순 정렬에서 커서보다 뒤에 있는 행만 조회하므로
+     * 깊은 페이지에서도 앞 페이지 행을 읽고 버리지 않습니다.</p>
+     *
+     * @param employeeId 로그인한 사람의 정보 확인
+     * @param startDate  조회 시작일(yyyy-MM-dd), null인 경우 기간 필터 미적용
+     * @param endDate    조회 종료일(yyyy-MM-dd), null인 경우 기간 필터 미적용
+     * @param cursorDate 이전 페이지 마지막 행의 날짜, null이면 첫 페이지
+     * @param cursorId   이전 페이지 마지막 행의 ID
+     * @param limit      조회할 데이터 개수 (다음 페이지 판단용 1건 포함)
+     * @return 근무제 변경 이력 리스트
+     */
+    List<ChangeLogDTO> selectChangeLogKeyset(
+            @Param("employeeId") Integer employeeId,
+            @Param("startDate") LocalDate startDate,
+            @Param("endDate") LocalDate endDate,
+            @Param("cursorDate") LocalDate cursorDate,
+            @Param("cursorId") Integer cursorId,
+            @Param("limit") Integer limit
+    );
+
     void insertOvertime(
             @Param("employeeId") Integer employeeId,
             @Param("workDate") LocalDate workDate,
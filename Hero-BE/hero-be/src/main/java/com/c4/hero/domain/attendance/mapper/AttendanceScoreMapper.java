@@ -0,0 +1,76 @@
+package com.c4.hero.domain.attendance.mapper;
+
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+import java.time.LocalDate;
+
+/**
+ * <pre>
+ * Interface Name: AttendanceScoreMapper
+ * Description: 직원별 월간 근태 점수 집계(tbl_attendance_score_monthly) 갱신용 MyBatis Mapper
+ *
+ * History
+ * 2026/10/18 (이지윤) 최초 작성
+ * 2026/10/18 (이지윤) 월 전체 재집계 upsert 전환, 가장 오래된 근무일 조회 추가
+ * </pre>
+ *
+ * @author 이지윤
+ * @version 1.1
+ */
+@Mapper
+public interface AttendanceScoreMapper {
+
+    /**
+     * 직원 1명의 해당 월 근태 점수를 다시 집계합니다. (없으면 생성)
+     *
+     * @param employeeId 직원 ID
+     * @param monthStart 해당 월 1일
+     * @param monthEnd   해당 월 말일
+     * @return 영향받은 행 수
+     */
+    int upsertMonthlyScore(
+            @Param("employeeId") Integer employeeId,
+            @Param("monthStart") LocalDate monthStart,
+            @Param("monthEnd") LocalDate monthEnd
+    );
+
+    /**
+     * 해당 월 근태 이력이 있는 전체 직원의 점수를 다시 집계합니다. (없으면 생성)
+     *
+     * @param monthStart 해당 월 1일
+     * @param monthEnd   해당 월 말일
+     * @return 영향받은 행 수
+     */
+    int upsertMonthlyScores(
+            @Param("monthStart") LocalDate monthStart,
+            @Param("monthEnd") LocalDate monthEnd
+    );
+
+    /**
+     * 해당 월 근태 이력이 더 이상 없는 직원의 집계를 삭제합니다.
+     *
+     * @param monthStart 해당 월 1일
+     * @param monthEnd   해당 월 말일
+     * @return 삭제된 행 수
+     */
+    int deleteStaleMonthlyScores(
+            @Param("monthStart") LocalDate monthStart,
+            @Param("monthEnd") LocalDate monthEnd
+    );
+
+    /**
+     * 해당 월 집계가 한 건이라도 있는지 확인합니다.
+     *
+     * @param monthStart 해당 월 1일
+     * @return 집계 존재 여부
+     */
+    boolean existsMonthlyScores(@Param("monthStart") LocalDate monthStart);
+
+    /**
+     * 가장 오래된 근무일을 조회합니다.
+     *
+     * @return 가장 오래된 근무일 (근태 이력이 없으면 null)
+     */
+    LocalDate selectFirstWorkDate();
+}
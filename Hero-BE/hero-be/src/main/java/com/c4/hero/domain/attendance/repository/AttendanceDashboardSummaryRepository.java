@@ -1,5 +1,6 @@
 package com.c4.hero.domain.attendance.repository;
 
+import com.c4.hero.domain.attendance.dto.AttendanceDashboardSummaryDTO;
 import com.c4.hero.domain.employee.entity.Employee;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
@@ -14,6 +15,7 @@ import java.time.LocalDate;
  *
  * History
  * 2025/12/24 (이지윤) 최초 작성 및 코딩 컨벤션 적용
+ * 2026/10/18 (이지윤) 우수/위험 직원 수를 월간 근태 점수 집계 기반 단일 조회로 변경
  * </pre>
  *
  * 부서별/기간별 기준으로:
@@ -30,12 +32,11 @@ import java.time.LocalDate;
  *         - (지각 횟수 × 1)
  *         - (결근 횟수 × 2)
  *
- *  - 지각 상태:  a.state = '지각'
- *  - 결근 상태:  a.state = '결근'
+ *  - 직원 × 월 단위로 미리 집계된 값(AttendanceScoreMonthly.score)을 사용
  * </pre>
  *
  * @author 이지윤
- * @version 1.0
+ * @version 1.1
  */
 public interface AttendanceDashboardSummaryRepository extends JpaRepository<Employee, Integer> {
 
@@ -63,102 +64,45 @@ public interface AttendanceDashboardSummaryRepository extends JpaRepository<Empl
     long countTotalEmployees(@Param("departmentId") Integer departmentId);
 
     /**
-     * 우수 직원 수(근태 점수 95점 이상)를 조회합니다.
+     * 전체/우수/위험 직원 수를 한 번에 조회합니다.
      *
-     * <p>근태 점수 계산</p>
+     * <p>scoreMonth 월의 미리 집계된 근태 점수(tbl_attendance_score_monthly)를 사용하며,
+     * 집계 행이 없는 직원(해당 월 근태 이력 없음)은 100점으로 봅니다.</p>
      * <ul>
-     *     <li>기본 점수: 100점</li>
-     *     <li>지각(상태 = '지각') 1회당 -1점</li>
-     *     <li>결근(상태 = '결근') 1회당 -2점</li>
-     *     <li>휴직자(ON_LEAVE)는 점수 0점으로 처리되어 우수 직원에 포함되지 않음</li>
-     * </ul>
-     *
-     * <p>조회 조건</p>
-     * <ul>
-     *     <li>{@code startDate} ~ {@code endDate} 기간의 근태 이력만 대상</li>
-     *     <li>departmentId가 null이면 전체 부서, 값이 있으면 해당 부서만 대상</li>
-     *     <li>계산된 점수가 95점 이상인 직원 수를 집계</li>
+     *     <li>전체 직원 수: 재직(ACTIVE) + 휴직(ON_LEAVE), 월과 무관</li>
+     *     <li>우수 직원 수: 점수 95점 이상 (휴직자는 0점이므로 제외)</li>
+     *     <li>위험 직원 수: 점수 85점 이하 (휴직자 제외)</li>
      * </ul>
      *
      * @param departmentId 조회 대상 부서 ID (null이면 전체 부서)
-     * @param startDate    근태 점수 산정 시작일
-     * @param endDate      근태 점수 산정 종료일
-     * @return 점수 95점 이상인 우수 직원 수
+     * @param scoreMonth   조회 월 (해당 월 1일)
+     * @return 전체/우수/위험 직원 수
      */
     @Query(
             """
-            select count(e.employeeId)
+            select new com.c4.hero.domain.attendance.dto.AttendanceDashboardSummaryDTO(
+                count(e.employeeId),
+                coalesce(sum(
+                    case when e.status = com.c4.hero.domain.employee.type.EmployeeStatus.ACTIVE
+                          and coalesce(s.score, 100) >= 95 then 1L else 0L end
+                ), 0L),
+                coalesce(sum(
+                    case when e.status = com.c4.hero.domain.employee.type.EmployeeStatus.ACTIVE
+                          and coalesce(s.score, 100) <= 85 then 1L else 0L end
+                ), 0L)
+            )
             from Employee e
                 join e.employeeDepartment d
+                left join AttendanceScoreMonthly s
+                    on s.employeeId = e.employeeId
+                   and s.scoreMonth = :scoreMonth
             where (:departmentId is null or d.departmentId = :departmentId)
               and (e.status = com.c4.hero.domain.employee.type.EmployeeStatus.ACTIVE or e.status = com.c4.hero.domain.employee.type.EmployeeStatus.ON_LEAVE)
               and e.employeeName != 'admin'
-              and e.employeeId in (
-                  select e2.employeeId
-                  from Employee e2
-                      join e2.employeeDepartment d2
-                      left join Attendance a
-                          on a.employee = e2
-                         and a.workDate between :startDate and :endDate
-                  where (:departmentId is null or d2.departmentId = :departmentId)
-                  group by e2.employeeId, e2.status
-                  having (
-                      case when e2.status = com.c4.hero.domain.employee.type.EmployeeStatus.ON_LEAVE then 0L
-                      else
-                          100L
-                          - coalesce(sum(case when a.state = '지각' then 1L else 0L end), 0L) * 1L
-                          - coalesce(sum(case when a.state = '결근' then 1L else 0L end), 0L) * 2L
-                      end
-                  ) >= 95L
-              )
-            """
-    )
-    long countExcellentEmployees(
-            @Param("departmentId") Integer departmentId,
-            @Param("startDate") LocalDate startDate,
-            @Param("endDate") LocalDate endDate
-    );
-
-    /**
-     * 위험 직원 수(근태 점수 85점 이하)를 조회합니다.
-     *
-     * <p>근태 점수 계산 로직은 {@link #countExcellentEmployees(Integer, LocalDate, LocalDate)}와 동일하며,</p>
-     * <p>점수 기준만 {@code <= 85}로 변경됩니다.</p>
-     * <p>휴직자(ON_LEAVE)는 위험 직원 집계에서 제외합니다.</p>
-     *
-     * @param departmentId 조회 대상 부서 ID (null이면 전체 부서)
-     * @param startDate    근태 점수 산정 시작일
-     * @param endDate      근태 점수 산정 종료일
-     * @return 점수 85점 이하인 위험 직원 수 (휴직자 제외)
-     */
-    @Query(
-            """
-            select count(e.employeeId)
-            from Employee e
-                join e.employeeDepartment d
-            where (:departmentId is null or d.departmentId = :departmentId)
-              and e.status = com.c4.hero.domain.employee.type.EmployeeStatus.ACTIVE
-              and e.employeeName != 'admin'
-              and e.employeeId in (
-                  select e2.employeeId
-                  from Employee e2
-                      join e2.employeeDepartment d2
-                      left join Attendance a
-                          on a.employee = e2
-                         and a.workDate between :startDate and :endDate
-                  where (:departmentId is null or d2.departmentId = :departmentId)
-                  group by e2.employeeId
-                  having (
-                      100L
-                      - coalesce(sum(case when a.state = '지각' then 1L else 0L end), 0L) * 1L
-                      - coalesce(sum(case when a.state = '결근' then 1L else 0L end), 0L) * 2L
-                  ) <= 85L
-              )
             """
     )
-    long countRiskyEmployees(
+    AttendanceDashboardSummaryDTO summarizeScores(
             @Param("departmentId") Integer departmentId,
-            @Param("startDate") LocalDate startDate,
-            @Param("endDate") LocalDate endDate
+            @Param("scoreMonth") LocalDate scoreMonth
     );
 }
\ No newline at end of file
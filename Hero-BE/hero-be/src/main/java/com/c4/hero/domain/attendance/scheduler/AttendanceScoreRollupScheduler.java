@@ -0,0 +1,55 @@
+package com.c4.hero.domain.attendance.scheduler;
+
+import com.c4.hero.domain.attendance.service.AttendanceScoreRollupService;
+import lombok.RequiredArgsConstructor;
+import net.javacrumbs.shedlock.spring.annotation.SchedulerLock;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.YearMonth;
+
+/**
+ * <pre>
+ * Class Name: AttendanceScoreRollupScheduler
+ * Description: 월간 근태 점수 집계 보정 스케줄러
+ *
+ * History
+ * 2026/10/18 (이지윤) 최초 작성
+ * 2026/10/18 (이지윤) 집계가 없는 과거 월 보충 추가 (대시보드 조회 시 재집계 제거)
+ * </pre>
+ *
+ * 출근/퇴근/근태 정정 외 경로(관리자 직접 수정, 데이터 이관 등)로 바뀐 근태 이력을
+ * 반영하기 위해 매일 새벽 이번 달과 지난 달 집계를 다시 계산하고,
+ * 그 이전 월 중 집계가 없는 월을 채웁니다. 대시보드 조회는 집계 테이블만 읽습니다.
+ *
+ * @author 이지윤
+ * @version 1.1
+ */
+@Component
+@RequiredArgsConstructor
+public class AttendanceScoreRollupScheduler {
+
+    /** 월간 근태 점수 집계 서비스 */
+    private final AttendanceScoreRollupService attendanceScoreRollupService;
+
+    /**
+     * 매일 02:00 이번 달/지난 달 근태 점수 재집계 + 집계 없는 과거 월 보충
+     *  - 월마다 서비스 트랜잭션이 분리되므로 보충 중 실패해도 앞선 월 집계는 유지
+     */
+    @Scheduled(cron = "0 0 2 * * *")
+    @SchedulerLock(name = "rebuildAttendanceScores", lockAtLeastFor = "PT1M", lockAtMostFor = "PT30M")
+    public void rebuildRecentMonths() {
+        YearMonth thisMonth = YearMonth.now();
+
+        YearMonth lastMonth = thisMonth.minusMonths(1);
+
+        attendanceScoreRollupService.rebuildMonth(lastMonth);
+        attendanceScoreRollupService.rebuildMonth(thisMonth);
+
+        attendanceScoreRollupService.findFirstAttendanceMonth().ifPresent(firstMonth -> {
+            for (YearMonth ym = firstMonth; ym.isBefore(lastMonth); ym = ym.plusMonths(1)) {
+                attendanceScoreRollupService.ensureMonth(ym);
+            }
+        });
+    }
+}
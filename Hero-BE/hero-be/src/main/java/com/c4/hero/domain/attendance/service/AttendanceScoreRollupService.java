@@ -0,0 +1,103 @@
+package com.c4.hero.domain.attendance.service;
+
+import com.c4.hero.domain.attendance.mapper.AttendanceScoreMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.Optional;
+
+/**
+ * <pre>
+ * Class Name: AttendanceScoreRollupService
+ * Description: 직원별 월간 근태 점수 집계(tbl_attendance_score_monthly) 갱신 서비스
+ *
+ * History
+ * 2026/10/18 (이지윤) 최초 작성
+ * 2026/10/18 (이지윤) 월 전체 재집계 upsert 전환, 집계 없는 월 보충을 대시보드 조회에서 스케줄러로 이동
+ * </pre>
+ *
+ * 근태 점수 대시보드가 매번 근태 이력 전체를 다시 집계하지 않도록
+ * 직원 × 월 단위 점수를 미리 저장합니다.
+ * <ul>
+ *     <li>출근/퇴근/근태 정정 승인: 해당 직원의 해당 월 한 행만 재집계 ({@link #refresh})</li>
+ *     <li>매일 새벽: 이번 달/지난 달 전체 재집계 (직접 수정된 근태 이력 보정)</li>
+ *     <li>매일 새벽: 집계가 없는 과거 월 보충 ({@link #ensureMonth})</li>
+ * </ul>
+ * 집계는 항상 근태 이력에서 다시 계산하므로 같은 갱신이 여러 번 실행되어도 결과가 같습니다.
+ *
+ * @author 이지윤
+ * @version 1.1
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class AttendanceScoreRollupService {
+
+    /** 월간 근태 점수 집계 MyBatis Mapper */
+    private final AttendanceScoreMapper attendanceScoreMapper;
+
+    /**
+     * 직원 1명의 근무일이 속한 월 점수를 재집계합니다.
+     *
+     * <p>근태 이력 변경과 같은 트랜잭션에서 호출해야 변경 내용이 반영됩니다.</p>
+     *
+     * @param employeeId 직원 ID
+     * @param workDate   변경된 근무일
+     */
+    @Transactional
+    public void refresh(Integer employeeId, LocalDate workDate) {
+        if (employeeId == null || workDate == null) {
+            return;
+        }
+
+        YearMonth ym = YearMonth.from(workDate);
+        attendanceScoreMapper.upsertMonthlyScore(employeeId, ym.atDay(1), ym.atEndOfMonth());
+    }
+
+    /**
+     * 해당 월 집계가 하나도 없으면 월 전체를 재집계합니다.
+     *
+     * @param ym 조회 월
+     */
+    @Transactional
+    public void ensureMonth(YearMonth ym) {
+        if (attendanceScoreMapper.existsMonthlyScores(ym.atDay(1))) {
+            return;
+        }
+        rebuildMonth(ym);
+    }
+
+    /**
+     * 해당 월 전체 직원의 점수를 근태 이력에서 다시 집계합니다.
+     *
+     * <p>삭제 후 생성하지 않고 upsert 하므로 재집계 중에도 조회 결과가 비지 않고,
+     * 같은 월의 직원 단위 갱신({@link #refresh})과 겹쳐도 키 충돌이 나지 않습니다.</p>
+     *
+     * @param ym 재집계 월
+     */
+    @Transactional
+    public void rebuildMonth(YearMonth ym) {
+        LocalDate monthStart = ym.atDay(1);
+        LocalDate monthEnd = ym.atEndOfMonth();
+
+        int rows = attendanceScoreMapper.upsertMonthlyScores(monthStart, monthEnd);
+        int stale = attendanceScoreMapper.deleteStaleMonthlyScores(monthStart, monthEnd);
+
+        log.info("월간 근태 점수 재집계 완료. month={}, rows={}, stale={}", ym, rows, stale);
+    }
+
+    /**
+     * 근태 이력이 시작된 월을 조회합니다. (과거 월 집계 보충 시작점)
+     *
+     * @return 가장 오래된 근무일이 속한 월 (근태 이력이 없으면 empty)
+     */
+    @Transactional(readOnly = true)
+    public Optional<YearMonth> findFirstAttendanceMonth() {
+        return Optional.ofNullable(attendanceScoreMapper.selectFirstWorkDate())
+                .map(YearMonth::from);
+    }
+}
@@ -2,6 +2,7 @@ package com.c4.hero.domain.attendance.service;
 
 import com.c4.hero.common.exception.EntityNotFoundException;
 import com.c4.hero.common.exception.ErrorCode;
+import com.c4.hero.common.pagination.KeysetCursor;
 import com.c4.hero.common.pagination.PageCalculator;
 import com.c4.hero.common.pagination.PageInfo;
 import com.c4.hero.common.response.PageResponse;
@@ -44,6 +45,8 @@ import java.time.YearMonth;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Function;
+import java.util.function.IntSupplier;
 import java.util.stream.Collectors;
 
 /**
@@ -56,6 +59,9 @@ import java.util.stream.Collectors;
  * 2025/12/09 (이지윤) 최초 작성
  * 2025/12/24 (이지윤) 대시보드/반기 대시보드/요약 카드 로직 추가 및 컨벤션 정리
  * 2026/01/07 (민철) 근태 이력 수정 로직 추가
+ * 2026/10/18 (이지윤) 근태 점수 대시보드/요약을 월간 근태 점수 집계 기반으로 변경
+ * 2026/10/18 (이지윤) 개인 근태/초과 근무/근태 정정/근무제 변경 이력 키셋(커서) 페이지 조회 추가
+ * 2026/10/18 (이지윤) 근태 점수 대시보드 조회 시 월 재집계 제거 (읽기 전용)
  * </pre>
  *
  * 개인/부서 단위의 근태 이력 및 각종 요약/대시보드 데이터를 조회하는 도메인 서비스입니다.
@@ -66,7 +72,7 @@ import java.util.stream.Collectors;
  * 공통 페이지네이션/기간 보정 로직을 내부에서 처리합니다.
  *
  * @author 이지윤
- * @version 1.2
+ * @version 1.5
  */
 @Slf4j
 @Service
@@ -90,6 +96,10 @@ public class AttendanceService {
 
     /** 직원 기본 정보 조회용 JPA 레포지토리 */
     private final EmployeeRepository employeeRepository;
+
+    /** 월간 근태 점수 집계 갱신 서비스 */
+    private final AttendanceScoreRollupService attendanceScoreRollupService;
+
     private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
 
     /** 근태 이력 수정 (지각, 결근 -> 정상) */
@@ -148,7 +158,10 @@ public class AttendanceService {
             }
 
             attendanceEntity.changeStatus( "정상", workDuration);
-            attendanceEmployeeDashboardRepository.save(attendanceEntity);
+            attendanceEmployeeDashboardRepository.saveAndFlush(attendanceEntity);
+
+            // 정정된 근무일이 속한 월의 근태 점수 재집계
+            attendanceScoreRollupService.refresh(drafterId, attendanceEntity.getWorkDate());
         } catch (JsonProcessingException e) {
             log.error("근태 상세정보 JSON 파싱 실패. drafterId={}, details={}",
                     drafterId, detailsJson, e);
@@ -535,6 +548,187 @@ public class AttendanceService {
         );
     }
 
+    /**
+     * 개인 근태 기록 페이지를 키셋(커서) 방식으로 조회합니다.
+     *
+     * @param employeeId 직원 ID (JWT 토큰에서 추출된 값)
+     * @param cursor     이전 응답의 nextCursor (null이면 첫 페이지)
+     * @param size       페이지당 데이터 개수
+     * @param startDate  조회 시작일(옵션, null이면 기간 필터 미적용)
+     * @param endDate    조회 종료일(옵션, null이면 기간 필터 미적용)
+     * @param withTotal  전체 개수 포함 여부 (false면 COUNT 미조회)
+     * @param knownTotal 이전 응답의 전체 개수 (전달 시 COUNT 재조회 생략)
+     * @return 개인 근태 기록 키셋 페이지 응답 DTO
+     */
+    public PageResponse<PersonalDTO> getPersonalListByCursor(
+            Integer employeeId,
+            String cursor,
+            Integer size,
+            LocalDate startDate,
+            LocalDate endDate,
+            boolean withTotal,
+            Long knownTotal
+    ) {
+        return keysetPage(
+                cursor,
+                size,
+                withTotal,
+                knownTotal,
+                () -> attendanceMapper.selectPersonalCount(employeeId, startDate, endDate),
+                (cursorDate, cursorId, limit) -> attendanceMapper.selectPersonalKeyset(
+                        employeeId, startDate, endDate, cursorDate, cursorId, limit),
+                row -> new KeysetCursor(row.getWorkDate(), row.getAttendanceId())
+        );
+    }
+
+    /**
+     * 초과 근무(연장 근무) 기록 페이지를 키셋(커서) 방식으로 조회합니다.
+     *
+     * @param employeeId 직원 ID (JWT 토큰에서 추출된 값)
+     * @param cursor     이전 응답의 nextCursor (null이면 첫 페이지)
+     * @param size       페이지당 데이터 개수
+     * @param startDate  조회 시작일(옵션, null이면 기간 필터 미적용)
+     * @param endDate    조회 종료일(옵션, null이면 기간 필터 미적용)
+     * @param withTotal  전체 개수 포함 여부 (false면 COUNT 미조회)
+     * @param knownTotal 이전 응답의 전체 개수 (전달 시 COUNT 재조회 생략)
+     * @return 초과 근무(연장 근무) 기록 키셋 페이지 응답 DTO
+     */
+    public PageResponse<OvertimeDTO> getOvertimeListByCursor(
+            Integer employeeId,
+            String cursor,
+            Integer size,
+            LocalDate startDate,
+            LocalDate endDate,
+            boolean withTotal,
+            Long knownTotal
+    ) {
+        return keysetPage(
+                cursor,
+                size,
+                withTotal,
+                knownTotal,
+                () -> attendanceMapper.selectOvertimeCount(employeeId, startDate, endDate),
+                (cursorDate, cursorId, limit) -> attendanceMapper.selectOvertimeKeyset(
+                        employeeId, startDate, endDate, cursorDate, cursorId, limit),
+                row -> new KeysetCursor(row.getDate(), row.getOvertimeId())
+        );
+    }
+
+    /**
+     * 근태 정정 요청 이력 페이지를 키셋(커서) 방식으로 조회합니다.
+     *
+     * @param employeeId 직원 ID (JWT 토큰에서 추출된 값)
+     * @param cursor     이전 응답의 nextCursor (null이면 첫 페이지)
+     * @param size       페이지당 데이터 개수
+     * @param startDate  조회 시작일(옵션, null이면 기간 필터 미적용)
+     * @param endDate    조회 종료일(옵션, null이면 기간 필터 미적용)
+     * @param withTotal  전체 개수 포함 여부 (false면 COUNT 미조회)
+     * @param knownTotal 이전 응답의 전체 개수 (전달 시 COUNT 재조회 생략)
+     * @return 근태 정정 요청 이력 키셋 페이지 응답 DTO
+     */
+    public PageResponse<CorrectionDTO> getCorrectionListByCursor(
+            Integer employeeId,
+            String cursor,
+            Integer size,
+            LocalDate startDate,
+            LocalDate endDate,
+            boolean withTotal,
+            Long knownTotal
+    ) {
+        return keysetPage(
+                cursor,
+                size,
+                withTotal,
+                knownTotal,
+                () -> attendanceMapper.selectCorrectionCount(employeeId, startDate, endDate),
+                (cursorDate, cursorId, limit) -> attendanceMapper.selectCorrectionKeyset(
+                        employeeId, startDate, endDate, cursorDate, cursorId, limit),
+                row -> new KeysetCursor(row.getDate(), row.getCorrectionId())
+        );
+    }
+
+    /**
+     * 근무제 변경(Change Log) 이력 페이지를 키셋(커서) 방식으로 조회합니다.
+     *
+     * @param employeeId 직원 ID (JWT 토큰에서 추출된 값)
+     * @param cursor     이전 응답의 nextCursor (null이면 첫 페이지)
+     * @param size       페이지당 데이터 개수
+     * @param startDate  조회 시작일(옵션, null이면 기간 필터 미적용)
+     * @param endDate    조회 종료일(옵션, null이면 기간 필터 미적용)
+     * @param withTotal  전체 개수 포함 여부 (false면 COUNT 미조회)
+     * @param knownTotal 이전 응답의 전체 개수 (전달 시 COUNT 재조회 생략)
+     * @return 근무제 변경(Change Log) 이력 키셋 페이지 응답 DTO
+     */
+    public PageResponse<ChangeLogDTO> getChangeLogListByCursor(
+            Integer employeeId,
+            String cursor,
+            Integer size,
+            LocalDate startDate,
+            LocalDate endDate,
+            boolean withTotal,
+            Long knownTotal
+    ) {
+        return keysetPage(
+                cursor,
+                size,
+                withTotal,
+                knownTotal,
+                () -> attendanceMapper.selectChangeLogCount(employeeId, startDate, endDate),
+                (cursorDate, cursorId, limit) -> attendanceMapper.selectChangeLogKeyset(
+                        employeeId, startDate, endDate, cursorDate, cursorId, limit),
+                row -> new KeysetCursor(LocalDate.parse(row.getDate()), row.getWorkSystemChangeLogId())
+        );
+    }
+
+    /**
+     * 키셋 페이지 공통 처리
+     *
+     * <p>처리 순서</p>
+     * <ol>
+     *     <li>커서 디코딩 (없으면 첫 페이지)</li>
+     *     <li>size + 1건 조회 → 초과분으로 다음 페이지 여부 판단</li>
+     *     <li>전체 개수는 요청 옵션에 따라 조회/재사용/생략</li>
+     * </ol>
+     */
+    private <T> PageResponse<T> keysetPage(
+            String cursor,
+            Integer size,
+            boolean withTotal,
+            Long knownTotal,
+            IntSupplier counter,
+            KeysetQuery<T> query,
+            Function<T, KeysetCursor> cursorOf
+    ) {
+        // 1. 커서 디코딩
+        KeysetCursor after = KeysetCursor.decode(cursor);
+
+        // 2. 현재 페이지 + 1건 조회
+        int fetchSize = PageCalculator.keysetFetchSize(size == null ? 0 : size);
+        List<T> rows = query.select(
+                after == null ? null : after.getDate(),
+                after == null ? null : after.getId(),
+                fetchSize
+        );
+
+        // 3. 전체 개수 (옵션)
+        long totalCount = PageCalculator.resolveKeysetTotal(withTotal, knownTotal, counter);
+
+        // 4. 공통 PageResponse으로 응답
+        return PageResponse.ofKeyset(
+                rows,
+                fetchSize - 1,
+                after == null,
+                totalCount,
+                row -> cursorOf.apply(row).encode()
+        );
+    }
+
+    /** 키셋 목록 조회 함수 (커서 날짜, 커서 ID, 조회 건수) */
+    @FunctionalInterface
+    private interface KeysetQuery<T> {
+        List<T> select(LocalDate cursorDate, Integer cursorId, int limit);
+    }
+
     /**
      * 부서 근태 현황 페이지를 조회합니다.
      *
@@ -608,10 +802,9 @@ public class AttendanceService {
             int page,
             int size
     ) {
-        // 1. 월 -> 기간 변환
+        // 1. 월 -> 집계 월 변환 (집계는 스케줄러가 채우므로 조회만 수행)
         DateRange range = resolveDashboardMonth(month);
-        LocalDate finalStart = range.startDate();
-        LocalDate finalEnd = range.endDate();
+        YearMonth scoreMonth = YearMonth.from(range.startDate());
 
         // 2. scoreSort 기본값 보정
         String finalSort = (scoreSort == null || scoreSort.isBlank()) ? "DESC" : scoreSort;
@@ -624,8 +817,7 @@ public class AttendanceService {
         Page<AttendanceDashboardDTO> pageResult =
                 attendanceDashboardRepository.findAttendanceDashboard(
                         departmentId,
-                        finalStart,
-                        finalEnd,
+                        scoreMonth.atDay(1),
                         finalSort,
                         pageable
                 );
@@ -656,28 +848,15 @@ public class AttendanceService {
             Integer departmentId,
             String month
     ) {
-        // 1. total은 월 무관 (부서만 반영)
-        long total = attendanceDashboardSummaryRepository.countTotalEmployees(
-                departmentId
-        );
-
-        // 2. 우수/위험은 월 기준
+        // 1. 월 -> 집계 월 변환 (집계는 스케줄러가 채우므로 조회만 수행)
         DateRange range = resolveDashboardMonth(month);
-        LocalDate startDate = range.startDate();
-        LocalDate endDate = range.endDate();
+        YearMonth scoreMonth = YearMonth.from(range.startDate());
 
-        long excellent = attendanceDashboardSummaryRepository.countExcellentEmployees(
-                departmentId,
-                startDate,
-                endDate
-        );
-        long risky = attendanceDashboardSummaryRepository.countRiskyEmployees(
+        // 2. total(월 무관) / 우수 / 위험을 집계 테이블에서 한 번에 조회
+        return attendanceDashboardSummaryRepository.summarizeScores(
                 departmentId,
-                startDate,
-                endDate
+                scoreMonth.atDay(1)
         );
-
-        return new AttendanceDashboardSummaryDTO(total, excellent, risky);
     }
 
     /**
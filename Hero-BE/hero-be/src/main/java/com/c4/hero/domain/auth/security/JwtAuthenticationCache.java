@@ -0,0 +1,85 @@
+package com.c4.hero.domain.auth.security;
+
+import com.c4.hero.common.cache.NearCache;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.Authentication;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/**
+ * <pre>
+ * Class Name: JwtAuthenticationCache
+ * Description: 검증이 끝난 Access Token의 인증 객체 캐시
+ *
+ * - 같은 토큰으로 들어오는 반복 요청에서 서명 검증/클레임 파싱을 생략
+ * - 키: 토큰 SHA-256 다이제스트 (원문 토큰은 메모리에 보관하지 않음)
+ * - 항목은 토큰 만료 시각(exp)까지만 유효 → 만료 후에는 다시 파싱되어 만료 예외 처리
+ * - 최대 건수를 넘으면 가장 오래 사용되지 않은 항목부터 제거
+ *
+ * History
+ * 2026/10/18 (승건) 최초 작성
+ * 2026/10/18 (승건) 공통 NearCache 사용
+ * </pre>
+ *
+ * @author 이승건
+ * @version 1.1
+ */
+@Component
+public class JwtAuthenticationCache {
+
+    private final LongSupplier clock;
+    private final NearCache<String, Authentication> entries;
+
+    public JwtAuthenticationCache(@Value("${token.auth-cache.max-size:10000}") int maxSize) {
+        this(maxSize, System::currentTimeMillis);
+    }
+
+    JwtAuthenticationCache(int maxSize, LongSupplier clock) {
+        this.clock = clock;
+        // 토큰 만료 시각(벽시계 ms) 기준으로 항목별 만료 시간만 사용
+        this.entries = new NearCache<>(maxSize, Duration.ZERO,
+                () -> TimeUnit.MILLISECONDS.toNanos(clock.getAsLong()));
+    }
+
+    /**
+     * 캐시된 인증 객체 조회
+     * @param token Access Token
+     * @return 인증 객체 (없거나 토큰이 만료되었으면 null)
+     */
+    public Authentication get(String token) {
+        return entries.get(digest(token));
+    }
+
+    /**
+     * 검증된 인증 객체 저장
+     * @param token          Access Token
+     * @param authentication 인증 객체
+     * @param expiration     토큰 만료 시각 (없으면 저장하지 않음)
+     */
+    public void put(String token, Authentication authentication, Date expiration) {
+        if (expiration == null) return;
+        entries.put(digest(token), authentication,
+                Duration.ofMillis(expiration.getTime() - clock.getAsLong()));
+    }
+
+    int size() {
+        return entries.size();
+    }
+
+    private static String digest(String token) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.US_ASCII));
+            return Base64.getEncoder().encodeToString(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 을 사용할 수 없습니다.", e);
+        }
+    }
+}
@@ -1,6 +1,5 @@
 package com.c4.hero.domain.auth.security;
 
-import com.c4.hero.common.s3.S3Service;
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.io.Decoders;
 import io.jsonwebtoken.security.Keys;
@@ -35,10 +34,12 @@ import java.util.stream.Collectors;
  * 2025/12/17 (승건) 토큰 정보 추출 메소드 추가 및 employeeNumber 추가
  * 2025/12/22 (혜원) 기본 User 대신 CustomUserDetails 객체 반환하도록 수정
  * 2025/12/29 (승건) 비밀번호 재설정 토큰 생성 메서드 추가
+ * 2026/10/18 (승건) 파서 재사용, 인증 객체 생성 시 토큰 1회만 파싱하도록 변경
+ * 2026/10/18 (승건) 프로필 이미지 Presigned URL 대신 S3 키만 담도록 변경
  * </pre>
  *
  * @author 이승건
- * @version 1.3
+ * @version 1.5
  */
 @Slf4j
 @Getter
@@ -46,9 +47,9 @@ import java.util.stream.Collectors;
 public class JwtUtil {
 
     private final Key key;
+    private final JwtParser jwtParser; // 불변 객체로 스레드 안전, 요청마다 새로 만들지 않음
     private final long accessTokenExpirationTime;
     private final long refreshTokenExpirationTime;
-    private final S3Service s3Service;
 
     public static final String AUTHORIZATION_HEADER = "Authorization";
     public static final String REFRESH_TOKEN_COOKIE_NAME = "refresh_token";
@@ -56,13 +57,12 @@ public class JwtUtil {
 
     public JwtUtil(@Value("${token.secret}") String secretKey,
                    @Value("${token.access-expiration-time}") long accessTokenExpirationTime,
-                   @Value("${token.refresh-expiration-time}") long refreshTokenExpirationTime,
-                   S3Service s3Service) {
+                   @Value("${token.refresh-expiration-time}") long refreshTokenExpirationTime) {
         byte[] keyBytes = Decoders.BASE64.decode(secretKey);
         this.key = Keys.hmacShaKeyFor(keyBytes);
+        this.jwtParser = Jwts.parserBuilder().setSigningKey(key).build();
         this.accessTokenExpirationTime = accessTokenExpirationTime;
         this.refreshTokenExpirationTime = refreshTokenExpirationTime;
-        this.s3Service = s3Service;
     }
 
     /**
@@ -92,7 +92,8 @@ public class JwtUtil {
         claims.put("jobTitleId", userDetails.getJobTitleId());
         claims.put("jobTitleName", userDetails.getJobTitleName());
         claims.put("passwordChangeRequired", userDetails.isPasswordChangeRequired());
-        claims.put("imagePath", s3Service.generatePresignedUrl(userDetails.getImagePath()));
+        // URL은 만료가 있어 토큰마다 서명하지 않고 S3 키만 담음 (URL은 /api/employee/me/profile-image 로 발급)
+        claims.put("imagePath", userDetails.getImagePath());
 
         return Jwts.builder()
                 .setClaims(claims)
@@ -146,9 +147,18 @@ public class JwtUtil {
      * @throws ExpiredJwtException 토큰이 만료된 경우
      */
     public boolean validateToken(String token) {
+        return parseVerifiedClaims(token) != null;
+    }
+
+    /**
+     * 토큰 서명/만료 검증 후 클레임 반환 (검증과 클레임 추출을 한 번의 파싱으로 처리)
+     * @param token 검증할 토큰
+     * @return 검증된 Claims (유효하지 않은 토큰이면 null)
+     * @throws ExpiredJwtException 토큰이 만료된 경우
+     */
+    public Claims parseVerifiedClaims(String token) {
         try {
-            Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(token);
-            return true;
+            return jwtParser.parseClaimsJws(token).getBody();
         } catch (io.jsonwebtoken.security.SecurityException | MalformedJwtException e) {
             log.warn("유효하지 않은 JWT 서명입니다.");
         } catch (ExpiredJwtException e) {
@@ -159,7 +169,7 @@ public class JwtUtil {
         } catch (IllegalArgumentException e) {
             log.warn("JWT 클레임이 비어있습니다.");
         }
-        return false;
+        return null;
     }
 
     /**
@@ -168,7 +178,15 @@ public class JwtUtil {
      * @return Authentication 객체
      */
     public Authentication getAuthentication(String accessToken) {
-        Claims claims = parseClaims(accessToken);
+        return getAuthentication(parseClaims(accessToken));
+    }
+
+    /**
+     * 클레임에서 인증 객체 생성 (토큰을 다시 파싱하지 않음)
+     * @param claims 검증된 Claims
+     * @return Authentication 객체
+     */
+    public Authentication getAuthentication(Claims claims) {
         if (claims.get("auth") == null) {
             throw new RuntimeException("권한 정보가 없는 토큰입니다.");
         }
@@ -184,17 +202,17 @@ public class JwtUtil {
         }
 
         CustomUserDetails principal = new CustomUserDetails(
-                getEmployeeId(accessToken),      // claims에서 employeeId 가져오기
-                getEmployeeNumber(accessToken),  // claims에서 employeeNumber 가져오기
-                getEmployeeName(accessToken),    // claims에서 employeeName 가져오기
-                getDepartmentId(accessToken),
-                getDepartmentName(accessToken),
-                getGradeId(accessToken),
-                getGradeName(accessToken),
-                getJobTitleId(accessToken),
-                getJobTitleName(accessToken),
+                claims.get("employeeId", Integer.class),
+                claims.get("employeeNumber", String.class),
+                claims.get("employeeName", String.class),
+                claims.get("departmentId", Integer.class),
+                claims.get("departmentName", String.class),
+                claims.get("gradeId", Integer.class),
+                claims.get("gradeName", String.class),
+                claims.get("jobTitleId", Integer.class),
+                claims.get("jobTitleName", String.class),
                 passwordChangeRequired,
-                getImagePath(accessToken)
+                claims.get("imagePath", String.class)
         );
 
         return new UsernamePasswordAuthenticationToken(principal, "", authorities);
@@ -320,7 +338,7 @@ public class JwtUtil {
      */
     private Claims parseClaims(String token) {
         try {
-            return Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(token).getBody();
+            return jwtParser.parseClaimsJws(token).getBody();
         } catch (ExpiredJwtException e) {
             return e.getClaims();
         }
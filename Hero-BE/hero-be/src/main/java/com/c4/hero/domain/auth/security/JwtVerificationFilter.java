@@ -2,6 +2,7 @@ package com.c4.hero.domain.auth.security;
 
 import com.c4.hero.common.exception.BusinessException;
 import com.c4.hero.common.exception.ErrorCode;
+import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
@@ -25,16 +26,18 @@ import java.util.List;
  * History
  * 2025-12-09 (이승건) 최초 작성
  * 2025-12-09 (이승건) 토큰 만료 시 BusinessException을 던지도록 변경
+ * 2026-10-18 (이승건) 토큰 1회 파싱 + 검증된 인증 객체 캐시 적용
  * </pre>
  *
  * @author 이승건
- * @version 1.0
+ * @version 1.1
  */
 @Slf4j
 @RequiredArgsConstructor
 public class JwtVerificationFilter extends OncePerRequestFilter {
 
     private final JwtUtil jwtUtil;
+    private final JwtAuthenticationCache authenticationCache;
 
     // 필터를 적용하지 않을 URL 목록
     private static final List<String> EXCLUDE_URL = List.of("/api/auth/refresh");
@@ -55,8 +58,8 @@ public class JwtVerificationFilter extends OncePerRequestFilter {
 
         if (StringUtils.hasText(accessToken)) {
             try {
-                if (jwtUtil.validateToken(accessToken)) {
-                    Authentication authentication = jwtUtil.getAuthentication(accessToken);
+                Authentication authentication = authenticate(accessToken);
+                if (authentication != null) {
                     SecurityContextHolder.getContext().setAuthentication(authentication);
                     log.debug("Security Context에 '{}' 인증 정보를 저장했습니다, uri: {}", authentication.getName(), request.getRequestURI());
                 }
@@ -71,6 +74,25 @@ public class JwtVerificationFilter extends OncePerRequestFilter {
         filterChain.doFilter(request, response);
     }
 
+    /**
+     * 캐시된 인증 객체 조회, 없으면 토큰을 한 번만 파싱(서명 검증 + 클레임 추출)하여 생성 후 캐시
+     *
+     * @param accessToken Access Token
+     * @return 인증 객체 (유효하지 않은 토큰이면 null)
+     * @throws ExpiredJwtException 토큰이 만료된 경우
+     */
+    private Authentication authenticate(String accessToken) {
+        Authentication cached = authenticationCache.get(accessToken);
+        if (cached != null) return cached;
+
+        Claims claims = jwtUtil.parseVerifiedClaims(accessToken);
+        if (claims == null) return null;
+
+        Authentication authentication = jwtUtil.getAuthentication(claims);
+        authenticationCache.put(accessToken, authentication, claims.getExpiration());
+        return authentication;
+    }
+
     /**
      * 필터를 적용할 필요가 없는 URL인지 확인
      */
@@ -0,0 +1,61 @@
+package com.c4.hero.domain.dashboard.cache;
+
+import com.c4.hero.common.cache.NearCache;
+import com.c4.hero.domain.dashboard.dto.WorkSystemTemplateDTO;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.function.Function;
+
+/**
+ * <pre>
+ * Class Name: WorkSystemTemplateCache
+ * Description: 근무제 템플릿 노드 로컬 캐시
+ *
+ * - 출근 시간대에 거의 모든 직원이 같은 몇 개의 템플릿을 조회하므로 템플릿 ID 단위로 캐시
+ * - 템플릿 저장 커밋 후 전체 무효화 (WorkSystemTemplateCacheInvalidator)
+ * - 다른 노드에서 변경된 템플릿은 TTL 경과 후 반영
+ *
+ * History
+ * 2026/10/18 (혜원) 최초 작성
+ * </pre>
+ *
+ * @author 혜원
+ * @version 1.0
+ */
+@Component
+public class WorkSystemTemplateCache {
+
+    private final NearCache<Integer, WorkSystemTemplateDTO> nearCache;
+
+    public WorkSystemTemplateCache(
+            @Value("${dashboard.work-system-template-cache.max-size:256}") int maxSize,
+            @Value("${dashboard.work-system-template-cache.ttl:PT5M}") Duration ttl
+    ) {
+        this.nearCache = new NearCache<>(maxSize, ttl);
+    }
+
+    /**
+     * 캐시된 템플릿 조회, 없으면 loader로 조회 후 저장
+     *
+     * @param workSystemTemplateId 근무제 템플릿 ID
+     * @param loader               템플릿 조회 함수
+     * @return 근무제 템플릿 (없으면 null, null은 캐시하지 않음)
+     */
+    public WorkSystemTemplateDTO get(Integer workSystemTemplateId,
+                                     Function<Integer, WorkSystemTemplateDTO> loader) {
+        if (workSystemTemplateId == null) return null;
+
+        WorkSystemTemplateDTO cached = nearCache.get(workSystemTemplateId);
+        if (cached != null) return cached;
+
+        WorkSystemTemplateDTO loaded = loader.apply(workSystemTemplateId);
+        if (loaded != null) nearCache.put(workSystemTemplateId, loaded);
+        return loaded;
+    }
+
+    public void evictAll() {
+        nearCache.evictAll();
+    }
+}
@@ -0,0 +1,34 @@
+package com.c4.hero.domain.dashboard.cache;
+
+import com.c4.hero.domain.settings.event.WorkSystemTemplatesChangedEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * <pre>
+ * Class Name: WorkSystemTemplateCacheInvalidator
+ * Description: 근무제 템플릿 저장 커밋 후 캐시 무효화
+ *
+ * History
+ * 2026/10/18 (혜원) 최초 작성
+ * </pre>
+ *
+ * @author 혜원
+ * @version 1.0
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class WorkSystemTemplateCacheInvalidator {
+
+    private final WorkSystemTemplateCache workSystemTemplateCache;
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onTemplatesChanged(WorkSystemTemplatesChangedEvent event) {
+        workSystemTemplateCache.evictAll();
+        log.info("근무제 템플릿 캐시 무효화");
+    }
+}
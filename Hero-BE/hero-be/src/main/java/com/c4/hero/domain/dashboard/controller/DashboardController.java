@@ -34,10 +34,11 @@ import java.time.LocalTime;
  *
  * History
  * 2025/12/26 (혜원) 최초 작성
+ * 2026/10/18 (혜원) 출퇴근 API 호출 로그 DEBUG로 변경
  * </pre>
  *
  * @author 혜원
- * @version 1.0
+ * @version 1.1
  */
 @Tag(name = "홈 대시보드", description = "대시보드 통계 API")
 @Slf4j
@@ -68,7 +69,7 @@ public class DashboardController {
 
         Integer employeeId = userDetails.getEmployeeId();
         Integer departmentId = userDetails.getDepartmentId();
-        log.info("=== 출근 API 호출 === 사원ID: {}, 부서ID: {}", employeeId, departmentId);
+        log.debug("=== 출근 API 호출 === 사원ID: {}, 부서ID: {}", employeeId, departmentId);
 
         // 출근 요청 DTO 생성 (현재 시각)
         ClockInRequestDTO dto = new ClockInRequestDTO();
@@ -102,7 +103,7 @@ public class DashboardController {
             @AuthenticationPrincipal CustomUserDetails userDetails) {
 
         Integer employeeId = userDetails.getEmployeeId();
-        log.info("=== 퇴근 API 호출 === 사원ID: {}", employeeId);
+        log.debug("=== 퇴근 API 호출 === 사원ID: {}", employeeId);
 
         // 퇴근 요청 DTO 생성 (현재 시각)
         ClockOutRequestDTO dto = new ClockOutRequestDTO();
@@ -13,10 +13,12 @@ import java.time.LocalDate;
  *
  * History
  * 2025/12/26 (혜원) 최초 작성
+ * 2026/10/18 (혜원) 출근 INSERT 중복 무시, 퇴근 UPDATE 근무시간 계산 포함
+ * 2026/10/18 (혜원) 출근 INSERT 중복 시 DuplicateKeyException 으로 변경
  * </pre>
  *
  * @author 혜원
- * @version 1.0
+ * @version 1.2
  */
 @Mapper
 public interface DashboardMapper {
@@ -27,6 +29,7 @@ public interface DashboardMapper {
      * @param departmentId 부서 ID
      * @param dto 출근 요청 정보
      * @return 삽입된 행 수
+     * @throws org.springframework.dao.DuplicateKeyException 같은 날 출근 기록이 이미 있는 경우
      */
     int insertClockIn(
             @Param("employeeId") Integer employeeId,
@@ -35,10 +38,10 @@ public interface DashboardMapper {
     );
 
     /**
-     * 퇴근 시각 UPDATE
+     * 퇴근 시각 및 근무시간 UPDATE (출근했고 아직 퇴근하지 않은 기록만)
      * @param employeeId 사원 ID
-     * @param dto 퇴근 요청 정보
-     * @return 수정된 행 수
+     * @param dto 퇴근 요청 정보 (workDate, endTime, includeBreakTime)
+     * @return 수정된 행 수 (0이면 출근 기록 없음 또는 이미 퇴근)
      */
     int updateClockOut(
             @Param("employeeId") Integer employeeId,
@@ -46,7 +49,6 @@ public interface DashboardMapper {
     );
 
     /**
-
      * 근무제 템플릿 정보 조회
      * @param workSystemTemplateId 근무제 템플릿 ID
      * @return 근무제 템플릿 정보
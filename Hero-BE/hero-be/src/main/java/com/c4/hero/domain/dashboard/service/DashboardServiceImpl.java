@@ -2,15 +2,17 @@ package com.c4.hero.domain.dashboard.service;
 
 import com.c4.hero.common.exception.BusinessException;
 import com.c4.hero.common.exception.ErrorCode;
+import com.c4.hero.domain.attendance.service.AttendanceScoreRollupService;
+import com.c4.hero.domain.dashboard.cache.WorkSystemTemplateCache;
 import com.c4.hero.domain.dashboard.dto.*;
 import com.c4.hero.domain.dashboard.mapper.DashboardMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DuplicateKeyException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
-import java.time.LocalTime;
 import java.time.format.DateTimeFormatter;
 
 /**
@@ -20,10 +22,13 @@ import java.time.format.DateTimeFormatter;
  *
  * History
  * 2025/12/26 (혜원) 최초 작성
+ * 2026/10/18 (혜원) 출근/퇴근 시 월간 근태 점수 집계 갱신
+ * 2026/10/18 (혜원) 출근/퇴근 단일 쿼리 처리, 근무제 템플릿 캐시 적용
+ * 2026/10/18 (혜원) 중복 출근을 유니크 키 위반(DuplicateKeyException)으로 판별
  * </pre>
  *
  * @author 혜원
- * @version 1.0
+ * @version 1.3
  */
 @Slf4j
 @Service
@@ -31,9 +36,16 @@ import java.time.format.DateTimeFormatter;
 public class DashboardServiceImpl implements DashboardService {
 
     private final DashboardMapper dashboardMapper;
+    private final AttendanceScoreRollupService attendanceScoreRollupService;
+    private final WorkSystemTemplateCache workSystemTemplateCache;
 
     /**
      * 출근 처리
+     *
+     * <p>출근 시간대에 요청이 몰리므로 사전 상태 조회 없이 INSERT 한 번으로 처리합니다.
+     * 중복 출근은 (employee_id, work_date) 유니크 키 위반으로 판별하며,
+     * 그 외 제약 위반은 그대로 예외로 전파됩니다.</p>
+     *
      * @param employeeId 사원 ID
      * @param departmentId 부서 ID
      * @param dto 출근 요청 정보
@@ -41,114 +53,73 @@ public class DashboardServiceImpl implements DashboardService {
     @Override
     @Transactional
     public void clockIn(Integer employeeId, Integer departmentId, ClockInRequestDTO dto) {
-        log.info("=== 출근 처리 시작 === employeeId: {}, workDate: {}, startTime: {}",
-                employeeId, dto.getWorkDate(), dto.getStartTime());
-
-        // 1. 오늘 이미 출근 기록이 있는지 확인
-        ClockStatusDTO status = dashboardMapper.selectTodayStatus(employeeId, dto.getWorkDate());
-        if (status != null && status.getIsClockedIn()) {
-            throw new BusinessException(ErrorCode.ALREADY_CLOCKED_IN);
-        }
-
-        // 2. ✅ null 체크 및 기본값 설정
+        // 1. null 체크 및 기본값 설정
         if (dto.getWorkSystemTypeId() == null) {
-            log.warn("⚠️ workSystemTypeId가 null! 기본값 1 설정");
             dto.setWorkSystemTypeId(1);
         }
-
         if (dto.getWorkSystemTemplateId() == null) {
-            log.warn("⚠️ workSystemTemplateId가 null! 기본값 1 설정");
             dto.setWorkSystemTemplateId(1);
         }
 
-        // 3. ✅ 최종 값 로그 출력
-        log.info("✅ INSERT 직전 - typeId: {}, templateId: {}",
-                dto.getWorkSystemTypeId(), dto.getWorkSystemTemplateId());
-
-        // 4. 출근 시각을 초 단위로 자르기
+        // 2. 출근 시각을 초 단위로 자르기
         dto.setStartTime(dto.getStartTime().withNano(0));
 
-        // 5. 출근 기록 INSERT
-        int result = dashboardMapper.insertClockIn(employeeId, departmentId, dto);
-        if (result != 1) {
-            log.error("❌ 출근 INSERT 실패. result: {}", result);
-            throw new BusinessException(ErrorCode.CLOCK_IN_FAILED);
+        // 3. 출근 기록 INSERT (uk_attendance_employee_work_date 위반 → 이미 출근)
+        try {
+            dashboardMapper.insertClockIn(employeeId, departmentId, dto);
+        } catch (DuplicateKeyException e) {
+            throw new BusinessException(ErrorCode.ALREADY_CLOCKED_IN);
         }
 
-        log.info("=== ✅ 출근 처리 완료 === templateId: {}", dto.getWorkSystemTemplateId());
+        // 4. 월간 근태 점수 집계 갱신
+        attendanceScoreRollupService.refresh(employeeId, dto.getWorkDate());
+
+        log.debug("출근 처리 완료. employeeId: {}, workDate: {}, startTime: {}",
+                employeeId, dto.getWorkDate(), dto.getStartTime());
     }
 
     /**
      * 퇴근 처리
+     *
+     * <p>근무시간(휴게시간 차감 포함)과 상태를 UPDATE 한 번으로 계산/저장합니다.
+     * 수정된 행이 없을 때만 출퇴근 상태를 조회하여 실패 사유를 구분합니다.</p>
+     *
      * @param employeeId 사원 ID
      * @param dto 퇴근 요청 정보
      */
     @Override
     @Transactional
     public void clockOut(Integer employeeId, ClockOutRequestDTO dto) {
-        log.info("=== 퇴근 처리 시작 === employeeId: {}, workDate: {}, endTime: {}, includeBreakTime: {}",
-                employeeId, dto.getWorkDate(), dto.getEndTime(), dto.getIncludeBreakTime());
-
-        // 1. 오늘 출근 기록 확인
-        ClockStatusDTO status = dashboardMapper.selectTodayStatus(employeeId, dto.getWorkDate());
-        if (status == null || !status.getIsClockedIn()) {
-            log.warn("출근 기록이 없습니다.");
-            throw new BusinessException(ErrorCode.NOT_CLOCKED_IN);
-        }
-
-        // 2. 이미 퇴근 처리되었는지 확인
-        if (status.getIsClockedOut()) {
-            log.warn("이미 퇴근 처리되었습니다. attendanceId: {}", status.getAttendanceId());
-            throw new BusinessException(ErrorCode.ALREADY_CLOCKED_OUT);
-        }
-
-        // 3. 근무제 템플릿 정보 조회 (반차 여부 확인)
-        Integer workSystemTemplateId = status.getWorkSystemTemplateId();
-        WorkSystemTemplateDTO template = null;
-        if (workSystemTemplateId != null) {
-            template = dashboardMapper.selectWorkSystemTemplate(workSystemTemplateId);
-        }
-
-        // 4. DTO에 attendanceId 설정
-        dto.setAttendanceId(status.getAttendanceId());
-
-        // 5. 퇴근 시각을 초 단위로 자르기 (마이크로초 제거)
+        // 1. 퇴근 시각을 초 단위로 자르기 (마이크로초 제거)
         dto.setEndTime(dto.getEndTime().withNano(0));
 
-        // 6. 근무시간 계산 (분 단위)
-        LocalTime startTime = status.getStartTime();
-        LocalTime endTime = dto.getEndTime();
-
-        long workMinutes = java.time.Duration.between(startTime, endTime).toMinutes();
-
-        // 7. 휴게시간 차감 로직
-        if (Boolean.TRUE.equals(dto.getIncludeBreakTime())) {
-            // 오후 1시 이후 퇴근 → 휴게시간 차감
-            Integer breakMinutes = (template != null && template.getBreakMinMinutes() != null)
-                    ? template.getBreakMinMinutes()
-                    : 60; // 기본 60분
-
-            workMinutes -= breakMinutes;
-            log.info("휴게시간 차감: {}분, 최종 근무시간: {}분", breakMinutes, workMinutes);
+        // 2. 퇴근 시각 및 근무시간 UPDATE
+        int result = dashboardMapper.updateClockOut(employeeId, dto);
+        if (result != 1) {
+            throw new BusinessException(resolveClockOutFailure(employeeId, dto));
         }
 
-        // 음수 방지
-        if (workMinutes < 0) {
-            workMinutes = 0;
-        }
+        // 3. 월간 근태 점수 집계 갱신
+        attendanceScoreRollupService.refresh(employeeId, dto.getWorkDate());
 
-        // 8. DTO에 근무시간 설정
-        dto.setWorkDuration((int) workMinutes);
+        log.debug("퇴근 처리 완료. employeeId: {}, workDate: {}, endTime: {}",
+                employeeId, dto.getWorkDate(), dto.getEndTime());
+    }
 
-        // 9. 퇴근 시각 및 근무시간 UPDATE
-        int result = dashboardMapper.updateClockOut(employeeId, dto);
-        if (result != 1) {
-            log.error("퇴근 UPDATE 실패. result: {}", result);
-            throw new BusinessException(ErrorCode.CLOCK_OUT_FAILED);
+    /**
+     * 퇴근 UPDATE 실패 사유 판단
+     */
+    private ErrorCode resolveClockOutFailure(Integer employeeId, ClockOutRequestDTO dto) {
+        ClockStatusDTO status = dashboardMapper.selectTodayStatus(employeeId, dto.getWorkDate());
+        if (status == null || !Boolean.TRUE.equals(status.getIsClockedIn())) {
+            return ErrorCode.NOT_CLOCKED_IN;
+        }
+        if (Boolean.TRUE.equals(status.getIsClockedOut())) {
+            return ErrorCode.ALREADY_CLOCKED_OUT;
         }
 
-        log.info("=== 퇴근 처리 완료 === 근무시간: {}분 ({}시간 {}분)",
-                workMinutes, workMinutes / 60, workMinutes % 60);
+        log.error("퇴근 UPDATE 실패. employeeId: {}, attendanceId: {}", employeeId, status.getAttendanceId());
+        return ErrorCode.CLOCK_OUT_FAILED;
     }
 
     /**
@@ -305,21 +276,19 @@ public class DashboardServiceImpl implements DashboardService {
 
     @Override
     public WorkSystemTemplateDTO getWorkSystemTemplate(Integer templateId) {
-        return dashboardMapper.selectWorkSystemTemplate(templateId);
+        return workSystemTemplateCache.get(templateId, dashboardMapper::selectWorkSystemTemplate);
     }
 
     @Override
     public WorkSystemTemplateDTO getEmployeeDefaultTemplate(Integer employeeId) {
-        log.info("=== 사원 기본 템플릿 조회 === employeeId: {}", employeeId);
-
         // 사원의 기본 템플릿 ID 조회
         Integer templateId = dashboardMapper.selectEmployeeDefaultTemplateId(employeeId);
 
         if (templateId == null) {
-            log.warn("⚠️ 사원의 기본 템플릿이 없습니다. 기본값 1 사용");
+            log.debug("사원의 기본 템플릿이 없습니다. 기본값 1 사용. employeeId: {}", employeeId);
             templateId = 1; // 기본 템플릿
         }
 
-        return dashboardMapper.selectWorkSystemTemplate(templateId);
+        return workSystemTemplateCache.get(templateId, dashboardMapper::selectWorkSystemTemplate);
     }
 }
\ No newline at end of file
@@ -0,0 +1,341 @@
+package com.c4.hero.domain.department.cache;
+
+import com.c4.hero.common.response.CustomResponse;
+import com.c4.hero.common.s3.S3Service;
+import com.c4.hero.common.util.EncryptionUtil;
+import com.c4.hero.domain.department.dto.OrganizationEmployeeDetailDTO;
+import com.c4.hero.domain.department.dto.OrganizationNodeDTO;
+import com.c4.hero.domain.department.event.OrganizationEmployeesChangedEvent;
+import com.c4.hero.domain.department.graph.OrganizationGraph;
+import com.c4.hero.domain.department.graph.OrganizationGraphService;
+import com.c4.hero.domain.employee.entity.Employee;
+import com.c4.hero.domain.employee.repository.EmployeeRepository;
+import com.c4.hero.domain.employee.type.EmployeeStatus;
+import com.c4.hero.domain.notification.relay.NotificationRelayTransport;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import tools.jackson.databind.ObjectMapper;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+/**
+ * <pre>
+ * Class Name: OrganizationChartCache
+ * Description: 조직도 응답 캐시 (직원 항목 읽기 모델 + 직렬화된 응답 본문)
+ *
+ * 구성
+ * - 직원 ID → 조직도 직원 항목 (이메일 복호화 / 프로필 이미지 Presigned URL 적용 완료)
+ * - 부서 구조는 조직 그래프(OrganizationGraph) 스냅샷 사용, 그래프 버전이 바뀌면 직원 항목은 유지한 채 트리만 재조립
+ * - 조립한 트리는 CustomResponse JSON / gzip / ETag 로 1회 직렬화 (OrganizationChartPayload)
+ *
+ * 갱신
+ * - 입사 / 부서 이동 / 직급·직책 변경 / 퇴직 커밋 후 해당 직원만 변경 대상으로 표시 (OrganizationChartCacheInvalidator)
+ * - 다음 조회 시 변경 대상 직원만 1회 조회해 항목을 교체/제거 (전체 직원 복호화·서명 없음)
+ * - 보관 시간(ttl) 경과 시 전체 재적재 : Presigned URL 갱신 여유 시간(refresh-margin)보다 짧게 두어 응답에 포함된 URL 유효 기간 보장
+ *
+ * 다중 노드 (notification.relay.mode=redis)
+ * - hero:organization:chart:dirty 채널로 변경 대상 직원 전파 (부서 구조 변경은 조직 그래프 무효화로 전파)
+ *
+ * History
+ * 2026/10/18 (승건) 최초 작성
+ * </pre>
+ *
+ * @author 승건
+ * @version 1.0
+ */
+@Slf4j
+@Component
+public class OrganizationChartCache {
+
+    /** 변경 대상 직원 전파 채널 */
+    public static final String DIRTY_CHANNEL = "hero:organization:chart:dirty";
+
+    /** 전파 메시지의 전체 재적재 표시 */
+    private static final String ALL = "*";
+
+    private final EmployeeRepository employeeRepository;
+    private final OrganizationGraphService organizationGraphService;
+    private final EncryptionUtil encryptionUtil;
+    private final S3Service s3Service;
+    private final ObjectMapper objectMapper;
+    private final NotificationRelayTransport transport;
+    private final long ttlNanos;
+
+    /** 자기 노드가 발행한 전파 메시지 식별용 */
+    private final String nodeId = UUID.randomUUID().toString();
+
+    /** 재생성 직렬화용 (직원 항목 / 트리 조립) */
+    private final Object rebuildLock = new Object();
+
+    /** 변경 대상 직원 (dirtyIds 로 동기화) */
+    private final Set<Integer> dirtyIds = new HashSet<>();
+    private boolean reloadAll;
+
+    /** 직원 ID → 조직도 직원 항목 (rebuildLock 으로 동기화, null 이면 전체 적재 필요) */
+    private Map<Integer, Member> members;
+
+    private volatile boolean dirty;
+    private volatile long loadedAtNanos;
+    private volatile long graphVersion = -1;
+    private volatile OrganizationChartPayload payload;
+
+    public OrganizationChartCache(
+            EmployeeRepository employeeRepository,
+            OrganizationGraphService organizationGraphService,
+            EncryptionUtil encryptionUtil,
+            S3Service s3Service,
+            ObjectMapper objectMapper,
+            ObjectProvider<NotificationRelayTransport> transportProvider,
+            @Value("${organization.chart-cache.ttl:PT12H}") Duration ttl
+    ) {
+        this.employeeRepository = employeeRepository;
+        this.organizationGraphService = organizationGraphService;
+        this.encryptionUtil = encryptionUtil;
+        this.s3Service = s3Service;
+        this.objectMapper = objectMapper;
+        this.transport = transportProvider.getIfAvailable();
+        this.ttlNanos = ttl.toNanos();
+
+        if (transport != null) {
+            transport.subscribe(DIRTY_CHANNEL, this::onDirtyMessage);
+        }
+    }
+
+    /**
+     * 조직도 응답 본문 조회 (변경이 없으면 직렬화된 본문 그대로 반환)
+     *
+     * @return 조직도 응답 본문
+     */
+    public OrganizationChartPayload get() {
+        OrganizationGraph graph = organizationGraphService.current();
+        OrganizationChartPayload current = payload;
+        if (isFresh(current, graph)) return current;
+
+        synchronized (rebuildLock) {
+            current = payload;
+            if (isFresh(current, graph)) return current;
+
+            refreshMembers();
+
+            List<OrganizationNodeDTO> chart = assemble(graph, members.values());
+            OrganizationChartPayload rebuilt = OrganizationChartPayload.of(
+                    objectMapper.writeValueAsBytes(CustomResponse.success(chart)));
+            graphVersion = graph.version();
+            payload = rebuilt;
+            log.debug("조직도 캐시 재생성 - graphVersion: {}, employees: {}, etag: {}",
+                    graph.version(), members.size(), rebuilt.etag());
+            return rebuilt;
+        }
+    }
+
+    /**
+     * 변경 대상 직원 표시 (자기 노드 + 다른 노드 전파)
+     *
+     * @param event 조직도 직원 항목 변경 이벤트
+     */
+    public void markDirty(OrganizationEmployeesChangedEvent event) {
+        markDirtyLocal(event.all(), event.employeeIds());
+        if (transport == null) return;
+
+        String ids = event.all() ? ALL : event.employeeIds().stream()
+                .map(String::valueOf)
+                .collect(Collectors.joining(","));
+        try {
+            transport.publish(DIRTY_CHANNEL, nodeId + "|" + ids);
+        } catch (Exception e) {
+            log.error("조직도 캐시 변경 전파 실패: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 다른 노드의 변경 메시지 수신 → 변경 대상 직원 표시
+     *
+     * @param message "발행 노드 ID|직원 ID 목록(쉼표 구분) 또는 *"
+     */
+    void onDirtyMessage(String message) {
+        int separator = message.indexOf('|');
+        if (separator < 0 || nodeId.equals(message.substring(0, separator))) return;
+
+        String body = message.substring(separator + 1).trim();
+        if (ALL.equals(body)) {
+            markDirtyLocal(true, Set.of());
+            return;
+        }
+        try {
+            Set<Integer> ids = new HashSet<>();
+            for (String id : body.split(",")) {
+                if (!id.isBlank()) ids.add(Integer.valueOf(id.trim()));
+            }
+            markDirtyLocal(false, ids);
+        } catch (NumberFormatException e) {
+            log.warn("조직도 캐시 변경 메시지 형식 오류: {}", message);
+            markDirtyLocal(true, Set.of());
+        }
+    }
+
+    private void markDirtyLocal(boolean all, Set<Integer> employeeIds) {
+        synchronized (dirtyIds) {
+            if (all) reloadAll = true;
+            dirtyIds.addAll(employeeIds);
+            dirty = true;
+        }
+    }
+
+    private boolean isFresh(OrganizationChartPayload current, OrganizationGraph graph) {
+        return current != null
+                && !dirty
+                && graphVersion == graph.version()
+                && System.nanoTime() - loadedAtNanos < ttlNanos;
+    }
+
+    /**
+     * 직원 항목 갱신 (rebuildLock 보유 상태에서 호출)
+     *  - 변경 표시를 먼저 비우므로, 조회 중 들어온 변경은 다음 조회에서 다시 반영됨
+     */
+    private void refreshMembers() {
+        Set<Integer> pending;
+        boolean all;
+        synchronized (dirtyIds) {
+            pending = new HashSet<>(dirtyIds);
+            all = reloadAll;
+            dirtyIds.clear();
+            reloadAll = false;
+            dirty = false;
+        }
+
+        if (members == null || all || System.nanoTime() - loadedAtNanos >= ttlNanos) {
+            Map<Integer, Member> loaded = new HashMap<>();
+            for (Employee employee : employeeRepository.findAllByStatusNot(EmployeeStatus.RETIRED)) {
+                Member member = toMember(employee);
+                if (member != null) loaded.put(employee.getEmployeeId(), member);
+            }
+            members = loaded;
+            loadedAtNanos = System.nanoTime();
+            return;
+        }
+
+        if (pending.isEmpty()) return;
+
+        // 변경 대상 직원만 조회 : 조회되지 않거나 퇴직한 직원은 제거
+        pending.forEach(members::remove);
+        for (Employee employee : employeeRepository.findAllById(pending)) {
+            if (employee.getStatus() == EmployeeStatus.RETIRED) continue;
+            Member member = toMember(employee);
+            if (member != null) members.put(employee.getEmployeeId(), member);
+        }
+    }
+
+    /**
+     * 직원 엔티티 → 조직도 직원 항목 (조직도에 표시하는 이메일만 복호화)
+     */
+    private Member toMember(Employee emp) {
+        if (emp.getEmployeeDepartment() == null) return null;
+
+        String decryptedEmail = null;
+        try {
+            decryptedEmail = emp.getEmail() != null ? encryptionUtil.decrypt(emp.getEmail()) : null;
+        } catch (Exception e) {
+            log.warn("이메일 복호화 실패 - employeeId: {}, error: {}", emp.getEmployeeId(), e.getMessage());
+        }
+
+        OrganizationEmployeeDetailDTO detail = OrganizationEmployeeDetailDTO.builder()
+                .employeeId(emp.getEmployeeId())
+                .employeeName(emp.getEmployeeName())
+                .employeeNumber(emp.getEmployeeNumber())
+                .gradeId(emp.getGrade() != null ? emp.getGrade().getGradeId() : null)
+                .gradeName(emp.getGrade() != null ? emp.getGrade().getGrade() : null)
+                .jobTitleId(emp.getJobTitle() != null ? emp.getJobTitle().getJobTitleId() : null)
+                .jobTitleName(emp.getJobTitle() != null ? emp.getJobTitle().getJobTitle() : null)
+                .imagePath(s3Service.generatePresignedUrl(emp.getImagePath()))
+                .email(decryptedEmail)
+                .birthDate(emp.getBirthDate())
+                .gender(emp.getGender())
+                .hireDate(emp.getHireDate())
+                .contractType(emp.getContractType())
+                .status(emp.getStatus().getDescription())
+                .build();
+        return new Member(emp.getEmployeeDepartment().getDepartmentId(), detail);
+    }
+
+    /**
+     * 조직 그래프 + 직원 항목으로 조직도 트리 조립
+     *
+     * @param graph   조직 그래프 스냅샷
+     * @param members 직원 항목
+     * @return 최상위 부서 노드 리스트
+     */
+    private List<OrganizationNodeDTO> assemble(OrganizationGraph graph, Iterable<Member> members) {
+        // 1. 부서 ID별 노드 맵 생성 (전위 순회 순서 : 상위 부서가 항상 먼저)
+        Map<Integer, OrganizationNodeDTO> nodeMap = new LinkedHashMap<>();
+        for (Integer deptId : graph.departmentIds()) {
+            nodeMap.put(deptId, OrganizationNodeDTO.builder()
+                    .departmentId(deptId)
+                    .departmentName(graph.nameOf(deptId))
+                    .parentDepartmentId(graph.parentIdOf(deptId))
+                    .departmentPhone(graph.phoneOf(deptId))
+                    .managerId(graph.managerIdOf(deptId))
+                    .depth(graph.depthOf(deptId))
+                    .children(new ArrayList<>())
+                    .employees(new ArrayList<>())
+                    .build());
+        }
+
+        // 2. 직원들을 해당 부서 노드에 추가
+        for (Member member : members) {
+            OrganizationNodeDTO node = nodeMap.get(member.departmentId());
+            if (node != null) {
+                node.getEmployees().add(member.detail());
+            }
+        }
+
+        // 3. 각 부서별 직원 정렬 + 트리 구조 형성 (부모 ID가 없거나 0인 경우 최상위)
+        List<OrganizationNodeDTO> roots = new ArrayList<>();
+        for (OrganizationNodeDTO node : nodeMap.values()) {
+            node.getEmployees().sort(employeeOrder(node.getManagerId()));
+
+            Integer parentId = node.getParentDepartmentId();
+            if (parentId == null || parentId == 0) {
+                roots.add(node);
+            } else {
+                nodeMap.get(parentId).getChildren().add(node);
+            }
+        }
+        return roots;
+    }
+
+    /**
+     * 부서 내 직원 정렬 순서
+     *  1. 부서장 우선
+     *  2. 직책 ID 내림차순 (ID가 높을수록 상위 직책, null은 가장 낮음)
+     *  3. 직급 ID 내림차순 (ID가 높을수록 상위 직급, null은 가장 낮음)
+     *  4. 입사일 오름차순 (null은 가장 뒤)
+     */
+    private static Comparator<OrganizationEmployeeDetailDTO> employeeOrder(Integer managerId) {
+        return Comparator
+                .comparing((OrganizationEmployeeDetailDTO e) -> managerId == null || !managerId.equals(e.getEmployeeId()))
+                .thenComparing(e -> e.getJobTitleId() != null ? e.getJobTitleId() : -1, Comparator.reverseOrder())
+                .thenComparing(e -> e.getGradeId() != null ? e.getGradeId() : -1, Comparator.reverseOrder())
+                .thenComparing(OrganizationEmployeeDetailDTO::getHireDate, Comparator.nullsLast(Comparator.naturalOrder()));
+    }
+
+    /**
+     * 조직도 직원 항목
+     *
+     * @param departmentId 소속 부서 ID
+     * @param detail       조직도 표시 정보
+     */
+    private record Member(Integer departmentId, OrganizationEmployeeDetailDTO detail) {
+    }
+}
@@ -0,0 +1,34 @@
+package com.c4.hero.domain.department.cache;
+
+import com.c4.hero.domain.department.event.OrganizationEmployeesChangedEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * <pre>
+ * Class Name: OrganizationChartCacheInvalidator
+ * Description: 직원 변경 커밋 후 조직도 캐시 변경 대상 표시
+ *
+ * History
+ * 2026/10/18 (승건) 최초 작성
+ * </pre>
+ *
+ * @author 승건
+ * @version 1.0
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class OrganizationChartCacheInvalidator {
+
+    private final OrganizationChartCache organizationChartCache;
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onEmployeesChanged(OrganizationEmployeesChangedEvent event) {
+        organizationChartCache.markDirty(event);
+        log.debug("조직도 캐시 변경 대상 표시 - all: {}, employees: {}", event.all(), event.employeeIds());
+    }
+}
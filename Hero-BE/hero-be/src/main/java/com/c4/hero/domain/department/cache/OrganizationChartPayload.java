@@ -0,0 +1,80 @@
+package com.c4.hero.domain.department.cache;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.HexFormat;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * <pre>
+ * Record Name: OrganizationChartPayload
+ * Description: 직렬화된 조직도 응답 본문 (JSON / gzip / ETag)
+ *
+ * - 조직도가 바뀔 때만 1회 직렬화·압축하고, 조회 요청은 바이트 배열을 그대로 응답
+ * - ETag 는 JSON 본문 해시 (gzip/비압축 응답이 같은 값을 쓰므로 약한 ETag)
+ *
+ * History
+ * 2026/10/18 (승건) 최초 작성
+ * </pre>
+ *
+ * @author 승건
+ * @version 1.0
+ *
+ * @param json JSON 응답 본문 (CustomResponse)
+ * @param gzip gzip 압축 본문
+ * @param etag 약한 ETag (W/"...")
+ */
+public record OrganizationChartPayload(byte[] json, byte[] gzip, String etag) {
+
+    /**
+     * JSON 본문으로 압축 본문 / ETag 생성
+     *
+     * @param json JSON 응답 본문
+     * @return 조직도 응답 본문
+     */
+    public static OrganizationChartPayload of(byte[] json) {
+        return new OrganizationChartPayload(json, gzip(json), "W/\"" + hash(json) + "\"");
+    }
+
+    /**
+     * If-None-Match 헤더와 ETag 일치 여부 (여러 값 / * / 약한 비교 지원)
+     *
+     * @param ifNoneMatch If-None-Match 헤더 값
+     * @return 일치하면 true (304 응답 대상)
+     */
+    public boolean matches(String ifNoneMatch) {
+        if (ifNoneMatch == null || ifNoneMatch.isBlank()) return false;
+
+        String opaque = opaque(etag);
+        return Arrays.stream(ifNoneMatch.split(","))
+                .map(String::trim)
+                .anyMatch(tag -> "*".equals(tag) || opaque.equals(opaque(tag)));
+    }
+
+    private static String opaque(String tag) {
+        return tag.startsWith("W/") ? tag.substring(2) : tag;
+    }
+
+    private static String hash(byte[] json) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(json);
+            return HexFormat.of().formatHex(digest, 0, 16);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static byte[] gzip(byte[] json) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(Math.max(64, json.length / 4));
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(json);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out.toByteArray();
+    }
+}
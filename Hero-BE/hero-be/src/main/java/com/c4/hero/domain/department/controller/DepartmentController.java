@@ -4,7 +4,7 @@ import com.c4.hero.common.response.CustomResponse;
 import com.c4.hero.domain.department.dto.DepartmentDTO;
 import com.c4.hero.domain.department.dto.EmployeeDepartmentHistoryDTO;
 import com.c4.hero.domain.department.dto.EmployeeGradeHistoryDTO;
-import com.c4.hero.domain.department.dto.OrganizationNodeDTO;
+import com.c4.hero.domain.department.cache.OrganizationChartPayload;
 import com.c4.hero.domain.department.service.DepartmentService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -13,9 +13,14 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
@@ -31,13 +36,14 @@ import java.util.List;
  * 2025/12/29 (승건) 조직도 조회 API 추가
  * 2025/12/29 (승건) 부서/직급 이력 조회 API 추가
  * 2026/01/07 (승건) 스웨거 작성
+ * 2026/10/18 (승건) 조직도 조회 ETag(304) / gzip 응답 적용
  * </pre>
  *
  * 공통으로 사용되는 부서 셀렉트 박스/필터(근태대시보드, 휴가 캘린더 등)를 위한
  * 부서 전체 목록 조회 API를 제공합니다.
  *
  * @author 이지윤
- * @version 1.2
+ * @version 1.3
  */
 @RestController
 @RequiredArgsConstructor
@@ -76,19 +82,44 @@ public class DepartmentController {
      * <ul>
      *     <li>부서 계층 구조와 각 부서에 속한 직원 정보를 포함합니다.</li>
      *     <li>퇴사한 직원은 제외됩니다.</li>
+     *     <li>캐시된 응답 본문을 그대로 내려주며, ETag가 일치하면 본문 없이 304를 응답합니다.</li>
+     *     <li>Accept-Encoding에 gzip이 포함되면 미리 압축한 본문을 응답합니다.</li>
      * </ul>
      *
-     * @return 조직도 트리 노드 리스트
+     * @param ifNoneMatch    If-None-Match 헤더 (이전 응답의 ETag)
+     * @param acceptEncoding Accept-Encoding 헤더
+     * @return 조직도 트리 노드 리스트 (CustomResponse JSON)
      */
     @Operation(summary = "조직도 조회", description = "부서 계층 구조와 각 부서에 속한 직원 정보를 포함한 조직도를 조회합니다.")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "조회 성공",
-                    content = @Content(schema = @Schema(implementation = CustomResponse.class)))
+                    content = @Content(schema = @Schema(implementation = CustomResponse.class))),
+            @ApiResponse(responseCode = "304", description = "변경 없음 (ETag 일치)")
     })
     @GetMapping("/organization-chart")
-    public ResponseEntity<CustomResponse<List<OrganizationNodeDTO>>> getOrganizationChart() {
-        List<OrganizationNodeDTO> organizationChart = departmentService.getOrganizationChart();
-        return ResponseEntity.ok(CustomResponse.success(organizationChart));
+    public ResponseEntity<byte[]> getOrganizationChart(
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        OrganizationChartPayload payload = departmentService.getOrganizationChart();
+        CacheControl cacheControl = CacheControl.noCache().cachePrivate();
+
+        if (payload.matches(ifNoneMatch)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(payload.etag())
+                    .cacheControl(cacheControl)
+                    .build();
+        }
+
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .eTag(payload.etag())
+                .cacheControl(cacheControl)
+                .varyBy(HttpHeaders.ACCEPT_ENCODING)
+                .contentType(MediaType.APPLICATION_JSON);
+
+        if (acceptEncoding != null && acceptEncoding.toLowerCase().contains("gzip")) {
+            return response.header(HttpHeaders.CONTENT_ENCODING, "gzip").body(payload.gzip());
+        }
+        return response.body(payload.json());
     }
 
     /**
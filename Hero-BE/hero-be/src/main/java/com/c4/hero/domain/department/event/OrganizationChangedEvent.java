@@ -0,0 +1,16 @@
+package com.c4.hero.domain.department.event;
+
+/**
+ * <pre>
+ * Class Name: OrganizationChangedEvent
+ * Description: 조직 구조 변경 이벤트 (부서 트리 저장 / 직원 부서 이동, 커밋 후 조직 그래프 무효화)
+ *
+ * History
+ * 2026/10/18 (승건) 최초 작성
+ * </pre>
+ *
+ * @author 승건
+ * @version 1.0
+ */
+public record OrganizationChangedEvent() {
+}
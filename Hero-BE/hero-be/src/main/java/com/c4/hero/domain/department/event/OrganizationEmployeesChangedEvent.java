@@ -0,0 +1,37 @@
+package com.c4.hero.domain.department.event;
+
+import java.util.Collection;
+import java.util.Set;
+
+/**
+ * <pre>
+ * Class Name: OrganizationEmployeesChangedEvent
+ * Description: 조직도 직원 항목 변경 이벤트 (입사 / 부서 이동 / 직급·직책 변경 / 퇴직, 커밋 후 조직도 캐시 갱신)
+ *
+ * - employeeIds : 변경된 직원만 조직도 캐시에 다시 반영
+ * - all         : 직급/직책명 변경 등 전체 직원 항목에 영향이 있는 경우 전체 재적재
+ *
+ * History
+ * 2026/10/18 (승건) 최초 작성
+ * </pre>
+ *
+ * @author 승건
+ * @version 1.0
+ *
+ * @param all         전체 재적재 여부
+ * @param employeeIds 변경된 직원 ID 목록
+ */
+public record OrganizationEmployeesChangedEvent(boolean all, Set<Integer> employeeIds) {
+
+    public static OrganizationEmployeesChangedEvent of(Integer employeeId) {
+        return new OrganizationEmployeesChangedEvent(false, Set.of(employeeId));
+    }
+
+    public static OrganizationEmployeesChangedEvent of(Collection<Integer> employeeIds) {
+        return new OrganizationEmployeesChangedEvent(false, Set.copyOf(employeeIds));
+    }
+
+    public static OrganizationEmployeesChangedEvent reloadAll() {
+        return new OrganizationEmployeesChangedEvent(true, Set.of());
+    }
+}
@@ -0,0 +1,298 @@
+package com.c4.hero.domain.department.graph;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * <pre>
+ * Class Name: OrganizationGraph
+ * Description: 부서 계층 구조 스냅샷 (불변, 버전 단위로 교체)
+ *
+ * 구성
+ * - 부서 ID → 인덱스 맵 + 인덱스 기반 배열 (상위 부서 / 하위 부서 / 깊이 / 부서장 / 부서명)
+ * - 전위 순회(Euler tour) 진입/종료 순번 : 하위 부서 여부를 O(1)로 판정
+ * - 전위 순회 순서 배열 : 하위 부서 전체 목록을 연속 구간으로 바로 반환
+ *
+ * 최상위 부서
+ * - 상위 부서 ID가 없거나, 상위 부서가 스냅샷에 없는 부서
+ * - 순환 참조 등으로 최상위에서 도달할 수 없는 부서도 별도 최상위로 취급 (무한 탐색 방지)
+ *
+ * History
+ * 2026/10/18 (승건) 최초 작성
+ * </pre>
+ *
+ * @author 승건
+ * @version 1.0
+ */
+public final class OrganizationGraph {
+
+    private static final int[] NO_CHILDREN = new int[0];
+
+    private final long version;
+    private final Map<Integer, Integer> indexById;
+    private final int[] ids;
+    private final int[] parent;
+    private final int[][] children;
+    private final Integer[] depth;
+    private final Integer[] managerIds;
+    private final String[] names;
+    private final String[] departmentPhones;
+    private final int[] enter;
+    private final int[] exit;
+    private final int[] order;
+    private final int[] roots;
+
+    private OrganizationGraph(long version, List<Department> departments) {
+        int n = departments.size();
+        this.version = version;
+        this.indexById = new HashMap<>(n * 2);
+        this.ids = new int[n];
+        this.parent = new int[n];
+        this.children = new int[n][];
+        this.depth = new Integer[n];
+        this.managerIds = new Integer[n];
+        this.names = new String[n];
+        this.departmentPhones = new String[n];
+        this.enter = new int[n];
+        this.exit = new int[n];
+        this.order = new int[n];
+
+        for (int i = 0; i < n; i++) {
+            Department d = departments.get(i);
+            ids[i] = d.departmentId();
+            names[i] = d.departmentName();
+            departmentPhones[i] = d.departmentPhone();
+            managerIds[i] = d.managerId();
+            depth[i] = d.depth();
+            indexById.put(d.departmentId(), i);
+        }
+
+        // 상위 부서 인덱스 / 하위 부서 수
+        int[] childCount = new int[n];
+        for (int i = 0; i < n; i++) {
+            Integer parentId = departments.get(i).parentDepartmentId();
+            Integer p = parentId == null ? null : indexById.get(parentId);
+            parent[i] = (p == null || p == i) ? -1 : p;
+            if (parent[i] >= 0) childCount[parent[i]]++;
+        }
+
+        // 하위 부서 배열 (부서 ID 오름차순으로 입력되므로 그대로 정렬 유지)
+        int[] fill = new int[n];
+        for (int i = 0; i < n; i++) {
+            children[i] = childCount[i] == 0 ? NO_CHILDREN : new int[childCount[i]];
+        }
+        for (int i = 0; i < n; i++) {
+            int p = parent[i];
+            if (p >= 0) children[p][fill[p]++] = i;
+        }
+
+        // 전위 순회 (명시적 스택, 재귀 없음)
+        Arrays.fill(enter, -1);
+        List<Integer> rootList = new ArrayList<>();
+        int[] stack = new int[n];
+        int[] cursor = new int[n];
+        int clock = 0;
+        for (int pass = 0; pass < 2; pass++) {
+            for (int start = 0; start < n; start++) {
+                if (enter[start] >= 0) continue;
+                // 1회차 : 정상 최상위 부서, 2회차 : 순환 등으로 도달하지 못한 부서
+                if (pass == 0 && parent[start] >= 0) continue;
+                if (pass == 1) parent[start] = -1;
+                rootList.add(start);
+
+                int top = 0;
+                stack[top] = start;
+                cursor[start] = 0;
+                enter[start] = clock;
+                order[clock++] = start;
+                while (top >= 0) {
+                    int node = stack[top];
+                    if (cursor[node] < children[node].length) {
+                        int child = children[node][cursor[node]++];
+                        if (enter[child] >= 0) continue;
+                        cursor[child] = 0;
+                        enter[child] = clock;
+                        order[clock++] = child;
+                        stack[++top] = child;
+                    } else {
+                        exit[node] = clock;
+                        top--;
+                    }
+                }
+            }
+        }
+        this.roots = rootList.stream().mapToInt(Integer::intValue).toArray();
+    }
+
+    /**
+     * 부서 목록으로 스냅샷 생성
+     *
+     * @param version     스냅샷 버전
+     * @param departments 전체 부서 목록
+     * @return 부서 계층 스냅샷
+     */
+    public static OrganizationGraph of(long version, Collection<Department> departments) {
+        List<Department> sorted = new ArrayList<>(departments);
+        sorted.sort(Comparator.comparing(Department::departmentId));
+        return new OrganizationGraph(version, sorted);
+    }
+
+    /** 스냅샷 버전 */
+    public long version() {
+        return version;
+    }
+
+    /** 부서 수 */
+    public int size() {
+        return ids.length;
+    }
+
+    /** 부서 존재 여부 */
+    public boolean contains(Integer departmentId) {
+        return departmentId != null && indexById.containsKey(departmentId);
+    }
+
+    /**
+     * 최상위 부서 ID 목록 (부서 ID 오름차순, 순환으로 분리된 부서는 뒤에 추가)
+     */
+    public List<Integer> rootIds() {
+        return toIds(roots, 0, roots.length);
+    }
+
+    /**
+     * 전체 부서 ID 목록 (전위 순회 순서 : 상위 부서가 항상 하위 부서보다 앞)
+     */
+    public List<Integer> departmentIds() {
+        return toIds(order, 0, order.length);
+    }
+
+    /**
+     * 상위 부서 ID (최상위 부서 또는 존재하지 않는 부서는 null)
+     */
+    public Integer parentIdOf(Integer departmentId) {
+        int i = indexOf(departmentId);
+        return i < 0 || parent[i] < 0 ? null : ids[parent[i]];
+    }
+
+    /**
+     * 직속 하위 부서 ID 목록 (부서 ID 오름차순)
+     */
+    public List<Integer> childIdsOf(Integer departmentId) {
+        int i = indexOf(departmentId);
+        return i < 0 ? List.of() : toIds(children[i], 0, children[i].length);
+    }
+
+    /**
+     * 자기 자신을 포함한 모든 하위 부서 ID 목록 (전위 순회 순서)
+     *  - 스냅샷에 없는 부서는 자기 자신만 반환 (기존 재귀 조회와 동일)
+     *
+     * @param departmentId 시작 부서 ID
+     * @return 부서 ID 목록, departmentId 가 null 이면 빈 목록
+     */
+    public List<Integer> subtreeIds(Integer departmentId) {
+        if (departmentId == null) return List.of();
+        int i = indexOf(departmentId);
+        return i < 0 ? List.of(departmentId) : toIds(order, enter[i], exit[i]);
+    }
+
+    /**
+     * departmentId 가 ancestorId 의 하위 부서(자기 자신 포함)인지 여부 - O(1)
+     */
+    public boolean isInSubtree(Integer ancestorId, Integer departmentId) {
+        int a = indexOf(ancestorId);
+        int d = indexOf(departmentId);
+        if (a < 0 || d < 0) return false;
+        return enter[a] <= enter[d] && enter[d] < exit[a];
+    }
+
+    /**
+     * 상위 부서 ID 목록 (직속 상위부터 최상위까지, 자기 자신 제외)
+     */
+    public List<Integer> ancestorIds(Integer departmentId) {
+        int i = indexOf(departmentId);
+        if (i < 0) return List.of();
+        List<Integer> result = new ArrayList<>();
+        for (int p = parent[i]; p >= 0; p = parent[p]) {
+            result.add(ids[p]);
+        }
+        return result;
+    }
+
+    /** 부서명 */
+    public String nameOf(Integer departmentId) {
+        int i = indexOf(departmentId);
+        return i < 0 ? null : names[i];
+    }
+
+    /** 부서 전화번호 */
+    public String phoneOf(Integer departmentId) {
+        int i = indexOf(departmentId);
+        return i < 0 ? null : departmentPhones[i];
+    }
+
+    /** 부서 깊이 (저장된 depth 값, 미지정 시 null) */
+    public Integer depthOf(Integer departmentId) {
+        int i = indexOf(departmentId);
+        return i < 0 ? null : depth[i];
+    }
+
+    /** 부서장 ID (미지정 시 null) */
+    public Integer managerIdOf(Integer departmentId) {
+        int i = indexOf(departmentId);
+        return i < 0 ? null : managerIds[i];
+    }
+
+    /**
+     * 가장 가까운 부서장 ID (자기 부서 → 상위 부서 순으로 탐색)
+     *
+     * @param departmentId 부서 ID
+     * @return 부서장 ID, 최상위까지 부서장이 없으면 null
+     */
+    public Integer nearestManagerIdOf(Integer departmentId) {
+        for (int i = indexOf(departmentId); i >= 0; i = parent[i]) {
+            if (managerIds[i] != null) return managerIds[i];
+        }
+        return null;
+    }
+
+    private int indexOf(Integer departmentId) {
+        if (departmentId == null) return -1;
+        Integer i = indexById.get(departmentId);
+        return i == null ? -1 : i;
+    }
+
+    private List<Integer> toIds(int[] indexes, int from, int to) {
+        if (from >= to) return List.of();
+        Integer[] result = new Integer[to - from];
+        for (int k = from; k < to; k++) {
+            result[k - from] = ids[indexes[k]];
+        }
+        return Collections.unmodifiableList(Arrays.asList(result));
+    }
+
+    /**
+     * 스냅샷 생성용 부서 정보
+     *
+     * @param departmentId       부서 ID
+     * @param departmentName     부서명
+     * @param departmentPhone    부서 전화번호
+     * @param depth              깊이
+     * @param parentDepartmentId 상위 부서 ID
+     * @param managerId          부서장 ID
+     */
+    public record Department(
+            Integer departmentId,
+            String departmentName,
+            String departmentPhone,
+            Integer depth,
+            Integer parentDepartmentId,
+            Integer managerId
+    ) {
+    }
+}
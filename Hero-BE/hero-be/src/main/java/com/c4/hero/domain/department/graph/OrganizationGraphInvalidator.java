@@ -0,0 +1,34 @@
+package com.c4.hero.domain.department.graph;
+
+import com.c4.hero.domain.department.event.OrganizationChangedEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * <pre>
+ * Class Name: OrganizationGraphInvalidator
+ * Description: 조직 구조 변경 커밋 후 조직 그래프 무효화
+ *
+ * History
+ * 2026/10/18 (승건) 최초 작성
+ * </pre>
+ *
+ * @author 승건
+ * @version 1.0
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class OrganizationGraphInvalidator {
+
+    private final OrganizationGraphService organizationGraphService;
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onOrganizationChanged(OrganizationChangedEvent event) {
+        organizationGraphService.invalidate();
+        log.info("조직 그래프 무효화");
+    }
+}
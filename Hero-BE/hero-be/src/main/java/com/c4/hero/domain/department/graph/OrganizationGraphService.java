@@ -0,0 +1,132 @@
+package com.c4.hero.domain.department.graph;
+
+import com.c4.hero.domain.department.repository.DepartmentRepository;
+import com.c4.hero.domain.notification.relay.NotificationRelayTransport;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * <pre>
+ * Class Name: OrganizationGraphService
+ * Description: 조직 그래프(OrganizationGraph) 노드 로컬 보관 및 재생성
+ *
+ * - 조직도 / 결재 조직도 / 승진 하위 부서 조회가 같은 스냅샷을 공유 (요청마다 부서 전체 조회 또는 단계별 재귀 조회 제거)
+ * - 변경 시 버전만 올리고, 다음 조회 시 부서 전체를 1회 조회해 새 스냅샷으로 교체 (지연 재생성)
+ * - 부서 트리 저장 / 직원 부서 이동 커밋 후 무효화 (OrganizationGraphInvalidator)
+ *
+ * 다중 노드 (notification.relay.mode=redis)
+ * - hero:organization:graph:invalidate 채널로 무효화 전파, 수신 노드는 버전만 올림
+ * - pub/sub 메시지가 유실되더라도 최대 보관 시간(max-age) 경과 후 재생성됨
+ *
+ * History
+ * 2026/10/18 (승건) 최초 작성
+ * </pre>
+ *
+ * @author 승건
+ * @version 1.0
+ */
+@Slf4j
+@Component
+public class OrganizationGraphService {
+
+    /** 무효화 전파 채널 */
+    public static final String INVALIDATE_CHANNEL = "hero:organization:graph:invalidate";
+
+    private final DepartmentRepository departmentRepository;
+    private final NotificationRelayTransport transport;
+    private final long maxAgeNanos;
+
+    /** 자기 노드가 발행한 무효화 메시지 식별용 */
+    private final String nodeId = UUID.randomUUID().toString();
+    private final AtomicLong version = new AtomicLong();
+    private final Object rebuildLock = new Object();
+
+    private volatile OrganizationGraph graph;
+    private volatile long builtAtNanos;
+
+    public OrganizationGraphService(
+            DepartmentRepository departmentRepository,
+            ObjectProvider<NotificationRelayTransport> transportProvider,
+            @Value("${organization.graph.max-age:PT10M}") Duration maxAge
+    ) {
+        this.departmentRepository = departmentRepository;
+        this.transport = transportProvider.getIfAvailable();
+        this.maxAgeNanos = maxAge.toNanos();
+
+        if (transport != null) {
+            transport.subscribe(INVALIDATE_CHANNEL, this::onInvalidateMessage);
+        }
+    }
+
+    /**
+     * 현재 조직 그래프 조회 (무효화 또는 만료 시 재생성)
+     *
+     * @return 부서 계층 스냅샷
+     */
+    public OrganizationGraph current() {
+        OrganizationGraph snapshot = graph;
+        if (isFresh(snapshot)) return snapshot;
+
+        synchronized (rebuildLock) {
+            snapshot = graph;
+            if (isFresh(snapshot)) return snapshot;
+
+            // 조회 전 버전으로 생성 : 조회 중 무효화되면 다음 조회에서 다시 재생성
+            long target = version.get();
+            OrganizationGraph rebuilt = OrganizationGraph.of(target, load());
+            builtAtNanos = System.nanoTime();
+            graph = rebuilt;
+            log.debug("조직 그래프 재생성 - version: {}, departments: {}", target, rebuilt.size());
+            return rebuilt;
+        }
+    }
+
+    /**
+     * 조직 그래프 무효화 (자기 노드 + 다른 노드 전파)
+     */
+    public void invalidate() {
+        version.incrementAndGet();
+        if (transport == null) return;
+
+        try {
+            transport.publish(INVALIDATE_CHANNEL, nodeId);
+        } catch (Exception e) {
+            log.error("조직 그래프 무효화 전파 실패: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 다른 노드의 무효화 메시지 수신 → 버전 증가 (다음 조회 시 재생성)
+     *
+     * @param message 발행 노드 ID
+     */
+    void onInvalidateMessage(String message) {
+        if (nodeId.equals(message)) return;
+        version.incrementAndGet();
+    }
+
+    private boolean isFresh(OrganizationGraph snapshot) {
+        return snapshot != null
+                && snapshot.version() == version.get()
+                && System.nanoTime() - builtAtNanos < maxAgeNanos;
+    }
+
+    private List<OrganizationGraph.Department> load() {
+        return departmentRepository.findAll().stream()
+                .map(d -> new OrganizationGraph.Department(
+                        d.getDepartmentId(),
+                        d.getDepartmentName(),
+                        d.getDepartmentPhone(),
+                        d.getDepth(),
+                        d.getParentDepartmentId(),
+                        d.getManagerId()))
+                .toList();
+    }
+}
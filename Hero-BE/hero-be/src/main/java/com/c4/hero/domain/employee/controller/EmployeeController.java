@@ -19,11 +19,13 @@ import com.c4.hero.domain.employee.dto.response.GradeHistoryResponseDTO;
 import com.c4.hero.domain.employee.dto.response.LoginHistoryResponseDTO;
 import com.c4.hero.domain.employee.dto.request.SignupRequestDTO;
 import com.c4.hero.domain.employee.dto.response.MyInfoResponseDTO;
+import com.c4.hero.domain.employee.dto.response.ProfileImageUrlResponseDTO;
 import com.c4.hero.domain.employee.service.EmployeePasswordService;
 import com.c4.hero.domain.employee.service.EmployeeCommandService;
 import com.c4.hero.domain.employee.service.EmployeeProfileQueryService;
 import com.c4.hero.domain.employee.service.EmployeeQueryService;
 import com.c4.hero.domain.employee.service.EmployeeSealService;
+import com.c4.hero.domain.employee.service.ProfileImageUrlService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
@@ -60,10 +62,11 @@ import java.util.List;
  * 2025/12/09 (승건) 최초 작성 (사원 추가 기능 개발)
  * 2025/12/28 (혜원) 프로필 관련 API 추가
  * 2026/01/07 (승건) 스웨거 작성
+ * 2026/10/18 (혜원) 프로필 이미지 URL 조회 API 추가 (토큰에는 S3 키만 포함)
  * </pre>
  *
  * @author 승건
- * @version 2.0
+ * @version 2.1
  */
 @Slf4j
 @RestController
@@ -77,6 +80,7 @@ public class EmployeeController {
     private final EmployeeQueryService employeeQueryService;
     private final EmployeeProfileQueryService employeeProfileQueryService;
     private final EmployeeSealService employeeSealService;
+    private final ProfileImageUrlService profileImageUrlService;
 
     private final JwtUtil jwtUtil;
     /**
@@ -312,6 +316,27 @@ public class EmployeeController {
         return ResponseEntity.ok(CustomResponse.success(profile));
     }
 
+    /**
+     * 내 프로필 이미지 URL 조회
+     * Access Token에는 S3 키만 담기므로 화면 표시용 URL은 이 API로 발급
+     *
+     * @param userDetails Security Context에서 자동 주입
+     * @return 프로필 이미지 Presigned URL과 만료 시각
+     */
+    @Operation(summary = "내 프로필 이미지 URL 조회", description = "현재 로그인한 사용자의 프로필 이미지 Presigned URL과 만료 시각 조회 (만료 전 재조회)")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "조회 성공",
+                    content = @Content(schema = @Schema(implementation = CustomResponse.class)))
+    })
+    @GetMapping("/me/profile-image")
+    public ResponseEntity<CustomResponse<ProfileImageUrlResponseDTO>> getMyProfileImageUrl(
+            @AuthenticationPrincipal CustomUserDetails userDetails) {
+
+        ProfileImageUrlResponseDTO response = profileImageUrlService.getProfileImageUrl(
+                userDetails.getEmployeeId(), userDetails.getImagePath());
+        return ResponseEntity.ok(CustomResponse.success(response));
+    }
+
     /**
      * 사원번호로 프로필 조회
      *
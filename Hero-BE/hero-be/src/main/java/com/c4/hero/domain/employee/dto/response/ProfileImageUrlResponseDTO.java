@@ -0,0 +1,31 @@
+package com.c4.hero.domain.employee.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+import java.time.LocalDateTime;
+
+/**
+ * <pre>
+ * Class Name: ProfileImageUrlResponseDTO
+ * Description: 프로필 이미지 Presigned URL 응답 DTO
+ *
+ * History
+ * 2026/10/18 (혜원) 최초 작성
+ * </pre>
+ *
+ * @author 혜원
+ * @version 1.0
+ */
+@Getter
+@ToString
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ProfileImageUrlResponseDTO {
+    private String url;                 // 프로필 이미지 Presigned URL (이미지가 없으면 null)
+    private LocalDateTime expiresAt;    // URL 만료 시각 (이 시각 전에 다시 조회)
+}
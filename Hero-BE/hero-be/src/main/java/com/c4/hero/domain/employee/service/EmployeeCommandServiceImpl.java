@@ -4,6 +4,8 @@ import com.c4.hero.common.exception.BusinessException;
 import com.c4.hero.common.exception.ErrorCode;
 import com.c4.hero.common.s3.S3Service;
 import com.c4.hero.common.util.EncryptionUtil;
+import com.c4.hero.domain.department.event.OrganizationChangedEvent;
+import com.c4.hero.domain.department.event.OrganizationEmployeesChangedEvent;
 import com.c4.hero.domain.employee.dto.request.SignupRequestDTO;
 import com.c4.hero.domain.employee.entity.*;
 import com.c4.hero.domain.employee.entity.EmployeeDepartment;
@@ -25,6 +27,7 @@ import jakarta.mail.internet.MimeMessage;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.mail.MailException;
 import org.springframework.mail.javamail.JavaMailSender;
 import org.springframework.mail.javamail.MimeMessageHelper;
@@ -47,10 +50,12 @@ import java.util.stream.IntStream;
  * History
  * 2025/12/09 승건 최초 작성 (사원 추가 로직 처리)
  * 2025/12/15 승건 변경 이력 메소드 추가 및 적용
+ * 2026/10/18 승건 부서 이동 시 조직 구조 변경 이벤트 발행
+ * 2026/10/18 승건 입사 / 부서·직급·직책 변경 시 조직도 직원 항목 변경 이벤트 발행
  * </pre>
  *
  * @author 이승건
- * @version 1.0
+ * @version 1.2
  */
 
 @Service
@@ -75,6 +80,7 @@ public class EmployeeCommandServiceImpl implements EmployeeCommandService {
     private final S3Service s3Service;
 
     private final EncryptionUtil encryptionUtil;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Value("${spring.mail.username}")
     private String defaultMailSenderUsername;
@@ -198,6 +204,9 @@ public class EmployeeCommandServiceImpl implements EmployeeCommandService {
                         .build();
 
         employeeDepartmentHistoryRepository.save(newHistory);
+
+        // 입사 / 부서 이동 : 커밋 후 조직도 캐시에 해당 직원 반영
+        publishEmployeeChanged(employee);
     }
     /**
      * 직급 변경 이력 추가
@@ -213,6 +222,9 @@ public class EmployeeCommandServiceImpl implements EmployeeCommandService {
                         .build();
 
         employeeGradeHistoryRepository.save(newHistory);
+
+        // 직급 변경 : 커밋 후 조직도 캐시에 해당 직원 반영
+        publishEmployeeChanged(employee);
     }
 
     @Override
@@ -228,6 +240,9 @@ public class EmployeeCommandServiceImpl implements EmployeeCommandService {
 
         // 이력 저장
         addDepartmentHistory(employee, ChangeType.TRANSFER, departmentName);
+
+        // 커밋 후 조직 그래프 무효화
+        eventPublisher.publishEvent(new OrganizationChangedEvent());
     }
 
     @Override
@@ -242,10 +257,22 @@ public class EmployeeCommandServiceImpl implements EmployeeCommandService {
         employee.changeJobTitle(newJobTitle);
         
         // 직책 변경 이력은 현재 별도 테이블이 없으므로 생략하거나 필요 시 추가
+
+        publishEmployeeChanged(employee);
     }
 
     /* =================== private =================== */
 
+    /**
+     * 조직도 직원 항목 변경 이벤트 발행 (커밋 후 조직도 캐시 갱신)
+     * @param employee 변경된 직원
+     */
+    private void publishEmployeeChanged(Employee employee) {
+        if (employee.getEmployeeId() != null) {
+            eventPublisher.publishEvent(OrganizationEmployeesChangedEvent.of(employee.getEmployeeId()));
+        }
+    }
+
     /**
      * 10자리의 랜덤 비밀번호 생성 (영문 대/소문자 + 숫자)
      * @return 랜덤 비밀번호 문자열
@@ -0,0 +1,73 @@
+package com.c4.hero.domain.employee.service;
+
+import com.c4.hero.common.s3.PresignedUrl;
+import com.c4.hero.common.s3.S3Service;
+import com.c4.hero.domain.employee.dto.response.ProfileImageUrlResponseDTO;
+import com.c4.hero.domain.employee.entity.Employee;
+import com.c4.hero.domain.employee.repository.EmployeeRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.util.StringUtils;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+/**
+ * <pre>
+ * Class Name: ProfileImageUrlService
+ * Description: 프로필 이미지 Presigned URL 제공 서비스
+ *
+ * - Access Token에는 프로필 이미지 S3 키만 담고, URL은 이 서비스에서 별도로 발급
+ * - URL은 S3Service의 S3 키별 캐시에서 재사용, 만료 전 갱신 여유 시간 안으로 들어오면 새로 서명
+ * - 토큰에 키가 없거나 이전 형식(URL)이 담긴 경우 DB의 이미지 경로 사용
+ *
+ * History
+ * 2026/10/18 (혜원) 최초 작성
+ * 2026/10/18 (혜원) 자체 URL 캐시 대신 S3Service 공용 캐시 사용
+ * </pre>
+ *
+ * @author 혜원
+ * @version 1.1
+ */
+@Service
+@RequiredArgsConstructor
+public class ProfileImageUrlService {
+
+    private final S3Service s3Service;
+    private final EmployeeRepository employeeRepository;
+
+    /**
+     * 프로필 이미지 URL 조회
+     *
+     * @param employeeId 직원 ID
+     * @param imageKey   토큰에 담긴 프로필 이미지 S3 키 (없으면 DB 조회)
+     * @return 프로필 이미지 URL과 만료 시각
+     */
+    public ProfileImageUrlResponseDTO getProfileImageUrl(Integer employeeId, String imageKey) {
+        String s3Key = isS3Key(imageKey) ? imageKey : findImageKey(employeeId);
+        if (!StringUtils.hasText(s3Key)) {
+            return ProfileImageUrlResponseDTO.builder().build();
+        }
+
+        PresignedUrl presignedUrl = s3Service.getPresignedUrl(s3Key);
+
+        return ProfileImageUrlResponseDTO.builder()
+                .url(presignedUrl.url())
+                .expiresAt(LocalDateTime.ofInstant(presignedUrl.expiresAt(), ZoneId.systemDefault()))
+                .build();
+    }
+
+    private String findImageKey(Integer employeeId) {
+        if (employeeId == null) return null;
+        return employeeRepository.findById(employeeId)
+                .map(Employee::getImagePath)
+                .orElse(null);
+    }
+
+    /**
+     * 이전 형식 토큰에는 S3 키 대신 서명된 URL이 담겨 있으므로 구분
+     */
+    private boolean isS3Key(String imageKey) {
+        return StringUtils.hasText(imageKey) && !imageKey.startsWith("http");
+    }
+}
@@ -2,21 +2,30 @@ package com.c4.hero.domain.evaluation.controller;
 
 import com.c4.hero.domain.evaluation.dto.ai.analysis.MemberAnalysisRequestDTO;
 import com.c4.hero.domain.evaluation.dto.ai.analysis.MemberAnalysisResponseDTO;
+import com.c4.hero.domain.auth.security.CustomUserDetails;
+import com.c4.hero.domain.evaluation.dto.ai.promotion.PromotionAnalysisJobResponseDTO;
+import com.c4.hero.domain.evaluation.dto.ai.promotion.PromotionAnalysisResultDTO;
 import com.c4.hero.domain.evaluation.dto.ai.promotion.PromotionCandidateResponseDTO;
 import com.c4.hero.domain.evaluation.dto.ai.violation.GuideViolationRequestDTO;
 import com.c4.hero.domain.evaluation.dto.ai.violation.GuideViolationResponseDTO;
 import com.c4.hero.domain.evaluation.service.AiService;
 import com.c4.hero.domain.evaluation.service.EvaluationService;
+import com.c4.hero.domain.evaluation.service.PromotionAnalysisJobService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * <pre>
@@ -25,6 +34,8 @@ import java.util.List;
  *
  * History
  * 2025/12/30 (김승민) 최초 작성
+ * 2026/10/18 (김승민) AI 분석 응답을 비동기(CompletableFuture)로 반환 (분석 대기 중 요청 스레드 점유 안 함)
+ * 2026/10/18 (김승민) 승진 추천 분석 작업(배치 분할/백그라운드 실행) API 추가
  * </pre>
  *
  * @author 김승민
@@ -39,6 +50,9 @@ public class AiController {
     /** AI 관련 서비스 의존성 주입 */
     private final AiService aiService;
 
+    /** 승진 추천 분석 작업 서비스 의존성 주입 */
+    private final PromotionAnalysisJobService promotionAnalysisJobService;
+
 
     /**
      * 사원 분석
@@ -51,12 +65,11 @@ public class AiController {
             description = "평가 데이터를 통해 사원의 역량을 분석한다."
     )
     @PostMapping("/analysis/member")
-    public ResponseEntity<MemberAnalysisResponseDTO> analyzeMember(
+    public CompletableFuture<ResponseEntity<MemberAnalysisResponseDTO>> analyzeMember(
             @RequestBody MemberAnalysisRequestDTO request
     ) {
-        MemberAnalysisResponseDTO result = aiService.analyzeMember(request);
-
-        return ResponseEntity.ok(result);
+        return aiService.analyzeMember(request)
+                .thenApply(ResponseEntity::ok);
     }
 
 
@@ -71,16 +84,14 @@ public class AiController {
             description = "평가 데이터를 통해 평가 가이드 위반을 분석한다."
     )
     @PostMapping("/violation")
-    public ResponseEntity<List<GuideViolationResponseDTO>> analyzeViolation(
+    public CompletableFuture<ResponseEntity<List<GuideViolationResponseDTO>>> analyzeViolation(
             @RequestBody GuideViolationRequestDTO request
     ) {
-        List<GuideViolationResponseDTO> result =
-                aiService.analyzeViolation(
+        return aiService.analyzeViolation(
                         request.getGuide(),
                         request.getTemplate()
-                );
-
-        return ResponseEntity.ok(result);
+                )
+                .thenApply(ResponseEntity::ok);
     }
 
     /**
@@ -94,11 +105,71 @@ public class AiController {
             description = "평가 데이터를 통해 승진 추천 대상자를 분석한다."
     )
     @PostMapping("/promotion")
-    public ResponseEntity<List<PromotionCandidateResponseDTO>> analyzePromotion(
+    public CompletableFuture<ResponseEntity<List<PromotionCandidateResponseDTO>>> analyzePromotion(
             @RequestBody List<Object> dashboardData
     ) {
-        List<PromotionCandidateResponseDTO> result =
-                aiService.analyzePromotion(dashboardData);
+        return aiService.analyzePromotion(dashboardData)
+                .thenApply(ResponseEntity::ok);
+    }
+
+    /**
+     * 승진 계획 추천 후보자 AI 분석 작업 등록
+     * 진행 현황은 /topic/evaluation/promotion-analysis/{jobId},
+     * 배치별 부분 결과는 /topic/evaluation/promotion-analysis/{jobId}/results 로 발행
+     *
+     * @param promotionId Integer
+     * @param user CustomUserDetails
+     * @return result PromotionAnalysisJobResponseDTO
+     */
+    @Operation(
+            summary = "승진 추천 분석 작업 등록",
+            description = "승진 계획의 추천 후보자를 배치로 나누어 AI 분석을 백그라운드로 실행하고 jobId를 즉시 반환한다."
+    )
+    @PostMapping("/promotion/plans/{promotionId}/jobs")
+    public ResponseEntity<PromotionAnalysisJobResponseDTO> submitPromotionAnalysisJob(
+            @PathVariable Integer promotionId,
+            @AuthenticationPrincipal CustomUserDetails user
+    ) {
+        PromotionAnalysisJobResponseDTO result =
+                promotionAnalysisJobService.submit(promotionId, user.getEmployeeId());
+
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(result);
+    }
+
+    /**
+     * 승진 추천 분석 작업 상태 조회
+     *
+     * @param jobId Long
+     * @return result PromotionAnalysisJobResponseDTO
+     */
+    @Operation(
+            summary = "승진 추천 분석 작업 상태 조회",
+            description = "분석 작업의 상태와 배치 진행 현황을 조회한다."
+    )
+    @GetMapping("/promotion/jobs/{jobId}")
+    public ResponseEntity<PromotionAnalysisJobResponseDTO> getPromotionAnalysisJob(
+            @PathVariable Long jobId
+    ) {
+        PromotionAnalysisJobResponseDTO result = promotionAnalysisJobService.getJob(jobId);
+
+        return ResponseEntity.ok(result);
+    }
+
+    /**
+     * 승진 계획의 저장된 AI 분석 결과 조회
+     *
+     * @param promotionId Integer
+     * @return result List<PromotionAnalysisResultDTO>
+     */
+    @Operation(
+            summary = "승진 추천 분석 결과 조회",
+            description = "승진 계획에 대해 저장된 후보자별 AI 분석 결과를 조회한다. (AI 서버 호출 없음)"
+    )
+    @GetMapping("/promotion/plans/{promotionId}/results")
+    public ResponseEntity<List<PromotionAnalysisResultDTO>> getPromotionAnalysisResults(
+            @PathVariable Integer promotionId
+    ) {
+        List<PromotionAnalysisResultDTO> result = promotionAnalysisJobService.getResults(promotionId);
 
         return ResponseEntity.ok(result);
     }
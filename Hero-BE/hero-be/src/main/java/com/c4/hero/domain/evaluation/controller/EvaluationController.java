@@ -3,6 +3,7 @@ package com.c4.hero.domain.evaluation.controller;
 import com.c4.hero.common.response.CustomResponse;
 import com.c4.hero.common.response.PageResponse;
 import com.c4.hero.domain.evaluation.dto.dashboard.DashBoardResponseDTO;
+import com.c4.hero.domain.evaluation.dto.dashboard.DashBoardSummaryResponseDTO;
 import com.c4.hero.domain.evaluation.dto.employee.EmployeeResponseDTO;
 import com.c4.hero.domain.evaluation.dto.evaluation.EvaluationRequestDTO;
 import com.c4.hero.domain.evaluation.dto.evaluation.EvaluationResponseDTO;
@@ -16,6 +17,7 @@ import com.c4.hero.domain.evaluation.dto.response.EmployeeEvaluationListResponse
 import com.c4.hero.domain.evaluation.dto.template.EvaluationTemplateRequestDTO;
 import com.c4.hero.domain.evaluation.dto.template.EvaluationTemplateResponseDTO;
 import com.c4.hero.domain.evaluation.dto.template.EvaluationTemplateUpdateDTO;
+import com.c4.hero.domain.evaluation.service.EvaluationDashBoardService;
 import com.c4.hero.domain.evaluation.service.EvaluationService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -32,6 +34,7 @@ import java.util.List;
  *
  * History
  * 2025/12/07 (김승민) 최초 작성
+ * 2026/10/18 (김승민) 대시보드 페이징/평가 요약 조회 추가
  * </pre>
  *
  * @author 김승민
@@ -46,6 +49,9 @@ public class EvaluationController {
     /** 평가 관련 서비스 의존성 주입 */
     private final EvaluationService evaluationService;
 
+    /** 평가 대시보드 조회 서비스 의존성 주입 */
+    private final EvaluationDashBoardService evaluationDashBoardService;
+
     /**
      * 평가 템플릿 전체 조회
      *
@@ -487,6 +493,61 @@ public class EvaluationController {
         return ResponseEntity.ok(result);
     }
 
+    /**
+     * 대시보드 데이터 템플릿 단위 페이징 조회
+     *
+     * @param departmentId Integer
+     *     평가 담당자 부서 ID (없으면 전체 부서)
+     * @param page int
+     *     페이지 번호 (0부터 시작)
+     * @param size int
+     *     페이지당 템플릿 수
+     * @return result PageResponse<DashBoardResponseDTO>
+     *     템플릿 단위로 페이징된 대시보드 데이터를 응답함.
+     */
+    @Operation(
+            summary = "대시보드 데이터 페이징 조회",
+            description = "평가 템플릿 단위로 페이징된 대시보드 데이터를 조회한다."
+    )
+    @GetMapping("/dashboard/page")
+    public ResponseEntity<PageResponse<DashBoardResponseDTO>> selectDashBoardPage(
+            @RequestParam(required = false) Integer departmentId,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "5") int size
+    ) {
+        PageResponse<DashBoardResponseDTO> result = evaluationDashBoardService.getDashBoardPage(departmentId, page, size);
+
+        return ResponseEntity.ok(result);
+    }
+
+    /**
+     * 대시보드 목록용 평가별 요약 조회
+     *
+     * @param departmentId Integer
+     *     평가 담당자 부서 ID (없으면 전체 부서)
+     * @param page int
+     *     페이지 번호 (0부터 시작)
+     * @param size int
+     *     페이지당 템플릿 수
+     * @return result PageResponse<DashBoardSummaryResponseDTO>
+     *     템플릿별 평가 요약(평가서 수, 채점 수, 점수/등급 분포)을 응답함.
+     */
+    @Operation(
+            summary = "대시보드 평가 요약 조회",
+            description = "평가 항목/점수 없이 미리 집계된 평가별 요약을 템플릿 단위로 조회한다."
+    )
+    @GetMapping("/dashboard/summary")
+    public ResponseEntity<PageResponse<DashBoardSummaryResponseDTO>> selectDashBoardSummary(
+            @RequestParam(required = false) Integer departmentId,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "10") int size
+    ) {
+        PageResponse<DashBoardSummaryResponseDTO> result =
+                evaluationDashBoardService.getDashBoardSummaries(departmentId, page, size);
+
+        return ResponseEntity.ok(result);
+    }
+
     /**
      * 대시보드 데이터 department_id로 조회
      *
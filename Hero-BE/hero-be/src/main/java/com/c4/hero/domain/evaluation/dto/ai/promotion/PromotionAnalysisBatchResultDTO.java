@@ -0,0 +1,27 @@
+package com.c4.hero.domain.evaluation.dto.ai.promotion;
+
+import java.util.List;
+
+/**
+ * <pre>
+ * Class Name: PromotionAnalysisBatchResultDTO
+ * Description: 승진 추천 AI 분석 배치 부분 결과 메시지
+ *
+ * - STOMP(/topic/evaluation/promotion-analysis/{jobId}/results) 로 배치가 끝날 때마다 발행
+ *
+ * History
+ * 2026/10/18 (김승민) 최초 작성
+ * </pre>
+ *
+ * @author 김승민
+ *
+ * @param jobId       작업 ID
+ * @param promotionId 승진 계획 ID
+ * @param results     배치에서 저장된 분석 결과
+ */
+public record PromotionAnalysisBatchResultDTO(
+        Long jobId,
+        Integer promotionId,
+        List<PromotionAnalysisResultDTO> results
+) {
+}
@@ -0,0 +1,72 @@
+package com.c4.hero.domain.evaluation.dto.ai.promotion;
+
+import com.c4.hero.domain.evaluation.entity.PromotionAnalysisJob;
+import com.c4.hero.domain.evaluation.entity.PromotionAnalysisJobStatus;
+
+import java.time.LocalDateTime;
+
+/**
+ * <pre>
+ * Class Name: PromotionAnalysisJobResponseDTO
+ * Description: 승진 추천 AI 분석 작업 상태/진행 현황 응답 DTO
+ *
+ * - 작업 등록/상태 조회 API 응답
+ * - STOMP(/topic/evaluation/promotion-analysis/{jobId}) 진행 현황 메시지
+ *
+ * History
+ * 2026/10/18 (김승민) 최초 작성
+ * </pre>
+ *
+ * @author 김승민
+ *
+ * @param jobId            작업 ID
+ * @param promotionId      승진 계획 ID
+ * @param status           작업 상태 (QUEUED / RUNNING / COMPLETED / FAILED)
+ * @param candidateCount   분석 대상 후보자 수
+ * @param totalBatches     AI 서버 요청 배치 수
+ * @param completedBatches 완료 배치 수
+ * @param failedBatches    실패 배치 수
+ * @param analyzedCount    분석 결과가 저장된 후보자 수
+ * @param errorMessage     작업 실패 사유
+ * @param createdAt        등록 일시
+ * @param startedAt        실행 시작 일시
+ * @param finishedAt       종료 일시
+ */
+public record PromotionAnalysisJobResponseDTO(
+        Long jobId,
+        Integer promotionId,
+        PromotionAnalysisJobStatus status,
+        int candidateCount,
+        int totalBatches,
+        int completedBatches,
+        int failedBatches,
+        int analyzedCount,
+        String errorMessage,
+        LocalDateTime createdAt,
+        LocalDateTime startedAt,
+        LocalDateTime finishedAt
+) {
+
+    /**
+     * 엔티티 → 응답 DTO 변환
+     *
+     * @param job 작업 엔티티
+     * @return 응답 DTO
+     */
+    public static PromotionAnalysisJobResponseDTO from(PromotionAnalysisJob job) {
+        return new PromotionAnalysisJobResponseDTO(
+                job.getJobId(),
+                job.getPromotionId(),
+                job.getStatus(),
+                job.getCandidateCount(),
+                job.getTotalBatches(),
+                job.getCompletedBatches(),
+                job.getFailedBatches(),
+                job.getAnalyzedCount(),
+                job.getErrorMessage(),
+                job.getCreatedAt(),
+                job.getStartedAt(),
+                job.getFinishedAt()
+        );
+    }
+}
@@ -0,0 +1,61 @@
+package com.c4.hero.domain.evaluation.dto.ai.promotion;
+
+import com.c4.hero.domain.evaluation.entity.PromotionAnalysisResult;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * <pre>
+ * Class Name: PromotionAnalysisResultDTO
+ * Description: 저장된 승진 추천 AI 분석 결과 DTO (승진 심사 화면 / 부분 결과 스트리밍)
+ *
+ * History
+ * 2026/10/18 (김승민) 최초 작성
+ * </pre>
+ *
+ * @author 김승민
+ */
+
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class PromotionAnalysisResultDTO {
+
+    private Integer employeeId;
+
+    private String currentGrade;
+
+    private String recommendedGrade;
+
+    private Float growthRate;
+
+    private List<String> coreCompetencies;
+
+    private String reason;
+
+    private LocalDateTime analyzedAt;
+
+    /**
+     * 엔티티 → DTO 변환
+     *
+     * @param result 분석 결과 엔티티
+     * @return 분석 결과 DTO
+     */
+    public static PromotionAnalysisResultDTO from(PromotionAnalysisResult result) {
+        return PromotionAnalysisResultDTO.builder()
+                .employeeId(result.getEmployeeId())
+                .currentGrade(result.getCurrentGrade())
+                .recommendedGrade(result.getRecommendedGrade())
+                .growthRate(result.getGrowthRate())
+                .coreCompetencies(result.getCoreCompetencyList())
+                .reason(result.getReason())
+                .analyzedAt(result.getAnalyzedAt())
+                .build();
+    }
+}
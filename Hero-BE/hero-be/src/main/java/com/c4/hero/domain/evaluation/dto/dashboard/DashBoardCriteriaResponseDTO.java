@@ -1,5 +1,6 @@
 package com.c4.hero.domain.evaluation.dto.dashboard;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
@@ -11,6 +12,7 @@ import lombok.NoArgsConstructor;
  *
  * History
  * 2025/12/17 (김승민) 최초 작성
+ * 2026/10/18 (김승민) 분할 조회 결과 조립용 상위 키 추가
  * </pre>
  *
  * @author 김승민
@@ -23,6 +25,10 @@ public class DashBoardCriteriaResponseDTO {
 
     private Integer criteriaId;
 
+    /** 템플릿 항목 ID (조회 결과 조립용) */
+    @JsonIgnore
+    private Integer itemId;
+
     private String criteriaRank;
 
     private String criteriaDescription;
@@ -1,5 +1,6 @@
 package com.c4.hero.domain.evaluation.dto.dashboard;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
@@ -14,6 +15,7 @@ import java.util.List;
  *
  * History
  * 2025/12/17 (김승민) 최초 작성
+ * 2026/10/18 (김승민) 분할 조회 결과 조립용 상위 키 추가
  * </pre>
  *
  * @author 김승민
@@ -26,6 +28,10 @@ public class DashBoardEvaluateeResponseDTO {
 
     private Integer evaluationFormId;
 
+    /** 평가 ID (조회 결과 조립용) */
+    @JsonIgnore
+    private Integer evaluationId;
+
     private Integer evaluationEvaluateeId;
 
     private String evaluationEvaluateeName;
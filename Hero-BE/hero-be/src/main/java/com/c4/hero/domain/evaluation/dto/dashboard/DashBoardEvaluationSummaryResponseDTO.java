@@ -0,0 +1,70 @@
+package com.c4.hero.domain.evaluation.dto.dashboard;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * <pre>
+ * Class Name: DashBoardEvaluationSummaryResponseDTO
+ * Description: 대시보드 목록 출력을 위한 평가별 요약 응답 데이터 DTO
+ *
+ * - 평가서/항목 점수를 불러오지 않고 미리 집계된 요약(tbl_evaluation_dashboard_summary)만 사용
+ *
+ * History
+ * 2026/10/18 (김승민) 최초 작성
+ * </pre>
+ *
+ * @author 김승민
+ */
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class DashBoardEvaluationSummaryResponseDTO {
+
+    private Integer evaluationId;
+
+    /** 평가 템플릿 ID (조회 결과 조립용) */
+    @JsonIgnore
+    private Integer evaluationTemplateId;
+
+    private String evaluationName;
+
+    private Integer evaluationManagerId;
+
+    private String evaluationManagerName;
+
+    private Integer evaluationDepartmentId;
+
+    private String evaluationDepartmentName;
+
+    private Float evaluationTotalScore;
+
+    private String evaluationTotalRank;
+
+    private Integer evaluateeCount;
+
+    private Integer gradedCount;
+
+    private Float averageScore;
+
+    private Float minScore;
+
+    private Float maxScore;
+
+    private Integer rankSCount;
+
+    private Integer rankACount;
+
+    private Integer rankBCount;
+
+    private Integer rankCCount;
+
+    private Integer rankFCount;
+
+    private LocalDateTime refreshedAt;
+}
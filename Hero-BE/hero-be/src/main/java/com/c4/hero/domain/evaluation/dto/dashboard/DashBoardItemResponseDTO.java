@@ -1,5 +1,6 @@
 package com.c4.hero.domain.evaluation.dto.dashboard;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
@@ -13,6 +14,7 @@ import java.util.List;
  *
  * History
  * 2025/12/17 (김승민) 최초 작성
+ * 2026/10/18 (김승민) 분할 조회 결과 조립용 상위 키 추가
  * </pre>
  *
  * @author 김승민
@@ -25,6 +27,14 @@ public class DashBoardItemResponseDTO {
 
     private Integer evaluationItemId;
 
+    /** 평가 ID (조회 결과 조립용) */
+    @JsonIgnore
+    private Integer evaluationId;
+
+    /** 템플릿 항목 ID (평가 기준 조립용) */
+    @JsonIgnore
+    private Integer templateItemId;
+
     private String evaluationItemName;
 
     private String evaluationItemDescription;
@@ -0,0 +1,42 @@
+package com.c4.hero.domain.evaluation.dto.dashboard;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * <pre>
+ * Class Name: DashBoardSummaryResponseDTO
+ * Description: 대시보드 목록 출력을 위한 평가 템플릿별 요약 응답 데이터 DTO
+ *
+ * History
+ * 2026/10/18 (김승민) 최초 작성
+ * </pre>
+ *
+ * @author 김승민
+ */
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class DashBoardSummaryResponseDTO {
+
+    private Integer evaluationTemplateId;
+
+    private String evaluationTemplateName;
+
+    private Integer evaluationTemplateType;
+
+    private Integer evaluationPeriodId;
+
+    private String evaluationPeriodName;
+
+    private LocalDateTime evaluationPeriodStart;
+
+    private LocalDateTime evaluationPeriodEnd;
+
+    private List<DashBoardEvaluationSummaryResponseDTO> evaluations;
+}
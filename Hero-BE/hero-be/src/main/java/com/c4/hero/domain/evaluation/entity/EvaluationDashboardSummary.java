@@ -0,0 +1,93 @@
+package com.c4.hero.domain.evaluation.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Immutable;
+
+import java.time.LocalDateTime;
+
+/**
+ * <pre>
+ * Class Name: EvaluationDashboardSummary
+ * Description: tbl_evaluation_dashboard_summary 테이블과 매칭되는 평가별 대시보드 요약 엔티티
+ *
+ * - 평가서 작성/채점 시 평가 단위로 재집계 (EvaluationDashBoardService.refreshSummary)
+ * - 요약이 없는 기존 평가는 스케줄러가 보충 (EvaluationScheduler.backfillDashboardSummaries)
+ * - 쓰기는 MyBatis(DashBoardMapper)에서만 수행하므로 JPA 에서는 읽기 전용
+ *
+ * History
+ * 2026/10/18 (김승민) 최초 작성
+ * </pre>
+ *
+ * @author 김승민
+ */
+
+@Entity
+@Immutable
+@Table(
+        name = "tbl_evaluation_dashboard_summary",
+        indexes = @Index(name = "idx_evaluation_dashboard_summary_template", columnList = "template_id")
+)
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Getter
+public class EvaluationDashboardSummary {
+
+    /** 평가 ID (평가당 1행) */
+    @Id
+    @Column(name = "evaluation_id")
+    private Integer evaluationId;
+
+    /** 평가 템플릿 ID */
+    @Column(name = "template_id", nullable = false)
+    private Integer templateId;
+
+    /** 피평가자(평가서) 수 */
+    @Column(name = "evaluatee_count", nullable = false)
+    private Integer evaluateeCount;
+
+    /** 채점 완료 평가서 수 */
+    @Column(name = "graded_count", nullable = false)
+    private Integer gradedCount;
+
+    /** 평균 점수 (채점된 평가서가 없으면 null) */
+    @Column(name = "average_score")
+    private Float averageScore;
+
+    /** 최저 점수 */
+    @Column(name = "min_score")
+    private Float minScore;
+
+    /** 최고 점수 */
+    @Column(name = "max_score")
+    private Float maxScore;
+
+    /** S 등급 수 */
+    @Column(name = "s_count", nullable = false)
+    private Integer sCount;
+
+    /** A 등급 수 */
+    @Column(name = "a_count", nullable = false)
+    private Integer aCount;
+
+    /** B 등급 수 */
+    @Column(name = "b_count", nullable = false)
+    private Integer bCount;
+
+    /** C 등급 수 */
+    @Column(name = "c_count", nullable = false)
+    private Integer cCount;
+
+    /** F 등급 수 */
+    @Column(name = "f_count", nullable = false)
+    private Integer fCount;
+
+    /** 마지막 집계 일시 */
+    @Column(name = "refreshed_at", nullable = false)
+    private LocalDateTime refreshedAt;
+}
@@ -0,0 +1,139 @@
+package com.c4.hero.domain.evaluation.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * <pre>
+ * Class Name: PromotionAnalysisJob
+ * Description: tbl_promotion_analysis_job 테이블과 매칭되는 승진 추천 AI 분석 작업 엔티티
+ *
+ * - 승진 계획의 추천 후보자를 배치로 나누어 AI 서버에 분석 요청
+ * - 배치 단위 진행 현황(total/completed/failed) 보관
+ *
+ * History
+ * 2026/10/18 (김승민) 최초 작성
+ * </pre>
+ *
+ * @author 김승민
+ */
+
+@Entity
+@Table(name = "tbl_promotion_analysis_job")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class PromotionAnalysisJob {
+
+    private static final int MAX_ERROR_MESSAGE_LENGTH = 500;
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "job_id")
+    private Long jobId;
+
+    @Column(name = "promotion_id", nullable = false)
+    private Integer promotionId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false)
+    private PromotionAnalysisJobStatus status;
+
+    @Column(name = "candidate_count")
+    private int candidateCount;
+
+    @Column(name = "total_batches")
+    private int totalBatches;
+
+    @Column(name = "completed_batches")
+    private int completedBatches;
+
+    @Column(name = "failed_batches")
+    private int failedBatches;
+
+    @Column(name = "analyzed_count")
+    private int analyzedCount;
+
+    @Column(name = "requested_by")
+    private Integer requestedBy;
+
+    @Column(name = "error_message", length = MAX_ERROR_MESSAGE_LENGTH)
+    private String errorMessage;
+
+    @Column(name = "created_at")
+    private LocalDateTime createdAt;
+
+    @Column(name = "started_at")
+    private LocalDateTime startedAt;
+
+    @Column(name = "finished_at")
+    private LocalDateTime finishedAt;
+
+    /**
+     * 분석 작업 등록
+     *
+     * @param promotionId 승진 계획 ID
+     * @param requestedBy 요청자 사원 ID
+     * @return QUEUED 상태 작업
+     */
+    public static PromotionAnalysisJob queued(Integer promotionId, Integer requestedBy) {
+        PromotionAnalysisJob job = new PromotionAnalysisJob();
+        job.promotionId = promotionId;
+        job.status = PromotionAnalysisJobStatus.QUEUED;
+        job.requestedBy = requestedBy;
+        job.createdAt = LocalDateTime.now();
+        return job;
+    }
+
+    /**
+     * 실행 시작
+     *
+     * @param candidateCount 분석 대상 후보자 수
+     * @param totalBatches   AI 서버 요청 배치 수
+     */
+    public void start(int candidateCount, int totalBatches) {
+        this.status = PromotionAnalysisJobStatus.RUNNING;
+        this.candidateCount = candidateCount;
+        this.totalBatches = totalBatches;
+        this.startedAt = LocalDateTime.now();
+    }
+
+    /**
+     * 배치 분석 결과 저장 완료
+     *
+     * @param analyzed 배치에서 분석된 후보자 수
+     */
+    public void batchCompleted(int analyzed) {
+        this.completedBatches++;
+        this.analyzedCount += analyzed;
+    }
+
+    /**
+     * 배치 분석 실패
+     */
+    public void batchFailed() {
+        this.failedBatches++;
+    }
+
+    /**
+     * 작업 완료
+     */
+    public void complete() {
+        this.status = PromotionAnalysisJobStatus.COMPLETED;
+        this.finishedAt = LocalDateTime.now();
+    }
+
+    /**
+     * 작업 실패
+     *
+     * @param message 실패 사유
+     */
+    public void fail(String message) {
+        this.status = PromotionAnalysisJobStatus.FAILED;
+        this.errorMessage = message != null && message.length() > MAX_ERROR_MESSAGE_LENGTH
+                ? message.substring(0, MAX_ERROR_MESSAGE_LENGTH)
+                : message;
+        this.finishedAt = LocalDateTime.now();
+    }
+}
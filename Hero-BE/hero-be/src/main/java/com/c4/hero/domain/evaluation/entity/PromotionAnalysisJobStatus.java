@@ -0,0 +1,39 @@
+package com.c4.hero.domain.evaluation.entity;
+
+/**
+ * <pre>
+ * Enum Name: PromotionAnalysisJobStatus
+ * Description: 승진 추천 AI 분석 작업 상태
+ *
+ * 상태 흐름
+ * QUEUED -> RUNNING -> COMPLETED / FAILED
+ *
+ * History
+ * 2026/10/18 (김승민) 최초 작성
+ * </pre>
+ *
+ * @author 김승민
+ */
+public enum PromotionAnalysisJobStatus {
+
+    /** 실행 대기 */
+    QUEUED,
+
+    /** 실행 중 (배치별 분석 결과가 저장되는 중) */
+    RUNNING,
+
+    /** 실행 완료 (일부 배치 실패 포함) */
+    COMPLETED,
+
+    /** 실행 실패 */
+    FAILED;
+
+    /**
+     * 종료 상태 여부
+     *
+     * @return true = COMPLETED / FAILED
+     */
+    public boolean isFinished() {
+        return this == COMPLETED || this == FAILED;
+    }
+}
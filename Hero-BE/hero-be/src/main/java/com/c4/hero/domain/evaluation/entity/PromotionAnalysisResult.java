@@ -0,0 +1,118 @@
+package com.c4.hero.domain.evaluation.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * <pre>
+ * Class Name: PromotionAnalysisResult
+ * Description: tbl_promotion_analysis_result 테이블과 매칭되는 승진 추천 AI 분석 결과 엔티티
+ *
+ * - 승진 계획 + 사원당 최신 분석 결과 1건 (재분석 시 교체)
+ * - 승진 심사 화면은 AI 서버를 호출하지 않고 이 결과를 조회
+ *
+ * History
+ * 2026/10/18 (김승민) 최초 작성
+ * </pre>
+ *
+ * @author 김승민
+ */
+
+@Entity
+@Table(
+        name = "tbl_promotion_analysis_result",
+        uniqueConstraints = @UniqueConstraint(columnNames = {"promotion_id", "employee_id"})
+)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class PromotionAnalysisResult {
+
+    private static final String COMPETENCY_DELIMITER = "\n";
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "result_id")
+    private Long resultId;
+
+    @Column(name = "promotion_id", nullable = false)
+    private Integer promotionId;
+
+    @Column(name = "employee_id", nullable = false)
+    private Integer employeeId;
+
+    @Column(name = "job_id", nullable = false)
+    private Long jobId;
+
+    @Column(name = "current_grade")
+    private String currentGrade;
+
+    @Column(name = "recommended_grade")
+    private String recommendedGrade;
+
+    @Column(name = "growth_rate")
+    private Float growthRate;
+
+    /** 핵심 역량 (줄바꿈 구분) */
+    @Column(name = "core_competencies", columnDefinition = "TEXT")
+    private String coreCompetencies;
+
+    @Column(name = "reason", columnDefinition = "TEXT")
+    private String reason;
+
+    @Column(name = "analyzed_at")
+    private LocalDateTime analyzedAt;
+
+    /**
+     * 분석 결과 생성
+     *
+     * @param jobId       분석 작업 ID
+     * @param promotionId 승진 계획 ID
+     * @param employeeId  사원 ID
+     * @param currentGrade     현재 직급
+     * @param recommendedGrade 추천 직급
+     * @param growthRate       성장률
+     * @param coreCompetencies 핵심 역량 목록
+     * @param reason           추천 사유
+     * @return 분석 결과
+     */
+    public static PromotionAnalysisResult of(
+            Long jobId,
+            Integer promotionId,
+            Integer employeeId,
+            String currentGrade,
+            String recommendedGrade,
+            Float growthRate,
+            List<String> coreCompetencies,
+            String reason
+    ) {
+        PromotionAnalysisResult result = new PromotionAnalysisResult();
+        result.jobId = jobId;
+        result.promotionId = promotionId;
+        result.employeeId = employeeId;
+        result.currentGrade = currentGrade;
+        result.recommendedGrade = recommendedGrade;
+        result.growthRate = growthRate;
+        result.coreCompetencies = coreCompetencies == null || coreCompetencies.isEmpty()
+                ? null
+                : String.join(COMPETENCY_DELIMITER, coreCompetencies);
+        result.reason = reason;
+        result.analyzedAt = LocalDateTime.now();
+        return result;
+    }
+
+    /**
+     * 핵심 역량 목록 복원
+     *
+     * @return 핵심 역량 목록
+     */
+    public List<String> getCoreCompetencyList() {
+        if (coreCompetencies == null || coreCompetencies.isBlank()) return List.of();
+        return Arrays.stream(coreCompetencies.split(COMPETENCY_DELIMITER))
+                .filter(s -> !s.isBlank())
+                .toList();
+    }
+}
@@ -0,0 +1,17 @@
+package com.c4.hero.domain.evaluation.event;
+
+/**
+ * <pre>
+ * Class Name: PromotionAnalysisJobSubmittedEvent
+ * Description: 승진 추천 AI 분석 작업 등록 이벤트 (등록 트랜잭션 커밋 후 실행 요청)
+ *
+ * History
+ * 2026/10/18 (김승민) 최초 작성
+ * </pre>
+ *
+ * @author 김승민
+ *
+ * @param jobId 작업 ID
+ */
+public record PromotionAnalysisJobSubmittedEvent(Long jobId) {
+}
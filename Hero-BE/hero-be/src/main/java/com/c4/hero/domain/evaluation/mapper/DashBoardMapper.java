@@ -1,9 +1,16 @@
 package com.c4.hero.domain.evaluation.mapper;
 
+import com.c4.hero.domain.evaluation.dto.dashboard.DashBoardCriteriaResponseDTO;
+import com.c4.hero.domain.evaluation.dto.dashboard.DashBoardEvaluateeResponseDTO;
+import com.c4.hero.domain.evaluation.dto.dashboard.DashBoardEvaluationResponseDTO;
+import com.c4.hero.domain.evaluation.dto.dashboard.DashBoardEvaluationSummaryResponseDTO;
+import com.c4.hero.domain.evaluation.dto.dashboard.DashBoardFormItemResponseDTO;
+import com.c4.hero.domain.evaluation.dto.dashboard.DashBoardItemResponseDTO;
 import com.c4.hero.domain.evaluation.dto.dashboard.DashBoardResponseDTO;
 import org.apache.ibatis.annotations.Mapper;
 import org.apache.ibatis.annotations.Param;
 
+import java.util.Collection;
 import java.util.List;
 
 
@@ -12,8 +19,12 @@ import java.util.List;
  * Class Name: DashBoardMapper
  * Description: Mybatis 사용을 위한 대시보드 매퍼
  *
+ * - 대시보드 데이터는 템플릿 → 평가 → 평가 항목/평가 기준 → 평가서 → 평가서 항목 순으로
+ *   상위 키(IN 조건)로 나누어 조회하고 서비스에서 조립 (EvaluationDashBoardService)
+ *
  * History
  * 2025/12/17 (김승민) 최초 작성
+ * 2026/10/18 (김승민) 단일 조인 조회를 키 단위 분할 조회로 변경, 평가별 요약 집계 추가
  * </pre>
  *
  * @author 김승민
@@ -21,7 +32,46 @@ import java.util.List;
 
 @Mapper
 public interface DashBoardMapper {
-    List<DashBoardResponseDTO> selectAllDashBoard();
 
-    List<DashBoardResponseDTO> selectDashBoard(@Param("departmentId") Integer id);
+    /**
+     * 대시보드 대상 템플릿 ID 조회 (최신순)
+     * @param departmentId 평가 담당자 부서 ID (null 이면 전체)
+     * @param offset       시작 위치 (size 가 null 이면 무시)
+     * @param size         조회 건수 (null 이면 전체)
+     */
+    List<Integer> selectDashBoardTemplateIds(
+            @Param("departmentId") Integer departmentId,
+            @Param("offset") Integer offset,
+            @Param("size") Integer size
+    );
+
+    long countDashBoardTemplates(@Param("departmentId") Integer departmentId);
+
+    List<DashBoardResponseDTO> selectDashBoardTemplates(@Param("templateIds") Collection<Integer> templateIds);
+
+    List<DashBoardEvaluationResponseDTO> selectDashBoardEvaluations(
+            @Param("templateIds") Collection<Integer> templateIds,
+            @Param("departmentId") Integer departmentId
+    );
+
+    List<DashBoardItemResponseDTO> selectDashBoardItems(@Param("evaluationIds") Collection<Integer> evaluationIds);
+
+    List<DashBoardCriteriaResponseDTO> selectDashBoardCriterias(@Param("itemIds") Collection<Integer> itemIds);
+
+    List<DashBoardEvaluateeResponseDTO> selectDashBoardEvaluatees(@Param("evaluationIds") Collection<Integer> evaluationIds);
+
+    List<DashBoardFormItemResponseDTO> selectDashBoardFormItems(@Param("formIds") Collection<Integer> formIds);
+
+    List<DashBoardEvaluationSummaryResponseDTO> selectDashBoardSummaries(
+            @Param("templateIds") Collection<Integer> templateIds,
+            @Param("departmentId") Integer departmentId
+    );
+
+    /** 평가별 요약 재집계 (없으면 생성) */
+    int upsertEvaluationSummaries(@Param("evaluationIds") Collection<Integer> evaluationIds);
+
+    /** 요약이 아직 없는 평가만 집계 (기존 데이터 보정, 스케줄러 전용) */
+    int insertMissingEvaluationSummaries();
+
+    int deleteEvaluationSummary(@Param("evaluationId") Integer evaluationId);
 }
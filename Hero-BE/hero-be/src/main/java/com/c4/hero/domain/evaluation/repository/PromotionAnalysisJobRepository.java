@@ -0,0 +1,39 @@
+package com.c4.hero.domain.evaluation.repository;
+
+import com.c4.hero.domain.evaluation.entity.PromotionAnalysisJob;
+import com.c4.hero.domain.evaluation.entity.PromotionAnalysisJobStatus;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+
+/**
+ * <pre>
+ * Class Name: PromotionAnalysisJobRepository
+ * Description: 승진 추천 AI 분석 작업 저장소
+ *
+ * History
+ * 2026/10/18 (김승민) 최초 작성
+ * </pre>
+ *
+ * @author 김승민
+ */
+
+@Repository
+public interface PromotionAnalysisJobRepository extends JpaRepository<PromotionAnalysisJob, Long> {
+
+    /**
+     * 승진 계획에 진행 중(대기/실행) 작업이 있는지 확인
+     *
+     * @param promotionId  승진 계획 ID
+     * @param statuses     진행 중 상태 목록
+     * @param createdAfter 이 시각 이후 등록된 작업만 확인 (노드 중단으로 멈춘 작업 제외)
+     * @return 존재 여부
+     */
+    boolean existsByPromotionIdAndStatusInAndCreatedAtAfter(
+            Integer promotionId,
+            Collection<PromotionAnalysisJobStatus> statuses,
+            LocalDateTime createdAfter
+    );
+}
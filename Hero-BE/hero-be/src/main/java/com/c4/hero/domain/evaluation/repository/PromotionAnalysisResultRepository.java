@@ -0,0 +1,53 @@
+package com.c4.hero.domain.evaluation.repository;
+
+import com.c4.hero.domain.evaluation.entity.PromotionAnalysisResult;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * <pre>
+ * Class Name: PromotionAnalysisResultRepository
+ * Description: 승진 추천 AI 분석 결과 저장소
+ *
+ * History
+ * 2026/10/18 (김승민) 최초 작성
+ * </pre>
+ *
+ * @author 김승민
+ */
+
+@Repository
+public interface PromotionAnalysisResultRepository extends JpaRepository<PromotionAnalysisResult, Long> {
+
+    /**
+     * 승진 계획의 분석 결과 조회
+     *
+     * @param promotionId 승진 계획 ID
+     * @return 사원별 분석 결과
+     */
+    List<PromotionAnalysisResult> findByPromotionId(Integer promotionId);
+
+    /**
+     * 재분석 대상 사원의 기존 결과 삭제
+     *
+     * @param promotionId 승진 계획 ID
+     * @param employeeIds 사원 ID 목록
+     * @return 삭제 건수
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("""
+        delete from PromotionAnalysisResult r
+         where r.promotionId = :promotionId
+           and r.employeeId in :employeeIds
+        """)
+    int deleteByPromotionIdAndEmployeeIdIn(
+            @Param("promotionId") Integer promotionId,
+            @Param("employeeIds") Collection<Integer> employeeIds
+    );
+}
@@ -1,8 +1,11 @@
 package com.c4.hero.domain.evaluation.scheduler;
 
 import com.c4.hero.domain.evaluation.repository.EvaluationTemplateRepository;
+import com.c4.hero.domain.evaluation.service.EvaluationDashBoardService;
 import com.c4.hero.domain.evaluation.service.EvaluationService;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import net.javacrumbs.shedlock.spring.annotation.SchedulerLock;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
@@ -11,20 +14,23 @@ import java.util.List;
 /**
  * <pre>
  * Class Name: EvaluationScheduler
- * Description: 평가의 등급 자동 확정 스케줄러
+ * Description: 평가의 등급 자동 확정 / 대시보드 요약 보충 스케줄러
  *
  * History
  * 2025/12/24 (김승민) 최초 작성
+ * 2026/10/18 (김승민) 평가 대시보드 요약 보충 추가 (목록 조회 시 보정 제거)
  * </pre>
  *
  * @author 김승민
  */
+@Slf4j
 @Component
 @RequiredArgsConstructor
 public class EvaluationScheduler {
 
     private final EvaluationTemplateRepository templateRepository;
     private final EvaluationService evaluationService;
+    private final EvaluationDashBoardService dashBoardService;
 
     /**
      * 매일 자정 평가 자동 확정
@@ -41,4 +47,18 @@ public class EvaluationScheduler {
             evaluationService.finalizeEvaluationByTemplate(templateId);
         }
     }
+
+    /**
+     * 요약이 없는 평가의 대시보드 요약 보충
+     *  - 기동 1분 후 한 번 실행해 기존 평가를 채우고, 이후 하루 한 번 누락분만 보충
+     *  - 평가서 작성/채점 시에는 요약이 바로 재집계되므로 대부분 변경 없음
+     */
+    @Scheduled(initialDelay = 60_000, fixedDelay = 86_400_000)
+    @SchedulerLock(name = "backfillEvaluationDashboardSummaries", lockAtLeastFor = "PT30S", lockAtMostFor = "PT30M")
+    public void backfillDashboardSummaries() {
+        int rows = dashBoardService.backfillMissingSummaries();
+        if (rows > 0) {
+            log.info("평가 대시보드 요약 보충 완료. rows={}", rows);
+        }
+    }
 }
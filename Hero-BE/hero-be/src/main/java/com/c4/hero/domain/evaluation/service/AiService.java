@@ -1,17 +1,21 @@
 package com.c4.hero.domain.evaluation.service;
 
+import com.c4.hero.common.ai.AiGateway;
 import com.c4.hero.domain.evaluation.dto.ai.analysis.AiFormItemFastApiDTO;
 import com.c4.hero.domain.evaluation.dto.ai.analysis.MemberAnalysisFastApiRequestDTO;
 import com.c4.hero.domain.evaluation.dto.ai.analysis.MemberAnalysisRequestDTO;
 import com.c4.hero.domain.evaluation.dto.ai.analysis.MemberAnalysisResponseDTO;
 import com.c4.hero.domain.evaluation.dto.ai.promotion.PromotionCandidateResponseDTO;
 import com.c4.hero.domain.evaluation.dto.ai.violation.GuideViolationResponseDTO;
-import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.web.reactive.function.client.WebClient;
 
+import java.time.Duration;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * <pre>
@@ -20,27 +24,49 @@ import java.util.Map;
  *
  * History
  * 2025/12/30 (김승민) 최초 작성
+ * 2026/10/18 (김승민) block() 호출 제거, AiGateway(동시 호출 제한/타임아웃/서킷 브레이커/결과 캐시) 경유로 변경
  * </pre>
  *
  * @author 김승민
  */
 
 @Service
-@RequiredArgsConstructor
 public class AiService {
 
     /** 설정 클래스 의존성 주입 */
     private final WebClient aiWebClient;
 
+    /** AI 서버 호출 게이트웨이 */
+    private final AiGateway aiGateway;
+
+    /** 작업별 호출 타임아웃 */
+    private final Duration memberTimeout;
+    private final Duration violationTimeout;
+    private final Duration promotionTimeout;
+
+    public AiService(
+            WebClient aiWebClient,
+            AiGateway aiGateway,
+            @Value("${ai.gateway.timeout.member:PT60S}") Duration memberTimeout,
+            @Value("${ai.gateway.timeout.violation:PT60S}") Duration violationTimeout,
+            @Value("${ai.gateway.timeout.promotion:PT120S}") Duration promotionTimeout
+    ) {
+        this.aiWebClient = aiWebClient;
+        this.aiGateway = aiGateway;
+        this.memberTimeout = memberTimeout;
+        this.violationTimeout = violationTimeout;
+        this.promotionTimeout = promotionTimeout;
+    }
+
     /**
      * 파이썬 서버에 사원 분석을 요청하는 로직
      *
      * @param request MemberAnalysisRequestDTO
      *        요청한 사원 분석 데이터
      * @return MemberAnalysisResponseDTO
-     *        응답하는 사원 분석 결과 데이터
+     *        응답하는 사원 분석 결과 데이터 (같은 요청 내용이면 캐시된 결과)
      */
-    public MemberAnalysisResponseDTO analyzeMember(MemberAnalysisRequestDTO request) {
+    public CompletableFuture<MemberAnalysisResponseDTO> analyzeMember(MemberAnalysisRequestDTO request) {
 
         if (request.getFormItems() == null || request.getFormItems().isEmpty()) {
             throw new IllegalArgumentException("AI 분석 요청에 formItems가 없습니다.");
@@ -67,17 +93,15 @@ public class AiService {
                 }).toList()
         );
 
-        return aiWebClient.post()
-                .uri("/api/analyze/member")
-                .bodyValue(fastApiRequest)
-                .retrieve()
-                .onStatus(
-                        status -> status.is4xxClientError() || status.is5xxServerError(),
-                        response -> response.bodyToMono(String.class)
-                                .map(body -> new RuntimeException("AI 서버 오류: " + body))
-                )
-                .bodyToMono(MemberAnalysisResponseDTO.class)
-                .block();
+        return aiGateway.call(
+                aiGateway.cacheKey("member", fastApiRequest),
+                memberTimeout,
+                () -> aiWebClient.post()
+                        .uri("/api/analyze/member")
+                        .bodyValue(fastApiRequest)
+                        .retrieve()
+                        .bodyToMono(MemberAnalysisResponseDTO.class)
+        );
     }
 
 
@@ -90,19 +114,22 @@ public class AiService {
      *        평가 템플릿 데이터
      * @return List<GuideViolationResponseDTO>
      */
-    public List<GuideViolationResponseDTO> analyzeViolation(String guide, Map<String, Object> template) {
-        return aiWebClient.post()
-                .uri("/api/analyze/violation")
-                .bodyValue(
-                        Map.of(
-                                "guide", guide,
-                                "template", template
-                        )
-                )
-                .retrieve()
-                .bodyToFlux(GuideViolationResponseDTO.class)
-                .collectList()
-                .block();
+    public CompletableFuture<List<GuideViolationResponseDTO>> analyzeViolation(String guide, Map<String, Object> template) {
+        // 캐시 키가 항상 같은 직렬화 결과가 되도록 순서가 고정된 Map 사용
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("guide", guide);
+        body.put("template", template);
+
+        return aiGateway.call(
+                aiGateway.cacheKey("violation", body),
+                violationTimeout,
+                () -> aiWebClient.post()
+                        .uri("/api/analyze/violation")
+                        .bodyValue(body)
+                        .retrieve()
+                        .bodyToFlux(GuideViolationResponseDTO.class)
+                        .collectList()
+        );
     }
 
 
@@ -113,16 +140,19 @@ public class AiService {
      *       대시보드에 사용될 평가 데이터
      * @return List<PromotionCandidateResponseDTO>
      */
-    public List<PromotionCandidateResponseDTO> analyzePromotion(
+    public CompletableFuture<List<PromotionCandidateResponseDTO>> analyzePromotion(
             List<Object> dashboardData
     ) {
-        return aiWebClient.post()
-                .uri("/api/analyze/promotion")
-                .bodyValue(dashboardData)
-                .retrieve()
-                .bodyToFlux(PromotionCandidateResponseDTO.class)
-                .collectList()
-                .block();
+        return aiGateway.call(
+                aiGateway.cacheKey("promotion", dashboardData),
+                promotionTimeout,
+                () -> aiWebClient.post()
+                        .uri("/api/analyze/promotion")
+                        .bodyValue(dashboardData)
+                        .retrieve()
+                        .bodyToFlux(PromotionCandidateResponseDTO.class)
+                        .collectList()
+        );
     }
 
 }
@@ -0,0 +1,247 @@
+package com.c4.hero.domain.evaluation.service;
+
+import com.c4.hero.common.exception.BusinessException;
+import com.c4.hero.common.exception.ErrorCode;
+import com.c4.hero.common.response.PageResponse;
+import com.c4.hero.domain.evaluation.dto.dashboard.DashBoardCriteriaResponseDTO;
+import com.c4.hero.domain.evaluation.dto.dashboard.DashBoardEvaluateeResponseDTO;
+import com.c4.hero.domain.evaluation.dto.dashboard.DashBoardEvaluationResponseDTO;
+import com.c4.hero.domain.evaluation.dto.dashboard.DashBoardEvaluationSummaryResponseDTO;
+import com.c4.hero.domain.evaluation.dto.dashboard.DashBoardFormItemResponseDTO;
+import com.c4.hero.domain.evaluation.dto.dashboard.DashBoardItemResponseDTO;
+import com.c4.hero.domain.evaluation.dto.dashboard.DashBoardResponseDTO;
+import com.c4.hero.domain.evaluation.dto.dashboard.DashBoardSummaryResponseDTO;
+import com.c4.hero.domain.evaluation.mapper.DashBoardMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * <pre>
+ * Class Name: EvaluationDashBoardService
+ * Description: 평가 대시보드 조회 서비스 로직 처리
+ *
+ * 조회 순서 (각 단계는 앞 단계의 키로 IN 조회, 결과는 메모리에서 조립)
+ * 1. 템플릿 ID (페이지 단위) → 2. 템플릿/평가 기간 → 3. 평가 → 4. 평가 항목 → 5. 평가 기준
+ * → 6. 평가서(피평가자) → 7. 평가서 항목/점수
+ *
+ * - 대시보드 목록은 평가서/항목 점수 대신 평가별 요약(tbl_evaluation_dashboard_summary)만 조회
+ * - 요약은 평가서 작성/채점 시 재집계, 요약이 없는 기존 평가는 스케줄러에서 보충 (목록 조회는 읽기 전용)
+ *
+ * History
+ * 2026/10/18 (김승민) 최초 작성
+ * 2026/10/18 (김승민) 요약 보충을 목록 조회에서 스케줄러로 이동
+ * </pre>
+ *
+ * @author 김승민
+ */
+@Service
+@RequiredArgsConstructor
+public class EvaluationDashBoardService {
+
+    /** IN 조건 한 번에 넣는 최대 키 개수 */
+    private static final int IN_CHUNK_SIZE = 1000;
+
+    /** 한 페이지 최대 템플릿 수 */
+    private static final int MAX_PAGE_SIZE = 50;
+
+    /** 대시보드 데이터 mapper 의존성 주입 */
+    private final DashBoardMapper dashBoardMapper;
+
+    /**
+     * 대시보드 데이터 전체 조회 (평가 항목/평가 기준 포함)
+     *
+     * @param departmentId 평가 담당자 부서 ID (null 이면 전체 부서)
+     * @return 템플릿별 대시보드 데이터
+     */
+    @Transactional(readOnly = true)
+    public List<DashBoardResponseDTO> getDashBoard(Integer departmentId) {
+        List<Integer> templateIds = dashBoardMapper.selectDashBoardTemplateIds(departmentId, null, null);
+        return assemble(templateIds, departmentId, true);
+    }
+
+    /**
+     * 대시보드 데이터 템플릿 단위 페이징 조회
+     *
+     * @param departmentId 평가 담당자 부서 ID (null 이면 전체 부서)
+     * @param page         페이지 번호 (0부터 시작)
+     * @param size         페이지당 템플릿 수
+     * @return 템플릿별 대시보드 데이터 페이지
+     */
+    @Transactional(readOnly = true)
+    public PageResponse<DashBoardResponseDTO> getDashBoardPage(Integer departmentId, int page, int size) {
+        validatePage(page, size);
+
+        long totalElements = dashBoardMapper.countDashBoardTemplates(departmentId);
+        List<Integer> templateIds = dashBoardMapper.selectDashBoardTemplateIds(departmentId, page * size, size);
+
+        List<DashBoardResponseDTO> content = assemble(templateIds, departmentId, true);
+        return PageResponse.of(content, page, size, totalElements);
+    }
+
+    /**
+     * 피평가자 평가 이력 조회 (평가 항목/평가 기준 제외)
+     *
+     * @return 템플릿별 대시보드 데이터 (evaluationItems 없음)
+     */
+    @Transactional(readOnly = true)
+    public List<DashBoardResponseDTO> getEvaluateeHistory() {
+        List<Integer> templateIds = dashBoardMapper.selectDashBoardTemplateIds(null, null, null);
+        return assemble(templateIds, null, false);
+    }
+
+    /**
+     * 대시보드 목록용 평가별 요약 페이징 조회
+     *
+     * @param departmentId 평가 담당자 부서 ID (null 이면 전체 부서)
+     * @param page         페이지 번호 (0부터 시작)
+     * @param size         페이지당 템플릿 수
+     * @return 템플릿별 평가 요약 페이지
+     */
+    @Transactional(readOnly = true)
+    public PageResponse<DashBoardSummaryResponseDTO> getDashBoardSummaries(Integer departmentId, int page, int size) {
+        validatePage(page, size);
+
+        long totalElements = dashBoardMapper.countDashBoardTemplates(departmentId);
+        List<Integer> templateIds = dashBoardMapper.selectDashBoardTemplateIds(departmentId, page * size, size);
+        if (templateIds.isEmpty()) {
+            return PageResponse.of(List.of(), page, size, totalElements);
+        }
+
+        Map<Integer, List<DashBoardEvaluationSummaryResponseDTO>> summariesByTemplate =
+                dashBoardMapper.selectDashBoardSummaries(templateIds, departmentId).stream()
+                        .collect(Collectors.groupingBy(DashBoardEvaluationSummaryResponseDTO::getEvaluationTemplateId));
+
+        List<DashBoardSummaryResponseDTO> content = new ArrayList<>();
+        for (DashBoardResponseDTO template : dashBoardMapper.selectDashBoardTemplates(templateIds)) {
+            content.add(new DashBoardSummaryResponseDTO(
+                    template.getEvaluationTemplateId(),
+                    template.getEvaluationTemplateName(),
+                    template.getEvaluationTemplateType(),
+                    template.getEvaluationPeriodId(),
+                    template.getEvaluationPeriodName(),
+                    template.getEvaluationPeriodStart(),
+                    template.getEvaluationPeriodEnd(),
+                    summariesByTemplate.getOrDefault(template.getEvaluationTemplateId(), List.of())
+            ));
+        }
+        return PageResponse.of(content, page, size, totalElements);
+    }
+
+    /**
+     * 평가별 요약 재집계 (평가서 작성/채점 후 같은 트랜잭션에서 호출)
+     *
+     * @param evaluationId 평가 ID
+     */
+    @Transactional
+    public void refreshSummary(Integer evaluationId) {
+        if (evaluationId == null) return;
+        dashBoardMapper.upsertEvaluationSummaries(List.of(evaluationId));
+    }
+
+    /**
+     * 요약이 없는 평가 보충 (기존 데이터 보정, 스케줄러에서 호출)
+     *
+     * @return 새로 집계한 평가 수
+     */
+    @Transactional
+    public int backfillMissingSummaries() {
+        return dashBoardMapper.insertMissingEvaluationSummaries();
+    }
+
+    /**
+     * 평가별 요약 삭제 (평가 삭제 시 호출)
+     *
+     * @param evaluationId 평가 ID
+     */
+    @Transactional
+    public void deleteSummary(Integer evaluationId) {
+        if (evaluationId == null) return;
+        dashBoardMapper.deleteEvaluationSummary(evaluationId);
+    }
+
+    /**
+     * 템플릿 ID 기준으로 하위 데이터를 단계별 조회 후 조립
+     */
+    private List<DashBoardResponseDTO> assemble(List<Integer> templateIds, Integer departmentId, boolean includeItems) {
+        if (templateIds.isEmpty()) return List.of();
+
+        List<DashBoardResponseDTO> templates = dashBoardMapper.selectDashBoardTemplates(templateIds);
+        List<DashBoardEvaluationResponseDTO> evaluations =
+                chunked(templateIds, ids -> dashBoardMapper.selectDashBoardEvaluations(ids, departmentId));
+        List<Integer> evaluationIds = evaluations.stream().map(DashBoardEvaluationResponseDTO::getEvaluationId).toList();
+
+        /** 평가 항목 + 평가 기준 (평가 기준은 템플릿 항목 단위로 한 번만 조회) */
+        Map<Integer, List<DashBoardItemResponseDTO>> itemsByEvaluation = Map.of();
+        if (includeItems && !evaluationIds.isEmpty()) {
+            List<DashBoardItemResponseDTO> items = chunked(evaluationIds, dashBoardMapper::selectDashBoardItems);
+            List<Integer> templateItemIds = items.stream()
+                    .map(DashBoardItemResponseDTO::getTemplateItemId)
+                    .distinct()
+                    .toList();
+            Map<Integer, List<DashBoardCriteriaResponseDTO>> criteriasByItem = groupBy(
+                    chunked(templateItemIds, dashBoardMapper::selectDashBoardCriterias),
+                    DashBoardCriteriaResponseDTO::getItemId
+            );
+            items.forEach(item -> item.setCriterias(criteriasByItem.getOrDefault(item.getTemplateItemId(), List.of())));
+            itemsByEvaluation = groupBy(items, DashBoardItemResponseDTO::getEvaluationId);
+        }
+
+        /** 피평가자(평가서) + 평가서 항목 */
+        List<DashBoardEvaluateeResponseDTO> evaluatees = chunked(evaluationIds, dashBoardMapper::selectDashBoardEvaluatees);
+        List<Integer> formIds = evaluatees.stream().map(DashBoardEvaluateeResponseDTO::getEvaluationFormId).toList();
+        Map<Integer, List<DashBoardFormItemResponseDTO>> formItemsByForm =
+                groupBy(chunked(formIds, dashBoardMapper::selectDashBoardFormItems), DashBoardFormItemResponseDTO::getFormId);
+        evaluatees.forEach(evaluatee ->
+                evaluatee.setFormItems(formItemsByForm.getOrDefault(evaluatee.getEvaluationFormId(), List.of())));
+        Map<Integer, List<DashBoardEvaluateeResponseDTO>> evaluateesByEvaluation =
+                groupBy(evaluatees, DashBoardEvaluateeResponseDTO::getEvaluationId);
+
+        for (DashBoardEvaluationResponseDTO evaluation : evaluations) {
+            evaluation.setEvaluationItems(itemsByEvaluation.getOrDefault(evaluation.getEvaluationId(), List.of()));
+            evaluation.setEvaluatees(evaluateesByEvaluation.getOrDefault(evaluation.getEvaluationId(), List.of()));
+        }
+
+        /** 조건에 맞는 평가가 없는 템플릿은 제외 */
+        Map<Integer, List<DashBoardEvaluationResponseDTO>> evaluationsByTemplate =
+                groupBy(evaluations, DashBoardEvaluationResponseDTO::getEvaluationTemplateId);
+        List<DashBoardResponseDTO> result = new ArrayList<>(templates.size());
+        for (DashBoardResponseDTO template : templates) {
+            List<DashBoardEvaluationResponseDTO> templateEvaluations =
+                    evaluationsByTemplate.get(template.getEvaluationTemplateId());
+            if (templateEvaluations == null) continue;
+
+            template.setEvaluations(templateEvaluations);
+            result.add(template);
+        }
+        return result;
+    }
+
+    private static void validatePage(int page, int size) {
+        if (page < 0 || size < 1 || size > MAX_PAGE_SIZE) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE, "페이지 정보가 올바르지 않습니다.");
+        }
+    }
+
+    private static <T> List<T> chunked(List<Integer> ids, Function<Collection<Integer>, List<T>> query) {
+        if (ids.isEmpty()) return List.of();
+        if (ids.size() <= IN_CHUNK_SIZE) return query.apply(ids);
+
+        List<T> result = new ArrayList<>();
+        for (int from = 0; from < ids.size(); from += IN_CHUNK_SIZE) {
+            result.addAll(query.apply(ids.subList(from, Math.min(from + IN_CHUNK_SIZE, ids.size()))));
+        }
+        return result;
+    }
+
+    private static <T> Map<Integer, List<T>> groupBy(List<T> rows, Function<T, Integer> key) {
+        return rows.stream().collect(Collectors.groupingBy(key));
+    }
+}
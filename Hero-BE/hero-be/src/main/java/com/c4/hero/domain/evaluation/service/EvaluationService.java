@@ -45,6 +45,7 @@ import java.util.List;
  * History
  * 2025/12/07 (김승민) 최초 작성
  * 2026/01/03 (혜원) 알림 발송 로직 추가
+ * 2026/10/18 (김승민) 대시보드 조회를 EvaluationDashBoardService 로 위임, 평가별 요약 재집계 추가
  * </pre>
  *
  * @author 김승민
@@ -101,8 +102,8 @@ public class EvaluationService {
     /** 평가서 mapper 의존성 주입 */
     private final EvaluationFormMapper evaluationFormMapper;
 
-    /** 대시보드 데이터 mapper 의존성 주입 */
-    private final DashBoardMapper dashBoardMapper;
+    /** 대시보드 조회 서비스 의존성 주입 */
+    private final EvaluationDashBoardService dashBoardService;
 
     /** */
     private final ApplicationEventPublisher eventPublisher;  // 추가!
@@ -697,6 +698,9 @@ public class EvaluationService {
 
         /** 평가 삭제 */
         evaluationRepository.deleteById(evaluationId);
+
+        /** 대시보드 요약 삭제 */
+        dashBoardService.deleteSummary(evaluationId);
     }
 
     /**
@@ -775,6 +779,10 @@ public class EvaluationService {
             evaluationRepository.save(evaluation);
         }
 
+        /** 대시보드 요약 재집계 */
+        formRepository.flush();
+        dashBoardService.refreshSummary(formRequestDTO.getEvaluationFormEvaluationId());
+
         return formId;
     }
 
@@ -1014,6 +1022,10 @@ public class EvaluationService {
             }
         }
 
+        /** 대시보드 요약 재집계 */
+        formRepository.flush();
+        dashBoardService.refreshSummary(evaluationId);
+
         return form.getFormId();
     }
 
@@ -1083,7 +1095,7 @@ public class EvaluationService {
      */
     public List<DashBoardResponseDTO> selectAllDashBoard() {
 
-        List<DashBoardResponseDTO> result = dashBoardMapper.selectAllDashBoard();
+        List<DashBoardResponseDTO> result = dashBoardService.getDashBoard(null);
 
         return result;
     }
@@ -1099,7 +1111,7 @@ public class EvaluationService {
      */
     public List<DashBoardResponseDTO> selectDashBoard(Integer id) {
 
-        List<DashBoardResponseDTO> result = dashBoardMapper.selectDashBoard(id);
+        List<DashBoardResponseDTO> result = dashBoardService.getDashBoard(id);
 
         return result;
     }
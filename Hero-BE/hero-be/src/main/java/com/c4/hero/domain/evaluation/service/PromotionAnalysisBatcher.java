@@ -0,0 +1,132 @@
+package com.c4.hero.domain.evaluation.service;
+
+import com.c4.hero.domain.evaluation.dto.dashboard.DashBoardEvaluateeResponseDTO;
+import com.c4.hero.domain.evaluation.dto.dashboard.DashBoardEvaluationResponseDTO;
+import com.c4.hero.domain.evaluation.dto.dashboard.DashBoardResponseDTO;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * <pre>
+ * Class Name: PromotionAnalysisBatcher
+ * Description: 승진 추천 분석 대상 후보자를 AI 서버 요청 배치로 분할
+ *
+ * - 배치마다 해당 후보자의 평가 이력만 담은 대시보드 데이터를 만들어 요청 크기를 줄임
+ *   (템플릿/평가 기본 정보와 피평가자 항목 점수만 포함, 평가 항목/가이드 제외)
+ * - AI 서버는 요청 데이터에서 성장세 상위 3명만 분석하므로 배치 크기는 최대 3명
+ * - 분석 결과에는 사원 ID가 없어 이름으로 매칭 → 한 배치에 같은 이름이 들어가지 않도록 분할
+ * - 평가 이력이 없는 후보자는 배치에 포함하지 않음
+ *
+ * History
+ * 2026/10/18 (김승민) 최초 작성
+ * </pre>
+ *
+ * @author 김승민
+ */
+final class PromotionAnalysisBatcher {
+
+    /** AI 서버가 요청 1건에서 분석하는 최대 인원 */
+    static final int MAX_BATCH_SIZE = 3;
+
+    private PromotionAnalysisBatcher() {
+    }
+
+    /**
+     * AI 서버 요청 배치
+     *
+     * @param employeeIdByName 분석 결과 매칭용 (이름 → 사원 ID)
+     * @param payload          AI 서버 요청 본문 (대시보드 데이터 부분 집합)
+     */
+    record Batch(Map<String, Integer> employeeIdByName, List<Object> payload) {
+    }
+
+    /**
+     * 후보자를 배치로 분할
+     *
+     * @param dashboard   전체 대시보드 데이터
+     * @param employeeIds 분석 대상 사원 ID
+     * @param batchSize   배치당 후보자 수 (1 ~ 3)
+     * @return 배치 목록
+     */
+    static List<Batch> split(List<DashBoardResponseDTO> dashboard, Collection<Integer> employeeIds, int batchSize) {
+        int size = Math.max(1, Math.min(batchSize, MAX_BATCH_SIZE));
+        Set<Integer> targets = new LinkedHashSet<>(employeeIds);
+
+        // 1. 평가 이력이 있는 후보자 이름 수집
+        Map<Integer, String> names = new LinkedHashMap<>();
+        for (DashBoardResponseDTO template : dashboard) {
+            for (DashBoardEvaluationResponseDTO evaluation : nullSafe(template.getEvaluations())) {
+                for (DashBoardEvaluateeResponseDTO evaluatee : nullSafe(evaluation.getEvaluatees())) {
+                    Integer employeeId = evaluatee.getEvaluationEvaluateeId();
+                    if (targets.contains(employeeId)) {
+                        names.put(employeeId, evaluatee.getEvaluationEvaluateeName());
+                    }
+                }
+            }
+        }
+
+        // 2. 후보자 그룹 분할 (배치 내 이름 중복 없음)
+        List<Map<String, Integer>> groups = new ArrayList<>();
+        Map<String, Integer> current = new LinkedHashMap<>();
+        for (Integer employeeId : targets) {
+            String name = names.get(employeeId);
+            if (name == null) continue;
+
+            if (current.size() >= size || current.containsKey(name)) {
+                groups.add(current);
+                current = new LinkedHashMap<>();
+            }
+            current.put(name, employeeId);
+        }
+        if (!current.isEmpty()) groups.add(current);
+
+        // 3. 그룹별 요청 본문 생성
+        List<Batch> batches = new ArrayList<>(groups.size());
+        for (Map<String, Integer> group : groups) {
+            batches.add(new Batch(group, payload(dashboard, Set.copyOf(group.values()))));
+        }
+        return batches;
+    }
+
+    private static List<Object> payload(List<DashBoardResponseDTO> dashboard, Set<Integer> employeeIds) {
+        List<Object> templates = new ArrayList<>();
+        for (DashBoardResponseDTO template : dashboard) {
+            List<DashBoardEvaluationResponseDTO> evaluations = new ArrayList<>();
+            for (DashBoardEvaluationResponseDTO evaluation : nullSafe(template.getEvaluations())) {
+                List<DashBoardEvaluateeResponseDTO> evaluatees = nullSafe(evaluation.getEvaluatees()).stream()
+                        .filter(e -> employeeIds.contains(e.getEvaluationEvaluateeId()))
+                        .toList();
+                if (evaluatees.isEmpty()) continue;
+
+                DashBoardEvaluationResponseDTO copy = new DashBoardEvaluationResponseDTO();
+                copy.setEvaluationId(evaluation.getEvaluationId());
+                copy.setEvaluationName(evaluation.getEvaluationName());
+                copy.setEvaluationDepartmentId(evaluation.getEvaluationDepartmentId());
+                copy.setEvaluationDepartmentName(evaluation.getEvaluationDepartmentName());
+                copy.setEvaluatees(evaluatees);
+                evaluations.add(copy);
+            }
+            if (evaluations.isEmpty()) continue;
+
+            DashBoardResponseDTO copy = new DashBoardResponseDTO();
+            copy.setEvaluationTemplateId(template.getEvaluationTemplateId());
+            copy.setEvaluationTemplateName(template.getEvaluationTemplateName());
+            copy.setEvaluationTemplateType(template.getEvaluationTemplateType());
+            copy.setEvaluationPeriodId(template.getEvaluationPeriodId());
+            copy.setEvaluationPeriodName(template.getEvaluationPeriodName());
+            copy.setEvaluations(evaluations);
+            templates.add(copy);
+        }
+        return templates;
+    }
+
+    private static <T> List<T> nullSafe(List<T> list) {
+        return list == null ? List.of() : list;
+    }
+}
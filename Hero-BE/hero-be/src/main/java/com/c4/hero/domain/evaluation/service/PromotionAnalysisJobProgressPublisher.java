@@ -0,0 +1,62 @@
+package com.c4.hero.domain.evaluation.service;
+
+import com.c4.hero.domain.evaluation.dto.ai.promotion.PromotionAnalysisBatchResultDTO;
+import com.c4.hero.domain.evaluation.dto.ai.promotion.PromotionAnalysisJobResponseDTO;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * <pre>
+ * Class Name: PromotionAnalysisJobProgressPublisher
+ * Description: 승진 추천 AI 분석 작업 진행 현황 / 부분 결과 STOMP 발행기
+ *
+ * - 진행 현황 : /topic/evaluation/promotion-analysis/{jobId}
+ * - 부분 결과 : /topic/evaluation/promotion-analysis/{jobId}/results (배치 완료 시마다)
+ * - 발행 실패는 작업 실행에 영향을 주지 않음 (결과는 저장되어 있으므로 조회 API로 확인 가능)
+ *
+ * History
+ * 2026/10/18 (김승민) 최초 작성
+ * </pre>
+ *
+ * @author 김승민
+ */
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PromotionAnalysisJobProgressPublisher {
+
+    private static final String TOPIC_PREFIX = "/topic/evaluation/promotion-analysis/";
+
+    private final SimpMessagingTemplate messagingTemplate;
+
+    /**
+     * 작업 진행 현황 발행
+     *
+     * @param job 작업 상태/진행 현황
+     */
+    public void publish(PromotionAnalysisJobResponseDTO job) {
+        if (job == null) return;
+        try {
+            messagingTemplate.convertAndSend(TOPIC_PREFIX + job.jobId(), job);
+        } catch (Exception e) {
+            log.warn("승진 추천 분석 진행 현황 발행 실패 - jobId={}", job.jobId(), e);
+        }
+    }
+
+    /**
+     * 배치 부분 결과 발행
+     *
+     * @param batchResult 배치에서 저장된 분석 결과
+     */
+    public void publishResults(PromotionAnalysisBatchResultDTO batchResult) {
+        if (batchResult.results().isEmpty()) return;
+        try {
+            messagingTemplate.convertAndSend(TOPIC_PREFIX + batchResult.jobId() + "/results", batchResult);
+        } catch (Exception e) {
+            log.warn("승진 추천 분석 부분 결과 발행 실패 - jobId={}", batchResult.jobId(), e);
+        }
+    }
+}
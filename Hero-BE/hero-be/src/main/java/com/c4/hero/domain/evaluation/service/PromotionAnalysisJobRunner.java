@@ -0,0 +1,251 @@
+package com.c4.hero.domain.evaluation.service;
+
+import com.c4.hero.common.exception.BusinessException;
+import com.c4.hero.common.exception.ErrorCode;
+import com.c4.hero.domain.evaluation.dto.ai.promotion.PromotionAnalysisBatchResultDTO;
+import com.c4.hero.domain.evaluation.dto.ai.promotion.PromotionAnalysisResultDTO;
+import com.c4.hero.domain.evaluation.dto.ai.promotion.PromotionCandidateResponseDTO;
+import com.c4.hero.domain.evaluation.entity.PromotionAnalysisJob;
+import com.c4.hero.domain.evaluation.entity.PromotionAnalysisResult;
+import com.c4.hero.domain.evaluation.event.PromotionAnalysisJobSubmittedEvent;
+import com.c4.hero.domain.promotion.repository.PromotionCandidateRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * <pre>
+ * Class Name: PromotionAnalysisJobRunner
+ * Description: 승진 추천 AI 분석 작업 실행기
+ *
+ * 실행 순서
+ * 1. 승진 계획의 추천 후보자 조회 → 후보자별 평가 이력만 담은 배치로 분할 (PromotionAnalysisBatcher)
+ * 2. 배치를 동시에 최대 batch-concurrency 건까지 AI 서버(/api/analyze/promotion)에 요청
+ * 3. 배치가 끝날 때마다 결과 저장 후 진행 현황/부분 결과 STOMP 발행
+ *
+ * - 결과 저장과 발행은 작업 스레드에서만 수행 (AI 응답 스레드에서 DB 작업 안 함)
+ * - AI_SERVER_BUSY(동시 호출 한도 초과) 배치는 잠시 후 재요청, 그 외 실패 배치는 실패 건수로 집계
+ *
+ * History
+ * 2026/10/18 (김승민) 최초 작성
+ * </pre>
+ *
+ * @author 김승민
+ */
+
+@Slf4j
+@Component
+public class PromotionAnalysisJobRunner {
+
+    private static final String SYSTEM_ERROR_MESSAGE = "시스템 오류로 분석 작업이 실패했습니다.";
+    private static final int QUEUE_CAPACITY = 20;
+    private static final int MAX_BUSY_RETRIES = 3;
+    private static final long BUSY_BACKOFF_MILLIS = 500L;
+
+    private final PromotionAnalysisJobService jobService;
+    private final PromotionAnalysisJobProgressPublisher progressPublisher;
+    private final AiService aiService;
+    private final EvaluationDashBoardService dashBoardService;
+    private final PromotionCandidateRepository candidateRepository;
+    private final int batchSize;
+    private final int batchConcurrency;
+    private final ThreadPoolExecutor executor;
+
+    public PromotionAnalysisJobRunner(
+            PromotionAnalysisJobService jobService,
+            PromotionAnalysisJobProgressPublisher progressPublisher,
+            AiService aiService,
+            EvaluationDashBoardService dashBoardService,
+            PromotionCandidateRepository candidateRepository,
+            @Value("${ai.promotion.job.concurrency:1}") int concurrency,
+            @Value("${ai.promotion.job.batch-size:3}") int batchSize,
+            @Value("${ai.promotion.job.batch-concurrency:4}") int batchConcurrency
+    ) {
+        this.jobService = jobService;
+        this.progressPublisher = progressPublisher;
+        this.aiService = aiService;
+        this.dashBoardService = dashBoardService;
+        this.candidateRepository = candidateRepository;
+        this.batchSize = batchSize;
+        this.batchConcurrency = Math.max(1, batchConcurrency);
+
+        int threads = Math.max(1, concurrency);
+        AtomicInteger seq = new AtomicInteger();
+        ThreadFactory threadFactory = r -> {
+            Thread t = new Thread(r, "promotion-analysis-" + seq.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        };
+        this.executor = new ThreadPoolExecutor(
+                threads,
+                threads,
+                60L, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(QUEUE_CAPACITY),
+                threadFactory,
+                new ThreadPoolExecutor.AbortPolicy()
+        );
+        this.executor.allowCoreThreadTimeOut(true);
+    }
+
+    /**
+     * 작업 등록 커밋 후 실행 요청
+     *
+     * @param event 작업 등록 이벤트
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onSubmitted(PromotionAnalysisJobSubmittedEvent event) {
+        try {
+            executor.execute(() -> run(event.jobId()));
+        } catch (RejectedExecutionException e) {
+            log.warn("승진 추천 분석 작업 대기열 초과 - jobId={}", event.jobId());
+            progressPublisher.publish(jobService.failQueued(event.jobId(), ErrorCode.AI_SERVER_BUSY.getMessage()));
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private void run(Long jobId) {
+        try {
+            PromotionAnalysisJob job = jobService.findJob(jobId);
+            if (job.getStatus().isFinished()) return;
+
+            // 1. 후보자 배치 분할
+            List<Integer> employeeIds = candidateRepository.findNominatedEmployeeIdsByPromotionPlanId(job.getPromotionId());
+            List<PromotionAnalysisBatcher.Batch> batches = employeeIds.isEmpty()
+                    ? List.of()
+                    : PromotionAnalysisBatcher.split(dashBoardService.getEvaluateeHistory(), employeeIds, batchSize);
+
+            progressPublisher.publish(jobService.start(jobId, employeeIds.size(), batches.size()));
+            log.info("승진 추천 분석 작업 시작 - jobId={}, promotionId={}, 후보자 {}명, 배치 {}건",
+                    jobId, job.getPromotionId(), employeeIds.size(), batches.size());
+
+            // 2. 배치 동시 요청 및 결과 저장
+            analyze(job, batches);
+
+            progressPublisher.publish(jobService.complete(jobId));
+            log.info("승진 추천 분석 작업 완료 - jobId={}", jobId);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.warn("승진 추천 분석 작업 중단 - jobId={}", jobId);
+            fail(jobId, SYSTEM_ERROR_MESSAGE);
+        } catch (BusinessException be) {
+            log.warn("승진 추천 분석 작업 실패 - jobId={}, reason={}", jobId, be.getMessage());
+            fail(jobId, be.getMessage());
+        } catch (Exception e) {
+            log.error("승진 추천 분석 작업 실패 - jobId={}", jobId, e);
+            fail(jobId, SYSTEM_ERROR_MESSAGE);
+        }
+    }
+
+    /**
+     * 배치를 동시에 최대 batchConcurrency 건까지 요청하고, 끝나는 순서대로 결과 저장
+     */
+    private void analyze(PromotionAnalysisJob job, List<PromotionAnalysisBatcher.Batch> batches) throws InterruptedException {
+        Deque<Attempt> pending = new ArrayDeque<>();
+        batches.forEach(batch -> pending.add(new Attempt(batch, 0)));
+
+        BlockingQueue<Outcome> outcomes = new LinkedBlockingQueue<>();
+        int inFlight = 0;
+        while (!pending.isEmpty() || inFlight > 0) {
+            while (inFlight < batchConcurrency && !pending.isEmpty()) {
+                request(pending.poll(), outcomes);
+                inFlight++;
+            }
+
+            Outcome outcome = outcomes.take();
+            inFlight--;
+            handle(job, outcome, pending);
+        }
+    }
+
+    private void request(Attempt attempt, BlockingQueue<Outcome> outcomes) {
+        try {
+            aiService.analyzePromotion(attempt.batch().payload())
+                    .whenComplete((results, error) -> outcomes.add(new Outcome(attempt, results, error)));
+        } catch (RuntimeException e) {
+            outcomes.add(new Outcome(attempt, null, e));
+        }
+    }
+
+    private void handle(PromotionAnalysisJob job, Outcome outcome, Deque<Attempt> pending) throws InterruptedException {
+        Long jobId = job.getJobId();
+        Throwable error = outcome.error() instanceof CompletionException && outcome.error().getCause() != null
+                ? outcome.error().getCause()
+                : outcome.error();
+
+        if (error != null) {
+            Attempt attempt = outcome.attempt();
+            if (isBusy(error) && attempt.retries() < MAX_BUSY_RETRIES) {
+                Thread.sleep(BUSY_BACKOFF_MILLIS * (attempt.retries() + 1));
+                pending.add(new Attempt(attempt.batch(), attempt.retries() + 1));
+                return;
+            }
+            log.warn("승진 추천 분석 배치 실패 - jobId={}, 대상={}, reason={}",
+                    jobId, attempt.batch().employeeIdByName().values(), error.getMessage());
+            progressPublisher.publish(jobService.batchFailed(jobId));
+            return;
+        }
+
+        List<PromotionAnalysisResult> entities = new ArrayList<>();
+        for (PromotionCandidateResponseDTO result : outcome.results() == null ? List.<PromotionCandidateResponseDTO>of() : outcome.results()) {
+            Integer employeeId = outcome.attempt().batch().employeeIdByName().get(result.getName());
+            if (employeeId == null) continue;
+
+            entities.add(PromotionAnalysisResult.of(
+                    jobId,
+                    job.getPromotionId(),
+                    employeeId,
+                    result.getCurrentGrade(),
+                    result.getRecommendedGrade(),
+                    result.getGrowthRate(),
+                    result.getCoreCompetencies(),
+                    result.getReason()
+            ));
+        }
+
+        progressPublisher.publish(jobService.saveBatchResults(jobId, entities));
+        progressPublisher.publishResults(new PromotionAnalysisBatchResultDTO(
+                jobId,
+                job.getPromotionId(),
+                entities.stream().map(PromotionAnalysisResultDTO::from).toList()
+        ));
+    }
+
+    private void fail(Long jobId, String message) {
+        try {
+            progressPublisher.publish(jobService.fail(jobId, message));
+        } catch (Exception e) {
+            log.error("승진 추천 분석 작업 실패 처리 오류 - jobId={}", jobId, e);
+        }
+    }
+
+    private static boolean isBusy(Throwable error) {
+        return error instanceof BusinessException be && be.getErrorCode() == ErrorCode.AI_SERVER_BUSY;
+    }
+
+    private record Attempt(PromotionAnalysisBatcher.Batch batch, int retries) {
+    }
+
+    private record Outcome(Attempt attempt, List<PromotionCandidateResponseDTO> results, Throwable error) {
+    }
+}
@@ -0,0 +1,215 @@
+package com.c4.hero.domain.evaluation.service;
+
+import com.c4.hero.common.exception.BusinessException;
+import com.c4.hero.common.exception.ErrorCode;
+import com.c4.hero.domain.evaluation.dto.ai.promotion.PromotionAnalysisJobResponseDTO;
+import com.c4.hero.domain.evaluation.dto.ai.promotion.PromotionAnalysisResultDTO;
+import com.c4.hero.domain.evaluation.entity.PromotionAnalysisJob;
+import com.c4.hero.domain.evaluation.entity.PromotionAnalysisJobStatus;
+import com.c4.hero.domain.evaluation.entity.PromotionAnalysisResult;
+import com.c4.hero.domain.evaluation.event.PromotionAnalysisJobSubmittedEvent;
+import com.c4.hero.domain.evaluation.repository.PromotionAnalysisJobRepository;
+import com.c4.hero.domain.evaluation.repository.PromotionAnalysisResultRepository;
+import com.c4.hero.domain.promotion.repository.PromotionPlanRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * <pre>
+ * Class Name: PromotionAnalysisJobService
+ * Description: 승진 추천 AI 분석 작업 등록/상태 관리 및 분석 결과 저장
+ *
+ * History
+ * 2026/10/18 (김승민) 최초 작성
+ * </pre>
+ *
+ * @author 김승민
+ */
+
+@Service
+public class PromotionAnalysisJobService {
+
+    private static final Set<PromotionAnalysisJobStatus> ACTIVE_STATUSES =
+            EnumSet.of(PromotionAnalysisJobStatus.QUEUED, PromotionAnalysisJobStatus.RUNNING);
+
+    private final PromotionAnalysisJobRepository jobRepository;
+    private final PromotionAnalysisResultRepository resultRepository;
+    private final PromotionPlanRepository promotionPlanRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    /** 이 시간이 지나도 끝나지 않은 작업은 중단된 것으로 보고 새 작업 등록 허용 */
+    private final Duration staleAfter;
+
+    public PromotionAnalysisJobService(
+            PromotionAnalysisJobRepository jobRepository,
+            PromotionAnalysisResultRepository resultRepository,
+            PromotionPlanRepository promotionPlanRepository,
+            ApplicationEventPublisher eventPublisher,
+            @Value("${ai.promotion.job.stale-after:PT30M}") Duration staleAfter
+    ) {
+        this.jobRepository = jobRepository;
+        this.resultRepository = resultRepository;
+        this.promotionPlanRepository = promotionPlanRepository;
+        this.eventPublisher = eventPublisher;
+        this.staleAfter = staleAfter;
+    }
+
+    /**
+     * 분석 작업 등록 (커밋 후 백그라운드 실행)
+     *
+     * @param promotionId 승진 계획 ID
+     * @param requestedBy 요청자 사원 ID
+     * @return 등록된 작업 (QUEUED)
+     */
+    @Transactional
+    public PromotionAnalysisJobResponseDTO submit(Integer promotionId, Integer requestedBy) {
+        if (!promotionPlanRepository.existsById(promotionId)) {
+            throw new BusinessException(ErrorCode.PROMOTION_PLAN_NOT_FOUND);
+        }
+        if (jobRepository.existsByPromotionIdAndStatusInAndCreatedAtAfter(
+                promotionId, ACTIVE_STATUSES, LocalDateTime.now().minus(staleAfter))) {
+            throw new BusinessException(ErrorCode.PROMOTION_ANALYSIS_JOB_IN_PROGRESS);
+        }
+
+        PromotionAnalysisJob job = jobRepository.save(PromotionAnalysisJob.queued(promotionId, requestedBy));
+        eventPublisher.publishEvent(new PromotionAnalysisJobSubmittedEvent(job.getJobId()));
+        return PromotionAnalysisJobResponseDTO.from(job);
+    }
+
+    /**
+     * 작업 상태 조회
+     *
+     * @param jobId 작업 ID
+     * @return 작업 상태/진행 현황
+     */
+    @Transactional(readOnly = true)
+    public PromotionAnalysisJobResponseDTO getJob(Long jobId) {
+        return PromotionAnalysisJobResponseDTO.from(getJobOrThrow(jobId));
+    }
+
+    /**
+     * 실행용 작업 조회
+     *
+     * @param jobId 작업 ID
+     * @return 작업 엔티티 (준영속)
+     */
+    @Transactional(readOnly = true)
+    public PromotionAnalysisJob findJob(Long jobId) {
+        return getJobOrThrow(jobId);
+    }
+
+    /**
+     * 실행 시작 처리
+     *
+     * @param jobId          작업 ID
+     * @param candidateCount 분석 대상 후보자 수
+     * @param totalBatches   AI 서버 요청 배치 수
+     * @return RUNNING 상태 작업
+     */
+    @Transactional
+    public PromotionAnalysisJobResponseDTO start(Long jobId, int candidateCount, int totalBatches) {
+        PromotionAnalysisJob job = getJobOrThrow(jobId);
+        job.start(candidateCount, totalBatches);
+        return PromotionAnalysisJobResponseDTO.from(job);
+    }
+
+    /**
+     * 배치 분석 결과 저장 (같은 승진 계획의 해당 사원 기존 결과는 교체)
+     *
+     * @param jobId   작업 ID
+     * @param results 배치 분석 결과
+     * @return 진행 현황이 반영된 작업
+     */
+    @Transactional
+    public PromotionAnalysisJobResponseDTO saveBatchResults(Long jobId, List<PromotionAnalysisResult> results) {
+        PromotionAnalysisJob job = getJobOrThrow(jobId);
+        if (!results.isEmpty()) {
+            resultRepository.deleteByPromotionIdAndEmployeeIdIn(
+                    job.getPromotionId(),
+                    results.stream().map(PromotionAnalysisResult::getEmployeeId).toList()
+            );
+            resultRepository.saveAll(results);
+        }
+        job.batchCompleted(results.size());
+        return PromotionAnalysisJobResponseDTO.from(job);
+    }
+
+    /**
+     * 배치 분석 실패 처리
+     *
+     * @param jobId 작업 ID
+     * @return 진행 현황이 반영된 작업
+     */
+    @Transactional
+    public PromotionAnalysisJobResponseDTO batchFailed(Long jobId) {
+        PromotionAnalysisJob job = getJobOrThrow(jobId);
+        job.batchFailed();
+        return PromotionAnalysisJobResponseDTO.from(job);
+    }
+
+    /**
+     * 작업 완료 처리
+     *
+     * @param jobId 작업 ID
+     * @return 완료된 작업
+     */
+    @Transactional
+    public PromotionAnalysisJobResponseDTO complete(Long jobId) {
+        PromotionAnalysisJob job = getJobOrThrow(jobId);
+        job.complete();
+        return PromotionAnalysisJobResponseDTO.from(job);
+    }
+
+    /**
+     * 작업 실패 처리
+     *
+     * @param jobId   작업 ID
+     * @param message 실패 사유
+     * @return 실패 처리된 작업
+     */
+    @Transactional
+    public PromotionAnalysisJobResponseDTO fail(Long jobId, String message) {
+        PromotionAnalysisJob job = getJobOrThrow(jobId);
+        job.fail(message);
+        return PromotionAnalysisJobResponseDTO.from(job);
+    }
+
+    /**
+     * 실행되지 못한 작업 실패 처리 (등록 트랜잭션 커밋 후 이벤트 처리 중 호출되므로 새 트랜잭션에서 처리)
+     *
+     * @param jobId   작업 ID
+     * @param message 실패 사유
+     * @return 실패 처리된 작업
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public PromotionAnalysisJobResponseDTO failQueued(Long jobId, String message) {
+        return fail(jobId, message);
+    }
+
+    /**
+     * 승진 계획의 저장된 분석 결과 조회
+     *
+     * @param promotionId 승진 계획 ID
+     * @return 사원별 분석 결과
+     */
+    @Transactional(readOnly = true)
+    public List<PromotionAnalysisResultDTO> getResults(Integer promotionId) {
+        return resultRepository.findByPromotionId(promotionId).stream()
+                .map(PromotionAnalysisResultDTO::from)
+                .toList();
+    }
+
+    private PromotionAnalysisJob getJobOrThrow(Long jobId) {
+        return jobRepository.findById(jobId)
+                .orElseThrow(() -> new BusinessException(ErrorCode.PROMOTION_ANALYSIS_JOB_NOT_FOUND));
+    }
+}
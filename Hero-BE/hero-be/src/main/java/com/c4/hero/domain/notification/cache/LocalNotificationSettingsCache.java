@@ -0,0 +1,44 @@
+package com.c4.hero.domain.notification.cache;
+
+import com.c4.hero.common.cache.NearCache;
+import com.c4.hero.domain.notification.dto.NotificationSettingsDTO;
+
+import java.time.Duration;
+import java.util.function.Function;
+
+/**
+ * <pre>
+ * Class Name: LocalNotificationSettingsCache
+ * Description: 단일 노드 알림 설정 캐시 (notification.relay.mode=local)
+ *              노드 로컬 캐시만 사용
+ *
+ * History
+ * 2026/10/18 (혜원) 최초 작성
+ * </pre>
+ *
+ * @author 혜원
+ * @version 1.0
+ */
+public class LocalNotificationSettingsCache implements NotificationSettingsCache {
+
+    private final NearCache<Integer, NotificationSettingsDTO> nearCache;
+
+    public LocalNotificationSettingsCache(int maxSize, Duration ttl) {
+        this.nearCache = new NearCache<>(maxSize, ttl);
+    }
+
+    @Override
+    public NotificationSettingsDTO get(Integer employeeId, Function<Integer, NotificationSettingsDTO> loader) {
+        NotificationSettingsDTO cached = nearCache.get(employeeId);
+        if (cached != null) return cached;
+
+        NotificationSettingsDTO loaded = loader.apply(employeeId);
+        if (loaded != null) nearCache.put(employeeId, loaded);
+        return loaded;
+    }
+
+    @Override
+    public void evict(Integer employeeId) {
+        nearCache.evict(employeeId);
+    }
+}
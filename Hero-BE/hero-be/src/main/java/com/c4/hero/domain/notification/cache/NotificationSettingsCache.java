@@ -0,0 +1,37 @@
+package com.c4.hero.domain.notification.cache;
+
+import com.c4.hero.domain.notification.dto.NotificationSettingsDTO;
+
+import java.util.function.Function;
+
+/**
+ * <pre>
+ * Interface Name: NotificationSettingsCache
+ * Description: 직원별 알림 설정 캐시
+ *              구현체는 notification.relay.mode 에 따라 선택 (NotificationRelayConfig)
+ *
+ * History
+ * 2026/10/18 (혜원) 최초 작성
+ * </pre>
+ *
+ * @author 혜원
+ * @version 1.0
+ */
+public interface NotificationSettingsCache {
+
+    /**
+     * 알림 설정 조회 (캐시에 없으면 loader 로 조회 후 저장)
+     *
+     * @param employeeId 직원 ID
+     * @param loader     DB 조회 함수
+     * @return 알림 설정
+     */
+    NotificationSettingsDTO get(Integer employeeId, Function<Integer, NotificationSettingsDTO> loader);
+
+    /**
+     * 알림 설정 캐시 무효화 (다중 노드 모드에서는 모든 노드에 전파)
+     *
+     * @param employeeId 직원 ID
+     */
+    void evict(Integer employeeId);
+}
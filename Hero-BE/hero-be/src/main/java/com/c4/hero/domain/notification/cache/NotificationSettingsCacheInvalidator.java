@@ -0,0 +1,35 @@
+package com.c4.hero.domain.notification.cache;
+
+import com.c4.hero.domain.notification.event.NotificationSettingsChangedEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * <pre>
+ * Class Name: NotificationSettingsCacheInvalidator
+ * Description: 알림 설정 변경 커밋 후 캐시 무효화
+ *              (커밋 전에 무효화하면 다른 요청이 변경 전 값을 다시 캐시할 수 있음)
+ *
+ * History
+ * 2026/10/18 (혜원) 최초 작성
+ * </pre>
+ *
+ * @author 혜원
+ * @version 1.0
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class NotificationSettingsCacheInvalidator {
+
+    private final NotificationSettingsCache settingsCache;
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onSettingsChanged(NotificationSettingsChangedEvent event) {
+        settingsCache.evict(event.employeeId());
+        log.info("알림 설정 캐시 무효화: employeeId={}", event.employeeId());
+    }
+}
@@ -0,0 +1,155 @@
+package com.c4.hero.domain.notification.cache;
+
+import com.c4.hero.common.cache.NearCache;
+import com.c4.hero.domain.notification.dto.NotificationSettingsDTO;
+import com.c4.hero.domain.notification.relay.NotificationRelayTransport;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import tools.jackson.databind.ObjectMapper;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * <pre>
+ * Class Name: RedisNotificationSettingsCache
+ * Description: 다중 노드 알림 설정 캐시 (notification.relay.mode=redis)
+ *
+ * 조회 순서
+ * 1. 노드 로컬 캐시 (짧은 만료 시간)
+ * 2. Redis (hero:notification:settings:{employeeId}, JSON)
+ * 3. DB (loader) → Redis / 로컬 캐시에 저장
+ *
+ * 무효화
+ * - Redis 키를 짧은 만료 시간의 무효화 표시(tombstone)로 덮어쓴 뒤 hero:notification:settings:evict 채널로 직원 ID 발행
+ * - 각 노드는 채널 메시지를 받아 로컬 캐시 항목 제거
+ * - pub/sub 메시지가 유실되더라도 로컬 캐시 만료 시간 이후에는 Redis/DB 값으로 갱신됨
+ *
+ * 무효화 전에 읽은 값의 재저장 방지
+ * - Redis: 조회 실패 후 저장은 setIfAbsent 로만 수행 → 무효화 표시가 남아 있는 동안 저장되지 않음
+ * - 로컬 캐시: 조회 시작 시점의 무효화 세대(generation)가 바뀌었으면 저장하지 않음
+ *
+ * - Redis 장애 시 DB 조회로 대체 (알림 발송은 계속 진행)
+ *
+ * History
+ * 2026/10/18 (혜원) 최초 작성
+ * 2026/10/18 (혜원) 무효화와 동시에 진행된 조회가 이전 값을 다시 저장하지 않도록 tombstone / 세대 확인 추가
+ * </pre>
+ *
+ * @author 혜원
+ * @version 1.1
+ */
+@Slf4j
+public class RedisNotificationSettingsCache implements NotificationSettingsCache {
+
+    /** 무효화 전파 채널 */
+    public static final String EVICT_CHANNEL = "hero:notification:settings:evict";
+
+    private static final String KEY_PREFIX = "hero:notification:settings:";
+
+    /** 무효화 표시 값 (JSON 이 아니므로 설정 값과 구분됨) */
+    static final String TOMBSTONE = "-";
+
+    /** 무효화 표시 유지 시간 (무효화 전에 시작된 DB 조회가 끝나기에 충분한 시간) */
+    static final Duration TOMBSTONE_TTL = Duration.ofSeconds(10);
+
+    private final StringRedisTemplate redisTemplate;
+    private final NotificationRelayTransport transport;
+    private final ObjectMapper objectMapper;
+    private final NearCache<Integer, NotificationSettingsDTO> nearCache;
+    private final Duration ttl;
+
+    /**
+     * 로컬 무효화 세대 (이 노드에서 무효화가 일어날 때마다 증가)
+     * 직원별로 두지 않고 하나만 사용 → 무효화와 겹친 조회는 다른 직원이어도 로컬 캐시에 저장하지 않음 (다음 조회에서 다시 채움)
+     */
+    private final AtomicLong generation = new AtomicLong();
+
+    public RedisNotificationSettingsCache(
+            StringRedisTemplate redisTemplate,
+            NotificationRelayTransport transport,
+            ObjectMapper objectMapper,
+            int nearMaxSize,
+            Duration nearTtl,
+            Duration ttl
+    ) {
+        this.redisTemplate = redisTemplate;
+        this.transport = transport;
+        this.objectMapper = objectMapper;
+        this.nearCache = new NearCache<>(nearMaxSize, nearTtl);
+        this.ttl = ttl;
+
+        transport.subscribe(EVICT_CHANNEL, this::onEvictMessage);
+    }
+
+    @Override
+    public NotificationSettingsDTO get(Integer employeeId, Function<Integer, NotificationSettingsDTO> loader) {
+        NotificationSettingsDTO cached = nearCache.get(employeeId);
+        if (cached != null) return cached;
+
+        long startGeneration = generation.get();
+        String key = KEY_PREFIX + employeeId;
+        try {
+            String json = redisTemplate.opsForValue().get(key);
+            if (json != null && !TOMBSTONE.equals(json)) {
+                NotificationSettingsDTO settings = objectMapper.readValue(json, NotificationSettingsDTO.class);
+                putNear(employeeId, settings, startGeneration);
+                return settings;
+            }
+        } catch (Exception e) {
+            log.warn("알림 설정 캐시 조회 실패 - DB 조회로 대체: employeeId={}, {}", employeeId, e.getMessage());
+        }
+
+        NotificationSettingsDTO loaded = loader.apply(employeeId);
+        if (loaded == null) return null;
+
+        putNear(employeeId, loaded, startGeneration);
+        try {
+            redisTemplate.opsForValue().setIfAbsent(key, objectMapper.writeValueAsString(loaded), ttl);
+        } catch (Exception e) {
+            log.warn("알림 설정 캐시 저장 실패: employeeId={}, {}", employeeId, e.getMessage());
+        }
+        return loaded;
+    }
+
+    @Override
+    public void evict(Integer employeeId) {
+        generation.incrementAndGet();
+        nearCache.evict(employeeId);
+        try {
+            redisTemplate.opsForValue().set(KEY_PREFIX + employeeId, TOMBSTONE, TOMBSTONE_TTL);
+            transport.publish(EVICT_CHANNEL, String.valueOf(employeeId));
+        } catch (Exception e) {
+            log.error("알림 설정 캐시 무효화 실패: employeeId={}, {}", employeeId, e.getMessage());
+        }
+    }
+
+    /**
+     * 다른 노드의 무효화 메시지 수신 → 로컬 캐시 항목 제거
+     *
+     * @param message 직원 ID
+     */
+    void onEvictMessage(String message) {
+        try {
+            Integer employeeId = Integer.valueOf(message.trim());
+            generation.incrementAndGet();
+            nearCache.evict(employeeId);
+        } catch (NumberFormatException e) {
+            log.warn("알림 설정 캐시 무효화 메시지 형식 오류: {}", message);
+        }
+    }
+
+    /**
+     * 조회 도중 무효화가 없었을 때만 로컬 캐시에 저장
+     *  - 저장과 동시에 무효화가 들어온 경우에 대비해 저장 후 세대를 한 번 더 확인하고 바뀌었으면 제거
+     */
+    private void putNear(Integer employeeId, NotificationSettingsDTO settings, long startGeneration) {
+        if (generation.get() != startGeneration) return;
+
+        nearCache.put(employeeId, settings);
+        if (generation.get() != startGeneration) {
+            nearCache.evict(employeeId);
+        }
+    }
+}
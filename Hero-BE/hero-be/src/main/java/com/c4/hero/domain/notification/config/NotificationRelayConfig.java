@@ -0,0 +1,133 @@
+package com.c4.hero.domain.notification.config;
+
+import com.c4.hero.domain.notification.cache.LocalNotificationSettingsCache;
+import com.c4.hero.domain.notification.cache.NotificationSettingsCache;
+import com.c4.hero.domain.notification.cache.RedisNotificationSettingsCache;
+import com.c4.hero.domain.notification.relay.ClusterNotificationRelay;
+import com.c4.hero.domain.notification.relay.ClusterSessionRegistry;
+import com.c4.hero.domain.notification.relay.LocalClusterSessionRegistry;
+import com.c4.hero.domain.notification.relay.LocalNotificationRelay;
+import com.c4.hero.domain.notification.relay.NotificationDeliveryMetrics;
+import com.c4.hero.domain.notification.relay.NotificationRelay;
+import com.c4.hero.domain.notification.relay.NotificationRelayTransport;
+import com.c4.hero.domain.notification.relay.RedisClusterSessionRegistry;
+import com.c4.hero.domain.notification.relay.RedisNotificationRelayTransport;
+import com.c4.hero.domain.notification.util.WebSocketSessionManager;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import tools.jackson.databind.ObjectMapper;
+
+import java.time.Duration;
+
+/**
+ * <pre>
+ * Class Name: NotificationRelayConfig
+ * Description: 실시간 알림 중계 모드 설정
+ *
+ * notification.relay.mode
+ * - local (기본값) : 단일 노드 SimpleBroker 직접 전송 + 노드 로컬 알림 설정 캐시
+ * - redis          : Redis pub/sub 노드 채널 중계 + Redis 클러스터 세션 레지스트리
+ *                    + Redis 알림 설정 캐시(노드 로컬 캐시 병행, 무효화 전파)
+ *
+ * History
+ * 2026/10/18 (혜원) 최초 작성
+ * 2026/10/18 (혜원) 알림 설정 캐시 빈 추가
+ * </pre>
+ *
+ * @author 혜원
+ * @version 1.1
+ */
+@Configuration
+public class NotificationRelayConfig {
+
+    private static final String MODE = "notification.relay.mode";
+
+    // ===== local =====
+
+    @Bean
+    @ConditionalOnProperty(name = MODE, havingValue = "local", matchIfMissing = true)
+    public ClusterSessionRegistry localClusterSessionRegistry(
+            WebSocketSessionManager sessionManager,
+            NotificationDeliveryMetrics metrics
+    ) {
+        return new LocalClusterSessionRegistry(sessionManager, metrics);
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = MODE, havingValue = "local", matchIfMissing = true)
+    public NotificationRelay localNotificationRelay(
+            SimpMessagingTemplate messagingTemplate,
+            NotificationDeliveryMetrics metrics
+    ) {
+        return new LocalNotificationRelay(messagingTemplate, metrics);
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = MODE, havingValue = "local", matchIfMissing = true)
+    public NotificationSettingsCache localNotificationSettingsCache(
+            @Value("${notification.settings-cache.max-size:10000}") int maxSize,
+            @Value("${notification.settings-cache.ttl:PT30M}") Duration ttl
+    ) {
+        return new LocalNotificationSettingsCache(maxSize, ttl);
+    }
+
+    // ===== redis =====
+
+    @Bean
+    @ConditionalOnProperty(name = MODE, havingValue = "redis")
+    public RedisMessageListenerContainer notificationRelayListenerContainer(RedisConnectionFactory connectionFactory) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        return container;
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = MODE, havingValue = "redis")
+    public NotificationRelayTransport redisNotificationRelayTransport(
+            StringRedisTemplate redisTemplate,
+            RedisMessageListenerContainer notificationRelayListenerContainer
+    ) {
+        return new RedisNotificationRelayTransport(redisTemplate, notificationRelayListenerContainer);
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = MODE, havingValue = "redis")
+    public ClusterSessionRegistry redisClusterSessionRegistry(
+            StringRedisTemplate redisTemplate,
+            NotificationDeliveryMetrics metrics,
+            ObjectMapper objectMapper
+    ) {
+        return new RedisClusterSessionRegistry(redisTemplate, metrics, objectMapper);
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = MODE, havingValue = "redis")
+    public NotificationRelay clusterNotificationRelay(
+            SimpMessagingTemplate messagingTemplate,
+            ClusterSessionRegistry sessionRegistry,
+            NotificationRelayTransport transport,
+            NotificationDeliveryMetrics metrics,
+            ObjectMapper objectMapper
+    ) {
+        return new ClusterNotificationRelay(messagingTemplate, sessionRegistry, transport, metrics, objectMapper);
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = MODE, havingValue = "redis")
+    public NotificationSettingsCache redisNotificationSettingsCache(
+            StringRedisTemplate redisTemplate,
+            NotificationRelayTransport transport,
+            ObjectMapper objectMapper,
+            @Value("${notification.settings-cache.max-size:10000}") int maxSize,
+            @Value("${notification.settings-cache.near-ttl:PT1M}") Duration nearTtl,
+            @Value("${notification.settings-cache.ttl:PT30M}") Duration ttl
+    ) {
+        return new RedisNotificationSettingsCache(redisTemplate, transport, objectMapper, maxSize, nearTtl, ttl);
+    }
+}
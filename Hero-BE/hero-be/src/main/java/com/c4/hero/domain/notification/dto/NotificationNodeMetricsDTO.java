@@ -0,0 +1,54 @@
+package com.c4.hero.domain.notification.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * <pre>
+ * Class Name: NotificationNodeMetricsDTO
+ * Description: 노드별 실시간 알림 전송 지표 DTO
+ *
+ * History
+ * 2026/10/18 (혜원) 최초 작성
+ * </pre>
+ *
+ * @author 혜원
+ * @version 1.0
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class NotificationNodeMetricsDTO {
+
+    /** 노드 ID */
+    private String nodeId;
+
+    /** 노드 활성 WebSocket 연결 수 */
+    private Integer activeConnections;
+
+    /** 다른 노드로 중계 발행한 건수 */
+    private Long published;
+
+    /** 다른 노드로부터 중계 수신한 건수 */
+    private Long received;
+
+    /** 이 노드에서 WebSocket 으로 전송한 건수 */
+    private Long delivered;
+
+    /** 연결된 노드가 없어 전송 생략한 건수 (DB 저장만 됨) */
+    private Long offline;
+
+    /** 중계/전송 실패 건수 */
+    private Long failed;
+
+    /** 평균 전송 시간 (ms) */
+    private Long averageResponseTime;
+
+    /** 지표 보고 시각 */
+    private LocalDateTime reportedAt;
+}
@@ -0,0 +1,17 @@
+package com.c4.hero.domain.notification.event;
+
+/**
+ * <pre>
+ * Class Name: NotificationSettingsChangedEvent
+ * Description: 알림 설정 변경 이벤트 (커밋 후 알림 설정 캐시 무효화)
+ *
+ * History
+ * 2026/10/18 (혜원) 최초 작성
+ * </pre>
+ *
+ * @param employeeId 설정이 변경된 직원 ID
+ * @author 혜원
+ * @version 1.0
+ */
+public record NotificationSettingsChangedEvent(Integer employeeId) {
+}
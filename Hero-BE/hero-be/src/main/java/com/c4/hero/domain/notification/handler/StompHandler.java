@@ -1,6 +1,7 @@
 package com.c4.hero.domain.notification.handler;
 
 import com.c4.hero.domain.auth.security.JwtUtil;
+import com.c4.hero.domain.notification.relay.ClusterSessionRegistry;
 import com.c4.hero.domain.notification.util.WebSocketSessionManager;
 import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
@@ -20,10 +21,12 @@ import org.springframework.stereotype.Component;
  *
  * History
  * 2025/12/22 (혜원) 최초 작성 - JWT 기반 WebSocket 인증 구현
+ * 2026/10/18 (혜원) 클러스터 세션 레지스트리 등록/제거 추가
+ * 2026/10/18 (혜원) 이전 세션 해제가 늦게 도착해도 새 세션의 레지스트리 등록 유지
  * </pre>
  *
  * @author 혜원
- * @version 1.1
+ * @version 1.3
  */
 @Component
 @RequiredArgsConstructor
@@ -36,6 +39,9 @@ public class StompHandler implements ChannelInterceptor {
     /** WebSocket 세션 관리자 */
     private final WebSocketSessionManager webSocketSessionManager;
 
+    /** 클러스터 세션 레지스트리 (다중 노드 알림 중계용) */
+    private final ClusterSessionRegistry clusterSessionRegistry;
+
     /**
      * 빈 초기화 후 실행되는 초기화 메서드
      * 주입된 WebSocketSessionManager 인스턴스의 해시코드를 로그로 출력하여 싱글톤 확인
@@ -103,6 +109,7 @@ public class StompHandler implements ChannelInterceptor {
                 log.info("Adding session. EmployeeId: {}, SessionId: {}, Manager HashCode: {}",
                         employeeId, sessionId, webSocketSessionManager.hashCode());
                 webSocketSessionManager.addSession(sessionId, employeeId, employeeName);
+                clusterSessionRegistry.register(employeeId);
             } else {
                 log.warn("Token validation failed.");
             }
@@ -124,7 +131,16 @@ public class StompHandler implements ChannelInterceptor {
 
         log.info("Removing session. SessionId: {}, Manager HashCode: {}",
                 sessionId, webSocketSessionManager.hashCode());
-        webSocketSessionManager.removeSessionBySessionId(sessionId);
+        Integer employeeId = webSocketSessionManager.removeSessionBySessionId(sessionId);
+
+        // 같은 직원의 다른 세션(새로고침 후 새 연결, 다른 탭)이 남아 있으면 레지스트리 유지
+        if (employeeId == null || webSocketSessionManager.hasSession(employeeId)) return;
+        clusterSessionRegistry.unregister(employeeId);
+
+        // 제거 확인과 unregister 사이에 새 세션이 연결되었으면 다시 등록
+        if (webSocketSessionManager.hasSession(employeeId)) {
+            clusterSessionRegistry.register(employeeId);
+        }
     }
 
     /**
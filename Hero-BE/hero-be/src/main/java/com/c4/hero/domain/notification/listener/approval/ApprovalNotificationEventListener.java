@@ -16,6 +16,7 @@ import org.springframework.stereotype.Component;
  *
  * History
  * 2026/01/02 (혜원) 최초 작성
+ * 2026/10/18 (혜원) 결재 독촉 이벤트 변환 제거 (ApprovalReminderScheduler 에서 알림 일괄 처리)
  * </pre>
  */
 @Slf4j
@@ -112,28 +113,4 @@ public class ApprovalNotificationEventListener {
 
         eventPublisher.publishEvent(notification);
     }
-
-    /**
-     * 결재 대기 독촉 → 결재자에게 알림
-     */
-//    @Async
-    @EventListener
-    public void handleApprovalReminder(ApprovalNotificationEvent.ApprovalReminderEvent event) {
-        log.info("[결재알림 변환] 결재 독촉 - docId: {}, approverId: {}, waitingDays: {}",
-                event.getDocId(), event.getApproverId(), event.getWaitingDays());
-
-        String message = String.format("%s님의 '%s' 문서가 %d일째 결재 대기 중입니다.",
-                event.getDrafterName(), event.getTitle(), event.getWaitingDays());
-
-        NotificationEvent notification = NotificationEvent.builder()
-                .employeeId(event.getApproverId())  // 결재자에게
-                .type("approval")
-                .title("결재 대기 독촉")
-                .message(message)
-                .link("/approval/documents/" + event.getDocId())
-                .documentId(event.getDocId())
-                .build();
-
-        eventPublisher.publishEvent(notification);
-    }
-}
\ No newline at end of file
+}
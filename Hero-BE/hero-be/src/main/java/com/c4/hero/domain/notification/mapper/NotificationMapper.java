@@ -2,6 +2,7 @@ package com.c4.hero.domain.notification.mapper;
 
 import com.c4.hero.domain.notification.dto.NotificationDTO;
 import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
 
 import java.time.LocalDateTime;
 import java.util.List;
@@ -14,10 +15,12 @@ import java.util.List;
  * History
  * 2025/12/11 (혜원) 최초 작성
  * 2025/12/15 (혜원) 알림 삭제 관련 메서드 추가
+ * 2026/10/18 (혜원) 알림 일괄 생성 메서드 추가
+ * 2026/10/18 (혜원) 알림 일괄 생성 시 생성된 ID 목록 반환
  * </pre>
  *
  * @author 혜원
- * @version 2.0
+ * @version 2.2
  */
 @Mapper
 public interface NotificationMapper {
@@ -29,6 +32,14 @@ public interface NotificationMapper {
      */
     void insertNotification(NotificationDTO notification);
 
+    /**
+     * 알림 일괄 생성 (multi-row INSERT ... RETURNING 1회)
+     *
+     * @param notifications 알림 목록
+     * @return 생성된 notificationId 목록 (notifications 와 같은 순서)
+     */
+    List<Integer> insertNotifications(@Param("notifications") List<NotificationDTO> notifications);
+
     /**
      * 특정 직원의 알림 목록 조회
      *
@@ -2,6 +2,9 @@ package com.c4.hero.domain.notification.mapper;
 
 import com.c4.hero.domain.notification.dto.NotificationSettingsDTO;
 import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+import java.util.List;
 
 /**
  * <pre>
@@ -10,10 +13,11 @@ import org.apache.ibatis.annotations.Mapper;
  *
  * History
  * 2025/12/17 (혜원) 최초 작성
+ * 2026/10/18 (혜원) 다수 직원 알림 설정 일괄 조회 추가
  * </pre>
  *
  * @author 혜원
- * @version 1.0
+ * @version 1.1
  */
 @Mapper
 public interface NotificationSettingsMapper {
@@ -25,6 +29,13 @@ public interface NotificationSettingsMapper {
      */
     NotificationSettingsDTO selectSettingsByEmployeeId(Integer employeeId);
 
+    /**
+     * 다수 직원 알림 설정 일괄 조회 (설정이 없는 직원은 결과에서 제외)
+     * @param employeeIds 직원 ID 목록
+     * @return 알림 설정 목록
+     */
+    List<NotificationSettingsDTO> selectSettingsByEmployeeIds(@Param("employeeIds") List<Integer> employeeIds);
+
     /**
      * 알림 설정 생성 (첫 로그인 시)
      * @param settings 알림 설정
@@ -0,0 +1,132 @@
+package com.c4.hero.domain.notification.relay;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.ObjectMapper;
+
+import java.util.Set;
+
+/**
+ * <pre>
+ * Class Name: ClusterNotificationRelay
+ * Description: 다중 노드 알림 중계 전송 (notification.relay.mode=redis)
+ *
+ * 처리 흐름
+ * 1. ClusterSessionRegistry 에서 수신 직원이 연결된 노드 목록 조회
+ * 2. 연결된 노드가 없으면 전송 생략 (알림은 DB에 저장되어 있으므로 재접속 시 조회됨)
+ * 3. 현재 노드는 바로 전송, 다른 노드는 노드 전용 채널(hero:notifications:{nodeId})로 발행
+ * 4. 각 노드는 자기 채널 메시지를 받아 자신의 SimpleBroker 로 전송
+ *
+ * - 전체 노드 브로드캐스트가 아니라 세션이 있는 노드에만 발행 (노드 수만큼 중복 전송 없음)
+ * - 레지스트리 조회 실패 시 현재 노드 전송으로 대체
+ *
+ * History
+ * 2026/10/18 (혜원) 최초 작성
+ * </pre>
+ *
+ * @author 혜원
+ * @version 1.0
+ */
+@Slf4j
+public class ClusterNotificationRelay implements NotificationRelay {
+
+    /** 노드 전용 중계 채널 접두사 */
+    public static final String CHANNEL_PREFIX = "hero:notifications:";
+
+    private final SimpMessagingTemplate messagingTemplate;
+    private final ClusterSessionRegistry sessionRegistry;
+    private final NotificationRelayTransport transport;
+    private final NotificationDeliveryMetrics metrics;
+    private final ObjectMapper objectMapper;
+
+    public ClusterNotificationRelay(
+            SimpMessagingTemplate messagingTemplate,
+            ClusterSessionRegistry sessionRegistry,
+            NotificationRelayTransport transport,
+            NotificationDeliveryMetrics metrics,
+            ObjectMapper objectMapper
+    ) {
+        this.messagingTemplate = messagingTemplate;
+        this.sessionRegistry = sessionRegistry;
+        this.transport = transport;
+        this.metrics = metrics;
+        this.objectMapper = objectMapper;
+
+        transport.subscribe(CHANNEL_PREFIX + metrics.getNodeId(), this::onRelayMessage);
+        log.info("알림 클러스터 중계 활성화 - nodeId={}", metrics.getNodeId());
+    }
+
+    @Override
+    public void send(Integer employeeId, Object payload) {
+        Set<String> nodes;
+        try {
+            nodes = sessionRegistry.nodesOf(employeeId);
+        } catch (Exception e) {
+            log.warn("세션 레지스트리 조회 실패 - 현재 노드로 전송: employeeId={}, {}", employeeId, e.getMessage());
+            deliverLocal(employeeId, payload);
+            return;
+        }
+
+        if (nodes.isEmpty()) {
+            metrics.offline();
+            log.debug("연결된 노드 없음 - 실시간 전송 생략: employeeId={}", employeeId);
+            return;
+        }
+
+        String message = null;
+        for (String node : nodes) {
+            if (node.equals(metrics.getNodeId())) {
+                deliverLocal(employeeId, payload);
+                continue;
+            }
+            try {
+                if (message == null) {
+                    message = objectMapper.writeValueAsString(
+                            new RelayMessage(employeeId, objectMapper.valueToTree(payload)));
+                }
+                transport.publish(CHANNEL_PREFIX + node, message);
+                metrics.published();
+            } catch (Exception e) {
+                metrics.failed();
+                log.error("알림 중계 발행 실패: employeeId={}, node={}, {}", employeeId, node, e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * 다른 노드에서 중계된 메시지 수신 → 현재 노드 SimpleBroker 로 전송
+     *
+     * @param message 직렬화된 중계 메시지
+     */
+    void onRelayMessage(String message) {
+        metrics.received();
+        try {
+            RelayMessage relay = objectMapper.readValue(message, RelayMessage.class);
+            deliverLocal(relay.employeeId(), relay.payload());
+        } catch (Exception e) {
+            metrics.failed();
+            log.error("알림 중계 메시지 처리 실패: {}", e.getMessage());
+        }
+    }
+
+    private void deliverLocal(Integer employeeId, Object payload) {
+        long start = System.currentTimeMillis();
+        try {
+            messagingTemplate.convertAndSend(DESTINATION_PREFIX + employeeId, payload);
+            metrics.delivered(System.currentTimeMillis() - start);
+        } catch (Exception e) {
+            metrics.failed();
+            log.error("WebSocket 전송 실패: employeeId={}, {}", employeeId, e.getMessage());
+        }
+    }
+
+    /**
+     * 노드 간 중계 메시지
+     *
+     * @param employeeId 수신 직원 ID
+     * @param payload    알림 데이터(JSON)
+     */
+    public record RelayMessage(Integer employeeId, JsonNode payload) {
+    }
+}
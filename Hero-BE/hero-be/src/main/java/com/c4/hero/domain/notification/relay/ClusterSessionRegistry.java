@@ -0,0 +1,51 @@
+package com.c4.hero.domain.notification.relay;
+
+import com.c4.hero.domain.notification.dto.NotificationNodeMetricsDTO;
+
+import java.util.List;
+import java.util.Set;
+
+/**
+ * <pre>
+ * Interface Name: ClusterSessionRegistry
+ * Description: 클러스터 전체 WebSocket 세션 레지스트리
+ *              직원별로 세션이 연결된 노드 목록과 노드별 전송 지표를 관리
+ *
+ * History
+ * 2026/10/18 (혜원) 최초 작성
+ * </pre>
+ *
+ * @author 혜원
+ * @version 1.0
+ */
+public interface ClusterSessionRegistry {
+
+    /**
+     * 현재 노드에 직원 세션 등록
+     *
+     * @param employeeId 직원 ID
+     */
+    void register(Integer employeeId);
+
+    /**
+     * 현재 노드에서 직원 세션 제거
+     *
+     * @param employeeId 직원 ID
+     */
+    void unregister(Integer employeeId);
+
+    /**
+     * 직원 세션이 연결된 노드 ID 목록 조회
+     *
+     * @param employeeId 직원 ID
+     * @return 노드 ID 목록 (연결된 노드가 없으면 빈 Set)
+     */
+    Set<String> nodesOf(Integer employeeId);
+
+    /**
+     * 클러스터 노드별 전송 지표 조회 (살아있는 노드만)
+     *
+     * @return 노드별 지표 목록
+     */
+    List<NotificationNodeMetricsDTO> clusterMetrics();
+}
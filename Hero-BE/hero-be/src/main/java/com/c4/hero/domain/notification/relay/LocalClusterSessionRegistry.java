@@ -0,0 +1,48 @@
+package com.c4.hero.domain.notification.relay;
+
+import com.c4.hero.domain.notification.dto.NotificationNodeMetricsDTO;
+import com.c4.hero.domain.notification.util.WebSocketSessionManager;
+import lombok.RequiredArgsConstructor;
+
+import java.util.List;
+import java.util.Set;
+
+/**
+ * <pre>
+ * Class Name: LocalClusterSessionRegistry
+ * Description: 단일 노드 세션 레지스트리 (notification.relay.mode=local)
+ *              클러스터 저장소 없이 현재 노드의 WebSocketSessionManager 만 참조
+ *
+ * History
+ * 2026/10/18 (혜원) 최초 작성
+ * </pre>
+ *
+ * @author 혜원
+ * @version 1.0
+ */
+@RequiredArgsConstructor
+public class LocalClusterSessionRegistry implements ClusterSessionRegistry {
+
+    private final WebSocketSessionManager sessionManager;
+    private final NotificationDeliveryMetrics metrics;
+
+    @Override
+    public void register(Integer employeeId) {
+        // 세션 정보는 WebSocketSessionManager 에만 보관
+    }
+
+    @Override
+    public void unregister(Integer employeeId) {
+        // 세션 정보는 WebSocketSessionManager 에만 보관
+    }
+
+    @Override
+    public Set<String> nodesOf(Integer employeeId) {
+        return sessionManager.hasSession(employeeId) ? Set.of(metrics.getNodeId()) : Set.of();
+    }
+
+    @Override
+    public List<NotificationNodeMetricsDTO> clusterMetrics() {
+        return List.of(metrics.snapshot());
+    }
+}
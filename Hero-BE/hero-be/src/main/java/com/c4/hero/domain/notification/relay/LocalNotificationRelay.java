@@ -0,0 +1,38 @@
+package com.c4.hero.domain.notification.relay;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+
+/**
+ * <pre>
+ * Class Name: LocalNotificationRelay
+ * Description: 단일 노드 알림 전송 (notification.relay.mode=local)
+ *              현재 노드의 SimpleBroker 로 바로 전송
+ *
+ * History
+ * 2026/10/18 (혜원) 최초 작성
+ * </pre>
+ *
+ * @author 혜원
+ * @version 1.0
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class LocalNotificationRelay implements NotificationRelay {
+
+    private final SimpMessagingTemplate messagingTemplate;
+    private final NotificationDeliveryMetrics metrics;
+
+    @Override
+    public void send(Integer employeeId, Object payload) {
+        long start = System.currentTimeMillis();
+        try {
+            messagingTemplate.convertAndSend(DESTINATION_PREFIX + employeeId, payload);
+            metrics.delivered(System.currentTimeMillis() - start);
+        } catch (Exception e) {
+            metrics.failed();
+            log.error("WebSocket 전송 실패: employeeId={}, {}", employeeId, e.getMessage());
+        }
+    }
+}
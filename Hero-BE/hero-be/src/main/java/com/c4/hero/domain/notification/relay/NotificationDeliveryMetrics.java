@@ -0,0 +1,95 @@
+package com.c4.hero.domain.notification.relay;
+
+import com.c4.hero.domain.notification.dto.NotificationNodeMetricsDTO;
+import com.c4.hero.domain.notification.util.WebSocketSessionManager;
+import lombok.Getter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * <pre>
+ * Class Name: NotificationDeliveryMetrics
+ * Description: 노드 단위 실시간 알림 전송 지표
+ *              노드 ID를 보관하고 중계 발행/수신/전송/생략/실패 건수를 집계
+ *
+ * History
+ * 2026/10/18 (혜원) 최초 작성
+ * </pre>
+ *
+ * @author 혜원
+ * @version 1.0
+ */
+@Component
+public class NotificationDeliveryMetrics {
+
+    /** 노드 ID (미설정 시 기동마다 새로 발급) */
+    @Getter
+    private final String nodeId;
+
+    private final WebSocketSessionManager sessionManager;
+
+    private final AtomicLong published = new AtomicLong();
+    private final AtomicLong received = new AtomicLong();
+    private final AtomicLong delivered = new AtomicLong();
+    private final AtomicLong offline = new AtomicLong();
+    private final AtomicLong failed = new AtomicLong();
+
+    public NotificationDeliveryMetrics(
+            WebSocketSessionManager sessionManager,
+            @Value("${notification.relay.node-id:}") String nodeId
+    ) {
+        this.sessionManager = sessionManager;
+        this.nodeId = nodeId == null || nodeId.isBlank()
+                ? UUID.randomUUID().toString().substring(0, 8)
+                : nodeId;
+    }
+
+    public void published() {
+        published.incrementAndGet();
+    }
+
+    public void received() {
+        received.incrementAndGet();
+    }
+
+    /**
+     * WebSocket 전송 완료 기록 (전송 시간은 세션 관리자 평균 응답 시간에 반영)
+     *
+     * @param elapsedMs 전송 소요 시간 (ms)
+     */
+    public void delivered(long elapsedMs) {
+        delivered.incrementAndGet();
+        sessionManager.recordResponseTime(elapsedMs);
+    }
+
+    public void offline() {
+        offline.incrementAndGet();
+    }
+
+    public void failed() {
+        failed.incrementAndGet();
+    }
+
+    /**
+     * 현재 노드 지표 스냅샷
+     *
+     * @return 노드 지표
+     */
+    public NotificationNodeMetricsDTO snapshot() {
+        return NotificationNodeMetricsDTO.builder()
+                .nodeId(nodeId)
+                .activeConnections(sessionManager.getActiveConnectionCount())
+                .published(published.get())
+                .received(received.get())
+                .delivered(delivered.get())
+                .offline(offline.get())
+                .failed(failed.get())
+                .averageResponseTime(sessionManager.getAverageResponseTime())
+                .reportedAt(LocalDateTime.now())
+                .build();
+    }
+}
@@ -0,0 +1,104 @@
+package com.c4.hero.domain.notification.relay;
+
+import com.c4.hero.domain.notification.dto.NotificationDTO;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * <pre>
+ * Class Name: NotificationPushDispatcher
+ * Description: 대량 알림 WebSocket 전송 전용 비동기 실행기
+ *
+ * - 스케줄러 스레드는 청크 단위 전송 작업만 제출하고 바로 반환
+ * - 전용 스레드 풀 + 제한된 대기열로 동시 전송량 제한 (공용 @Async 풀과 분리)
+ * - 대기열이 가득 차면 해당 청크의 실시간 전송만 생략 (알림은 DB에 저장되어 있으므로 목록 조회 시 확인 가능)
+ *
+ * 설정
+ * - notification.push.threads        : 전송 스레드 수
+ * - notification.push.queue-capacity : 대기 가능한 청크 작업 수
+ *
+ * History
+ * 2026/10/18 (혜원) 최초 작성
+ * </pre>
+ *
+ * @author 혜원
+ * @version 1.0
+ */
+@Slf4j
+@Component
+public class NotificationPushDispatcher {
+
+    private final NotificationRelay notificationRelay;
+    private final NotificationDeliveryMetrics metrics;
+    private final ThreadPoolExecutor executor;
+
+    public NotificationPushDispatcher(
+            NotificationRelay notificationRelay,
+            NotificationDeliveryMetrics metrics,
+            @Value("${notification.push.threads:4}") int threads,
+            @Value("${notification.push.queue-capacity:200}") int queueCapacity
+    ) {
+        this.notificationRelay = notificationRelay;
+        this.metrics = metrics;
+
+        int poolSize = Math.max(1, threads);
+        AtomicInteger seq = new AtomicInteger();
+        ThreadFactory threadFactory = r -> {
+            Thread t = new Thread(r, "notification-push-" + seq.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        };
+        this.executor = new ThreadPoolExecutor(
+                poolSize,
+                poolSize,
+                60L, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(Math.max(1, queueCapacity)),
+                threadFactory,
+                new ThreadPoolExecutor.AbortPolicy()
+        );
+        this.executor.allowCoreThreadTimeOut(true);
+    }
+
+    /**
+     * 저장 완료된 알림 청크 전송 요청 (비동기)
+     *
+     * @param notifications 저장 완료된 알림 목록
+     */
+    public void dispatch(List<NotificationDTO> notifications) {
+        if (notifications.isEmpty()) return;
+
+        try {
+            executor.execute(() -> push(notifications));
+        } catch (RejectedExecutionException e) {
+            notifications.forEach(n -> metrics.failed());
+            log.warn("알림 전송 대기열 초과 - 실시간 전송 생략: {}건", notifications.size());
+        }
+    }
+
+    private void push(List<NotificationDTO> notifications) {
+        for (NotificationDTO notification : notifications) {
+            try {
+                notificationRelay.send(notification.getEmployeeId(), notification);
+            } catch (Exception e) {
+                metrics.failed();
+                log.error("알림 전송 실패: notificationId={}, employeeId={}, {}",
+                        notification.getNotificationId(), notification.getEmployeeId(), e.getMessage());
+            }
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+}
@@ -0,0 +1,32 @@
+package com.c4.hero.domain.notification.relay;
+
+/**
+ * <pre>
+ * Interface Name: NotificationRelay
+ * Description: 실시간 알림(/topic/notifications/{employeeId}) 전송 경로 추상화
+ *
+ * 구현 모드 (notification.relay.mode)
+ * - local : 현재 노드의 SimpleBroker 로 바로 전송 (단일 노드, 기본값)
+ * - redis : 클러스터 세션 레지스트리로 대상 사원이 연결된 노드를 찾아
+ *           Redis pub/sub 노드 채널로 전달 후 해당 노드에서 전송
+ *
+ * History
+ * 2026/10/18 (혜원) 최초 작성
+ * </pre>
+ *
+ * @author 혜원
+ * @version 1.0
+ */
+public interface NotificationRelay {
+
+    /** 직원별 알림 구독 경로 접두사 */
+    String DESTINATION_PREFIX = "/topic/notifications/";
+
+    /**
+     * 직원에게 실시간 알림 전송
+     *
+     * @param employeeId 수신 직원 ID
+     * @param payload    전송할 알림 데이터
+     */
+    void send(Integer employeeId, Object payload);
+}
@@ -0,0 +1,35 @@
+package com.c4.hero.domain.notification.relay;
+
+import java.util.function.Consumer;
+
+/**
+ * <pre>
+ * Interface Name: NotificationRelayTransport
+ * Description: 노드 간 알림 중계 메시지 전달 채널 추상화 (pub/sub)
+ *              운영은 Redis pub/sub, 테스트는 인메모리 구현으로 대체 가능
+ *
+ * History
+ * 2026/10/18 (혜원) 최초 작성
+ * </pre>
+ *
+ * @author 혜원
+ * @version 1.0
+ */
+public interface NotificationRelayTransport {
+
+    /**
+     * 채널에 메시지 발행
+     *
+     * @param channel 채널명
+     * @param message 직렬화된 메시지(JSON)
+     */
+    void publish(String channel, String message);
+
+    /**
+     * 채널 구독 등록
+     *
+     * @param channel 채널명
+     * @param handler 메시지 수신 처리기
+     */
+    void subscribe(String channel, Consumer<String> handler);
+}
@@ -0,0 +1,135 @@
+package com.c4.hero.domain.notification.relay;
+
+import com.c4.hero.domain.notification.dto.NotificationNodeMetricsDTO;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import tools.jackson.databind.ObjectMapper;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * <pre>
+ * Class Name: RedisClusterSessionRegistry
+ * Description: Redis 기반 클러스터 세션 레지스트리 (notification.relay.mode=redis)
+ *
+ * Redis 키 구조
+ * - hero:ws:employee:{employeeId} : 직원 세션이 연결된 노드 ID Set (TTL 12시간, 연결 시 갱신)
+ * - hero:ws:node:{nodeId}         : 노드 전송 지표 JSON (TTL 45초, 15초마다 갱신 = 노드 생존 표시)
+ * - hero:ws:nodes                 : 노드 ID 인덱스 Set
+ *
+ * - 레지스트리 갱신 실패는 WebSocket 연결/해제에 영향을 주지 않음 (로그만 남김)
+ * - 비정상 종료된 노드의 항목은 TTL 로 정리되며, 그 사이 발행된 메시지는 구독자가 없어 버려짐
+ *
+ * History
+ * 2026/10/18 (혜원) 최초 작성
+ * </pre>
+ *
+ * @author 혜원
+ * @version 1.0
+ */
+@Slf4j
+public class RedisClusterSessionRegistry implements ClusterSessionRegistry {
+
+    private static final String EMPLOYEE_KEY_PREFIX = "hero:ws:employee:";
+    private static final String NODE_KEY_PREFIX = "hero:ws:node:";
+    private static final String NODES_KEY = "hero:ws:nodes";
+    private static final Duration EMPLOYEE_TTL = Duration.ofHours(12);
+    private static final Duration NODE_TTL = Duration.ofSeconds(45);
+
+    private final StringRedisTemplate redisTemplate;
+    private final NotificationDeliveryMetrics metrics;
+    private final ObjectMapper objectMapper;
+
+    public RedisClusterSessionRegistry(
+            StringRedisTemplate redisTemplate,
+            NotificationDeliveryMetrics metrics,
+            ObjectMapper objectMapper
+    ) {
+        this.redisTemplate = redisTemplate;
+        this.metrics = metrics;
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    public void register(Integer employeeId) {
+        try {
+            String key = EMPLOYEE_KEY_PREFIX + employeeId;
+            redisTemplate.opsForSet().add(key, metrics.getNodeId());
+            redisTemplate.expire(key, EMPLOYEE_TTL);
+        } catch (Exception e) {
+            log.warn("클러스터 세션 등록 실패: employeeId={}, {}", employeeId, e.getMessage());
+        }
+    }
+
+    @Override
+    public void unregister(Integer employeeId) {
+        try {
+            redisTemplate.opsForSet().remove(EMPLOYEE_KEY_PREFIX + employeeId, metrics.getNodeId());
+        } catch (Exception e) {
+            log.warn("클러스터 세션 제거 실패: employeeId={}, {}", employeeId, e.getMessage());
+        }
+    }
+
+    @Override
+    public Set<String> nodesOf(Integer employeeId) {
+        Set<String> nodes = redisTemplate.opsForSet().members(EMPLOYEE_KEY_PREFIX + employeeId);
+        return nodes == null ? Set.of() : nodes;
+    }
+
+    @Override
+    public List<NotificationNodeMetricsDTO> clusterMetrics() {
+        Set<String> nodeIds = redisTemplate.opsForSet().members(NODES_KEY);
+        if (nodeIds == null || nodeIds.isEmpty()) return List.of(metrics.snapshot());
+
+        List<String> ids = new ArrayList<>(nodeIds);
+        List<String> values = redisTemplate.opsForValue().multiGet(ids.stream().map(id -> NODE_KEY_PREFIX + id).toList());
+
+        List<NotificationNodeMetricsDTO> result = new ArrayList<>(ids.size());
+        for (int i = 0; i < ids.size(); i++) {
+            String value = values == null ? null : values.get(i);
+            if (ids.get(i).equals(metrics.getNodeId())) {
+                result.add(metrics.snapshot()); // 현재 노드는 최신 값 사용
+            } else if (value == null) {
+                redisTemplate.opsForSet().remove(NODES_KEY, ids.get(i)); // TTL 만료 = 중단된 노드
+            } else {
+                result.add(objectMapper.readValue(value, NotificationNodeMetricsDTO.class));
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 15초마다 현재 노드 지표 보고 (노드 생존 표시 갱신)
+     */
+    @Scheduled(fixedDelay = 15_000)
+    public void heartbeat() {
+        try {
+            redisTemplate.opsForValue().set(
+                    NODE_KEY_PREFIX + metrics.getNodeId(),
+                    objectMapper.writeValueAsString(metrics.snapshot()),
+                    NODE_TTL
+            );
+            redisTemplate.opsForSet().add(NODES_KEY, metrics.getNodeId());
+        } catch (Exception e) {
+            log.warn("알림 노드 지표 보고 실패: nodeId={}, {}", metrics.getNodeId(), e.getMessage());
+        }
+    }
+
+    /**
+     * 종료 시 노드 항목 제거
+     */
+    @PreDestroy
+    public void shutdown() {
+        try {
+            redisTemplate.delete(NODE_KEY_PREFIX + metrics.getNodeId());
+            redisTemplate.opsForSet().remove(NODES_KEY, metrics.getNodeId());
+        } catch (Exception e) {
+            log.warn("알림 노드 항목 제거 실패: nodeId={}, {}", metrics.getNodeId(), e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package com.c4.hero.domain.notification.relay;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.nio.charset.StandardCharsets;
+import java.util.function.Consumer;
+
+/**
+ * <pre>
+ * Class Name: RedisNotificationRelayTransport
+ * Description: Redis pub/sub 기반 노드 간 알림 중계 채널
+ *
+ * History
+ * 2026/10/18 (혜원) 최초 작성
+ * </pre>
+ *
+ * @author 혜원
+ * @version 1.0
+ */
+@RequiredArgsConstructor
+public class RedisNotificationRelayTransport implements NotificationRelayTransport {
+
+    private final StringRedisTemplate redisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+
+    @Override
+    public void publish(String channel, String message) {
+        redisTemplate.convertAndSend(channel, message);
+    }
+
+    @Override
+    public void subscribe(String channel, Consumer<String> handler) {
+        listenerContainer.addMessageListener(
+                (message, pattern) -> handler.accept(new String(message.getBody(), StandardCharsets.UTF_8)),
+                new ChannelTopic(channel)
+        );
+    }
+}
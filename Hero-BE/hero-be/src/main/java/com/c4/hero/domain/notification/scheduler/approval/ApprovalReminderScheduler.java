@@ -1,21 +1,18 @@
 package com.c4.hero.domain.notification.scheduler.approval;
 
-import com.c4.hero.domain.approval.entity.ApprovalDocument;
-import com.c4.hero.domain.approval.entity.ApprovalLine;
-import com.c4.hero.domain.approval.repository.ApprovalDocumentRepository;
-import com.c4.hero.domain.approval.repository.ApprovalLineRepository;
-import com.c4.hero.domain.approval.service.ApprovalCommandService;
-import com.c4.hero.domain.notification.event.approval.ApprovalNotificationEvent;
+import com.c4.hero.domain.approval.dto.ApprovalReminderTargetDTO;
+import com.c4.hero.domain.approval.mapper.ApprovalMapper;
+import com.c4.hero.domain.notification.dto.NotificationRegistDTO;
+import com.c4.hero.domain.notification.service.NotificationBatchCommandService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.context.ApplicationEventPublisher;
+import net.javacrumbs.shedlock.spring.annotation.SchedulerLock;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
 import java.time.LocalDateTime;
-import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
 import java.util.List;
-import java.util.Map;
 
 /**
  * <pre>
@@ -24,76 +21,79 @@ import java.util.Map;
  *
  * History
  * 2026/01/02 (혜원) 최초 작성
+ * 2026/10/18 (혜원) 결재자별 이벤트 발행 대신 알림 일괄 처리(NotificationBatchCommandService)로 변경
+ * 2026/10/18 (혜원) 문서/결재선/서식 개별 조회를 독촉 대상 일괄 조회(스트리밍)로 변경, ShedLock 적용
  * </pre>
  */
 @Slf4j
 @Component
 @RequiredArgsConstructor
 public class ApprovalReminderScheduler {
-    private final ApprovalDocumentRepository documentRepository;
-    private final ApprovalLineRepository lineRepository;
-    private final ApprovalCommandService approvalCommandService;
+
+    /** 독촉 기준 대기 일수 */
+    private static final int REMINDER_WAITING_DAYS = 3;
+
+    /**
+     * 알림 일괄 처리 단위 (조회 결과를 이 건수만큼 모아서 저장/전송)
+     * 스케줄러는 트랜잭션 밖에서 실행되므로 저장은 조회 커서와 별도 커넥션으로 수행됨
+     */
+    private static final int FLUSH_SIZE = 500;
+
+    private final ApprovalMapper approvalMapper;
+    private final NotificationBatchCommandService notificationBatchCommandService;
 
     /**
-     * 매일 오전 10시에 결재 대기 독촉 알림 발송 (3일 이상인 기안자에게)
+     * 매일 오전 10시에 결재 대기 독촉 알림 발송 (3일 이상 대기 중인 문서의 현재 결재자에게)
+     * 여러 노드가 떠 있어도 한 노드에서만 실행 (ShedLock)
      */
     @Scheduled(cron = "0 0 10 * * *")
+    @SchedulerLock(name = "sendApprovalReminders", lockAtLeastFor = "PT1M", lockAtMostFor = "PT30M")
     public void sendApprovalReminders() {
         log.info("=== 결재 독촉 스케줄러 시작 ===");
 
         try {
-            // 1. 진행중인 문서 조회
-            List<ApprovalDocument> inProgressDocs = documentRepository.findByDocStatus("INPROGRESS");
-            log.info("진행중인 문서 수: {}", inProgressDocs.size());
-
-            if (inProgressDocs.isEmpty()) {
-                log.info("진행중인 문서가 없습니다.");
-                return;
-            }
-
-            int totalReminders = 0;
-
-            for (ApprovalDocument doc : inProgressDocs) {
-                log.info("문서 확인 - docId: {}, 제목: {}, 생성일: {}",
-                        doc.getDocId(), doc.getTitle(), doc.getCreatedAt());
+            LocalDateTime now = LocalDateTime.now();
+            List<NotificationRegistDTO> buffer = new ArrayList<>(FLUSH_SIZE);
+            int[] totals = new int[2]; // [0] 대상 건수, [1] 발송 건수
 
-                // 2. 대기중인 결재선 조회
-                List<ApprovalLine> pendingLines = lineRepository.findByDocIdAndLineStatus(
-                        doc.getDocId(), "PENDING");
+            // 1. 독촉 대상 스트리밍 조회 (문서 + 현재 결재자 + 기안자 이름 + 대기 일수)
+            approvalMapper.selectApprovalReminderTargets(
+                    now.minusDays(REMINDER_WAITING_DAYS),
+                    now,
+                    context -> {
+                        buffer.add(toReminder(context.getResultObject()));
+                        totals[0]++;
 
-                log.info("docId: {} - 대기중인 결재선 수: {}", doc.getDocId(), pendingLines.size());
-
-                for (ApprovalLine line : pendingLines) {
-                    // 3. 대기 일수 계산
-                    long waitingDays = ChronoUnit.DAYS.between(
-                            doc.getCreatedAt(),
-                            LocalDateTime.now()
-                    );
-
-                    log.info("결재선 확인 - lineId: {}, approverId: {}, 대기일수: {}일",
-                            line.getLineId(), line.getApproverId(), waitingDays);
-
-                    // 4. 3일 이상이면 바로 독촉
-                    if (waitingDays >= 3) {
-                        approvalCommandService.publishApprovalReminderEvent(
-                                doc,
-                                line,
-                                (int) waitingDays
-                        );
-                        totalReminders++;
-                        log.info("독촉 알림 발송 완료 - docId: {}, approverId: {}, waitingDays: {}일",
-                                doc.getDocId(), line.getApproverId(), waitingDays);
-                    } else {
-                        log.info("대기일수 부족 - docId: {}, waitingDays: {}일",
-                                doc.getDocId(), waitingDays);
+                        // 2. 일정 건수마다 알림 일괄 저장 및 비동기 전송
+                        if (buffer.size() >= FLUSH_SIZE) {
+                            totals[1] += notificationBatchCommandService.registAndSendAll(List.copyOf(buffer));
+                            buffer.clear();
+                        }
                     }
-                }
-            }
+            );
+            totals[1] += notificationBatchCommandService.registAndSendAll(buffer);
 
-            log.info("=== 결재 독촉 스케줄러 종료 - 총 {}건 발송 ===", totalReminders);
+            log.info("=== 결재 독촉 스케줄러 종료 - 대상 {}건, 총 {}건 발송 ===", totals[0], totals[1]);
 
         } catch (Exception e) {
             log.error("결재 독촉 스케줄러 실행 중 오류 발생", e);
         }
     }
-}
\ No newline at end of file
+
+    /**
+     * 결재 독촉 알림 생성 (결재자에게)
+     */
+    private NotificationRegistDTO toReminder(ApprovalReminderTargetDTO target) {
+        String drafterName = target.getDrafterName() == null ? "" : target.getDrafterName();
+
+        return NotificationRegistDTO.builder()
+                .employeeId(target.getApproverId())
+                .type("approval")
+                .title("결재 대기 독촉")
+                .message(String.format("%s님의 '%s' 문서가 %d일째 결재 대기 중입니다.",
+                        drafterName, target.getTitle(), target.getWaitingDays()))
+                .link("/approval/documents/" + target.getDocId())
+                .documentId(target.getDocId())
+                .build();
+    }
+}
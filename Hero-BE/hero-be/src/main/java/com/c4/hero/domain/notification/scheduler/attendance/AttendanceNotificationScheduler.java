@@ -1,11 +1,11 @@
 package com.c4.hero.domain.notification.scheduler.attendance;
 
-import com.c4.hero.domain.notification.event.attendance.AttendanceNotificationEvent;
 import com.c4.hero.domain.attendance.mapper.AttendanceMapper;
+import com.c4.hero.domain.notification.dto.NotificationRegistDTO;
 import com.c4.hero.domain.notification.service.AttendanceNotificationEventService;
+import com.c4.hero.domain.notification.service.NotificationBatchCommandService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
@@ -13,13 +13,22 @@ import java.time.LocalDate;
 import java.util.List;
 import java.util.Map;
 
+/**
+ * <pre>
+ * Class Name: AttendanceNotificationScheduler
+ * Description: 출근 미체크 알림 스케줄러
+ *
+ * History
+ * 2026/10/18 (혜원) 직원별 이벤트 발행 대신 알림 일괄 처리(NotificationBatchCommandService)로 변경
+ * </pre>
+ */
 @Slf4j
 @Component
 @RequiredArgsConstructor
 public class AttendanceNotificationScheduler {
 
     private final AttendanceNotificationEventService attendanceNotificationEventService;
-    private final ApplicationEventPublisher eventPublisher;
+    private final NotificationBatchCommandService notificationBatchCommandService;
     private final AttendanceMapper attendanceMapper;
 
     /**
@@ -73,22 +82,21 @@ public class AttendanceNotificationScheduler {
             return;
         }
 
-        missingList.forEach(map -> {
-            Integer employeeId = (Integer) map.get("employeeId");
-            Integer attendanceId = (Integer) map.get("attendanceId");
-
-            log.info("[{}] 출근 미체크 알림 발송 - employeeId: {}", time, employeeId);
-
-            AttendanceNotificationEvent.ClockInMissingEvent event = AttendanceNotificationEvent.ClockInMissingEvent.builder()
-                    .employeeId(employeeId)
-                    .attendanceId(attendanceId)
-                    .workDate(today.toString())
-                    .build();
-
-            eventPublisher.publishEvent(event);
-        });
-
-        log.info("[스케줄러 {}] 출근 미체크 알림 발송 완료: {}건", time, missingList.size());
+        String workDate = today.toString();
+        List<NotificationRegistDTO> notifications = missingList.stream()
+                .map(map -> NotificationRegistDTO.builder()
+                        .employeeId((Integer) map.get("employeeId"))
+                        .type("attendance")
+                        .title("출근 미체크")
+                        .message(workDate + " 출근 체크가 없습니다. 근태를 확인해주세요.")
+                        .link("/attendance")
+                        .attendanceId((Integer) map.get("attendanceId"))
+                        .build())
+                .toList();
+
+        int sent = notificationBatchCommandService.registAndSendAll(notifications);
+
+        log.info("[스케줄러 {}] 출근 미체크 알림 발송 완료: {}건", time, sent);
     }
 
 }
\ No newline at end of file
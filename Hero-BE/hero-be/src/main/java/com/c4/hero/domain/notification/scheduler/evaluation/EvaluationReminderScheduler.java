@@ -6,16 +6,21 @@ import com.c4.hero.domain.evaluation.entity.EvaluationPeriod;
 import com.c4.hero.domain.evaluation.repository.EvaluationRepository;
 import com.c4.hero.domain.evaluation.repository.EvaluateeRepository;
 import com.c4.hero.domain.evaluation.repository.EvaluationPeriodRepository;
-import com.c4.hero.domain.notification.event.evaluation.EvaluationNotificationEvent;
+import com.c4.hero.domain.notification.dto.NotificationRegistDTO;
+import com.c4.hero.domain.notification.service.NotificationBatchCommandService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
 import java.time.LocalDateTime;
 import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 /**
  * <pre>
@@ -24,6 +29,7 @@ import java.util.List;
  *
  * History
  * 2026/01/03 (혜원) 최초 작성
+ * 2026/10/18 (혜원) 피평가자별 이벤트 발행 대신 알림 일괄 처리(NotificationBatchCommandService)로 변경
  * </pre>
  */
 @Slf4j
@@ -34,7 +40,7 @@ public class EvaluationReminderScheduler {
     private final EvaluationRepository evaluationRepository;
     private final EvaluateeRepository evaluateeRepository;
     private final EvaluationPeriodRepository evaluationPeriodRepository;
-    private final ApplicationEventPublisher eventPublisher;
+    private final NotificationBatchCommandService notificationBatchCommandService;
 
     /**
      * 매일 오전 10시에 평가 제출 독촉 알림 발송
@@ -55,13 +61,19 @@ public class EvaluationReminderScheduler {
                 return;
             }
 
-            int totalReminders = 0;
+            // 2. 평가 기간 일괄 조회
+            Map<Integer, EvaluationPeriod> periods = evaluationPeriodRepository.findAllById(
+                    activeEvaluations.stream()
+                            .map(Evaluation::getEvaluationPeriodId)
+                            .filter(Objects::nonNull)
+                            .distinct()
+                            .toList()
+            ).stream().collect(Collectors.toMap(EvaluationPeriod::getEvaluationPeriodId, Function.identity()));
+
+            List<NotificationRegistDTO> reminders = new ArrayList<>();
 
             for (Evaluation evaluation : activeEvaluations) {
-                // 2. 평가 기간 조회
-                EvaluationPeriod period = evaluationPeriodRepository.findById(
-                        evaluation.getEvaluationPeriodId()
-                ).orElse(null);
+                EvaluationPeriod period = periods.get(evaluation.getEvaluationPeriodId());
 
                 if (period == null || period.getEnd() == null) {
                     continue;
@@ -88,17 +100,14 @@ public class EvaluationReminderScheduler {
 
                     // 각 미완료 피평가자에게 독촉 알림
                     for (Evaluatee evaluatee : incompleteEvaluatees) {
-                        publishEvaluationReminderEvent(
-                                evaluation,
-                                period,
-                                evaluatee.getEmployeeId(),
-                                (int) remainingDays
-                        );
-                        totalReminders++;
+                        reminders.add(toReminder(evaluation, evaluatee.getEmployeeId(), (int) remainingDays));
                     }
                 }
             }
 
+            // 5. 알림 일괄 저장 및 비동기 전송
+            int totalReminders = notificationBatchCommandService.registAndSendAll(reminders);
+
             log.info("=== 평가 독촉 스케줄러 종료 - 총 {}건 발송 ===", totalReminders);
 
         } catch (Exception e) {
@@ -107,26 +116,17 @@ public class EvaluationReminderScheduler {
     }
 
     /**
-     * 평가 독촉 알림 이벤트 발행
+     * 평가 독촉 알림 생성
      */
-    private void publishEvaluationReminderEvent(
-            Evaluation evaluation,
-            EvaluationPeriod period,
-            Integer employeeId,
-            int remainingDays
-    ) {
-        EvaluationNotificationEvent.EvaluationReminderEvent event =
-                EvaluationNotificationEvent.EvaluationReminderEvent.builder()
-                        .evaluationId(evaluation.getEvaluationId())
-                        .evaluationName(evaluation.getName())
-                        .evaluatorId(employeeId) // 피평가자 = 평가 받는 사람
-                        .remainingDays(remainingDays)
-                        .deadline(period.getEnd())
-                        .build();
-
-        log.info("평가 독촉 알림 발송 - evaluationId: {}, employeeId: {}, remainingDays: {}일",
-                evaluation.getEvaluationId(), employeeId, remainingDays);
-
-        eventPublisher.publishEvent(event);
+    private NotificationRegistDTO toReminder(Evaluation evaluation, Integer employeeId, int remainingDays) {
+        return NotificationRegistDTO.builder()
+                .employeeId(employeeId)
+                .type("evaluation")
+                .title("평가 제출 독촉")
+                .message(String.format("'%s' 평가 제출 마감이 %d일 남았습니다.",
+                        evaluation.getName(), remainingDays))
+                .link("/evaluation/evaluation/" + evaluation.getEvaluationId())
+                .evaluationId(evaluation.getEvaluationId())
+                .build();
     }
 }
\ No newline at end of file
@@ -0,0 +1,135 @@
+package com.c4.hero.domain.notification.service;
+
+import com.c4.hero.domain.notification.dto.NotificationDTO;
+import com.c4.hero.domain.notification.dto.NotificationRegistDTO;
+import com.c4.hero.domain.notification.dto.NotificationSettingsDTO;
+import com.c4.hero.domain.notification.mapper.NotificationMapper;
+import com.c4.hero.domain.notification.relay.NotificationPushDispatcher;
+import com.c4.hero.domain.notification.util.NotificationSettingsValidator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * <pre>
+ * Class Name: NotificationBatchCommandService
+ * Description: 알림 일괄 생성 및 전송 (스케줄러 대량 발송용)
+ *
+ * 처리 흐름
+ * 1. 수신 직원 알림 설정 일괄 조회 (IN 절 쿼리, 직원별 개별 조회 없음)
+ * 2. 비활성화된 알림 타입 제외
+ * 3. 청크 단위 multi-row INSERT (청크당 SQL 1회, 단일 문장이라 별도 트랜잭션 불필요)
+ *    → RETURNING 으로 받은 ID 를 순서대로 각 알림에 설정
+ * 4. 저장된 청크를 NotificationPushDispatcher 에 넘겨 비동기 WebSocket 전송
+ *
+ * - 스케줄러 스레드는 조회/저장까지만 수행하고 전송은 기다리지 않음
+ * - 단건 발송(NotificationCommandService)과 동일하게 설정이 없는 직원은 모두 활성화로 취급
+ *
+ * 설정
+ * - notification.batch.chunk-size : INSERT 1회 / 전송 작업 1건당 알림 수
+ *
+ * History
+ * 2026/10/18 (혜원) 최초 작성
+ * 2026/10/18 (혜원) 생성된 알림 ID 를 명시적으로 설정한 뒤 전송
+ * </pre>
+ *
+ * @author 혜원
+ * @version 1.1
+ */
+@Slf4j
+@Service
+public class NotificationBatchCommandService {
+
+    private final NotificationMapper notificationMapper;
+    private final NotificationMySettingsService settingsService;
+    private final NotificationPushDispatcher pushDispatcher;
+    private final int chunkSize;
+
+    public NotificationBatchCommandService(
+            NotificationMapper notificationMapper,
+            NotificationMySettingsService settingsService,
+            NotificationPushDispatcher pushDispatcher,
+            @Value("${notification.batch.chunk-size:500}") int chunkSize
+    ) {
+        this.notificationMapper = notificationMapper;
+        this.settingsService = settingsService;
+        this.pushDispatcher = pushDispatcher;
+        this.chunkSize = Math.max(1, chunkSize);
+    }
+
+    /**
+     * 알림 일괄 생성 및 전송 요청
+     *
+     * @param requests 알림 등록 정보 목록
+     * @return 저장된 알림 건수 (설정으로 제외된 건 제외)
+     */
+    public int registAndSendAll(List<NotificationRegistDTO> requests) {
+        if (requests == null || requests.isEmpty()) return 0;
+
+        // 1. 알림 설정 일괄 조회
+        Set<Integer> employeeIds = new LinkedHashSet<>();
+        requests.forEach(request -> employeeIds.add(request.getEmployeeId()));
+        Map<Integer, NotificationSettingsDTO> settingsByEmployee = settingsService.findSettingsByEmployeeIds(employeeIds);
+
+        // 2. 비활성화된 알림 타입 제외
+        List<NotificationDTO> notifications = new ArrayList<>(requests.size());
+        for (NotificationRegistDTO request : requests) {
+            NotificationSettingsDTO settings = settingsByEmployee.get(request.getEmployeeId());
+            if (settings != null && !NotificationSettingsValidator.isNotificationEnabled(settings, request.getType())) {
+                continue;
+            }
+            notifications.add(toNotification(request));
+        }
+
+        // 3. 청크 단위 저장 → 4. 비동기 전송
+        int saved = 0;
+        for (int from = 0; from < notifications.size(); from += chunkSize) {
+            List<NotificationDTO> chunk = new ArrayList<>(
+                    notifications.subList(from, Math.min(from + chunkSize, notifications.size())));
+            List<Integer> ids;
+            try {
+                ids = notificationMapper.insertNotifications(chunk);
+            } catch (Exception e) {
+                log.error("알림 일괄 저장 실패 - 청크 건너뜀: {}건, {}", chunk.size(), e.getMessage(), e);
+                continue;
+            }
+            saved += chunk.size();
+
+            // ID 없이 전송하면 클라이언트에서 읽음/삭제 처리를 할 수 없으므로 전송하지 않음 (목록 조회로 확인 가능)
+            if (ids == null || ids.size() != chunk.size()) {
+                log.error("알림 일괄 저장 ID 개수 불일치 - 전송 건너뜀: 저장 {}건, ID {}건",
+                        chunk.size(), ids == null ? 0 : ids.size());
+                continue;
+            }
+            for (int i = 0; i < chunk.size(); i++) {
+                chunk.get(i).setNotificationId(ids.get(i));
+            }
+            pushDispatcher.dispatch(chunk);
+        }
+
+        log.info("알림 일괄 처리 완료: 요청 {}건, 설정 제외 {}건, 저장 {}건",
+                requests.size(), requests.size() - notifications.size(), saved);
+        return saved;
+    }
+
+    private NotificationDTO toNotification(NotificationRegistDTO request) {
+        return NotificationDTO.builder()
+                .employeeId(request.getEmployeeId())
+                .type(request.getType())
+                .title(request.getTitle())
+                .message(request.getMessage())
+                .link(request.getLink())
+                .isRead(false)
+                .attendanceId(request.getAttendanceId())
+                .payrollId(request.getPayrollId())
+                .documentId(request.getDocumentId())
+                .evaluationId(request.getEvaluationId())
+                .build();
+    }
+}
@@ -4,10 +4,10 @@ import com.c4.hero.domain.notification.dto.NotificationDTO;
 import com.c4.hero.domain.notification.dto.NotificationRegistDTO;
 import com.c4.hero.domain.notification.dto.NotificationSettingsDTO;
 import com.c4.hero.domain.notification.mapper.NotificationMapper;
+import com.c4.hero.domain.notification.relay.NotificationRelay;
 import com.c4.hero.domain.notification.util.NotificationSettingsValidator;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -24,10 +24,11 @@ import java.util.List;
  * History
  * 2025/12/16 (혜원) 최초작성 (CQRS 패턴 적용 - Command 분리)
  * 2025/12/22 (혜원) 읽음 처리 및 삭제 관련 보안 파라미터(employeeId) 적용 및 로직 정비
+ * 2026/10/18 (혜원) 실시간 전송을 NotificationRelay 로 위임 (다중 노드 중계 지원)
  * </pre>
  *
  * @author 혜원
- * @version 2.1
+ * @version 2.2
  */
 @Slf4j
 @Service
@@ -36,7 +37,7 @@ public class NotificationCommandService {
 
     private final NotificationMapper notificationMapper;
     private final NotificationMySettingsService settingsService;
-    private final SimpMessagingTemplate messagingTemplate;
+    private final NotificationRelay notificationRelay;
 
     /**
      * 알림 생성 및 실시간 전송
@@ -81,16 +82,9 @@ public class NotificationCommandService {
                 notificationDTO.getType(),
                 notificationDTO.getEmployeeId());
 
-        // 4. WebSocket 전송
-        try {
-            messagingTemplate.convertAndSend(
-                    "/topic/notifications/" + notificationDTO.getEmployeeId(),
-                    notificationDTO
-            );
-            log.info("알림 WebSocket 전송 완료: employeeId={}", notificationDTO.getEmployeeId());
-        } catch (Exception e) {
-            log.error("WebSocket 전송 실패: {}", e.getMessage());
-        }
+        // 4. WebSocket 전송 (relay 모드에 따라 현재 노드 또는 세션이 연결된 노드로 전달)
+        notificationRelay.send(notificationDTO.getEmployeeId(), notificationDTO);
+        log.info("알림 WebSocket 전송 요청 완료: employeeId={}", notificationDTO.getEmployeeId());
 
         return notificationDTO;
     }
@@ -1,12 +1,21 @@
 package com.c4.hero.domain.notification.service;
 
+import com.c4.hero.domain.notification.cache.NotificationSettingsCache;
 import com.c4.hero.domain.notification.dto.NotificationSettingsDTO;
+import com.c4.hero.domain.notification.event.NotificationSettingsChangedEvent;
 import com.c4.hero.domain.notification.mapper.NotificationSettingsMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
 /**
  * <pre>
  * Class Name: NotificationSettingsService
@@ -14,26 +23,38 @@ import org.springframework.transaction.annotation.Transactional;
  *
  * History
  * 2025/12/17 (혜원) 최초 작성
+ * 2026/10/18 (혜원) 다수 직원 알림 설정 일괄 조회 추가 (스케줄러 대량 발송용)
+ * 2026/10/18 (혜원) 알림 설정 캐시 적용 (조회 시 캐시 우선, 수정 커밋 후 무효화)
  * </pre>
  *
  * @author 혜원
- * @version 1.0
+ * @version 1.2
  */
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class NotificationMySettingsService {
 
+    /** IN 절 1회당 최대 직원 수 */
+    private static final int SETTINGS_QUERY_CHUNK_SIZE = 1000;
+
     private final NotificationSettingsMapper settingsMapper;
+    private final NotificationSettingsCache settingsCache;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * 알림 설정 조회 (없으면 기본값 생성)
+     * 알림 발송마다 호출되므로 캐시를 먼저 확인하고, 캐시에 없을 때만 DB 조회
+     * (캐시 적중 시 DB 커넥션을 잡지 않도록 트랜잭션을 걸지 않음 - 기본값 생성은 단일 INSERT)
      *
      * @param employeeId 직원 ID
      * @return 알림 설정
      */
-    @Transactional
     public NotificationSettingsDTO findSettingsByEmployeeId(Integer employeeId) {
+        return settingsCache.get(employeeId, this::loadSettings);
+    }
+
+    private NotificationSettingsDTO loadSettings(Integer employeeId) {
         log.info("알림 설정 조회 시작: employeeId={}", employeeId);
 
         NotificationSettingsDTO settings = settingsMapper.selectSettingsByEmployeeId(employeeId);
@@ -48,6 +69,30 @@ public class NotificationMySettingsService {
         return settings;
     }
 
+    /**
+     * 다수 직원 알림 설정 일괄 조회
+     * 설정이 없는 직원은 결과에 포함되지 않으며, 호출 측에서 기본값(모두 활성화)으로 취급
+     * (기본 설정 행 생성은 개별 조회 시점으로 미룸)
+     *
+     * @param employeeIds 직원 ID 목록
+     * @return 직원 ID별 알림 설정
+     */
+    @Transactional(readOnly = true)
+    public Map<Integer, NotificationSettingsDTO> findSettingsByEmployeeIds(Collection<Integer> employeeIds) {
+        Map<Integer, NotificationSettingsDTO> result = new HashMap<>();
+        List<Integer> ids = new ArrayList<>(employeeIds);
+
+        for (int from = 0; from < ids.size(); from += SETTINGS_QUERY_CHUNK_SIZE) {
+            List<Integer> chunk = ids.subList(from, Math.min(from + SETTINGS_QUERY_CHUNK_SIZE, ids.size()));
+            for (NotificationSettingsDTO settings : settingsMapper.selectSettingsByEmployeeIds(chunk)) {
+                result.put(settings.getEmployeeId(), settings);
+            }
+        }
+
+        log.info("알림 설정 일괄 조회 완료: 요청 {}명, 설정 보유 {}명", ids.size(), result.size());
+        return result;
+    }
+
     /**
      * 알림 설정 수정
      *
@@ -67,6 +112,9 @@ public class NotificationMySettingsService {
 
         log.info("알림 설정 수정 완료: employeeId={}", settings.getEmployeeId());
 
+        // 커밋 후 캐시 무효화 (다중 노드 모드에서는 모든 노드에 전파)
+        eventPublisher.publishEvent(new NotificationSettingsChangedEvent(settings.getEmployeeId()));
+
         // 수정된 설정 반환
         return settingsMapper.selectSettingsByEmployeeId(settings.getEmployeeId());
     }
@@ -11,6 +11,7 @@ import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicLong;
 
@@ -22,26 +23,29 @@ import java.util.concurrent.atomic.AtomicLong;
  *
  * History
  * 2025/12/22 (혜원) 최초 작성
+ * 2026/10/18 (혜원) 세션 ID 기준 제거 시 제거된 직원 ID 반환 (클러스터 세션 레지스트리 연동)
+ * 2026/10/18 (혜원) 세션 ID 기준 저장 + 직원별 세션 ID 목록 관리
+ *                   (새로고침/다중 탭에서 늦게 도착한 이전 세션 해제가 새 세션을 지우던 문제 수정)
  * </pre>
  *
  * @author 혜원
- * @version 1.0
+ * @version 1.2
  */
 @Component
 @Slf4j
 public class WebSocketSessionManager {
 
     /**
-     * 직원 ID를 키로 하는 세션 정보 저장소
-     * ConcurrentHashMap을 사용하여 멀티 스레드 환경에서 안전하게 세션 관리
+     * 세션 ID를 키로 하는 세션 정보 저장소
+     * 같은 직원이 여러 탭/재연결로 동시에 여러 세션을 가질 수 있으므로 세션 단위로 보관
      */
-    private final Map<Integer, SessionInfo> sessions = new ConcurrentHashMap<>();
+    private final Map<String, SessionInfo> sessions = new ConcurrentHashMap<>();
 
     /**
-     * 세션 ID를 키로 직원 ID를 조회하기 위한 역방향 매핑
-     * WebSocket 연결 해제 시 세션 ID로 직원 ID를 빠르게 찾기 위함
+     * 직원 ID별 연결된 세션 ID 목록
+     * 마지막 세션이 해제될 때만 직원 항목을 제거 (compute 로 직원 단위 원자적 갱신)
      */
-    private final Map<String, Integer> sessionIdToEmployeeId = new ConcurrentHashMap<>();
+    private final Map<Integer, Set<String>> sessionIdsByEmployee = new ConcurrentHashMap<>();
 
     /**
      * 전체 응답 시간 누적값 (밀리초 단위)
@@ -100,21 +104,25 @@ public class WebSocketSessionManager {
                 .connectedAt(LocalDateTime.now())
                 .build();
 
-        sessions.put(employeeId, sessionInfo);
-        sessionIdToEmployeeId.put(sessionId, employeeId);
-        log.info("Session added. EmployeeId: {}, Current size: {}, Manager HashCode: {}",
-                employeeId, sessions.size(), this.hashCode());
+        sessionIdsByEmployee.compute(employeeId, (id, ids) -> {
+            Set<String> updated = ids == null ? ConcurrentHashMap.newKeySet() : ids;
+            updated.add(sessionId);
+            sessions.put(sessionId, sessionInfo);
+            return updated;
+        });
+        log.info("Session added. EmployeeId: {}, SessionId: {}, Current size: {}, Manager HashCode: {}",
+                employeeId, sessionId, sessions.size(), this.hashCode());
     }
 
     /**
-     * 직원 ID로 세션 제거
+     * 직원 ID로 해당 직원의 모든 세션 제거
      *
      * @param employeeId 제거할 세션의 직원 ID
      */
     public void removeSession(Integer employeeId) {
-        SessionInfo removed = sessions.remove(employeeId);
+        Set<String> removed = sessionIdsByEmployee.remove(employeeId);
         if (removed != null) {
-            sessionIdToEmployeeId.remove(removed.getSessionId());
+            removed.forEach(sessions::remove);
             log.info("Session removed by EmployeeId: {}. Current size: {}, Manager HashCode: {}",
                     employeeId, sessions.size(), this.hashCode());
         } else {
@@ -125,18 +133,27 @@ public class WebSocketSessionManager {
     /**
      * WebSocket 세션 ID로 세션 제거
      * WebSocket 연결 해제 이벤트에서 주로 사용
+     * 같은 직원의 다른 세션(새로고침 후 새 연결, 다른 탭)은 유지
      *
      * @param sessionId 제거할 WebSocket 세션 ID
+     * @return 제거된 세션의 직원 ID, 없으면 null
      */
-    public void removeSessionBySessionId(String sessionId) {
-        Integer employeeId = sessionIdToEmployeeId.remove(sessionId);
-        if (employeeId != null) {
-            sessions.remove(employeeId);
-            log.info("Session removed by SessionId: {}. EmployeeId: {}, Current size: {}, Manager HashCode: {}",
-                    sessionId, employeeId, sessions.size(), this.hashCode());
-        } else {
+    public Integer removeSessionBySessionId(String sessionId) {
+        SessionInfo removed = sessions.get(sessionId);
+        if (removed == null) {
             log.warn("Attempted to remove non-existent session for SessionId: {}", sessionId);
+            return null;
         }
+
+        Integer employeeId = removed.getEmployeeId();
+        sessionIdsByEmployee.computeIfPresent(employeeId, (id, ids) -> {
+            ids.remove(sessionId);
+            sessions.remove(sessionId);
+            return ids.isEmpty() ? null : ids;
+        });
+        log.info("Session removed by SessionId: {}. EmployeeId: {}, Current size: {}, Manager HashCode: {}",
+                sessionId, employeeId, sessions.size(), this.hashCode());
+        return employeeId;
     }
 
     /**
@@ -149,7 +166,7 @@ public class WebSocketSessionManager {
     }
 
     /**
-     * 현재 활성 연결 수 조회
+     * 현재 활성 연결(세션) 수 조회
      * WebSocket Health Check 및 통계에서 사용
      *
      * @return 현재 연결된 세션 수
@@ -166,10 +183,10 @@ public class WebSocketSessionManager {
      * 알림 발송 전 연결 상태 체크에 사용
      *
      * @param employeeId 확인할 직원 ID
-     * @return 세션이 존재하면 true, 그렇지 않으면 false
+     * @return 세션이 1개 이상 존재하면 true, 그렇지 않으면 false
      */
     public boolean hasSession(Integer employeeId) {
-        return sessions.containsKey(employeeId);
+        return employeeId != null && sessionIdsByEmployee.containsKey(employeeId);
     }
 
     /**
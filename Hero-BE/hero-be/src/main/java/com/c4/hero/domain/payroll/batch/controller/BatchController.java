@@ -5,11 +5,16 @@ import com.c4.hero.common.response.CustomResponse;
 import com.c4.hero.domain.auth.security.CustomUserDetails;
 import com.c4.hero.domain.auth.security.PayrollAdminOnly;
 import com.c4.hero.domain.payroll.batch.dto.PayrollBatchDetailResponseDTO;
+import com.c4.hero.domain.payroll.batch.dto.PayrollBatchJobResponseDTO;
 import com.c4.hero.domain.payroll.batch.dto.PayrollBatchListResponseDTO;
 import com.c4.hero.domain.payroll.batch.dto.PayrollBatchTargetEmployeeResponseDTO;
+import com.c4.hero.domain.payroll.batch.dto.PayrollCalculationProgressDTO;
 import com.c4.hero.domain.payroll.batch.dto.PayrollEmployeeResultResponseDTO;
 import com.c4.hero.domain.payroll.batch.mapper.PayrollBatchQueryMapper;
+import com.c4.hero.domain.payroll.batch.service.PayrollBatchJobService;
+import com.c4.hero.domain.payroll.batch.service.PayrollBatchLock;
 import com.c4.hero.domain.payroll.batch.service.PayrollBatchService;
+import com.c4.hero.domain.payroll.common.type.PayrollBatchJobType;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
@@ -17,6 +22,7 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -39,10 +45,14 @@ import java.util.List;
  *  2025/12/18 - 동근 지급(pay) API 추가
  *             - swagger 문서화 주석 추가
  *  2026/01/03 - 동근 권한 인가 정책 추가
+ *  2026/10/18 - 동근 계산 API 응답에 처리 결과(total/done/failed) 추가
+ *             - 계산/확정/지급 비동기 작업 등록 및 작업 상태 조회 API 추가
+ *             - 동기 계산/확정/지급도 비동기 작업과 같은 배치 락(payrollBatch-{batchId}) 획득 후 실행
+ *             - 동기 계산/확정/지급 API deprecated (화면은 비동기 작업 등록 API 사용)
  * </pre>
  *
  *  @author 동근
- *  @version 1.2
+ *  @version 1.6
  */
 @PayrollAdminOnly
 @RequestMapping("/api/admin/payroll/batches")
@@ -53,6 +63,8 @@ public class BatchController {
 
     private final PayrollBatchService batchService;
     private final PayrollBatchQueryMapper batchQueryMapper;
+    private final PayrollBatchJobService batchJobService;
+    private final PayrollBatchLock batchLock;
 
     /**
      * 급여 배치 생성
@@ -80,42 +92,51 @@ public ResponseEntity<Integer> create(
      *
      * @param batchId     급여 배치 ID
      * @param employeeIds 계산 대상 사원 ID 목록 (null일 경우 배치 전체 대상)
+     * @return 계산 결과 집계
+     * @deprecated 요청 스레드에서 계산이 끝날 때까지 대기하므로
+     *             POST /{batchId}/jobs/CALCULATE (비동기 작업 등록) 사용
      */
-    @Operation(summary = "급여 배치 계산 실행",
-            description = "배치 단위 급여 계산을 실행합니다. employeeIds가 없으면 배치 전체 대상 계산을 수행합니다.")
+    @Deprecated
+    @Operation(summary = "급여 배치 계산 실행", deprecated = true,
+            description = "배치 단위 급여 계산을 실행합니다. employeeIds가 없으면 배치 전체 대상 계산을 수행합니다. "
+                    + "POST /{batchId}/jobs/CALCULATE 를 사용하세요.")
     @ApiResponses(value = {
-            @ApiResponse(responseCode = "200", description = "처리 성공"),
+            @ApiResponse(responseCode = "200", description = "처리 성공",
+                    content = @Content(schema = @Schema(implementation = PayrollCalculationProgressDTO.class))),
             @ApiResponse(responseCode = "400", description = "요청값이 올바르지 않음", content = @Content),
             @ApiResponse(responseCode = "403", description = "권한 없음", content = @Content),
             @ApiResponse(responseCode = "404", description = "배치를 찾을 수 없음", content = @Content),
-            @ApiResponse(responseCode = "409", description = "상태가 맞지 않아 계산 불가", content = @Content)
+            @ApiResponse(responseCode = "409", description = "상태가 맞지 않아 계산 불가 / 진행 중인 작업이 있음", content = @Content)
     })
     @PostMapping("/{batchId}/calculate")
-    public ResponseEntity<Void> calculate(
+    public ResponseEntity<PayrollCalculationProgressDTO> calculate(
             @PathVariable Integer batchId,
             @RequestBody(required = false) List<Integer> employeeIds
     ) {
-        batchService.calculate(batchId, employeeIds);
-        return ResponseEntity.ok().build();
+        return ResponseEntity.ok(batchLock.runLocked(batchId,
+                lock -> batchService.calculate(batchId, employeeIds, progress -> lock.extend())));
     }
 
     /**
      * 급여 배치 확정
      *
      * @param batchId 급여 배치 ID
+     * @deprecated POST /{batchId}/jobs/CONFIRM (비동기 작업 등록) 사용
      */
-    @Operation(summary = "급여 배치 확정", description = "급여 배치를 확정(CONFIRMED) 상태로 변경합니다.")
+    @Deprecated
+    @Operation(summary = "급여 배치 확정", deprecated = true,
+            description = "급여 배치를 확정(CONFIRMED) 상태로 변경합니다. POST /{batchId}/jobs/CONFIRM 을 사용하세요.")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "처리 성공"),
             @ApiResponse(responseCode = "403", description = "권한 없음", content = @Content),
             @ApiResponse(responseCode = "404", description = "배치를 찾을 수 없음", content = @Content),
-            @ApiResponse(responseCode = "409", description = "상태가 맞지 않아 확정 불가", content = @Content)
+            @ApiResponse(responseCode = "409", description = "상태가 맞지 않아 확정 불가 / 진행 중인 작업이 있음", content = @Content)
     })
     @PostMapping("/{batchId}/confirm")
 public ResponseEntity<Void> confirm(
         @PathVariable Integer batchId,
         @AuthenticationPrincipal CustomUserDetails user) {
-            batchService.confirm(batchId, user.getEmployeeId());
+            batchLock.runLocked(batchId, () -> batchService.confirm(batchId, user.getEmployeeId()));
         return ResponseEntity.ok().build();
     }
 
@@ -197,20 +218,72 @@ public ResponseEntity<Void> confirm(
      *
      * @param batchId 급여 배치 ID
      * @return 공통 성공 응답
+     * @deprecated POST /{batchId}/jobs/PAY (비동기 작업 등록) 사용
      */
-    @Operation(summary = "급여 배치 지급 처리", description = "확정된 배치에 대해 지급(PAID) 처리를 수행합니다.")
+    @Deprecated
+    @Operation(summary = "급여 배치 지급 처리", deprecated = true,
+            description = "확정된 배치에 대해 지급(PAID) 처리를 수행합니다. POST /{batchId}/jobs/PAY 를 사용하세요.")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "처리 성공",
                     content = @Content(schema = @Schema(implementation = CustomResponse.class))),
             @ApiResponse(responseCode = "403", description = "권한 없음", content = @Content),
             @ApiResponse(responseCode = "404", description = "배치를 찾을 수 없음", content = @Content),
-            @ApiResponse(responseCode = "409", description = "상태가 맞지 않아 지급 불가", content = @Content)
+            @ApiResponse(responseCode = "409", description = "상태가 맞지 않아 지급 불가 / 진행 중인 작업이 있음", content = @Content)
     })
     @PostMapping("/{batchId}/pay")
 public ResponseEntity<CustomResponse<Void>> pay(
         @PathVariable Integer batchId,
         @AuthenticationPrincipal CustomUserDetails user) {
-            batchService.pay(batchId, user.getEmployeeId());
+            batchLock.runLocked(batchId, () -> batchService.pay(batchId, user.getEmployeeId()));
         return ResponseEntity.ok(CustomResponse.success());
     }
+
+    /**
+     * 급여 배치 비동기 작업 등록 (계산 / 확정 / 지급)
+     *
+     * 진행 현황은 STOMP /topic/payroll/batches/{batchId}/jobs 구독 또는 작업 상태 조회 API로 확인
+     *
+     * @param batchId     급여 배치 ID
+     * @param jobType     작업 유형 (CALCULATE / CONFIRM / PAY)
+     * @param employeeIds 계산 대상 사원 ID 목록 (CALCULATE 전용, null일 경우 배치 전체 대상)
+     * @return 등록된 작업 정보 (jobId 포함)
+     */
+    @Operation(summary = "급여 배치 비동기 작업 등록",
+            description = "계산/확정/지급 작업을 백그라운드로 실행하고 jobId를 즉시 반환합니다. "
+                    + "진행 현황은 /topic/payroll/batches/{batchId}/jobs 로 발행됩니다.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "202", description = "작업 등록 성공",
+                    content = @Content(schema = @Schema(implementation = PayrollBatchJobResponseDTO.class))),
+            @ApiResponse(responseCode = "403", description = "권한 없음", content = @Content),
+            @ApiResponse(responseCode = "404", description = "배치를 찾을 수 없음", content = @Content),
+            @ApiResponse(responseCode = "409", description = "진행 중인 작업이 있음", content = @Content)
+    })
+    @PostMapping("/{batchId}/jobs/{jobType}")
+    public ResponseEntity<PayrollBatchJobResponseDTO> submitJob(
+            @PathVariable Integer batchId,
+            @PathVariable PayrollBatchJobType jobType,
+            @RequestBody(required = false) List<Integer> employeeIds,
+            @AuthenticationPrincipal CustomUserDetails user
+    ) {
+        return ResponseEntity.status(HttpStatus.ACCEPTED)
+                .body(batchJobService.submit(jobType, batchId, employeeIds, user.getEmployeeId()));
+    }
+
+    /**
+     * 급여 배치 작업 상태 조회
+     *
+     * @param jobId 작업 ID
+     * @return 작업 상태 및 진행 현황
+     */
+    @Operation(summary = "급여 배치 작업 상태 조회", description = "비동기 작업의 상태와 진행 현황(total/done/failed)을 조회합니다.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "조회 성공",
+                    content = @Content(schema = @Schema(implementation = PayrollBatchJobResponseDTO.class))),
+            @ApiResponse(responseCode = "403", description = "권한 없음", content = @Content),
+            @ApiResponse(responseCode = "404", description = "작업을 찾을 수 없음", content = @Content)
+    })
+    @GetMapping("/jobs/{jobId}")
+    public PayrollBatchJobResponseDTO job(@PathVariable Long jobId) {
+        return batchJobService.getJob(jobId);
+    }
 }
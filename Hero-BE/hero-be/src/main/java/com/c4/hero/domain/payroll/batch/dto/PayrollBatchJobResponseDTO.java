@@ -0,0 +1,90 @@
+package com.c4.hero.domain.payroll.batch.dto;
+
+import com.c4.hero.domain.payroll.batch.entity.PayrollBatchJob;
+import com.c4.hero.domain.payroll.common.type.PayrollBatchJobStatus;
+import com.c4.hero.domain.payroll.common.type.PayrollBatchJobType;
+
+import java.time.LocalDateTime;
+
+/**
+ * <pre>
+ * DTO Name : PayrollBatchJobResponseDTO
+ * Description : 급여 배치 비동기 작업 상태/진행 현황 응답 DTO
+ *
+ * 사용 목적
+ *  - 작업 등록 API 응답 (jobId 전달)
+ *  - 작업 상태 조회 API 응답
+ *  - STOMP(/topic/payroll/batches/{batchId}/jobs) 진행 현황 메시지
+ *
+ * History
+ *  2026/10/18 - 동근 최초 작성
+ * </pre>
+ *
+ *  @author 동근
+ *  @version 1.0
+ *
+ * @param jobId        작업 ID
+ * @param batchId      급여 배치 ID
+ * @param jobType      작업 유형 (CALCULATE / CONFIRM / PAY)
+ * @param status       작업 상태 (QUEUED / RUNNING / COMPLETED / FAILED)
+ * @param total        처리 대상 수
+ * @param done         처리 완료 수
+ * @param failed       실패 수
+ * @param skipped      스킵 수
+ * @param errorMessage 작업 실패 사유
+ * @param createdAt    등록 일시
+ * @param startedAt    실행 시작 일시
+ * @param finishedAt   종료 일시
+ */
+public record PayrollBatchJobResponseDTO(
+        Long jobId,
+        Integer batchId,
+        PayrollBatchJobType jobType,
+        PayrollBatchJobStatus status,
+        int total,
+        int done,
+        int failed,
+        int skipped,
+        String errorMessage,
+        LocalDateTime createdAt,
+        LocalDateTime startedAt,
+        LocalDateTime finishedAt
+) {
+
+    /**
+     * 엔티티 → 응답 DTO 변환
+     *
+     * @param job 작업 엔티티
+     * @return 응답 DTO
+     */
+    public static PayrollBatchJobResponseDTO from(PayrollBatchJob job) {
+        return new PayrollBatchJobResponseDTO(
+                job.getJobId(),
+                job.getBatchId(),
+                job.getJobType(),
+                job.getStatus(),
+                job.getTotalCount(),
+                job.getDoneCount(),
+                job.getFailedCount(),
+                job.getSkippedCount(),
+                job.getErrorMessage(),
+                job.getCreatedAt(),
+                job.getStartedAt(),
+                job.getFinishedAt()
+        );
+    }
+
+    /**
+     * 계산 진행 현황 반영
+     *
+     * @param progress 청크 단위 계산 진행 현황
+     * @return 진행 현황이 반영된 DTO
+     */
+    public PayrollBatchJobResponseDTO withProgress(PayrollCalculationProgressDTO progress) {
+        return new PayrollBatchJobResponseDTO(
+                jobId, batchId, jobType, status,
+                progress.total(), progress.done(), progress.failed(), progress.skipped(),
+                errorMessage, createdAt, startedAt, finishedAt
+        );
+    }
+}
@@ -0,0 +1,41 @@
+package com.c4.hero.domain.payroll.batch.dto;
+
+/**
+ * <pre>
+ * DTO Name : PayrollCalculationProgressDTO
+ * Description : 급여 배치 계산 진행 현황 DTO
+ *
+ * 사용 목적
+ *  - 청크 단위 계산이 끝날 때마다 진행률 전달
+ *  - 배치 계산 완료 시 최종 결과 응답
+ *
+ * History
+ *  2026/10/18 - 동근 최초 작성
+ * </pre>
+ *
+ *  @author 동근
+ *  @version 1.0
+ *
+ * @param batchId 급여 배치 ID
+ * @param total   계산 대상 사원 수
+ * @param done    처리 완료 사원 수 (성공 + 스킵 + 실패)
+ * @param failed  계산 실패(FAILED) 사원 수
+ * @param skipped 계산 스킵 사원 수 (확정 급여 등)
+ */
+public record PayrollCalculationProgressDTO(
+        Integer batchId,
+        int total,
+        int done,
+        int failed,
+        int skipped
+) {
+
+    /**
+     * 모든 대상 사원 처리 완료 여부
+     *
+     * @return true = 완료
+     */
+    public boolean isCompleted() {
+        return done >= total;
+    }
+}
@@ -0,0 +1,21 @@
+package com.c4.hero.domain.payroll.batch.dto;
+
+/**
+ * <pre>
+ * DTO Name : PayrollEmployeeAmountRow
+ * Description : 사원별 금액 일괄 조회 결과 (인상 후 급여 / 조정 순합 등)
+ *
+ * History
+ *  2026/10/18 - 동근 최초 작성
+ * </pre>
+ *
+ *  @author 동근
+ *  @version 1.0
+ *
+ * @param employeeId 사원 ID
+ * @param amount     금액 (원 단위)
+ */
+public record PayrollEmployeeAmountRow(
+        Integer employeeId,
+        Integer amount
+) {}
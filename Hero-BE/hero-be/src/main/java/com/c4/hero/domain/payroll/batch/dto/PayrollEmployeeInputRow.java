@@ -0,0 +1,30 @@
+package com.c4.hero.domain.payroll.batch.dto;
+
+/**
+ * <pre>
+ * DTO Name : PayrollEmployeeInputRow
+ * Description : 급여 계산 입력값 일괄 조회 결과 (사원 기본급 + 월 근태 집계)
+ *
+ * History
+ *  2026/10/18 - 동근 최초 작성
+ *             - 부서/직급 ID 추가 (급여 정책 대상 판별용)
+ * </pre>
+ *
+ *  @author 동근
+ *  @version 1.1
+ *
+ * @param employeeId     사원 ID
+ * @param baseSalary     기본급 (tbl_employee.base_salary)
+ * @param attendanceDays 해당 월 근무일수 (work_date DISTINCT)
+ * @param workedMinutes  해당 월 총 근무 시간(분)
+ * @param departmentId   부서 ID (tbl_employee.department_id)
+ * @param gradeId        직급 ID (tbl_employee.grade_id)
+ */
+public record PayrollEmployeeInputRow(
+        Integer employeeId,
+        Integer baseSalary,
+        Integer attendanceDays,
+        Integer workedMinutes,
+        Integer departmentId,
+        Integer gradeId
+) {}
@@ -0,0 +1,214 @@
+package com.c4.hero.domain.payroll.batch.dto;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * <pre>
+ * Class Name : PayrollInputSnapshot
+ * Description : 급여 배치 계산 입력값 스냅샷 (급여월 + 대상 사원 기준, 불변)
+ *
+ * 구성 정보 (사원 ID 기준)
+ *  - 기본급 / 승인된 인상 후 급여
+ *  - 월 근무일수 / 월 근무시간(분)
+ *  - 승인된 급여 조정 순합(net)
+ *  - 부서 ID / 직급 ID (급여 정책 대상 판별용)
+ *
+ * 설계 의도
+ *  - 정렬된 int[] 사원 ID + 병렬 int[] 배열로 보관 (박싱/Map.Entry 할당 없음)
+ *  - 조회는 이진 탐색 O(log n), 생성 후 변경 불가 → 워커 스레드 간 공유 안전
+ *  - 스냅샷에 없는 사원은 모든 값 0 / 인상 없음으로 취급 (기존 단건 조회와 동일)
+ *  - 사원별 입력값 지문(fingerprint)을 제공하여 입력 변경이 없는 사원의 재계산을 생략
+ *
+ * History
+ *  2026/10/18 - 동근 최초 작성
+ *             - 사원별 입력값 지문(fingerprint) 추가
+ *             - 부서/직급 ID 추가, 지문에 포함 (급여 정책 대상 변경 시 재계산)
+ * </pre>
+ *
+ *  @author 동근
+ *  @version 1.2
+ */
+public final class PayrollInputSnapshot {
+
+    private static final int NO_RAISE = -1;
+
+    /**
+     * 지문 계산 규칙 버전
+     *  - 급여 계산식(연장근무 수당 등)이 바뀌면 올려서 기존 지문을 모두 무효화
+     */
+    private static final int FINGERPRINT_VERSION = 2;
+
+    private static final long FNV_OFFSET_BASIS = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+
+    private final String salaryMonth;
+    private final int[] employeeIds;
+    private final int[] baseSalaries;
+    private final int[] raisedSalaries;
+    private final int[] attendanceDays;
+    private final int[] workedMinutes;
+    private final int[] adjustmentNets;
+    private final int[] departmentIds;
+    private final int[] gradeIds;
+
+    private PayrollInputSnapshot(String salaryMonth, int[] employeeIds) {
+        int n = employeeIds.length;
+        this.salaryMonth = salaryMonth;
+        this.employeeIds = employeeIds;
+        this.baseSalaries = new int[n];
+        this.raisedSalaries = new int[n];
+        this.attendanceDays = new int[n];
+        this.workedMinutes = new int[n];
+        this.adjustmentNets = new int[n];
+        this.departmentIds = new int[n];
+        this.gradeIds = new int[n];
+        Arrays.fill(raisedSalaries, NO_RAISE);
+    }
+
+    /**
+     * 일괄 조회 결과로 스냅샷 생성
+     *
+     * @param salaryMonth 급여월 (YYYY-MM)
+     * @param targetIds   계산 대상 사원 ID 목록
+     * @param inputs      사원별 기본급 + 근태 집계 + 부서/직급
+     * @param raises      사원별 승인된 인상 후 급여
+     * @param adjustments 사원별 승인된 조정 순합
+     * @return 불변 스냅샷
+     */
+    public static PayrollInputSnapshot of(
+            String salaryMonth,
+            List<Integer> targetIds,
+            List<PayrollEmployeeInputRow> inputs,
+            List<PayrollEmployeeAmountRow> raises,
+            List<PayrollEmployeeAmountRow> adjustments
+    ) {
+        int[] ids = targetIds.stream().mapToInt(Integer::intValue).sorted().distinct().toArray();
+        PayrollInputSnapshot s = new PayrollInputSnapshot(salaryMonth, ids);
+
+        for (PayrollEmployeeInputRow row : inputs) {
+            int i = s.indexOf(row.employeeId());
+            if (i < 0) continue;
+            s.baseSalaries[i] = nvl(row.baseSalary());
+            s.attendanceDays[i] = nvl(row.attendanceDays());
+            s.workedMinutes[i] = nvl(row.workedMinutes());
+            s.departmentIds[i] = nvl(row.departmentId());
+            s.gradeIds[i] = nvl(row.gradeId());
+        }
+        for (PayrollEmployeeAmountRow row : raises) {
+            int i = s.indexOf(row.employeeId());
+            if (i >= 0 && row.amount() != null) s.raisedSalaries[i] = row.amount();
+        }
+        for (PayrollEmployeeAmountRow row : adjustments) {
+            int i = s.indexOf(row.employeeId());
+            if (i >= 0) s.adjustmentNets[i] = nvl(row.amount());
+        }
+        return s;
+    }
+
+    public String getSalaryMonth() {
+        return salaryMonth;
+    }
+
+    public int size() {
+        return employeeIds.length;
+    }
+
+    /**
+     * 기본급 (tbl_employee.base_salary, 인상 미반영)
+     */
+    public int baseSalary(int employeeId) {
+        int i = indexOf(employeeId);
+        return i < 0 ? 0 : baseSalaries[i];
+    }
+
+    /**
+     * 급여 계산에 적용할 기본급 (승인된 인상이 있으면 인상 후 급여)
+     */
+    public int effectiveBaseSalary(int employeeId) {
+        int i = indexOf(employeeId);
+        if (i < 0) return 0;
+        return raisedSalaries[i] == NO_RAISE ? baseSalaries[i] : raisedSalaries[i];
+    }
+
+    /**
+     * 해당 월 근무일수
+     */
+    public int attendanceDays(int employeeId) {
+        int i = indexOf(employeeId);
+        return i < 0 ? 0 : attendanceDays[i];
+    }
+
+    /**
+     * 해당 월 총 근무시간(분)
+     */
+    public int workedMinutes(int employeeId) {
+        int i = indexOf(employeeId);
+        return i < 0 ? 0 : workedMinutes[i];
+    }
+
+    /**
+     * 승인된 급여 조정 순합(net)
+     */
+    public int adjustmentNet(int employeeId) {
+        int i = indexOf(employeeId);
+        return i < 0 ? 0 : adjustmentNets[i];
+    }
+
+    /**
+     * 부서 ID (없으면 0)
+     */
+    public int departmentId(int employeeId) {
+        int i = indexOf(employeeId);
+        return i < 0 ? 0 : departmentIds[i];
+    }
+
+    /**
+     * 직급 ID (없으면 0)
+     */
+    public int gradeId(int employeeId) {
+        int i = indexOf(employeeId);
+        return i < 0 ? 0 : gradeIds[i];
+    }
+
+    /**
+     * 급여 계산 입력값 지문 (64bit FNV-1a)
+     *  - 기본급 / 인상 후 급여 / 근무일수 / 근무시간(분) / 조정 순합 / 부서 / 직급 + 지문 규칙 버전
+     *  - 값이 같으면 계산 결과도 같으므로 재계산 생략 판단에 사용
+     *
+     * @param employeeId 사원 ID
+     * @return 입력값 지문
+     */
+    public long fingerprint(int employeeId) {
+        int i = indexOf(employeeId);
+        long h = mix(FNV_OFFSET_BASIS, FINGERPRINT_VERSION);
+        if (i < 0) return mix(h, 0);
+        h = mix(h, baseSalaries[i]);
+        h = mix(h, raisedSalaries[i]);
+        h = mix(h, attendanceDays[i]);
+        h = mix(h, workedMinutes[i]);
+        h = mix(h, adjustmentNets[i]);
+        h = mix(h, departmentIds[i]);
+        return mix(h, gradeIds[i]);
+    }
+
+    private static long mix(long h, int value) {
+        for (int shift = 0; shift < 32; shift += 8) {
+            h ^= (value >>> shift) & 0xff;
+            h *= FNV_PRIME;
+        }
+        return h;
+    }
+
+    private int indexOf(int employeeId) {
+        return Arrays.binarySearch(employeeIds, employeeId);
+    }
+
+    private int indexOf(Integer employeeId) {
+        return employeeId == null ? -1 : indexOf(employeeId.intValue());
+    }
+
+    private static int nvl(Integer value) {
+        return value == null ? 0 : value;
+    }
+}
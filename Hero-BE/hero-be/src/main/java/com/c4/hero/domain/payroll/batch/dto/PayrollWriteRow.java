@@ -0,0 +1,77 @@
+package com.c4.hero.domain.payroll.batch.dto;
+
+import com.c4.hero.domain.payroll.common.type.PayrollStatus;
+
+/**
+ * <pre>
+ * DTO Name : PayrollWriteRow
+ * Description : 급여 배치 일괄 저장용 계산 결과 행
+ *
+ * 사용 목적
+ *  - 청크 단위 계산 결과를 모아 JDBC batch 로 저장 (엔티티 dirty checking 미사용)
+ *  - payrollId 가 null 이면 INSERT, 있으면 UPDATE 대상
+ *
+ * History
+ *  2026/10/18 - 동근 최초 작성
+ *             - 계산 입력값 지문(inputFingerprint) 추가
+ * </pre>
+ *
+ *  @author 동근
+ *  @version 1.1
+ *
+ * @param payrollId      기존 급여 ID (신규면 null)
+ * @param employeeId     사원 ID
+ * @param batchId        급여 배치 ID
+ * @param salaryMonth    급여월 (YYYY-MM)
+ * @param baseSalary     기본급
+ * @param overtimePay    연장근무 수당
+ * @param allowanceTotal 수당 합계
+ * @param deductionTotal 공제 합계
+ * @param status         급여 상태 (CALCULATED / FAILED)
+ * @param errorMessage   실패 사유 (성공 시 null)
+ * @param inputFingerprint 계산 입력값 지문 (실패 시 null)
+ */
+public record PayrollWriteRow(
+        Integer payrollId,
+        Integer employeeId,
+        Integer batchId,
+        String salaryMonth,
+        int baseSalary,
+        int overtimePay,
+        int allowanceTotal,
+        int deductionTotal,
+        PayrollStatus status,
+        String errorMessage,
+        Long inputFingerprint
+) {
+
+    /**
+     * 계산 성공 행 생성
+     */
+    public static PayrollWriteRow calculated(Integer payrollId, Integer employeeId, Integer batchId, String salaryMonth,
+                                             int base, int overtime, int allowance, int deduction,
+                                             long fingerprint) {
+        return new PayrollWriteRow(payrollId, employeeId, batchId, salaryMonth,
+                base, overtime, allowance, deduction, PayrollStatus.CALCULATED, null, fingerprint);
+    }
+
+    /**
+     * 계산 실패 행 생성 (금액 0 초기화)
+     */
+    public static PayrollWriteRow failed(Integer payrollId, Integer employeeId, Integer batchId, String salaryMonth,
+                                         String message) {
+        return new PayrollWriteRow(payrollId, employeeId, batchId, salaryMonth,
+                0, 0, 0, 0, PayrollStatus.FAILED, message, null);
+    }
+
+    /**
+     * 실지급액 = 기본급 + 연장근무 수당 + 수당 합계 - 공제 합계
+     */
+    public int totalPay() {
+        return baseSalary + overtimePay + allowanceTotal - deductionTotal;
+    }
+
+    public boolean isNew() {
+        return payrollId == null;
+    }
+}
@@ -30,10 +30,11 @@ import lombok.NoArgsConstructor;
  * History
  *  2025/12/15 - 동근 최초 작성
  *  2025/12/18 - 동근 도메인 로직 확장
+ *  2026/10/18 - 동근 계산 입력값 지문(inputFingerprint) 추가 (입력 변경 없는 사원 재계산 스킵)
  * </pre>
  *
  *  @author 동근
- *  @version 1.0
+ *  @version 1.1
  */
 
 @Entity
@@ -65,6 +66,14 @@ public class Payroll {
     private Integer employeeId;
     private Integer batchId;
     private String errorMessage;
+
+    /**
+     * 마지막 계산에 사용된 입력값 지문 (PayrollInputSnapshot.fingerprint)
+     *  - 재계산 시 값이 같으면 계산 생략
+     *  - 실패/미계산 상태에서는 null
+     */
+    private Long inputFingerprint;
+
     /**
      * 급여 계산 성공 시 생성 팩토리 메서드
      *
@@ -152,8 +161,9 @@ public class Payroll {
      * @param overtime  초과근무 수당
      * @param allowance 수당 합계
      * @param deduction 공제 합계
+     * @param fingerprint 계산 입력값 지문
      */
-    public void applyCalculated(Integer batchId, int base, int overtime, int allowance, int deduction) {
+    public void applyCalculated(Integer batchId, int base, int overtime, int allowance, int deduction, Long fingerprint) {
         if (isLocked()) {
             throw new IllegalStateException("CONFIRMED 이후 급여는 수정할 수 없습니다.");
         }
@@ -165,6 +175,19 @@ public class Payroll {
         this.totalPay = base + overtime + allowance - deduction;
         this.status = PayrollStatus.CALCULATED;
         this.errorMessage = null;
+        this.inputFingerprint = fingerprint;
+    }
+
+    /**
+     * 계산 입력값이 마지막 계산 이후 변경되지 않았는지 여부
+     *
+     * @param fingerprint 현재 입력값 지문
+     * @return true = CALCULATED 상태이고 지문이 같음 (재계산 불필요)
+     */
+    public boolean isUnchanged(long fingerprint) {
+        return this.status == PayrollStatus.CALCULATED
+                && this.inputFingerprint != null
+                && this.inputFingerprint == fingerprint;
     }
 
     /**
@@ -185,6 +208,7 @@ public class Payroll {
         this.totalPay = 0;
         this.status = PayrollStatus.FAILED;
         this.errorMessage = message;
+        this.inputFingerprint = null;
     }
 
     /**
@@ -0,0 +1,198 @@
+package com.c4.hero.domain.payroll.batch.entity;
+
+import com.c4.hero.domain.payroll.common.type.PayrollBatchJobStatus;
+import com.c4.hero.domain.payroll.common.type.PayrollBatchJobType;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Lob;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * <pre>
+ * Entity Name : PayrollBatchJob
+ * Description : 급여 배치 비동기 작업(계산/확정/지급) 엔티티
+ *
+ * 역할
+ *  - 비동기로 실행되는 배치 작업의 요청 정보와 진행 현황(total/done/failed) 보관
+ *  - 노드 재시작 후 작업 재실행을 위한 기준 데이터 (요청 사원 목록 포함)
+ *
+ * 상태 흐름
+ *  QUEUED -> RUNNING -> COMPLETED / FAILED
+ *
+ * History
+ *  2026/10/18 - 동근 최초 작성
+ * </pre>
+ *
+ *  @author 동근
+ *  @version 1.0
+ */
+@Entity
+@Table(name = "tbl_payroll_batch_job")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class PayrollBatchJob {
+
+    private static final int MAX_ERROR_MESSAGE_LENGTH = 500;
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "job_id")
+    private Long jobId;
+
+    @Column(name = "batch_id", nullable = false)
+    private Integer batchId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "job_type", nullable = false)
+    private PayrollBatchJobType jobType;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false)
+    private PayrollBatchJobStatus status;
+
+    /** 계산 대상 사원 ID (콤마 구분, null 이면 배치 대상 전체) */
+    @Lob
+    @Column(name = "target_employee_ids")
+    private String targetEmployeeIds;
+
+    @Column(name = "total_count")
+    private int totalCount;
+
+    @Column(name = "done_count")
+    private int doneCount;
+
+    @Column(name = "failed_count")
+    private int failedCount;
+
+    @Column(name = "skipped_count")
+    private int skippedCount;
+
+    @Column(name = "attempt")
+    private int attempt;
+
+    @Column(name = "requested_by")
+    private Integer requestedBy;
+
+    @Column(name = "owner_node")
+    private String ownerNode;
+
+    @Column(name = "error_message", length = MAX_ERROR_MESSAGE_LENGTH)
+    private String errorMessage;
+
+    @Column(name = "created_at")
+    private LocalDateTime createdAt;
+
+    @Column(name = "started_at")
+    private LocalDateTime startedAt;
+
+    @Column(name = "heartbeat_at")
+    private LocalDateTime heartbeatAt;
+
+    @Column(name = "finished_at")
+    private LocalDateTime finishedAt;
+
+    /**
+     * 배치 작업 등록 팩토리 메서드
+     *
+     * @param batchId     급여 배치 ID
+     * @param jobType     작업 유형
+     * @param employeeIds 계산 대상 사원 ID 목록 (null/empty = 배치 대상 전체)
+     * @param requestedBy 요청자 사원 ID
+     * @return QUEUED 상태의 작업 엔티티
+     */
+    public static PayrollBatchJob queued(
+            Integer batchId,
+            PayrollBatchJobType jobType,
+            List<Integer> employeeIds,
+            Integer requestedBy
+    ) {
+        PayrollBatchJob job = new PayrollBatchJob();
+        job.batchId = batchId;
+        job.jobType = jobType;
+        job.status = PayrollBatchJobStatus.QUEUED;
+        job.targetEmployeeIds = employeeIds == null || employeeIds.isEmpty()
+                ? null
+                : employeeIds.stream().map(String::valueOf).collect(Collectors.joining(","));
+        job.requestedBy = requestedBy;
+        job.createdAt = LocalDateTime.now();
+        return job;
+    }
+
+    /**
+     * 계산 대상 사원 ID 목록 복원
+     *
+     * @return 사원 ID 목록 (배치 대상 전체면 빈 목록)
+     */
+    public List<Integer> getTargetEmployeeIdList() {
+        if (targetEmployeeIds == null || targetEmployeeIds.isBlank()) return List.of();
+        return Arrays.stream(targetEmployeeIds.split(","))
+                .map(String::trim)
+                .map(Integer::valueOf)
+                .toList();
+    }
+
+    /**
+     * 작업 실행 시작 처리 (재실행 시 진행 현황 초기화)
+     *
+     * @param node 실행 노드 식별자
+     */
+    public void start(String node) {
+        LocalDateTime now = LocalDateTime.now();
+        this.status = PayrollBatchJobStatus.RUNNING;
+        this.ownerNode = node;
+        this.attempt++;
+        this.doneCount = 0;
+        this.failedCount = 0;
+        this.skippedCount = 0;
+        this.errorMessage = null;
+        this.startedAt = now;
+        this.heartbeatAt = now;
+    }
+
+    /**
+     * 작업 완료 처리
+     *
+     * @param total   처리 대상 수
+     * @param done    처리 완료 수
+     * @param failed  실패 수
+     * @param skipped 스킵 수
+     */
+    public void complete(int total, int done, int failed, int skipped) {
+        LocalDateTime now = LocalDateTime.now();
+        this.status = PayrollBatchJobStatus.COMPLETED;
+        this.totalCount = total;
+        this.doneCount = done;
+        this.failedCount = failed;
+        this.skippedCount = skipped;
+        this.heartbeatAt = now;
+        this.finishedAt = now;
+    }
+
+    /**
+     * 작업 실패 처리
+     *
+     * @param message 실패 사유
+     */
+    public void fail(String message) {
+        LocalDateTime now = LocalDateTime.now();
+        this.status = PayrollBatchJobStatus.FAILED;
+        this.errorMessage = message != null && message.length() > MAX_ERROR_MESSAGE_LENGTH
+                ? message.substring(0, MAX_ERROR_MESSAGE_LENGTH)
+                : message;
+        this.heartbeatAt = now;
+        this.finishedAt = now;
+    }
+}
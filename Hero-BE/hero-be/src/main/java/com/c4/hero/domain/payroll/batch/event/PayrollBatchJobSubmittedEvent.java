@@ -0,0 +1,20 @@
+package com.c4.hero.domain.payroll.batch.event;
+
+/**
+ * <pre>
+ * Class Name : PayrollBatchJobSubmittedEvent
+ * Description : 급여 배치 비동기 작업 등록 이벤트
+ *
+ *  작업 등록 트랜잭션이 커밋된 뒤(AFTER_COMMIT) 실행기에 작업을 넘기기 위해 발행
+ *
+ * History
+ *  2026/10/18 - 동근 최초 작성
+ * </pre>
+ *
+ * @author 동근
+ * @version 1.0
+ *
+ * @param jobId 등록된 작업 ID
+ */
+public record PayrollBatchJobSubmittedEvent(Long jobId) {
+}
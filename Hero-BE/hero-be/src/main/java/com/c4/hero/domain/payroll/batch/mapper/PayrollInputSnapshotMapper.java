@@ -0,0 +1,70 @@
+package com.c4.hero.domain.payroll.batch.mapper;
+
+import com.c4.hero.domain.payroll.batch.dto.PayrollEmployeeAmountRow;
+import com.c4.hero.domain.payroll.batch.dto.PayrollEmployeeInputRow;
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+import java.util.List;
+
+/**
+ * <pre>
+ * Mapper Name : PayrollInputSnapshotMapper
+ * Description : 급여 배치 계산 입력값 일괄(set-based) 조회 매퍼
+ *
+ * 역할
+ *  - 대상 사원 전체의 기본급/근무일수/근무시간을 한 번에 조회
+ *  - 대상 사원 전체의 승인된 급여 인상(최신 1건)을 한 번에 조회
+ *  - 대상 사원 전체의 승인된 급여 조정 순합(net)을 한 번에 조회
+ *
+ * 설계 의도
+ *  - 사원별 단건 조회(N+1)를 사원 ID 목록 기준 GROUP BY 조회로 대체
+ *
+ * History
+ *  2026/10/18 - 동근 최초 작성
+ * </pre>
+ *
+ *  @author 동근
+ *  @version 1.0
+ */
+@Mapper
+public interface PayrollInputSnapshotMapper {
+
+    /**
+     * 사원별 기본급 + 월 근태 집계 일괄 조회
+     *
+     * @param employeeIds 사원 ID 목록
+     * @param start       조회 시작일 (YYYY-MM-01)
+     * @param end         조회 종료일 (YYYY-MM-DD)
+     * @return 사원별 입력값 목록 (사원 테이블에 없는 ID는 제외)
+     */
+    List<PayrollEmployeeInputRow> selectEmployeeInputs(
+            @Param("employeeIds") List<Integer> employeeIds,
+            @Param("start") String start,
+            @Param("end") String end
+    );
+
+    /**
+     * 사원별 승인된 급여 인상 후 급여 일괄 조회 (사원별 최신 raise_id 1건)
+     *
+     * @param employeeIds 사원 ID 목록
+     * @param salaryMonth 급여월 (YYYY-MM) = raise.effective_month
+     * @return 사원별 인상 후 급여 목록 (인상 내역이 있는 사원만)
+     */
+    List<PayrollEmployeeAmountRow> selectApprovedRaiseSalaries(
+            @Param("employeeIds") List<Integer> employeeIds,
+            @Param("salaryMonth") String salaryMonth
+    );
+
+    /**
+     * 사원별 승인된 급여 조정 순합(net) 일괄 조회
+     *
+     * @param employeeIds 사원 ID 목록
+     * @param salaryMonth 급여월 (YYYY-MM) = adjustment.effective_month
+     * @return 사원별 조정 순합 목록 (조정 내역이 있는 사원만)
+     */
+    List<PayrollEmployeeAmountRow> selectApprovedAdjustmentNets(
+            @Param("employeeIds") List<Integer> employeeIds,
+            @Param("salaryMonth") String salaryMonth
+    );
+}
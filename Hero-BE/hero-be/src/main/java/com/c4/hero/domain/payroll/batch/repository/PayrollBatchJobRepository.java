@@ -0,0 +1,96 @@
+package com.c4.hero.domain.payroll.batch.repository;
+
+import com.c4.hero.domain.payroll.batch.entity.PayrollBatchJob;
+import com.c4.hero.domain.payroll.common.type.PayrollBatchJobStatus;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * <pre>
+ * Repository Name : PayrollBatchJobRepository
+ * Description     : 급여 배치 비동기 작업(PayrollBatchJob) 리포지토리
+ *
+ * 역할
+ *  - 작업 등록/조회
+ *  - 진행 현황(done/failed) 및 heartbeat 갱신
+ *  - 중단된 작업(재실행 대상) 조회
+ *
+ * History
+ *  2026/10/18 - 동근 최초 작성
+ * </pre>
+ *
+ *  @author 동근
+ *  @version 1.0
+ */
+public interface PayrollBatchJobRepository extends JpaRepository<PayrollBatchJob, Long> {
+
+    /**
+     * 배치에 진행 중(대기/실행) 작업이 존재하는지 확인
+     *
+     * @param batchId  배치 ID
+     * @param statuses 진행 중 상태 목록
+     * @return 존재 여부
+     */
+    boolean existsByBatchIdAndStatusIn(Integer batchId, Collection<PayrollBatchJobStatus> statuses);
+
+    /**
+     * 진행 현황 갱신 (RUNNING 상태 + 기존 처리 수 이하일 때만 갱신하여 역순 도착 무시)
+     *
+     * @param jobId   작업 ID
+     * @param total   처리 대상 수
+     * @param done    처리 완료 수
+     * @param failed  실패 수
+     * @param skipped 스킵 수
+     * @param now     heartbeat 시각
+     * @return 갱신 건수
+     */
+    @Modifying
+    @Query("""
+        update PayrollBatchJob j
+           set j.totalCount = :total,
+               j.doneCount = :done,
+               j.failedCount = :failed,
+               j.skippedCount = :skipped,
+               j.heartbeatAt = :now
+         where j.jobId = :jobId
+           and j.status = com.c4.hero.domain.payroll.common.type.PayrollBatchJobStatus.RUNNING
+           and j.doneCount <= :done
+        """)
+    int updateProgress(
+            @Param("jobId") Long jobId,
+            @Param("total") int total,
+            @Param("done") int done,
+            @Param("failed") int failed,
+            @Param("skipped") int skipped,
+            @Param("now") LocalDateTime now
+    );
+
+    /**
+     * 재실행 대상 작업 조회
+     *  - QUEUED 상태로 queuedBefore 이전에 등록된 작업 (실행 노드 미할당/유실)
+     *  - RUNNING 상태로 heartbeat 가 staleBefore 이전인 작업 (실행 노드 중단)
+     *
+     * @param queuedBefore 대기 작업 기준 시각
+     * @param staleBefore  실행 작업 heartbeat 기준 시각
+     * @return 재실행 대상 작업 목록 (등록 순)
+     */
+    @Query("""
+        select j
+          from PayrollBatchJob j
+         where (j.status = com.c4.hero.domain.payroll.common.type.PayrollBatchJobStatus.QUEUED
+                and j.createdAt < :queuedBefore)
+            or (j.status = com.c4.hero.domain.payroll.common.type.PayrollBatchJobStatus.RUNNING
+                and j.heartbeatAt < :staleBefore)
+         order by j.jobId
+        """)
+    List<PayrollBatchJob> findRecoverable(
+            @Param("queuedBefore") LocalDateTime queuedBefore,
+            @Param("staleBefore") LocalDateTime staleBefore
+    );
+}
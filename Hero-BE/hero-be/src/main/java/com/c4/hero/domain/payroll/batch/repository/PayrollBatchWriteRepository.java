@@ -0,0 +1,201 @@
+package com.c4.hero.domain.payroll.batch.repository;
+
+import com.c4.hero.domain.payroll.batch.dto.PayrollWriteRow;
+import com.c4.hero.domain.payroll.batch.entity.PayrollItem;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Types;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * <pre>
+ * Repository Name : PayrollBatchWriteRepository
+ * Description     : 급여 배치 계산 결과 일괄 저장(JDBC batch) 리포지토리
+ *
+ * 역할
+ *  - 청크 단위 급여(Payroll) INSERT / UPDATE 를 JDBC batch 로 일괄 실행
+ *  - 청크 단위 급여 항목(PayrollItem) 교체 (IN 절 DELETE 1회 + batch INSERT, 항목 수와 무관)
+ *  - 배치 지급 시 누락된 지급 이력(PaymentHistory) 일괄 생성 (INSERT ... SELECT)
+ *
+ * 설계 의도
+ *  - 사원마다 save / delete / save 단건 쿼리를 실행하던 구조를 청크당 몇 개 구문으로 축소
+ *  - 드라이버 옵션(useBulkStmts) 사용 시 batch 가 bulk 프로토콜로 한 번에 전송됨
+ *  - 호출 측 트랜잭션(JPA)에 참여하므로 청크 단위 원자성 보장
+ *
+ * History
+ *  2026/10/18 - 동근 최초 작성
+ *             - 지급 이력 일괄 생성(insertMissingPaymentHistories) 추가
+ *             - 계산 입력값 지문(input_fingerprint) 저장
+ *             - 급여 항목 교체를 항목 코드 단위 → 급여 단위로 변경 (연장근무 + 정책 항목 일괄 교체)
+ * </pre>
+ *
+ *  @author 동근
+ *  @version 1.3
+ */
+@Repository
+@RequiredArgsConstructor
+public class PayrollBatchWriteRepository {
+
+    private static final String INSERT_PAYROLL = """
+            INSERT INTO tbl_payroll
+                (employee_id, salary_month, batch_id, base_salary, overtime_pay,
+                 allowance_total, deduction_total, total_pay, status, error_message, input_fingerprint)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+            """;
+
+    private static final String UPDATE_PAYROLL = """
+            UPDATE tbl_payroll
+               SET batch_id = ?, base_salary = ?, overtime_pay = ?,
+                   allowance_total = ?, deduction_total = ?, total_pay = ?,
+                   status = ?, error_message = ?, input_fingerprint = ?
+             WHERE payroll_id = ?
+               AND status <> 'CONFIRMED'
+            """;
+
+    private static final String INSERT_ITEM = """
+            INSERT INTO tbl_payroll_item
+                (payroll_id, item_type, item_code, item_name, amount, taxable_yn)
+            VALUES (?, ?, ?, ?, ?, ?)
+            """;
+
+    private static final String INSERT_MISSING_PAYMENT_HISTORY = """
+            INSERT INTO tbl_payment_history
+                (payment_date, payment_amount, payment_method, status, created_at, bank_account_id, payroll_id)
+            SELECT :paymentDate, p.total_pay, 'BANK_TRANSFER', 'COMPLETED', :createdAt, NULL, p.payroll_id
+              FROM tbl_payroll p
+             WHERE p.batch_id = :batchId
+               AND NOT EXISTS (SELECT 1
+                                 FROM tbl_payment_history h
+                                WHERE h.payroll_id = p.payroll_id)
+             ORDER BY p.payroll_id
+             LIMIT :limit
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedJdbcTemplate;
+
+    /**
+     * 급여 행 일괄 저장 (신규 INSERT / 기존 UPDATE 분리 batch)
+     *
+     * @param rows 저장할 계산 결과 행
+     */
+    public void savePayrolls(List<PayrollWriteRow> rows) {
+        List<PayrollWriteRow> inserts = rows.stream().filter(PayrollWriteRow::isNew).toList();
+        List<PayrollWriteRow> updates = rows.stream().filter(r -> !r.isNew()).toList();
+
+        if (!inserts.isEmpty()) {
+            jdbcTemplate.batchUpdate(INSERT_PAYROLL, inserts, inserts.size(), (ps, r) -> {
+                ps.setInt(1, r.employeeId());
+                ps.setString(2, r.salaryMonth());
+                ps.setInt(3, r.batchId());
+                ps.setInt(4, r.baseSalary());
+                ps.setInt(5, r.overtimePay());
+                ps.setInt(6, r.allowanceTotal());
+                ps.setInt(7, r.deductionTotal());
+                ps.setInt(8, r.totalPay());
+                ps.setString(9, r.status().name());
+                ps.setString(10, r.errorMessage());
+                ps.setObject(11, r.inputFingerprint(), Types.BIGINT);
+            });
+        }
+        if (!updates.isEmpty()) {
+            jdbcTemplate.batchUpdate(UPDATE_PAYROLL, updates, updates.size(), (ps, r) -> {
+                ps.setInt(1, r.batchId());
+                ps.setInt(2, r.baseSalary());
+                ps.setInt(3, r.overtimePay());
+                ps.setInt(4, r.allowanceTotal());
+                ps.setInt(5, r.deductionTotal());
+                ps.setInt(6, r.totalPay());
+                ps.setString(7, r.status().name());
+                ps.setString(8, r.errorMessage());
+                ps.setObject(9, r.inputFingerprint(), Types.BIGINT);
+                ps.setInt(10, r.payrollId());
+            });
+        }
+    }
+
+    /**
+     * 급여월 + 사원 목록 기준 payrollId 일괄 조회
+     *
+     * @param salaryMonth 급여월 (YYYY-MM)
+     * @param employeeIds 사원 ID 목록
+     * @return 사원 ID → 급여 ID
+     */
+    public Map<Integer, Integer> findPayrollIds(String salaryMonth, Collection<Integer> employeeIds) {
+        Map<Integer, Integer> ids = new HashMap<>();
+        if (employeeIds.isEmpty()) return ids;
+
+        namedJdbcTemplate.query("""
+                        SELECT employee_id, payroll_id
+                          FROM tbl_payroll
+                         WHERE salary_month = :salaryMonth
+                           AND employee_id IN (:employeeIds)
+                        """,
+                new MapSqlParameterSource()
+                        .addValue("salaryMonth", salaryMonth)
+                        .addValue("employeeIds", employeeIds),
+                rs -> {
+                    ids.put(rs.getInt("employee_id"), rs.getInt("payroll_id"));
+                });
+        return ids;
+    }
+
+    /**
+     * 급여 항목 일괄 교체 (대상 급여의 기존 계산 항목 전체 삭제 후 batch INSERT)
+     *  - 급여 항목은 배치 계산에서만 생성되므로 급여 단위로 통째로 교체
+     *  - 정책 항목 수가 늘어도 구문 수는 DELETE 1회 + batch INSERT 1회로 고정
+     *
+     * @param payrollIds 교체 대상 급여 ID 목록
+     * @param items      새로 저장할 항목 목록 (연장근무 + 정책 항목)
+     */
+    public void replaceItems(Collection<Integer> payrollIds, List<PayrollItem> items) {
+        if (!payrollIds.isEmpty()) {
+            namedJdbcTemplate.update("""
+                            DELETE FROM tbl_payroll_item
+                             WHERE payroll_id IN (:payrollIds)
+                            """,
+                    new MapSqlParameterSource()
+                            .addValue("payrollIds", payrollIds));
+        }
+        if (!items.isEmpty()) {
+            jdbcTemplate.batchUpdate(INSERT_ITEM, items, items.size(), (ps, i) -> {
+                ps.setInt(1, i.getPayrollId());
+                ps.setString(2, i.getItemType());
+                ps.setString(3, i.getItemCode());
+                ps.setString(4, i.getItemName());
+                ps.setInt(5, i.getAmount());
+                ps.setString(6, i.getTaxableYn());
+            });
+        }
+    }
+
+    /**
+     * 배치 내 지급 이력이 없는 급여에 대해 지급 완료(COMPLETED) 이력 일괄 생성
+     *
+     *  - 이미 지급 이력이 있는 급여는 NOT EXISTS 로 제외되므로 재실행해도 중복 생성되지 않음
+     *  - limit 단위로 끊어서 실행하며, 반환값이 limit 미만이면 남은 대상이 없음
+     *
+     * @param batchId     급여 배치 ID
+     * @param paymentDate 지급일
+     * @param createdAt   생성 일시
+     * @param limit       1회 실행 최대 생성 건수
+     * @return 생성된 지급 이력 수
+     */
+    public int insertMissingPaymentHistories(Integer batchId, LocalDate paymentDate, LocalDateTime createdAt, int limit) {
+        return namedJdbcTemplate.update(INSERT_MISSING_PAYMENT_HISTORY,
+                new MapSqlParameterSource()
+                        .addValue("batchId", batchId)
+                        .addValue("paymentDate", paymentDate)
+                        .addValue("createdAt", createdAt)
+                        .addValue("limit", limit));
+    }
+}
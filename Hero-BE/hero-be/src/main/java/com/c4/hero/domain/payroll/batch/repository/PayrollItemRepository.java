@@ -17,10 +17,11 @@ import java.util.List;
  * History
  *  2025/12/15 - 동근 최초 작성
  *  2025/12/18 - 동근 항목 단위 삭제 로직 추가
+ *  2026/10/18 - 동근 급여 단위 항목 전체 삭제 추가 (정책 항목 재계산용)
  * </pre>
  *
  *  @author 동근
- *  @version 1.1
+ *  @version 1.2
  */
 public interface PayrollItemRepository extends JpaRepository<PayrollItem, Integer> {
 
@@ -44,4 +45,11 @@ public interface PayrollItemRepository extends JpaRepository<PayrollItem, Intege
             String itemType,
             String itemCode
     );
+
+    /**
+     * 급여 ID 기준 항목 전체 삭제 (재계산 시 연장근무/정책 항목을 통째로 교체할 때 사용)
+     *
+     * @param payrollId 급여 ID
+     */
+    void deleteAllByPayrollId(Integer payrollId);
 }
@@ -7,6 +7,7 @@ import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -26,10 +27,11 @@ import java.util.Optional;
  * History
  *  2025/12/15 - 동근 최초 작성
  *  2025/12/18 - 동근 배치 상태 처리 기능 확장
+ *  2026/10/18 - 동근 청크 단위 급여 일괄 조회 추가
  * </pre>
  *
  *  @author 동근
- *  @version 1.1
+ *  @version 1.2
  */
 
 public interface PayrollRepository extends JpaRepository<Payroll, Integer> {
@@ -43,6 +45,15 @@ public interface PayrollRepository extends JpaRepository<Payroll, Integer> {
      */
     Optional<Payroll> findByEmployeeIdAndSalaryMonth(Integer employeeId, String salaryMonth);
 
+    /**
+     * 사원 목록 + 급여월 기준 급여 일괄 조회 (배치 청크 계산용)
+     *
+     * @param employeeIds 사원 ID 목록
+     * @param salaryMonth 급여월 (YYYY-MM)
+     * @return 급여 엔티티 목록
+     */
+    List<Payroll> findAllByEmployeeIdInAndSalaryMonth(Collection<Integer> employeeIds, String salaryMonth);
+
     /**
      * 사원 + 급여월 기준 급여 존재 여부 확인
      *
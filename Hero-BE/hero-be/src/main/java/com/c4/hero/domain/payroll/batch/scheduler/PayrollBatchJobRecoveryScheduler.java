@@ -0,0 +1,63 @@
+package com.c4.hero.domain.payroll.batch.scheduler;
+
+import com.c4.hero.domain.payroll.batch.service.PayrollBatchJobRunner;
+import com.c4.hero.domain.payroll.batch.service.PayrollBatchJobService;
+import lombok.extern.slf4j.Slf4j;
+import net.javacrumbs.shedlock.spring.annotation.SchedulerLock;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * <pre>
+ * Class Name : PayrollBatchJobRecoveryScheduler
+ * Description : 중단된 급여 배치 작업 재실행 스케줄러
+ *
+ * 재실행 대상
+ *  - 등록 후 실행되지 못한 QUEUED 작업 (노드 재시작, 실행 대기열 초과 등)
+ *  - heartbeat 가 payroll.batch.job.stale-after 이상 갱신되지 않은 RUNNING 작업 (실행 노드 중단)
+ *
+ *  재실행 시에도 배치 단위 ShedLock 을 먼저 획득하므로,
+ *  실제로는 살아있는 노드에서 실행 중인 작업이 중복 실행되지는 않음
+ *
+ * History
+ *  2026/10/18 - 동근 최초 작성
+ * </pre>
+ *
+ * @author 동근
+ * @version 1.0
+ */
+@Slf4j
+@Component
+public class PayrollBatchJobRecoveryScheduler {
+
+    private final PayrollBatchJobService jobService;
+    private final PayrollBatchJobRunner jobRunner;
+    private final Duration staleAfter;
+
+    public PayrollBatchJobRecoveryScheduler(
+            PayrollBatchJobService jobService,
+            PayrollBatchJobRunner jobRunner,
+            @Value("${payroll.batch.job.stale-after:PT5M}") Duration staleAfter
+    ) {
+        this.jobService = jobService;
+        this.jobRunner = jobRunner;
+        this.staleAfter = staleAfter;
+    }
+
+    /**
+     * 1분마다 재실행 대상 작업을 조회하여 실행기에 다시 제출
+     */
+    @Scheduled(fixedDelay = 60_000, initialDelay = 30_000)
+    @SchedulerLock(name = "recoverPayrollBatchJobs", lockAtLeastFor = "PT10S", lockAtMostFor = "PT1M")
+    public void recoverJobs() {
+        List<Long> jobIds = jobService.findRecoverableJobIds(staleAfter);
+        if (jobIds.isEmpty()) return;
+
+        log.info("급여 배치 작업 재실행 - jobIds={}", jobIds);
+        jobIds.forEach(jobRunner::dispatch);
+    }
+}
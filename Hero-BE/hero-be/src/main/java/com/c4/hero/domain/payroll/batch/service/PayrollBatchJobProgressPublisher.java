@@ -0,0 +1,47 @@
+package com.c4.hero.domain.payroll.batch.service;
+
+import com.c4.hero.domain.payroll.batch.dto.PayrollBatchJobResponseDTO;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * <pre>
+ * Class Name : PayrollBatchJobProgressPublisher
+ * Description : 급여 배치 작업 진행 현황 STOMP 발행기
+ *
+ *  - 구독 경로 : /topic/payroll/batches/{batchId}/jobs
+ *  - 작업 상태 변경 및 청크 완료 시마다 PayrollBatchJobResponseDTO 발행
+ *  - 발행 실패는 작업 실행에 영향을 주지 않음 (상태는 작업 조회 API로 확인 가능)
+ *
+ * History
+ *  2026/10/18 - 동근 최초 작성
+ * </pre>
+ *
+ * @author 동근
+ * @version 1.0
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PayrollBatchJobProgressPublisher {
+
+    private static final String TOPIC_PREFIX = "/topic/payroll/batches/";
+
+    private final SimpMessagingTemplate messagingTemplate;
+
+    /**
+     * 작업 진행 현황 발행
+     *
+     * @param job 작업 상태/진행 현황
+     */
+    public void publish(PayrollBatchJobResponseDTO job) {
+        if (job == null) return;
+        try {
+            messagingTemplate.convertAndSend(TOPIC_PREFIX + job.batchId() + "/jobs", job);
+        } catch (Exception e) {
+            log.warn("급여 배치 작업 진행 현황 발행 실패 - jobId={}", job.jobId(), e);
+        }
+    }
+}
@@ -0,0 +1,212 @@
+package com.c4.hero.domain.payroll.batch.service;
+
+import com.c4.hero.common.exception.BusinessException;
+import com.c4.hero.domain.payroll.batch.dto.PayrollBatchJobResponseDTO;
+import com.c4.hero.domain.payroll.batch.dto.PayrollCalculationProgressDTO;
+import com.c4.hero.domain.payroll.batch.entity.PayrollBatchJob;
+import com.c4.hero.domain.payroll.batch.event.PayrollBatchJobSubmittedEvent;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.lang.management.ManagementFactory;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * <pre>
+ * Class Name : PayrollBatchJobRunner
+ * Description : 급여 배치 비동기 작업(계산/확정/지급) 실행기
+ *
+ * 실행 흐름
+ *  1. 작업 등록 트랜잭션 커밋 후(AFTER_COMMIT) 전용 스레드 풀에 작업 제출
+ *  2. PayrollBatchLock(tbl_shedlock) 으로 배치 단위 락 획득 → 다른 노드/동기 API 와 동일 배치 동시 실행 방지
+ *     (락 획득 실패 시 작업은 QUEUED 로 남고 복구 스케줄러가 다시 시도)
+ *  3. RUNNING 전이 후 PayrollBatchService 위임 실행
+ *     (계산은 청크 완료마다 진행 현황 저장 + STOMP 발행 + 락 연장)
+ *  4. COMPLETED / FAILED 전이 후 최종 상태 발행, 락 해제
+ *
+ * 설계 의도
+ *  - 요청 스레드를 점유하지 않고 jobId 만 즉시 반환
+ *  - 작업은 요청자가 아닌 시스템 권한으로 실행 (권한 검증은 등록 API 에서 완료,
+ *    노드 재시작 후 복구 실행 시에는 요청자 SecurityContext 가 없음)
+ *
+ * 설정
+ *  - payroll.batch.job.concurrency       : 노드당 동시 실행 작업 수
+ *  - payroll.batch.job.lock-at-most-for  : 배치 락 연장 간 최대 간격 (노드 중단 시 이 시간 이후 재실행 가능)
+ *
+ * History
+ *  2026/10/18 - 동근 최초 작성
+ *  2026/10/18 - 동근 배치 락을 PayrollBatchLock 으로 분리, 계산 청크 완료마다 락 연장
+ * </pre>
+ *
+ * @author 동근
+ * @version 1.1
+ */
+@Slf4j
+@Component
+public class PayrollBatchJobRunner {
+
+    private static final String SYSTEM_ERROR_MESSAGE = "시스템 오류로 작업이 실패했습니다.";
+    private static final String SYSTEM_PRINCIPAL = "payroll-batch-job";
+    private static final int QUEUE_CAPACITY = 100;
+
+    private final PayrollBatchJobService jobService;
+    private final PayrollBatchService batchService;
+    private final PayrollBatchJobProgressPublisher progressPublisher;
+    private final PayrollBatchLock batchLock;
+    private final ThreadPoolExecutor executor;
+    private final String nodeId = ManagementFactory.getRuntimeMXBean().getName();
+
+    public PayrollBatchJobRunner(
+            PayrollBatchJobService jobService,
+            PayrollBatchService batchService,
+            PayrollBatchJobProgressPublisher progressPublisher,
+            PayrollBatchLock batchLock,
+            @Value("${payroll.batch.job.concurrency:2}") int concurrency
+    ) {
+        this.jobService = jobService;
+        this.batchService = batchService;
+        this.progressPublisher = progressPublisher;
+        this.batchLock = batchLock;
+
+        int threads = Math.max(1, concurrency);
+        AtomicInteger seq = new AtomicInteger();
+        ThreadFactory threadFactory = r -> {
+            Thread t = new Thread(r, "payroll-job-" + seq.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        };
+        this.executor = new ThreadPoolExecutor(
+                threads,
+                threads,
+                60L, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(QUEUE_CAPACITY),
+                threadFactory,
+                new ThreadPoolExecutor.AbortPolicy()
+        );
+        this.executor.allowCoreThreadTimeOut(true);
+    }
+
+    /**
+     * 작업 등록 커밋 후 실행 요청
+     *
+     * @param event 작업 등록 이벤트
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onSubmitted(PayrollBatchJobSubmittedEvent event) {
+        dispatch(event.jobId());
+    }
+
+    /**
+     * 작업 실행 요청 (전용 스레드 풀 제출)
+     *  - 큐가 가득 찬 경우 작업은 QUEUED 로 남고 복구 스케줄러가 다시 제출함
+     *
+     * @param jobId 작업 ID
+     */
+    public void dispatch(Long jobId) {
+        try {
+            executor.execute(() -> runAsSystem(jobId));
+        } catch (RejectedExecutionException e) {
+            log.warn("급여 배치 작업 실행 대기열 초과 - 복구 스케줄러에서 재시도합니다. jobId={}", jobId);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    /**
+     * 시스템 권한 SecurityContext 로 작업 실행
+     */
+    private void runAsSystem(Long jobId) {
+        SecurityContext context = SecurityContextHolder.createEmptyContext();
+        context.setAuthentication(systemAuthentication());
+        SecurityContextHolder.setContext(context);
+        try {
+            run(jobId);
+        } catch (Exception e) {
+            log.error("급여 배치 작업 실행 오류 - jobId={}", jobId, e);
+        } finally {
+            SecurityContextHolder.clearContext();
+        }
+    }
+
+    /**
+     * 배치 락 획득 후 작업 실행
+     */
+    private void run(Long jobId) {
+        PayrollBatchJob job = jobService.findJob(jobId);
+        if (job.getStatus().isFinished()) return;
+
+        Optional<PayrollBatchLock.Handle> lock = batchLock.tryLock(job.getBatchId());
+        if (lock.isEmpty()) {
+            log.info("급여 배치가 다른 작업에서 실행 중 - 재시도 대기. jobId={}, batchId={}", jobId, job.getBatchId());
+            return;
+        }
+
+        try {
+            PayrollBatchJobResponseDTO running = jobService.start(jobId, nodeId);
+            if (running == null) return; // 락 대기 중 다른 노드에서 완료됨
+            progressPublisher.publish(running);
+
+            log.info("급여 배치 작업 시작 - jobId={}, batchId={}, type={}", jobId, job.getBatchId(), job.getJobType());
+            progressPublisher.publish(jobService.complete(jobId, execute(job, running, lock.get())));
+            log.info("급여 배치 작업 완료 - jobId={}", jobId);
+        } catch (BusinessException be) {
+            log.warn("급여 배치 작업 실패 - jobId={}, reason={}", jobId, be.getMessage());
+            progressPublisher.publish(jobService.fail(jobId, be.getMessage()));
+        } catch (Exception e) {
+            log.error("급여 배치 작업 실패 - jobId={}", jobId, e);
+            progressPublisher.publish(jobService.fail(jobId, SYSTEM_ERROR_MESSAGE));
+        } finally {
+            lock.get().close();
+        }
+    }
+
+    /**
+     * 작업 유형별 실행
+     *
+     * @return 최종 처리 결과 (확정/지급은 단일 단계로 집계)
+     */
+    private PayrollCalculationProgressDTO execute(
+            PayrollBatchJob job, PayrollBatchJobResponseDTO running, PayrollBatchLock.Handle lock) {
+        Integer batchId = job.getBatchId();
+        return switch (job.getJobType()) {
+            case CALCULATE -> batchService.calculate(batchId, job.getTargetEmployeeIdList(), progress -> {
+                lock.extend();
+                jobService.updateProgress(job.getJobId(), progress);
+                progressPublisher.publish(running.withProgress(progress));
+            });
+            case CONFIRM -> {
+                batchService.confirm(batchId, job.getRequestedBy());
+                yield new PayrollCalculationProgressDTO(batchId, 1, 1, 0, 0);
+            }
+            case PAY -> {
+                batchService.pay(batchId, job.getRequestedBy());
+                yield new PayrollCalculationProgressDTO(batchId, 1, 1, 0, 0);
+            }
+        };
+    }
+
+    private static Authentication systemAuthentication() {
+        return new UsernamePasswordAuthenticationToken(
+                SYSTEM_PRINCIPAL, null, List.of(new SimpleGrantedAuthority("ROLE_SYSTEM_ADMIN"))
+        );
+    }
+}
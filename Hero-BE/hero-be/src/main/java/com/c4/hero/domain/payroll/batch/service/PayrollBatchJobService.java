@@ -0,0 +1,189 @@
+package com.c4.hero.domain.payroll.batch.service;
+
+import com.c4.hero.common.exception.BusinessException;
+import com.c4.hero.common.exception.ErrorCode;
+import com.c4.hero.domain.payroll.batch.dto.PayrollBatchJobResponseDTO;
+import com.c4.hero.domain.payroll.batch.dto.PayrollCalculationProgressDTO;
+import com.c4.hero.domain.payroll.batch.entity.PayrollBatchJob;
+import com.c4.hero.domain.payroll.batch.event.PayrollBatchJobSubmittedEvent;
+import com.c4.hero.domain.payroll.batch.repository.BatchRepository;
+import com.c4.hero.domain.payroll.batch.repository.PayrollBatchJobRepository;
+import com.c4.hero.domain.payroll.common.type.PayrollBatchJobStatus;
+import com.c4.hero.domain.payroll.common.type.PayrollBatchJobType;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * <pre>
+ * Class Name : PayrollBatchJobService
+ * Description : 급여 배치 비동기 작업 등록/상태 관리 서비스
+ *
+ * 역할
+ *  - 계산/확정/지급 작업 등록 (배치당 진행 중 작업 1개로 제한)
+ *  - 작업 상태 전이(QUEUED -> RUNNING -> COMPLETED / FAILED) 및 진행 현황 저장
+ *  - 중단된 작업(재실행 대상) 조회
+ *
+ *  실제 실행은 등록 트랜잭션 커밋 후 PayrollBatchJobRunner 가 담당하며,
+ *  실행 스레드/복구 스케줄러에서도 호출되므로 권한 검증은 API(BatchController) 단계에서 수행함
+ *
+ * History
+ *  2026/10/18 - 동근 최초 작성
+ * </pre>
+ *
+ * @author 동근
+ * @version 1.0
+ */
+@Service
+@RequiredArgsConstructor
+public class PayrollBatchJobService {
+
+    private static final Set<PayrollBatchJobStatus> ACTIVE_STATUSES =
+            EnumSet.of(PayrollBatchJobStatus.QUEUED, PayrollBatchJobStatus.RUNNING);
+
+    /** 등록 직후 실행기 큐에 머무를 수 있는 시간 (이후에도 QUEUED면 재실행 대상) */
+    private static final Duration QUEUED_GRACE = Duration.ofMinutes(1);
+
+    private final PayrollBatchJobRepository jobRepository;
+    private final BatchRepository batchRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    /**
+     * 배치 작업 등록
+     *
+     * @param jobType     작업 유형
+     * @param batchId     급여 배치 ID
+     * @param employeeIds 계산 대상 사원 ID 목록 (CALCULATE 전용, null 이면 배치 대상 전체)
+     * @param requestedBy 요청자 사원 ID
+     * @return 등록된 작업 (QUEUED)
+     *
+     * @throws BusinessException PAYROLL_BATCH_NOT_FOUND      배치가 존재하지 않는 경우
+     * @throws BusinessException PAYROLL_BATCH_JOB_IN_PROGRESS 배치에 진행 중 작업이 있는 경우
+     */
+    @Transactional
+    public PayrollBatchJobResponseDTO submit(
+            PayrollBatchJobType jobType,
+            Integer batchId,
+            List<Integer> employeeIds,
+            Integer requestedBy
+    ) {
+        if (!batchRepository.existsById(batchId)) {
+            throw new BusinessException(ErrorCode.PAYROLL_BATCH_NOT_FOUND);
+        }
+        if (jobRepository.existsByBatchIdAndStatusIn(batchId, ACTIVE_STATUSES)) {
+            throw new BusinessException(ErrorCode.PAYROLL_BATCH_JOB_IN_PROGRESS);
+        }
+
+        List<Integer> targets = jobType == PayrollBatchJobType.CALCULATE ? employeeIds : null;
+        PayrollBatchJob job = jobRepository.save(PayrollBatchJob.queued(batchId, jobType, targets, requestedBy));
+
+        eventPublisher.publishEvent(new PayrollBatchJobSubmittedEvent(job.getJobId()));
+        return PayrollBatchJobResponseDTO.from(job);
+    }
+
+    /**
+     * 작업 상태 조회
+     *
+     * @param jobId 작업 ID
+     * @return 작업 상태/진행 현황
+     */
+    @Transactional(readOnly = true)
+    public PayrollBatchJobResponseDTO getJob(Long jobId) {
+        return PayrollBatchJobResponseDTO.from(getJobOrThrow(jobId));
+    }
+
+    /**
+     * 실행용 작업 조회
+     *
+     * @param jobId 작업 ID
+     * @return 작업 엔티티 (준영속)
+     */
+    @Transactional(readOnly = true)
+    public PayrollBatchJob findJob(Long jobId) {
+        return getJobOrThrow(jobId);
+    }
+
+    /**
+     * 작업 실행 시작 처리
+     *
+     * @param jobId 작업 ID
+     * @param node  실행 노드 식별자
+     * @return RUNNING 상태 작업 (이미 종료된 작업이면 null)
+     */
+    @Transactional
+    public PayrollBatchJobResponseDTO start(Long jobId, String node) {
+        PayrollBatchJob job = getJobOrThrow(jobId);
+        if (job.getStatus().isFinished()) return null;
+
+        job.start(node);
+        return PayrollBatchJobResponseDTO.from(job);
+    }
+
+    /**
+     * 계산 진행 현황 저장 (heartbeat 갱신 포함)
+     *
+     * @param jobId    작업 ID
+     * @param progress 청크 단위 계산 진행 현황
+     */
+    @Transactional
+    public void updateProgress(Long jobId, PayrollCalculationProgressDTO progress) {
+        jobRepository.updateProgress(
+                jobId, progress.total(), progress.done(), progress.failed(), progress.skipped(), LocalDateTime.now()
+        );
+    }
+
+    /**
+     * 작업 완료 처리
+     *
+     * @param jobId  작업 ID
+     * @param result 최종 처리 결과
+     * @return 완료된 작업
+     */
+    @Transactional
+    public PayrollBatchJobResponseDTO complete(Long jobId, PayrollCalculationProgressDTO result) {
+        PayrollBatchJob job = getJobOrThrow(jobId);
+        job.complete(result.total(), result.done(), result.failed(), result.skipped());
+        return PayrollBatchJobResponseDTO.from(job);
+    }
+
+    /**
+     * 작업 실패 처리
+     *
+     * @param jobId   작업 ID
+     * @param message 실패 사유
+     * @return 실패 처리된 작업
+     */
+    @Transactional
+    public PayrollBatchJobResponseDTO fail(Long jobId, String message) {
+        PayrollBatchJob job = getJobOrThrow(jobId);
+        job.fail(message);
+        return PayrollBatchJobResponseDTO.from(job);
+    }
+
+    /**
+     * 재실행 대상 작업 ID 조회
+     *
+     * @param staleAfter RUNNING 작업을 중단으로 판단할 heartbeat 경과 시간
+     * @return 재실행 대상 작업 ID 목록
+     */
+    @Transactional(readOnly = true)
+    public List<Long> findRecoverableJobIds(Duration staleAfter) {
+        LocalDateTime now = LocalDateTime.now();
+        return jobRepository.findRecoverable(now.minus(QUEUED_GRACE), now.minus(staleAfter))
+                .stream()
+                .map(PayrollBatchJob::getJobId)
+                .toList();
+    }
+
+    private PayrollBatchJob getJobOrThrow(Long jobId) {
+        return jobRepository.findById(jobId)
+                .orElseThrow(() -> new BusinessException(ErrorCode.PAYROLL_BATCH_JOB_NOT_FOUND));
+    }
+}
@@ -0,0 +1,137 @@
+package com.c4.hero.domain.payroll.batch.service;
+
+import com.c4.hero.common.exception.BusinessException;
+import com.c4.hero.common.exception.ErrorCode;
+import lombok.extern.slf4j.Slf4j;
+import net.javacrumbs.shedlock.core.LockConfiguration;
+import net.javacrumbs.shedlock.core.LockProvider;
+import net.javacrumbs.shedlock.core.SimpleLock;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+import java.util.function.Function;
+
+/**
+ * <pre>
+ * Class Name : PayrollBatchLock
+ * Description : 급여 배치 단위 ShedLock(payrollBatch-{batchId}) 획득/연장/해제
+ *
+ * 사용처
+ *  - PayrollBatchJobRunner : 비동기 작업(계산/확정/지급) 실행
+ *  - BatchController       : 동기 계산/확정/지급 API
+ *  → 동기 API 와 비동기 작업이 같은 배치를 동시에 실행하지 않도록 같은 락 이름을 사용
+ *
+ * 락 유지 시간
+ *  - payroll.batch.job.lock-at-most-for 는 작업 전체가 아닌 "연장 간 최대 간격"
+ *  - 계산은 청크 완료(진행 현황 heartbeat)마다 락을 다시 lock-at-most-for 만큼 연장하므로
+ *    배치 규모와 관계없이 청크 1개 처리 시간보다 길게만 잡으면 됨
+ *  - 확정/지급은 단일 트랜잭션이므로 해당 트랜잭션 처리 시간보다 길게 설정
+ *
+ * History
+ *  2026/10/18 - 동근 최초 작성
+ * </pre>
+ *
+ * @author 동근
+ * @version 1.0
+ */
+@Slf4j
+@Component
+public class PayrollBatchLock {
+
+    private static final String LOCK_NAME_PREFIX = "payrollBatch-";
+
+    private final LockProvider lockProvider;
+    private final Duration lockAtMostFor;
+
+    public PayrollBatchLock(
+            LockProvider lockProvider,
+            @Value("${payroll.batch.job.lock-at-most-for:PT30M}") Duration lockAtMostFor
+    ) {
+        this.lockProvider = lockProvider;
+        this.lockAtMostFor = lockAtMostFor;
+    }
+
+    /**
+     * 배치 락 획득 시도
+     *
+     * @param batchId 급여 배치 ID
+     * @return 획득한 락 (다른 작업이 실행 중이면 empty)
+     */
+    public Optional<Handle> tryLock(Integer batchId) {
+        return lockProvider.lock(new LockConfiguration(
+                Instant.now(), LOCK_NAME_PREFIX + batchId, lockAtMostFor, Duration.ZERO
+        )).map(lock -> new Handle(batchId, lock));
+    }
+
+    /**
+     * 배치 락을 잡은 상태로 실행
+     *
+     * @param batchId 급여 배치 ID
+     * @param action  실행할 작업 (락 연장이 필요하면 전달받은 Handle 사용)
+     * @return 작업 결과
+     *
+     * @throws BusinessException PAYROLL_BATCH_JOB_IN_PROGRESS 다른 작업이 같은 배치를 실행 중인 경우
+     */
+    public <T> T runLocked(Integer batchId, Function<Handle, T> action) {
+        try (Handle lock = tryLock(batchId)
+                .orElseThrow(() -> new BusinessException(ErrorCode.PAYROLL_BATCH_JOB_IN_PROGRESS))) {
+            return action.apply(lock);
+        }
+    }
+
+    /**
+     * 배치 락을 잡은 상태로 실행 (결과 없음)
+     *
+     * @param batchId 급여 배치 ID
+     * @param action  실행할 작업
+     *
+     * @throws BusinessException PAYROLL_BATCH_JOB_IN_PROGRESS 다른 작업이 같은 배치를 실행 중인 경우
+     */
+    public void runLocked(Integer batchId, Runnable action) {
+        runLocked(batchId, lock -> {
+            action.run();
+            return null;
+        });
+    }
+
+    /**
+     * 획득한 배치 락
+     *  - 계산 청크는 여러 스레드에서 완료되므로 연장/해제는 동기화
+     */
+    public final class Handle implements AutoCloseable {
+
+        private final Integer batchId;
+        private SimpleLock lock;
+
+        private Handle(Integer batchId, SimpleLock lock) {
+            this.batchId = batchId;
+            this.lock = lock;
+        }
+
+        /**
+         * 락 만료 시각을 현재 시각 + lock-at-most-for 로 연장
+         *
+         * @throws BusinessException PAYROLL_BATCH_JOB_IN_PROGRESS 락이 이미 만료되어 다른 작업이 가져간 경우
+         */
+        public synchronized void extend() {
+            if (lock == null) return;
+            Optional<SimpleLock> extended = lock.extend(lockAtMostFor, Duration.ZERO);
+            if (extended.isEmpty()) {
+                lock = null;
+                log.warn("급여 배치 락 연장 실패 (만료됨) - batchId={}", batchId);
+                throw new BusinessException(ErrorCode.PAYROLL_BATCH_JOB_IN_PROGRESS);
+            }
+            lock = extended.get();
+        }
+
+        @Override
+        public synchronized void close() {
+            if (lock == null) return;
+            lock.unlock();
+            lock = null;
+        }
+    }
+}
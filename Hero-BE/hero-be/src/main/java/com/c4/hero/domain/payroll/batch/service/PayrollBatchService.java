@@ -4,21 +4,23 @@ import com.c4.hero.common.exception.BusinessException;
 import com.c4.hero.common.exception.ErrorCode;
 import com.c4.hero.domain.auth.security.PayrollAdminOnly;
 import com.c4.hero.domain.payroll.batch.dto.PayrollBatchTargetEmployeeResponseDTO;
-import com.c4.hero.domain.payroll.batch.entity.Payroll;
+import com.c4.hero.domain.payroll.batch.dto.PayrollCalculationProgressDTO;
 import com.c4.hero.domain.payroll.batch.entity.PayrollBatch;
 import com.c4.hero.domain.payroll.batch.mapper.PayrollBatchQueryMapper;
 import com.c4.hero.domain.payroll.batch.repository.BatchRepository;
+import com.c4.hero.domain.payroll.batch.repository.PayrollBatchWriteRepository;
 import com.c4.hero.domain.payroll.batch.repository.PayrollRepository;
 import com.c4.hero.domain.payroll.common.type.PayrollBatchStatus;
 import com.c4.hero.domain.payroll.common.type.PayrollStatus;
-import com.c4.hero.domain.payroll.payment.entity.PaymentHistory;
-import com.c4.hero.domain.payroll.payment.repository.PaymentHistoryRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.function.Consumer;
 
 /**
  * <pre>
@@ -41,22 +43,28 @@ import java.util.List;
  *  2025/12/18 - 동근 급여 지급(pay) 로직 및 PaymentHistory 연동 추가
  *             - 클래스 레벨 트랜잭션 제거 및 상태 전이 트랜잭션 분리
  *  2026/01/03 - 동근 권한 인가 정책 추가
+ *  2026/10/18 - 동근 병렬 계산 결과(진행 현황) 반환
+ *             - 비동기 작업용 계산 진행 현황 콜백 추가
+ *             - 지급 이력 사원 단위 조회/저장(2N 쿼리) → INSERT ... SELECT 일괄 생성으로 변경
  * </pre>
  *
  *  @author 동근
- *  @version 1.2
+ *  @version 1.5
  */
 @PayrollAdminOnly
 @Service
 @RequiredArgsConstructor
 public class PayrollBatchService {
 
+    /** 지급 이력 일괄 생성 1회 최대 건수 */
+    private static final int PAYMENT_INSERT_CHUNK_SIZE = 5000;
+
     private final BatchRepository batchRepository;
     private final PayrollCalculationService calculationService;
     private final PayrollBatchStatusTxService batchStatusTxService;
     private final PayrollRepository payrollRepository;
     private final PayrollBatchQueryMapper batchQueryMapper;
-    private final PaymentHistoryRepository paymentHistoryRepository;
+    private final PayrollBatchWriteRepository batchWriteRepository;
 
     /**
      * 급여 배치 생성
@@ -80,8 +88,25 @@ public class PayrollBatchService {
      *
      * @param batchId     급여 배치 ID
      * @param employeeIds 선택 사원 ID 목록
+     * @return 계산 결과 집계 (total/done/failed)
+     */
+    public PayrollCalculationProgressDTO calculate(Integer batchId, List<Integer> employeeIds) {
+        return calculate(batchId, employeeIds, progress -> { });
+    }
+
+    /**
+     * 급여 배치 계산 실행 (진행 현황 콜백)
+     *
+     * @param batchId     급여 배치 ID
+     * @param employeeIds 선택 사원 ID 목록
+     * @param onProgress  청크 완료 시마다 호출되는 진행 현황 콜백
+     * @return 계산 결과 집계 (total/done/failed)
      */
-    public void calculate(Integer batchId, List<Integer> employeeIds) {
+    public PayrollCalculationProgressDTO calculate(
+            Integer batchId,
+            List<Integer> employeeIds,
+            Consumer<PayrollCalculationProgressDTO> onProgress
+    ) {
         PayrollBatch batch = getBatchOrThrow(batchId);
 
         if (batch.getStatus() == PayrollBatchStatus.CONFIRMED || batch.getStatus() == PayrollBatchStatus.PAID) {
@@ -102,11 +127,12 @@ public class PayrollBatchService {
             throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE);
         }
 
-        calculationService.calculateEmployees(batch, targets);
+        PayrollCalculationProgressDTO result = calculationService.calculateEmployees(batch, targets, onProgress);
 
         if (batch.getStatus() == PayrollBatchStatus.READY) {
             batchStatusTxService.markCalculatedInNewTx(batchId);
         }
+        return result;
     }
 
     /**
@@ -171,22 +197,19 @@ public class PayrollBatchService {
             throw new BusinessException(ErrorCode.PAYROLL_BATCH_HAS_FAILED);
         }
 
-        List<Payroll> payrolls = payrollRepository.findAllByBatchId(batchId);
-        if (payrolls.isEmpty()) {
+        if (!payrollRepository.existsByBatchId(batchId)) {
             throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE, "지급할 급여 데이터가 없습니다.");
         }
 
-        for (Payroll pr : payrolls) {
-            if (paymentHistoryRepository.existsByPayrollId(pr.getPayrollId())) continue;
+        // 지급 이력이 없는 급여만 일괄 생성 (INSERT ... SELECT, 재실행 시 중복 생성 없음)
+        LocalDate paymentDate = LocalDate.now();
+        LocalDateTime createdAt = LocalDateTime.now();
+        int inserted;
+        do {
+            inserted = batchWriteRepository.insertMissingPaymentHistories(
+                    batchId, paymentDate, createdAt, PAYMENT_INSERT_CHUNK_SIZE);
+        } while (inserted == PAYMENT_INSERT_CHUNK_SIZE);
 
-            paymentHistoryRepository.save(
-                    PaymentHistory.completed(
-                            pr.getPayrollId(),
-                            pr.getTotalPay(),
-                            null
-                    )
-            );
-        }
         batch.markPaid(employeeId);
     }
 }
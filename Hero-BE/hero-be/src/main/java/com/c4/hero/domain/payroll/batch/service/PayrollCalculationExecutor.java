@@ -0,0 +1,121 @@
+package com.c4.hero.domain.payroll.batch.service;
+
+import com.zaxxer.hikari.HikariDataSource;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.concurrent.DelegatingSecurityContextCallable;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * <pre>
+ * Class Name : PayrollCalculationExecutor
+ * Description : 급여 배치 계산 전용 워커 풀
+ *
+ * 설계 의도
+ *  - 사원 단위 계산은 REQUIRES_NEW 트랜잭션이라 워커 1개 = DB 커넥션 1개를 점유함
+ *  - 워커 수를 JDBC 커넥션 풀(Hikari maximumPoolSize) 기준으로 제한하여
+ *    배치 계산 중에도 일반 API 요청이 사용할 커넥션을 남겨둠
+ *  - 큐가 가득 차면 호출 스레드가 직접 실행(CallerRuns)하여 자연스럽게 속도 조절
+ *  - 제출 시점의 SecurityContext를 워커 스레드로 전달 (@PayrollAdminOnly 통과용)
+ *
+ * 설정
+ *  - payroll.batch.worker-count      : 워커 수 (0이면 커넥션 풀 크기 기준 자동 산정)
+ *  - payroll.batch.reserved-connections : 워커가 사용하지 않고 남겨둘 커넥션 수
+ *
+ * History
+ *  2026/10/18 - 동근 최초 작성
+ * </pre>
+ *
+ * @author 동근
+ * @version 1.0
+ */
+@Slf4j
+@Component
+public class PayrollCalculationExecutor {
+
+    private static final int DEFAULT_POOL_SIZE = 10;
+
+    private final ThreadPoolExecutor executor;
+    private final int workerCount;
+
+    public PayrollCalculationExecutor(
+            DataSource dataSource,
+            @Value("${payroll.batch.worker-count:0}") int configuredWorkerCount,
+            @Value("${payroll.batch.reserved-connections:4}") int reservedConnections
+    ) {
+        int poolSize = resolvePoolSize(dataSource);
+        int maxWorkers = Math.max(1, poolSize - reservedConnections);
+
+        this.workerCount = configuredWorkerCount > 0
+                ? Math.min(configuredWorkerCount, maxWorkers)
+                : maxWorkers;
+
+        AtomicInteger seq = new AtomicInteger();
+        ThreadFactory threadFactory = r -> {
+            Thread t = new Thread(r, "payroll-calc-" + seq.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        };
+
+        this.executor = new ThreadPoolExecutor(
+                workerCount,
+                workerCount,
+                60L, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(workerCount * 4),
+                threadFactory,
+                new ThreadPoolExecutor.CallerRunsPolicy()
+        );
+        this.executor.allowCoreThreadTimeOut(true);
+
+        log.info("급여 계산 워커 풀 초기화 - connectionPool={}, workers={}", poolSize, workerCount);
+    }
+
+    /**
+     * 계산 작업 제출 (현재 SecurityContext 전달)
+     *
+     * @param task 실행할 작업
+     * @return 작업 결과 Future
+     */
+    public <T> Future<T> submit(Callable<T> task) {
+        return executor.submit(new DelegatingSecurityContextCallable<>(task));
+    }
+
+    /**
+     * 워커 수 조회
+     *
+     * @return 워커 스레드 수
+     */
+    public int getWorkerCount() {
+        return workerCount;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    /**
+     * DataSource 가 Hikari 인 경우 maximumPoolSize 조회
+     */
+    private static int resolvePoolSize(DataSource dataSource) {
+        try {
+            if (dataSource.isWrapperFor(HikariDataSource.class)) {
+                return dataSource.unwrap(HikariDataSource.class).getMaximumPoolSize();
+            }
+        } catch (SQLException e) {
+            log.warn("커넥션 풀 크기 조회 실패 - 기본값({}) 사용", DEFAULT_POOL_SIZE);
+        }
+        return DEFAULT_POOL_SIZE;
+    }
+}
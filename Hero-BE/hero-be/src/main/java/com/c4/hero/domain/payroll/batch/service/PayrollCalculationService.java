@@ -1,47 +1,179 @@
 package com.c4.hero.domain.payroll.batch.service;
 
+import com.c4.hero.common.exception.BusinessException;
+import com.c4.hero.common.exception.ErrorCode;
 import com.c4.hero.domain.auth.security.PayrollAdminOnly;
+import com.c4.hero.domain.payroll.batch.dto.PayrollCalculationProgressDTO;
+import com.c4.hero.domain.payroll.batch.dto.PayrollInputSnapshot;
 import com.c4.hero.domain.payroll.batch.entity.PayrollBatch;
+import com.c4.hero.domain.payroll.common.type.PayrollCalculationOutcome;
+import com.c4.hero.domain.payroll.policy.engine.PayrollPolicyPlan;
+import com.c4.hero.domain.payroll.policy.service.PayrollPolicyPlanService;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
 
 /**
  * <pre>
  * Class Name : PayrollCalculationService
  * Description : 월별 급여 배치 계산 서비스
  *
- *  급여 배치 시스템 마무리 되면 수당+공제 기능 추가 할 예정입니당
+ * 계산 흐름
+ *  1. 대상 사원 전체의 입력값 스냅샷 일괄 적재 (PayrollInputSnapshotService)
+ *     + 급여 정책 평가 계획 컴파일/스냅샷 저장 (PayrollPolicyPlanService, 배치당 1회)
+ *  2. 대상 사원 목록을 청크(payroll.batch.chunk-size) 단위로 분할
+ *  3. 청크를 PayrollCalculationExecutor 워커 풀에 제출 (병렬 처리)
+ *  4. 워커는 청크 단위 트랜잭션으로 계산 후 JDBC batch 일괄 저장
+ *     (청크 저장 실패 시 사원 단위 REQUIRES_NEW 트랜잭션으로 재처리하여 FAILED 격리 유지)
+ *  5. 청크 완료 시마다 진행 현황(done/failed/total) 콜백
  *
  * History
  *  2025/12/15 - 동근 최초 작성
  *  2025/12/18 - 동근 사원 단위 계산/Tx를 PayrollEmployeeCalculateTxService 로 분리
  *             - 클래스 레벨 트랜잭션 제거
  *  2026/01/03 - 동근 권한 인가 정책 추가
+ *  2026/10/18 - 동근 청크 분할 + 워커 풀 병렬 계산 및 진행 현황 집계 추가
+ *             - 입력값 스냅샷 일괄 적재 단계 추가
+ *             - 청크 단위 일괄 저장 + 실패 청크 사원 단위 재처리
+ *             - 급여 정책 평가 계획(수당/공제) 컴파일 단계 추가
  * </pre>
  *
  *  @author 동근
- *  @version 1.2
+ *  @version 1.4
  */
+@Slf4j
 @PayrollAdminOnly
 @Service
 @RequiredArgsConstructor
 public class PayrollCalculationService {
 
     private final PayrollEmployeeCalculateTxService employeeTxService;
+    private final PayrollCalculationExecutor calculationExecutor;
+    private final PayrollInputSnapshotService snapshotService;
+    private final PayrollPolicyPlanService policyPlanService;
 
+    @Value("${payroll.batch.chunk-size:100}")
+    private int chunkSize;
 
     /**
      * 배치 내 사원 리스트 대상 급여 계산 실행
      *
      * @param batch       급여 배치 엔티티
      * @param employeeIds 계산 대상 사원 ID 목록
+     * @return 최종 계산 결과 집계
      */
-    public void calculateEmployees(PayrollBatch batch, List<Integer> employeeIds) {
-        for (Integer empId : employeeIds) {
-            employeeTxService.calculateOne(batch, empId); // 사원 단위 분리 트랜잭션 처리
+    public PayrollCalculationProgressDTO calculateEmployees(PayrollBatch batch, List<Integer> employeeIds) {
+        return calculateEmployees(batch, employeeIds, progress -> { });
+    }
+
+    /**
+     * 배치 내 사원 리스트 대상 급여 계산 실행 (진행 현황 콜백)
+     *
+     * @param batch       급여 배치 엔티티
+     * @param employeeIds 계산 대상 사원 ID 목록
+     * @param onProgress  청크 완료 시마다 호출되는 진행 현황 콜백
+     * @return 최종 계산 결과 집계
+     */
+    public PayrollCalculationProgressDTO calculateEmployees(
+            PayrollBatch batch,
+            List<Integer> employeeIds,
+            Consumer<PayrollCalculationProgressDTO> onProgress
+    ) {
+        int total = employeeIds.size();
+        AtomicInteger done = new AtomicInteger();
+        AtomicInteger failed = new AtomicInteger();
+        AtomicInteger skipped = new AtomicInteger();
+
+        PayrollInputSnapshot snapshot = snapshotService.load(batch.getSalaryMonth(), employeeIds);
+        PayrollPolicyPlan plan = policyPlanService.prepare(batch);
+
+        List<Future<?>> futures = new ArrayList<>();
+        for (List<Integer> chunk : partition(employeeIds, Math.max(1, chunkSize))) {
+            futures.add(calculationExecutor.submit(() -> {
+                for (PayrollCalculationOutcome outcome : calculateChunk(batch, chunk, snapshot, plan)) {
+                    if (outcome == PayrollCalculationOutcome.FAILED) failed.incrementAndGet();
+                    else if (outcome == PayrollCalculationOutcome.SKIPPED) skipped.incrementAndGet();
+                    done.incrementAndGet();
+                }
+                PayrollCalculationProgressDTO progress = progressOf(batch, total, done, failed, skipped);
+                log.info("급여 계산 진행 - batchId={}, {}/{} (failed={})",
+                        batch.getBatchId(), progress.done(), total, progress.failed());
+                onProgress.accept(progress);
+                return null;
+            }));
+        }
+
+        awaitAll(futures);
+        return progressOf(batch, total, done, failed, skipped);
+    }
+
+    /**
+     * 청크 단위 계산 (JDBC batch 일괄 저장)
+     *  - 청크 저장이 실패하면 해당 청크만 사원 단위 트랜잭션으로 재처리하여 FAILED 격리 유지
+     */
+    private List<PayrollCalculationOutcome> calculateChunk(
+            PayrollBatch batch, List<Integer> chunk, PayrollInputSnapshot snapshot, PayrollPolicyPlan plan) {
+        try {
+            return employeeTxService.calculateChunk(batch, chunk, snapshot, plan);
+        } catch (Exception e) {
+            log.warn("급여 청크 저장 실패 - 사원 단위로 재처리합니다. batchId={}, size={}",
+                    batch.getBatchId(), chunk.size(), e);
+            List<PayrollCalculationOutcome> outcomes = new ArrayList<>(chunk.size());
+            for (Integer empId : chunk) {
+                outcomes.add(calculateSafely(batch, empId, snapshot, plan));
+            }
+            return outcomes;
         }
     }
-}
 
+    /**
+     * 사원 단위 계산 (커밋 단계 예외까지 FAILED로 격리)
+     */
+    private PayrollCalculationOutcome calculateSafely(
+            PayrollBatch batch, Integer empId, PayrollInputSnapshot snapshot, PayrollPolicyPlan plan) {
+        try {
+            return employeeTxService.calculateOne(batch, empId, snapshot, plan); // 사원 단위 분리 트랜잭션 처리
+        } catch (Exception e) {
+            log.warn("급여 계산 트랜잭션 실패 - batchId={}, employeeId={}", batch.getBatchId(), empId, e);
+            return PayrollCalculationOutcome.FAILED;
+        }
+    }
+
+    /**
+     * 모든 청크 작업 완료 대기
+     */
+    private void awaitAll(List<Future<?>> futures) {
+        try {
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            futures.forEach(f -> f.cancel(true));
+            throw new BusinessException(ErrorCode.INTERNAL_SERVER_ERROR, "급여 계산이 중단되었습니다.");
+        } catch (ExecutionException e) {
+            throw new BusinessException(ErrorCode.INTERNAL_SERVER_ERROR, "급여 계산 중 오류가 발생했습니다.");
+        }
+    }
+
+    private static PayrollCalculationProgressDTO progressOf(
+            PayrollBatch batch, int total, AtomicInteger done, AtomicInteger failed, AtomicInteger skipped) {
+        return new PayrollCalculationProgressDTO(batch.getBatchId(), total, done.get(), failed.get(), skipped.get());
+    }
+
+    private static List<List<Integer>> partition(List<Integer> source, int size) {
+        List<List<Integer>> chunks = new ArrayList<>();
+        for (int i = 0; i < source.size(); i += size) {
+            chunks.add(List.copyOf(source.subList(i, Math.min(i + size, source.size()))));
+        }
+        return chunks;
+    }
+}
@@ -2,105 +2,267 @@ package com.c4.hero.domain.payroll.batch.service;
 
 import com.c4.hero.common.exception.BusinessException;
 import com.c4.hero.domain.auth.security.PayrollAdminOnly;
-import com.c4.hero.domain.payroll.adjustment.entity.PayrollRaise;
-import com.c4.hero.domain.payroll.adjustment.mapper.PayrollAdjustmentQueryMapper;
-import com.c4.hero.domain.payroll.adjustment.repository.PayrollRaiseRepository;
+import com.c4.hero.domain.payroll.batch.dto.PayrollInputSnapshot;
+import com.c4.hero.domain.payroll.batch.dto.PayrollWriteRow;
 import com.c4.hero.domain.payroll.batch.entity.Payroll;
 import com.c4.hero.domain.payroll.batch.entity.PayrollBatch;
 import com.c4.hero.domain.payroll.batch.entity.PayrollItem;
+import com.c4.hero.domain.payroll.batch.repository.PayrollBatchWriteRepository;
 import com.c4.hero.domain.payroll.batch.repository.PayrollItemRepository;
 import com.c4.hero.domain.payroll.batch.repository.PayrollRepository;
+import com.c4.hero.domain.payroll.common.type.PayrollCalculationOutcome;
+import com.c4.hero.domain.payroll.common.type.PayrollStatus;
 import com.c4.hero.domain.payroll.integration.attendance.service.PayrollAttendanceService;
+import com.c4.hero.domain.payroll.policy.engine.PayrollPolicyPlan;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
 /**
  * <pre>
  * Class Name : PayrollEmployeeCalculateTxService
  * Description : 사원 단위 급여 계산 트랜잭션 서비스 (단일 사원 기준 급여 계산 담당)
  *
+ * 처리 방식
+ *  - calculateChunk : 청크 단위 1 트랜잭션, 계산 결과를 모아 JDBC batch 로 일괄 저장 (기본 경로)
+ *  - calculateOne   : 사원 단위 1 트랜잭션, JPA 단건 저장 (청크 저장 실패 시 격리 재처리 경로)
+ *
  * History
  *   2025/12/18 - 동근 최초 작성
  *   2026/01/03 - 동근 권한 인가 정책 추가
+ *   2026/10/18 - 동근 병렬 배치 집계를 위해 계산 결과(PayrollCalculationOutcome) 반환
+ *              - 사원 단위 입력값 조회 제거, 배치 입력 스냅샷(PayrollInputSnapshot) 기반 계산
+ *              - 청크 단위 계산 + JDBC batch 일괄 저장(calculateChunk) 추가
+ *              - 입력값 지문이 같은 사원(입력 변경 없음)은 재계산 스킵
+ *              - 급여 정책 평가 계획(PayrollPolicyPlan) 적용, 정책 수당/공제 항목 일괄 저장
+ *              - 수당/공제 합계를 기존 급여 값 누적 대신 정책 항목 + 조정 순합으로 산출
+ *              - FORMULA 수식 변수(근무시간/초과근무/근무일수) 전달
  * </pre>
  *
  * @author 동근
- * @version 1.1
+ * @version 1.7
  */
 @PayrollAdminOnly
 @Service
 @RequiredArgsConstructor
 public class PayrollEmployeeCalculateTxService {
 
+    private static final String OVERTIME_ITEM_TYPE = "ALLOWANCE";
+    private static final String OVERTIME_ITEM_CODE = "OVERTIME";
+    private static final String OVERTIME_ITEM_NAME = "연장근무수당";
+    private static final String SYSTEM_ERROR_MESSAGE = "시스템 오류로 계산에 실패했습니다.";
+
     private final PayrollRepository payrollRepository;
     private final PayrollItemRepository payrollItemRepository;
     private final PayrollAttendanceService attendanceService;
-    private final PayrollRaiseRepository payrollRaiseRepository;
-    private final PayrollAdjustmentQueryMapper payrollAdjustmentQueryMapper;
+    private final PayrollBatchWriteRepository batchWriteRepository;
 
     /**
-     * 단일 사원 급여 계산 (REQUIRES_NEW 트랜잭션 사용)
+     * 청크 단위 급여 계산 (REQUIRES_NEW 트랜잭션 1개)
      *
-     * @param batch  급여 배치 엔티티
-     * @param empId  사원 ID
+     * 처리 흐름
+     *  1. 청크 사원의 기존 급여 일괄 조회 (1회)
+     *  2. 사원별 계산(정책 평가 포함) → 확정 급여 / 계산 지문이 같은 급여는 스킵,
+     *     계산 오류는 해당 사원만 FAILED 행으로 기록
+     *  3. 급여 INSERT/UPDATE batch 저장
+     *  4. 급여 ID 일괄 조회 후 연장근무수당 + 정책 항목 일괄 교체
+     *
+     *  저장 단계에서 예외가 발생하면 청크 전체가 롤백되며,
+     *  호출 측에서 calculateOne 으로 사원 단위 재처리함
+     *
+     * @param batch       급여 배치 엔티티
+     * @param employeeIds 청크 사원 ID 목록
+     * @param snapshot    배치 입력값 스냅샷
+     * @param plan        배치 정책 평가 계획
+     * @return 사원별 계산 결과 (employeeIds 순서)
      */
     @Transactional(propagation = Propagation.REQUIRES_NEW)
-    public void calculateOne(PayrollBatch batch, Integer empId) {
-        try {
-            int baseSalary = attendanceService.getBaseSalary(empId); // 근태 연동(기본급 조회)
+    public List<PayrollCalculationOutcome> calculateChunk(
+            PayrollBatch batch,
+            List<Integer> employeeIds,
+            PayrollInputSnapshot snapshot,
+            PayrollPolicyPlan plan
+    ) {
+        Map<Integer, Payroll> existing = payrollRepository
+                .findAllByEmployeeIdInAndSalaryMonth(employeeIds, batch.getSalaryMonth())
+                .stream()
+                .collect(Collectors.toMap(Payroll::getEmployeeId, Function.identity(), (a, b) -> a));
 
-            baseSalary = payrollRaiseRepository
-                    .findTopByEmployeeIdAndEffectiveMonthAndStatusOrderByRaiseIdDesc(
-                            empId, batch.getSalaryMonth(), "APPROVED"
-                    )
-                    .map(PayrollRaise::getAfterSalary)
-                    .orElse(baseSalary);
+        List<PayrollCalculationOutcome> outcomes = new ArrayList<>(employeeIds.size());
+        List<PayrollWriteRow> rows = new ArrayList<>(employeeIds.size());
+        Map<Integer, List<PayrollPolicyPlan.Applied>> policyItems = new HashMap<>();
 
-            int overtimePay = attendanceService.calculateOvertime(batch.getSalaryMonth(), empId); //연장근무 수당 계산
+        for (Integer empId : employeeIds) {
+            Payroll current = existing.get(empId);
+            if (current != null && (current.isLocked() || current.isUnchanged(fingerprint(snapshot, plan, empId)))) {
+                outcomes.add(PayrollCalculationOutcome.SKIPPED); // 확정 급여 / 입력·정책 변경 없는 급여는 계산 스킵
+                continue;
+            }
+            Integer payrollId = current == null ? null : current.getPayrollId();
+            try {
+                Calculation calc = compute(batch, empId, snapshot, plan, current);
+                rows.add(calc.row());
+                policyItems.put(empId, calc.policyItems());
+                outcomes.add(PayrollCalculationOutcome.CALCULATED);
+            } catch (BusinessException be) {
+                rows.add(PayrollWriteRow.failed(payrollId, empId, batch.getBatchId(), batch.getSalaryMonth(), be.getMessage()));
+                outcomes.add(PayrollCalculationOutcome.FAILED);
+            } catch (Exception e) {
+                rows.add(PayrollWriteRow.failed(payrollId, empId, batch.getBatchId(), batch.getSalaryMonth(), SYSTEM_ERROR_MESSAGE));
+                outcomes.add(PayrollCalculationOutcome.FAILED);
+            }
+        }
+
+        if (rows.isEmpty()) return outcomes;
+
+        batchWriteRepository.savePayrolls(rows);
+
+        //연장근무 수당 + 정책 항목 갱신 (계산 성공 행만)
+        List<PayrollWriteRow> calculated = rows.stream()
+                .filter(r -> r.status() == PayrollStatus.CALCULATED)
+                .toList();
+        Map<Integer, Integer> payrollIds = batchWriteRepository.findPayrollIds(
+                batch.getSalaryMonth(),
+                calculated.stream().map(PayrollWriteRow::employeeId).toList()
+        );
+        List<PayrollItem> items = new ArrayList<>();
+        for (PayrollWriteRow r : calculated) {
+            items.addAll(items(payrollIds.get(r.employeeId()), r, policyItems.get(r.employeeId())));
+        }
+        batchWriteRepository.replaceItems(payrollIds.values(), items);
 
+        return outcomes;
+    }
+
+    /**
+     * 단일 사원 급여 계산 (REQUIRES_NEW 트랜잭션 사용)
+     *
+     *  입력값(기본급/인상/근태/조정)은 배치 단위로 미리 적재된 스냅샷에서 읽으므로
+     *  사원 단위 트랜잭션에서는 급여 저장 관련 쿼리만 수행함
+     *
+     * @param batch    급여 배치 엔티티
+     * @param empId    사원 ID
+     * @param snapshot 배치 입력값 스냅샷
+     * @param plan     배치 정책 평가 계획
+     * @return 계산 결과 (CALCULATED / SKIPPED / FAILED)
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public PayrollCalculationOutcome calculateOne(
+            PayrollBatch batch, Integer empId, PayrollInputSnapshot snapshot, PayrollPolicyPlan plan) {
+        try {
             Payroll payroll = payrollRepository
                     .findByEmployeeIdAndSalaryMonth(empId, batch.getSalaryMonth()) //기존 급여가 있으면 조회
                     .orElseGet(() -> Payroll.ready(empId, batch.getBatchId(), batch.getSalaryMonth()));
             //없으면 ready상태 엔티티 생성
 
-            if (payroll.isLocked()) return; // 상태 검증용 (true상태면 계산 스킵)
-
-            int allowanceTotal = payroll.getAllowanceTotal() == null ? 0 : payroll.getAllowanceTotal();
-            int deductionTotal = payroll.getDeductionTotal() == null ? 0 : payroll.getDeductionTotal();
-
-            int manualAdjustNet = payrollAdjustmentQueryMapper
-                    .sumApprovedAdjustmentNet(empId, batch.getSalaryMonth());
-            if (manualAdjustNet != 0) {
-                // 조정은 "수당/공제" 어느 쪽이든 될 수 있는데,
-                // 현재 네 Payroll 구조는 allowanceTotal/deductionTotal로 합산해서 totalPay 계산하니까
-                // net이 +면 allowanceTotal에, -면 deductionTotal에 넣는 게 제일 무난함.
-                if (manualAdjustNet > 0) allowanceTotal += manualAdjustNet;
-                else deductionTotal += Math.abs(manualAdjustNet);
-            }
+            if (payroll.isLocked()) return PayrollCalculationOutcome.SKIPPED; // 상태 검증용 (true상태면 계산 스킵)
+            if (payroll.isUnchanged(fingerprint(snapshot, plan, empId))) return PayrollCalculationOutcome.SKIPPED; // 입력·정책 변경 없음
 
+            Calculation calc = compute(batch, empId, snapshot, plan, payroll);
+            PayrollWriteRow row = calc.row();
 
             //급여 계산 적용하는 로직
-            payroll.applyCalculated(batch.getBatchId(), baseSalary, overtimePay, allowanceTotal, deductionTotal); // 호출로 급여 관련 반영
+            payroll.applyCalculated(batch.getBatchId(), row.baseSalary(), row.overtimePay(),
+                    row.allowanceTotal(), row.deductionTotal(), row.inputFingerprint()); // 호출로 급여 관련 반영
             Payroll saved = payrollRepository.save(payroll);
 
-            //연장근무 수당 항목 갱신
-            payrollItemRepository.deleteByPayrollIdAndItemTypeAndItemCode(
-                    saved.getPayrollId(), "ALLOWANCE", "OVERTIME"
-            );
-            if (overtimePay > 0) {
-                payrollItemRepository.save(
-                        PayrollItem.of(saved.getPayrollId(), "ALLOWANCE", "OVERTIME", "연장근무수당", overtimePay, "Y")
-                );
-            }
+            //연장근무 수당 + 정책 항목 갱신
+            payrollItemRepository.deleteAllByPayrollId(saved.getPayrollId());
+            payrollItemRepository.saveAll(items(saved.getPayrollId(), row, calc.policyItems()));
+            return PayrollCalculationOutcome.CALCULATED;
         } catch (BusinessException be) {
             saveFailed(batch, empId, be.getMessage());
         } catch (Exception e) {
-            saveFailed(batch, empId, "시스템 오류로 계산에 실패했습니다.");
+            saveFailed(batch, empId, SYSTEM_ERROR_MESSAGE);
         }
+        return PayrollCalculationOutcome.FAILED;
     }
 
+    /**
+     * 스냅샷 입력값 + 정책 평가 계획 기준 급여 계산 (DB 접근 없음)
+     *
+     *  수당/공제 합계 = 정책 항목 합계 + 승인된 조정 순합(+ 는 수당, - 는 공제)
+     *
+     * @param batch    급여 배치 엔티티
+     * @param empId    사원 ID
+     * @param snapshot 배치 입력값 스냅샷
+     * @param plan     배치 정책 평가 계획
+     * @param current  기존 급여 (없으면 null)
+     * @return CALCULATED 상태의 저장 행 + 적용된 정책 항목
+     */
+    private Calculation compute(
+            PayrollBatch batch, Integer empId, PayrollInputSnapshot snapshot, PayrollPolicyPlan plan, Payroll current) {
+        int baseSalary = snapshot.effectiveBaseSalary(empId); // 기본급 (승인된 인상 반영)
+
+        int attendanceDays = snapshot.attendanceDays(empId);
+        int workedMinutes = snapshot.workedMinutes(empId);
+        int overtimePay = attendanceService.calculateOvertime(
+                snapshot.baseSalary(empId), attendanceDays, workedMinutes
+        ); //연장근무 수당 계산
+
+        PayrollPolicyPlan.Result policy = plan.evaluate(new PayrollPolicyPlan.Subject(
+                empId, snapshot.departmentId(empId), snapshot.gradeId(empId), baseSalary, overtimePay,
+                workedMinutes, attendanceService.overtimeMinutes(attendanceDays, workedMinutes), attendanceDays
+        )); //정책 수당/공제 항목 평가 (FIXED / RATE / FORMULA)
+
+        int allowanceTotal = policy.allowanceTotal();
+        int deductionTotal = policy.deductionTotal();
+
+        int manualAdjustNet = snapshot.adjustmentNet(empId);
+        if (manualAdjustNet != 0) {
+            // 조정은 "수당/공제" 어느 쪽이든 될 수 있는데,
+            // 현재 네 Payroll 구조는 allowanceTotal/deductionTotal로 합산해서 totalPay 계산하니까
+            // net이 +면 allowanceTotal에, -면 deductionTotal에 넣는 게 제일 무난함.
+            if (manualAdjustNet > 0) allowanceTotal += manualAdjustNet;
+            else deductionTotal += Math.abs(manualAdjustNet);
+        }
+
+        PayrollWriteRow row = PayrollWriteRow.calculated(
+                current == null ? null : current.getPayrollId(),
+                empId, batch.getBatchId(), batch.getSalaryMonth(),
+                baseSalary, overtimePay, allowanceTotal, deductionTotal,
+                fingerprint(snapshot, plan, empId)
+        );
+        return new Calculation(row, policy.items());
+    }
+
+    /**
+     * 계산 지문 = 입력값 지문 + 정책 지문
+     */
+    private static long fingerprint(PayrollInputSnapshot snapshot, PayrollPolicyPlan plan, Integer empId) {
+        return plan.fingerprint(snapshot.fingerprint(empId));
+    }
+
+    /**
+     * 급여 1건의 저장 항목 (연장근무수당 → 정책 항목 우선순위 순)
+     */
+    private static List<PayrollItem> items(Integer payrollId, PayrollWriteRow row, List<PayrollPolicyPlan.Applied> policyItems) {
+        List<PayrollItem> items = new ArrayList<>();
+        if (row.overtimePay() > 0) {
+            items.add(PayrollItem.of(payrollId, OVERTIME_ITEM_TYPE, OVERTIME_ITEM_CODE, OVERTIME_ITEM_NAME, row.overtimePay(), "Y"));
+        }
+        if (policyItems != null) {
+            for (PayrollPolicyPlan.Applied applied : policyItems) {
+                items.add(PayrollItem.of(payrollId, applied.rule().itemType().name(), applied.rule().itemCode(),
+                        applied.rule().itemName(), applied.amount(), applied.rule().taxableYn()));
+            }
+        }
+        return items;
+    }
+
+    /**
+     * 사원 1명 계산 결과 (저장 행 + 적용된 정책 항목)
+     */
+    private record Calculation(PayrollWriteRow row, List<PayrollPolicyPlan.Applied> policyItems) {}
+
     /**
      * 급여 계산 실패 시 FAILED 상태로 저장하는 유틸리티
      *
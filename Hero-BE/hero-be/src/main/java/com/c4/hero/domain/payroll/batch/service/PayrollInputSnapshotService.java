@@ -0,0 +1,77 @@
+package com.c4.hero.domain.payroll.batch.service;
+
+import com.c4.hero.domain.auth.security.PayrollAdminOnly;
+import com.c4.hero.domain.payroll.batch.dto.PayrollEmployeeAmountRow;
+import com.c4.hero.domain.payroll.batch.dto.PayrollEmployeeInputRow;
+import com.c4.hero.domain.payroll.batch.dto.PayrollInputSnapshot;
+import com.c4.hero.domain.payroll.batch.mapper.PayrollInputSnapshotMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * <pre>
+ * Class Name : PayrollInputSnapshotService
+ * Description : 급여 배치 계산 입력값 스냅샷 적재 서비스
+ *
+ * 역할
+ *  - 계산 대상 사원 전체의 입력값(기본급/인상/근태/조정)을 일괄 조회
+ *  - 조회 결과를 불변 PayrollInputSnapshot 으로 구성하여 계산 워커에 공유
+ *
+ * 설계 의도
+ *  - 사원당 5회 단건 조회(N+1) → 배치당 3개 GROUP BY 조회로 대체
+ *  - IN 절 크기는 PARTITION_SIZE(1000) 단위로 분할
+ *
+ * History
+ *  2026/10/18 - 동근 최초 작성
+ * </pre>
+ *
+ * @author 동근
+ * @version 1.0
+ */
+@Slf4j
+@PayrollAdminOnly
+@Service
+@RequiredArgsConstructor
+public class PayrollInputSnapshotService {
+
+    /** IN 절 최대 사원 수 */
+    private static final int PARTITION_SIZE = 1000;
+
+    private final PayrollInputSnapshotMapper snapshotMapper;
+
+    /**
+     * 급여월 + 대상 사원 기준 입력값 스냅샷 적재
+     *
+     * @param salaryMonth 급여월 (YYYY-MM)
+     * @param employeeIds 계산 대상 사원 ID 목록
+     * @return 불변 입력값 스냅샷
+     */
+    @Transactional(readOnly = true)
+    public PayrollInputSnapshot load(String salaryMonth, List<Integer> employeeIds) {
+        YearMonth ym = YearMonth.parse(salaryMonth);   // "YYYY-MM"
+        String start = ym.atDay(1).toString();         // YYYY-MM-01
+        String end = ym.atEndOfMonth().toString();     // YYYY-MM-28/29/30/31
+
+        List<PayrollEmployeeInputRow> inputs = new ArrayList<>(employeeIds.size());
+        List<PayrollEmployeeAmountRow> raises = new ArrayList<>();
+        List<PayrollEmployeeAmountRow> adjustments = new ArrayList<>();
+
+        for (int i = 0; i < employeeIds.size(); i += PARTITION_SIZE) {
+            List<Integer> part = employeeIds.subList(i, Math.min(i + PARTITION_SIZE, employeeIds.size()));
+            inputs.addAll(snapshotMapper.selectEmployeeInputs(part, start, end));
+            raises.addAll(snapshotMapper.selectApprovedRaiseSalaries(part, salaryMonth));
+            adjustments.addAll(snapshotMapper.selectApprovedAdjustmentNets(part, salaryMonth));
+        }
+
+        PayrollInputSnapshot snapshot = PayrollInputSnapshot.of(salaryMonth, employeeIds, inputs, raises, adjustments);
+        log.info("급여 입력 스냅샷 적재 - month={}, employees={}, raises={}, adjustments={}",
+                salaryMonth, snapshot.size(), raises.size(), adjustments.size());
+        return snapshot;
+    }
+}
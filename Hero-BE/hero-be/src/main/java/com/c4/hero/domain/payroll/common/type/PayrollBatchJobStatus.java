@@ -0,0 +1,59 @@
+package com.c4.hero.domain.payroll.common.type;
+
+/**
+ * <pre>
+ * Enum Name : PayrollBatchJobStatus
+ * Description : 급여 배치 비동기 작업 상태를 나타내는 Enum
+ *
+ * 상태 흐름
+ *  QUEUED -> RUNNING -> COMPLETED / FAILED
+ *
+ * 상태 설명
+ *  - QUEUED
+ *    -> 작업이 등록되어 실행 대기 중인 상태
+ *    -> 노드 재시작 등으로 실행되지 못한 경우 복구 스케줄러가 다시 실행함
+ *
+ *  - RUNNING
+ *    -> 작업이 실행 중인 상태 (heartbeat 갱신)
+ *    -> heartbeat 가 오래 갱신되지 않으면 중단된 작업으로 보고 재실행함
+ *
+ *  - COMPLETED / FAILED
+ *    -> 종료 상태
+ *
+ * History
+ *  2026/10/18 - 동근 최초 작성
+ * </pre>
+ *
+ *  @author 동근
+ *  @version 1.0
+ */
+public enum PayrollBatchJobStatus {
+    /**
+     * 실행 대기
+     */
+    QUEUED,
+
+    /**
+     * 실행 중
+     */
+    RUNNING,
+
+    /**
+     * 실행 완료
+     */
+    COMPLETED,
+
+    /**
+     * 실행 실패
+     */
+    FAILED;
+
+    /**
+     * 종료 상태 여부
+     *
+     * @return true = COMPLETED / FAILED
+     */
+    public boolean isFinished() {
+        return this == COMPLETED || this == FAILED;
+    }
+}
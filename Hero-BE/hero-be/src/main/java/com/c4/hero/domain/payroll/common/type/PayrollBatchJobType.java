@@ -0,0 +1,35 @@
+package com.c4.hero.domain.payroll.common.type;
+
+/**
+ * <pre>
+ * Enum Name : PayrollBatchJobType
+ * Description : 급여 배치 비동기 작업 유형을 나타내는 Enum
+ *
+ * 유형 설명
+ *  - CALCULATE -> 배치 급여 계산 (PayrollBatchService.calculate)
+ *  - CONFIRM   -> 배치 확정 (PayrollBatchService.confirm)
+ *  - PAY       -> 배치 지급 (PayrollBatchService.pay)
+ *
+ * History
+ *  2026/10/18 - 동근 최초 작성
+ * </pre>
+ *
+ *  @author 동근
+ *  @version 1.0
+ */
+public enum PayrollBatchJobType {
+    /**
+     * 급여 계산
+     */
+    CALCULATE,
+
+    /**
+     * 배치 확정
+     */
+    CONFIRM,
+
+    /**
+     * 배치 지급
+     */
+    PAY
+}
@@ -0,0 +1,42 @@
+package com.c4.hero.domain.payroll.common.type;
+
+/**
+ * <pre>
+ * Enum Name : PayrollCalculationOutcome
+ * Description : 사원 단위 급여 계산 결과를 나타내는 Enum
+ *
+ * 결과 설명
+ *  - CALCULATED
+ *    -> 급여 계산 및 저장이 정상적으로 완료됨
+ *
+ *  - SKIPPED
+ *    -> 이미 확정(CONFIRMED)된 급여 등 재계산 대상이 아니어서 건너뜀
+ *    -> 입력값 지문이 마지막 계산과 같아 재계산이 필요 없는 경우 포함
+ *
+ *  - FAILED
+ *    -> 계산 중 오류가 발생하여 FAILED 상태로 저장됨
+ *
+ * History
+ *  2026/10/18 - 동근 최초 작성
+ *             - 입력 변경 없음 스킵 사유 추가
+ * </pre>
+ *
+ *  @author 동근
+ *  @version 1.0
+ */
+public enum PayrollCalculationOutcome {
+    /**
+     * 계산 완료
+     */
+    CALCULATED,
+
+    /**
+     * 계산 대상 아님 (스킵)
+     */
+    SKIPPED,
+
+    /**
+     * 계산 실패
+     */
+    FAILED
+}
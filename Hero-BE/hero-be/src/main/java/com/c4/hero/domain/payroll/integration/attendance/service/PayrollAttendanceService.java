@@ -11,9 +11,11 @@ package com.c4.hero.domain.payroll.integration.attendance.service;
  *
  * History
  *  2025/12/15 - 동근 최초 작성
+ *  2026/10/18 - 동근 집계값 기반 초과근무 수당 계산 추가 (배치 일괄 조회용)
+ *             - 초과근무 시간(분) 계산 분리 (FORMULA 수식 변수용)
  *
  *  @author 동근
- *  @version 1.0
+ *  @version 1.2
  * </pre>
  */
 public interface PayrollAttendanceService {
@@ -32,4 +34,21 @@ public interface PayrollAttendanceService {
      * @return 초과근무 수당 금액 (원 단위)
      */
     int calculateOvertime(String salaryMonth, Integer employeeId);
-}
\ No newline at end of file
+
+    /**
+     * 이미 집계된 근태 값으로 초과근무 수당 계산 (DB 조회 없음)
+     * @param baseSalary     시급 산정 기준 기본급
+     * @param attendanceDays 해당 월 근무일수 (0이면 수당 0)
+     * @param workedMinutes  해당 월 총 근무 시간(분)
+     * @return 초과근무 수당 금액 (원 단위)
+     */
+    int calculateOvertime(int baseSalary, int attendanceDays, int workedMinutes);
+
+    /**
+     * 이미 집계된 근태 값으로 초과근무 시간(분) 계산 (DB 조회 없음)
+     * @param attendanceDays 해당 월 근무일수 (0이면 0)
+     * @param workedMinutes  해당 월 총 근무 시간(분)
+     * @return 기준 근무 시간 초과분 (분)
+     */
+    int overtimeMinutes(int attendanceDays, int workedMinutes);
+}
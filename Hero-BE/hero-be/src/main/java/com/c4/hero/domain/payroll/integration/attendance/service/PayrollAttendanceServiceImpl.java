@@ -24,10 +24,12 @@ import java.time.YearMonth;
  *
  * History
  *  2025/12/15 - 동근 최초 작성
+ *  2026/10/18 - 동근 수당 계산식을 집계값 기반 메서드로 분리 (배치 일괄 조회 재사용)
+ *             - 초과근무 시간(분) 계산 분리 (FORMULA 수식 변수용)
  * </pre>
  *
  *  @author 동근
- *  @version 1.0
+ *  @version 1.2
  */
 
 @Service
@@ -96,17 +98,46 @@ public class PayrollAttendanceServiceImpl implements PayrollAttendanceService {
         Integer workedMinObj = mapper.sumWorkedMinutesInMonth(employeeId, start, end);
         int workedMin = workedMinObj == null ? 0 : workedMinObj;
 
-        // 기준 근무 시간 (MVP 기준: 209시간)
-        int standardMin = 209 * 60;
+        return calculateOvertime(getBaseSalary(employeeId), cnt, workedMin);
+    }
+
+    /**
+     * 집계된 근태 값 기준 초과근무 수당 계산
+     *
+     * @param baseSalary     시급 산정 기준 기본급
+     * @param attendanceDays 해당 월 근무일수
+     * @param workedMinutes  해당 월 총 근무 시간(분)
+     * @return 초과근무 수당 금액
+     */
+    @Override
+    public int calculateOvertime(int baseSalary, int attendanceDays, int workedMinutes) {
+        // 근태 기록이 없는 경우 (입사/퇴사/휴직 등 정상 케이스)
+        if (attendanceDays == 0) return 0;
 
         // 초과근무 시간(분)
-        int overtimeMin = Math.max(0, workedMin - standardMin);
+        int overtimeMin = overtimeMinutes(attendanceDays, workedMinutes);
 
         // 시급계산 = baseSalary / 209시간 (MVP)
-        int hourly = (int) Math.floor((double)getBaseSalary(employeeId) / 209.0);
+        int hourly = (int) Math.floor((double) baseSalary / 209.0);
 
         // 초과근무 OT수당 계산 = OT시간 * 시급 * 1.5 (MVP  1.5배 가산)
         double overtimeHours = overtimeMin / 60.0;
         return (int) Math.round(overtimeHours * hourly * 1.5);
     }
+
+    /**
+     * 집계된 근태 값 기준 초과근무 시간(분) 계산
+     *
+     * @param attendanceDays 해당 월 근무일수
+     * @param workedMinutes  해당 월 총 근무 시간(분)
+     * @return 기준 근무 시간(209시간) 초과분 (분)
+     */
+    @Override
+    public int overtimeMinutes(int attendanceDays, int workedMinutes) {
+        if (attendanceDays == 0) return 0;
+
+        // 기준 근무 시간 (MVP 기준: 209시간)
+        int standardMin = 209 * 60;
+        return Math.max(0, workedMinutes - standardMin);
+    }
 }
@@ -14,10 +14,11 @@ import java.math.BigDecimal;
  *
  * History
  *  2025/12/24 - 동근 최초 작성
+ *  2026/10/18 - 동근 FORMULA 수식(formula) 추가
  * </pre>
  *
  * @author 동근
- * @version 1.0
+ * @version 1.1
  */
 public record ItemPolicyResponseDTO(
 
@@ -33,7 +34,7 @@ public record ItemPolicyResponseDTO(
         /** 항목 코드 (예: OVERTIME, TAX, MEAL 등) */
         String itemCode,
 
-        /** 계산 방식 (FIXED / RATE) */
+        /** 계산 방식 (FIXED / RATE / FORMULA) */
         CalcMethod calcMethod,
 
         /** 고정 금액 (FIXED 방식일 때 사용) */
@@ -42,6 +43,9 @@ public record ItemPolicyResponseDTO(
         /** 비율 값 (RATE 방식일 때 사용) */
         BigDecimal rate,
 
+        /** 수식 (FORMULA 방식일 때 사용) */
+        String formula,
+
         /** 기준 금액 유형 (기본급, 실지급액 등) */
         BaseAmountType baseAmountType,
 
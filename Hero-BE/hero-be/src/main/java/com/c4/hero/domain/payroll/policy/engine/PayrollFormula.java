@@ -0,0 +1,302 @@
+package com.c4.hero.domain.payroll.policy.engine;
+
+import com.c4.hero.common.cache.NearCache;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.math.RoundingMode;
+import java.time.Duration;
+import java.util.function.BinaryOperator;
+import java.util.function.UnaryOperator;
+
+/**
+ * <pre>
+ * Class Name : PayrollFormula
+ * Description : 급여 항목 수식(FORMULA) 컴파일 결과 (불변, 스레드 안전)
+ *
+ * 문법
+ *  - 숫자 / 변수(PayrollFormulaVariable) / 괄호
+ *  - 사칙연산 + - * / , 단항 -
+ *  - 함수 : min(a, b), max(a, b), abs(x), floor(x), ceil(x), round(x)
+ *  - 예 : max(baseSalary / 209 * overtimeHours * 0.5, 0) + workDays * 10000
+ *
+ * 안전성
+ *  - 허용된 변수/함수 외 식별자는 컴파일 오류 (리플렉션/스크립트 엔진 미사용)
+ *  - 수식 길이 500자, 중첩 깊이 32 제한
+ *  - 0으로 나누면 0 (특정 사원 값 때문에 배치 전체가 실패하지 않도록)
+ *  - 숫자/연산은 BigDecimal 로 계산 (double 이면 100000 * 0.29 = 28999.999... 처럼 FLOOR/CEIL 결과가 1원 틀어짐)
+ *  - 나눗셈만 유효숫자 34자리(DECIMAL128)로 반올림, 최종 금액 정리는 항목 반올림 설정으로 수행
+ *
+ * 설계 의도
+ *  - 수식은 1회 파싱하여 노드 트리로 컴파일, 상수 부분식은 컴파일 시 미리 계산
+ *  - 평가는 변수 배열(PayrollFormulaVariable.ordinal() 위치)만 읽음 (변수 조회에 Map 없음)
+ *  - 컴파일 결과는 수식 문자열 기준으로 캐시 → 수식이 수정되면 새 키가 되어 자연히 재컴파일
+ *
+ * History
+ *  2026/10/18 - 동근 최초 작성
+ *             - double 대신 BigDecimal 로 평가 (FLOOR/CEIL 금액 오차 수정)
+ * </pre>
+ *
+ * @author 동근
+ * @version 1.1
+ */
+public final class PayrollFormula {
+
+    /** 수식 최대 길이 */
+    public static final int MAX_LENGTH = 500;
+
+    /** 괄호/함수/단항 연산 최대 중첩 깊이 */
+    private static final int MAX_DEPTH = 32;
+
+    /** 나눗셈 정밀도 */
+    private static final MathContext DIVISION = MathContext.DECIMAL128;
+
+    /** 컴파일 결과 캐시 (수식 문자열 → 컴파일 결과) */
+    private static final NearCache<String, PayrollFormula> CACHE = new NearCache<>(1024, Duration.ofHours(12));
+
+    private final String source;
+    private final Node root;
+
+    private PayrollFormula(String source, Node root) {
+        this.source = source;
+        this.root = root;
+    }
+
+    /**
+     * 수식 컴파일 (캐시 사용)
+     *
+     * @param source 수식 문자열
+     * @return 컴파일된 수식
+     * @throws IllegalArgumentException 문법 오류 / 허용되지 않은 식별자
+     */
+    public static PayrollFormula compile(String source) {
+        String key = source == null ? "" : source.strip();
+        PayrollFormula cached = CACHE.get(key);
+        if (cached != null) return cached;
+
+        PayrollFormula compiled = new PayrollFormula(key, new Parser(key).parse());
+        CACHE.put(key, compiled);
+        return compiled;
+    }
+
+    /**
+     * 수식 평가
+     *
+     * @param variables PayrollFormulaVariable.ordinal() 위치에 값이 채워진 배열 (null 은 0)
+     * @return 평가 결과 (반올림 전 값)
+     */
+    public BigDecimal evaluate(BigDecimal[] variables) {
+        return root.eval(variables);
+    }
+
+    public String getSource() {
+        return source;
+    }
+
+    /**
+     * 컴파일된 수식 노드
+     */
+    @FunctionalInterface
+    private interface Node {
+        BigDecimal eval(BigDecimal[] v);
+    }
+
+    /**
+     * 상수 노드 (상수 접기 판단용)
+     */
+    private record Constant(BigDecimal value) implements Node {
+        @Override
+        public BigDecimal eval(BigDecimal[] v) {
+            return value;
+        }
+    }
+
+    /**
+     * 재귀 하강 파서
+     *  expr   := term (('+' | '-') term)*
+     *  term   := unary (('*' | '/') unary)*
+     *  unary  := '-' unary | primary
+     *  primary:= number | variable | function '(' expr (',' expr)* ')' | '(' expr ')'
+     */
+    private static final class Parser {
+
+        private final String src;
+        private int pos;
+        private int depth;
+
+        Parser(String src) {
+            this.src = src;
+        }
+
+        Node parse() {
+            if (src.isEmpty()) throw error("수식이 비어 있습니다.");
+            if (src.length() > MAX_LENGTH) throw error("수식은 " + MAX_LENGTH + "자 이하여야 합니다.");
+
+            Node node = expr();
+            skipSpaces();
+            if (pos < src.length()) throw error("예상하지 못한 문자 '" + src.charAt(pos) + "'");
+            return node;
+        }
+
+        private Node expr() {
+            Node left = term();
+            while (true) {
+                if (accept('+')) left = add(left, term());
+                else if (accept('-')) left = subtract(left, term());
+                else return left;
+            }
+        }
+
+        private Node term() {
+            Node left = unary();
+            while (true) {
+                if (accept('*')) left = multiply(left, unary());
+                else if (accept('/')) left = divide(left, unary());
+                else return left;
+            }
+        }
+
+        private Node unary() {
+            if (accept('-')) {
+                enter();
+                Node operand = unary();
+                depth--;
+                return negate(operand);
+            }
+            return primary();
+        }
+
+        private Node primary() {
+            skipSpaces();
+            if (pos >= src.length()) throw error("수식이 완결되지 않았습니다.");
+
+            char ch = src.charAt(pos);
+            if (ch == '(') {
+                pos++;
+                enter();
+                Node inner = expr();
+                expect(')');
+                depth--;
+                return inner;
+            }
+            if (Character.isDigit(ch) || ch == '.') {
+                return number();
+            }
+            if (Character.isLetter(ch)) {
+                String name = identifier();
+                skipSpaces();
+                if (pos < src.length() && src.charAt(pos) == '(') {
+                    return function(name);
+                }
+                PayrollFormulaVariable variable = PayrollFormulaVariable.fromFormulaName(name);
+                if (variable == null) throw error("알 수 없는 변수 '" + name + "'");
+                int index = variable.ordinal();
+                return v -> v[index] == null ? BigDecimal.ZERO : v[index];
+            }
+            throw error("예상하지 못한 문자 '" + ch + "'");
+        }
+
+        private Node function(String name) {
+            expect('(');
+            enter();
+            Node a = expr();
+            Node b = accept(',') ? expr() : null;
+            expect(')');
+            depth--;
+
+            return switch (name) {
+                case "min" -> binary(name, a, b, BigDecimal::min);
+                case "max" -> binary(name, a, b, BigDecimal::max);
+                case "abs" -> unaryFn(name, a, b, BigDecimal::abs);
+                case "floor" -> unaryFn(name, a, b, x -> x.setScale(0, RoundingMode.FLOOR));
+                case "ceil" -> unaryFn(name, a, b, x -> x.setScale(0, RoundingMode.CEILING));
+                case "round" -> unaryFn(name, a, b, x -> x.setScale(0, RoundingMode.HALF_UP));
+                default -> throw error("알 수 없는 함수 '" + name + "'");
+            };
+        }
+
+        private Node binary(String name, Node a, Node b, BinaryOperator<BigDecimal> op) {
+            if (b == null) throw error(name + " 함수는 인자 2개가 필요합니다.");
+            if (a instanceof Constant ca && b instanceof Constant cb) {
+                return new Constant(op.apply(ca.value(), cb.value()));
+            }
+            return v -> op.apply(a.eval(v), b.eval(v));
+        }
+
+        private Node unaryFn(String name, Node a, Node b, UnaryOperator<BigDecimal> op) {
+            if (b != null) throw error(name + " 함수는 인자 1개가 필요합니다.");
+            if (a instanceof Constant ca) return new Constant(op.apply(ca.value()));
+            return v -> op.apply(a.eval(v));
+        }
+
+        private Node add(Node a, Node b) {
+            if (a instanceof Constant ca && b instanceof Constant cb) return new Constant(ca.value().add(cb.value()));
+            return v -> a.eval(v).add(b.eval(v));
+        }
+
+        private Node subtract(Node a, Node b) {
+            if (a instanceof Constant ca && b instanceof Constant cb) return new Constant(ca.value().subtract(cb.value()));
+            return v -> a.eval(v).subtract(b.eval(v));
+        }
+
+        private Node multiply(Node a, Node b) {
+            if (a instanceof Constant ca && b instanceof Constant cb) return new Constant(ca.value().multiply(cb.value()));
+            return v -> a.eval(v).multiply(b.eval(v));
+        }
+
+        private Node divide(Node a, Node b) {
+            if (a instanceof Constant ca && b instanceof Constant cb) return new Constant(quotient(ca.value(), cb.value()));
+            return v -> quotient(a.eval(v), b.eval(v));
+        }
+
+        private static BigDecimal quotient(BigDecimal dividend, BigDecimal divisor) {
+            return divisor.signum() == 0 ? BigDecimal.ZERO : dividend.divide(divisor, DIVISION);
+        }
+
+        private Node negate(Node a) {
+            if (a instanceof Constant ca) return new Constant(ca.value().negate());
+            return v -> a.eval(v).negate();
+        }
+
+        private Node number() {
+            int start = pos;
+            while (pos < src.length() && (Character.isDigit(src.charAt(pos)) || src.charAt(pos) == '.')) pos++;
+            try {
+                return new Constant(new BigDecimal(src.substring(start, pos)));
+            } catch (NumberFormatException e) {
+                throw error("숫자 형식이 올바르지 않습니다. '" + src.substring(start, pos) + "'");
+            }
+        }
+
+        private String identifier() {
+            int start = pos;
+            while (pos < src.length() && Character.isLetterOrDigit(src.charAt(pos))) pos++;
+            return src.substring(start, pos);
+        }
+
+        private void enter() {
+            if (++depth > MAX_DEPTH) throw error("수식 중첩은 " + MAX_DEPTH + "단계 이하여야 합니다.");
+        }
+
+        private boolean accept(char expected) {
+            skipSpaces();
+            if (pos < src.length() && src.charAt(pos) == expected) {
+                pos++;
+                return true;
+            }
+            return false;
+        }
+
+        private void expect(char expected) {
+            if (!accept(expected)) throw error("'" + expected + "'가 필요합니다.");
+        }
+
+        private void skipSpaces() {
+            while (pos < src.length() && Character.isWhitespace(src.charAt(pos))) pos++;
+        }
+
+        private IllegalArgumentException error(String message) {
+            return new IllegalArgumentException("수식 오류(" + (pos + 1) + "번째 문자): " + message);
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package com.c4.hero.domain.payroll.policy.engine;
+
+/**
+ * <pre>
+ * Enum Name : PayrollFormulaVariable
+ * Description : 급여 항목 수식(FORMULA)에서 사용할 수 있는 변수
+ *
+ *  - 수식에서는 name 값(예: baseSalary)으로 참조
+ *  - 평가 시 ordinal 위치의 BigDecimal[] 값을 읽음 (변수 조회에 Map 없음)
+ *
+ * History
+ *  2026/10/18 - 동근 최초 작성
+ *             - 평가 배열을 BigDecimal[] 로 변경
+ * </pre>
+ *
+ * @author 동근
+ * @version 1.1
+ */
+public enum PayrollFormulaVariable {
+
+    /** 기본급 (승인된 인상 반영) */
+    BASE_SALARY("baseSalary"),
+
+    /** 지급총액 (기본급 + 연장근무 수당 + 앞선 우선순위 수당) */
+    GROSS_PAY("grossPay"),
+
+    /** 과세대상 금액 (기본급 + 연장근무 수당 + 앞선 우선순위 과세 수당) */
+    TAXABLE_PAY("taxablePay"),
+
+    /** 월 총 근무시간(분) */
+    WORKED_MINUTES("workedMinutes"),
+
+    /** 월 초과근무 시간(시간, 소수 포함) */
+    OVERTIME_HOURS("overtimeHours"),
+
+    /** 월 근무일수 */
+    WORK_DAYS("workDays");
+
+    /** 변수 개수 (평가용 배열 크기) */
+    public static final int COUNT = values().length;
+
+    private final String name;
+
+    PayrollFormulaVariable(String name) {
+        this.name = name;
+    }
+
+    /**
+     * 수식에서 사용하는 변수명
+     */
+    public String formulaName() {
+        return name;
+    }
+
+    /**
+     * 수식 변수명으로 변수 조회
+     *
+     * @param name 변수명
+     * @return 변수 (없으면 null)
+     */
+    public static PayrollFormulaVariable fromFormulaName(String name) {
+        for (PayrollFormulaVariable v : values()) {
+            if (v.name.equals(name)) return v;
+        }
+        return null;
+    }
+}
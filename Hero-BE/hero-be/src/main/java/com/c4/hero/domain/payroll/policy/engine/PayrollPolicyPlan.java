@@ -0,0 +1,267 @@
+package com.c4.hero.domain.payroll.policy.engine;
+
+import com.c4.hero.domain.payroll.common.type.BaseAmountType;
+import com.c4.hero.domain.payroll.common.type.CalcMethod;
+import com.c4.hero.domain.payroll.common.type.ItemType;
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * <pre>
+ * Class Name : PayrollPolicyPlan
+ * Description : 급여 배치 1회 계산에 사용하는 급여 정책 평가 계획 (불변)
+ *
+ * 구성
+ *  - 활성 정책의 항목 규칙을 우선순위(priority ASC, itemPolicyId ASC) 순으로 정렬한 목록
+ *  - 적용 대상 인덱스 : 전체 / 부서 ID / 직급 ID / 사원 ID → 적용 규칙 BitSet
+ *  - FORMULA 규칙의 컴파일된 수식 (규칙과 같은 위치의 배열, 스냅샷 JSON 에는 수식 문자열만 저장)
+ *  - 정책 지문(digest) : 규칙 내용이 바뀌면 달라지며, 사원 입력값 지문에 섞어 재계산 여부 판단
+ *
+ * 설계 의도
+ *  - 정책/항목/대상 조회는 배치당 1회 (PayrollPolicyPlanService), 사원 단위 조회 없음
+ *  - 사원 평가 시 대상 인덱스 BitSet OR 후 설정된 비트만 순회 → 우선순위 순서 유지
+ *  - 생성 후 변경 불가 → 계산 워커 스레드 간 공유 안전
+ *
+ * History
+ *  2026/10/18 - 동근 최초 작성
+ *             - FORMULA 수식 평가 추가 (평가 대상 입력을 Subject 로 묶음)
+ *             - 수식 변수를 BigDecimal 로 전달
+ * </pre>
+ *
+ * @author 동근
+ * @version 1.2
+ */
+public final class PayrollPolicyPlan {
+
+    private static final BigDecimal MINUTES_PER_HOUR = BigDecimal.valueOf(60);
+
+    private static final long FNV_OFFSET_BASIS = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+
+    private static final Comparator<PayrollPolicyRule> EVALUATION_ORDER = Comparator
+            .comparingInt(PayrollPolicyRule::priority)
+            .thenComparing(PayrollPolicyRule::itemPolicyId, Comparator.nullsLast(Comparator.naturalOrder()));
+
+    private final Integer policyId;
+    private final String salaryMonth;
+    private final List<PayrollPolicyRule> rules;
+    private final PayrollFormula[] formulas;
+
+    private final BitSet allEmployeeRules = new BitSet();
+    private final Map<Integer, BitSet> rulesByDepartment = new HashMap<>();
+    private final Map<Integer, BitSet> rulesByGrade = new HashMap<>();
+    private final Map<Integer, BitSet> rulesByEmployee = new HashMap<>();
+    private final long digest;
+
+    /**
+     * 평가 계획 생성 (규칙 정렬 + 대상 인덱스 구성)
+     *  - 배치 정책 스냅샷 JSON 역직렬화에도 사용
+     *
+     * @param policyId    급여 정책 ID (활성 정책이 없으면 null)
+     * @param salaryMonth 급여월 (YYYY-MM)
+     * @param rules       컴파일된 항목 규칙 (순서 무관)
+     * @throws IllegalArgumentException FORMULA 규칙의 수식 문법 오류
+     */
+    @JsonCreator
+    public PayrollPolicyPlan(
+            @JsonProperty("policyId") Integer policyId,
+            @JsonProperty("salaryMonth") String salaryMonth,
+            @JsonProperty("rules") List<PayrollPolicyRule> rules
+    ) {
+        this.policyId = policyId;
+        this.salaryMonth = salaryMonth;
+        this.rules = rules == null ? List.of() : rules.stream().sorted(EVALUATION_ORDER).toList();
+        this.formulas = new PayrollFormula[this.rules.size()];
+
+        StringBuilder canonical = new StringBuilder().append(policyId);
+        for (int i = 0; i < this.rules.size(); i++) {
+            PayrollPolicyRule rule = this.rules.get(i);
+            if (rule.calcMethod() == CalcMethod.FORMULA) formulas[i] = PayrollFormula.compile(rule.formula());
+            if (rule.allEmployees()) allEmployeeRules.set(i);
+            index(rulesByDepartment, rule.departmentIds(), i);
+            index(rulesByGrade, rule.gradeIds(), i);
+            index(rulesByEmployee, rule.employeeIds(), i);
+            canonical.append('\n').append(rule.canonical());
+        }
+        this.digest = hash(FNV_OFFSET_BASIS, canonical.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 적용할 정책이 없는 계획 (활성 정책 없음 / 급여월이 적용 기간 밖)
+     */
+    public static PayrollPolicyPlan empty(String salaryMonth) {
+        return new PayrollPolicyPlan(null, salaryMonth, List.of());
+    }
+
+    public Integer getPolicyId() {
+        return policyId;
+    }
+
+    public String getSalaryMonth() {
+        return salaryMonth;
+    }
+
+    public List<PayrollPolicyRule> getRules() {
+        return rules;
+    }
+
+    /**
+     * 정책 지문 (규칙 내용 기준 64bit FNV-1a)
+     */
+    public long digest() {
+        return digest;
+    }
+
+    /**
+     * 사원 입력값 지문에 정책 지문을 섞은 최종 계산 지문
+     *  - 입력값이 같아도 정책(항목/대상/금액)이 바뀌면 재계산되도록 함
+     *
+     * @param inputFingerprint 사원 입력값 지문
+     * @return 계산 지문
+     */
+    public long fingerprint(long inputFingerprint) {
+        long h = inputFingerprint;
+        for (int shift = 0; shift < 64; shift += 8) {
+            h ^= (digest >>> shift) & 0xff;
+            h *= FNV_PRIME;
+        }
+        return h;
+    }
+
+    /**
+     * 사원 1명에 대한 정책 평가
+     *
+     * 기준 금액 (RATE) / 수식 변수 (FORMULA)
+     *  - BASE_SALARY : 기본급(인상 반영)
+     *  - GROSS_PAY   : 기본급 + 연장근무 수당 + 앞선 우선순위에서 적용된 수당
+     *  - TAXABLE_PAY : 기본급 + 연장근무 수당 + 앞선 우선순위에서 적용된 과세 수당
+     *  - 수식은 추가로 근무시간(분) / 초과근무 시간 / 근무일수 사용 가능
+     *
+     * @param subject 평가 대상 사원 입력값
+     * @return 적용된 항목 및 수당/공제 합계
+     */
+    public Result evaluate(Subject subject) {
+        if (rules.isEmpty()) return Result.NONE;
+
+        BitSet matched = (BitSet) allEmployeeRules.clone();
+        or(matched, rulesByDepartment.get(subject.departmentId()));
+        or(matched, rulesByGrade.get(subject.gradeId()));
+        or(matched, rulesByEmployee.get(subject.employeeId()));
+
+        int allowanceTotal = 0;
+        int deductionTotal = 0;
+        int grossPay = subject.baseSalary() + subject.overtimePay();
+        int taxablePay = subject.baseSalary() + subject.overtimePay();
+        List<Applied> items = new ArrayList<>(matched.cardinality());
+        BigDecimal[] variables = null;
+
+        for (int i = matched.nextSetBit(0); i >= 0; i = matched.nextSetBit(i + 1)) {
+            PayrollPolicyRule rule = rules.get(i);
+            int amount;
+            if (formulas[i] != null) {
+                if (variables == null) variables = subject.toVariables();
+                variables[PayrollFormulaVariable.GROSS_PAY.ordinal()] = BigDecimal.valueOf(grossPay);
+                variables[PayrollFormulaVariable.TAXABLE_PAY.ordinal()] = BigDecimal.valueOf(taxablePay);
+                amount = rule.round(formulas[i].evaluate(variables));
+            } else {
+                BaseAmountType baseType = rule.baseAmountType() == null ? BaseAmountType.BASE_SALARY : rule.baseAmountType();
+                amount = rule.amount(switch (baseType) {
+                    case BASE_SALARY -> subject.baseSalary();
+                    case GROSS_PAY -> grossPay;
+                    case TAXABLE_PAY -> taxablePay;
+                });
+            }
+            if (amount == 0) continue;
+
+            items.add(new Applied(rule, amount));
+            if (rule.itemType() == ItemType.DEDUCTION) {
+                deductionTotal += amount;
+            } else {
+                allowanceTotal += amount;
+                grossPay += amount;
+                if (rule.taxable()) taxablePay += amount;
+            }
+        }
+        return new Result(allowanceTotal, deductionTotal, List.copyOf(items));
+    }
+
+    private static void index(Map<Integer, BitSet> index, List<Integer> keys, int ruleIndex) {
+        for (Integer key : keys) {
+            index.computeIfAbsent(key, k -> new BitSet()).set(ruleIndex);
+        }
+    }
+
+    private static void or(BitSet target, BitSet source) {
+        if (source != null) target.or(source);
+    }
+
+    private static long hash(long h, byte[] bytes) {
+        for (byte b : bytes) {
+            h ^= b & 0xff;
+            h *= FNV_PRIME;
+        }
+        return h;
+    }
+
+    /**
+     * 정책 평가 대상 사원 입력값
+     *
+     * @param employeeId      사원 ID
+     * @param departmentId    부서 ID (없으면 0)
+     * @param gradeId         직급 ID (없으면 0)
+     * @param baseSalary      기본급 (인상 반영)
+     * @param overtimePay     연장근무 수당
+     * @param workedMinutes   월 총 근무시간(분)
+     * @param overtimeMinutes 월 초과근무 시간(분)
+     * @param workDays        월 근무일수
+     */
+    public record Subject(
+            int employeeId,
+            int departmentId,
+            int gradeId,
+            int baseSalary,
+            int overtimePay,
+            int workedMinutes,
+            int overtimeMinutes,
+            int workDays
+    ) {
+        BigDecimal[] toVariables() {
+            BigDecimal[] v = new BigDecimal[PayrollFormulaVariable.COUNT];
+            v[PayrollFormulaVariable.BASE_SALARY.ordinal()] = BigDecimal.valueOf(baseSalary);
+            v[PayrollFormulaVariable.WORKED_MINUTES.ordinal()] = BigDecimal.valueOf(workedMinutes);
+            v[PayrollFormulaVariable.OVERTIME_HOURS.ordinal()] = BigDecimal.valueOf(overtimeMinutes)
+                    .divide(MINUTES_PER_HOUR, MathContext.DECIMAL128);
+            v[PayrollFormulaVariable.WORK_DAYS.ordinal()] = BigDecimal.valueOf(workDays);
+            return v;
+        }
+    }
+
+    /**
+     * 사원 1명 정책 평가 결과
+     *
+     * @param allowanceTotal 정책 수당 합계
+     * @param deductionTotal 정책 공제 합계
+     * @param items          적용된 항목 (우선순위 순, 금액 0 제외)
+     */
+    public record Result(int allowanceTotal, int deductionTotal, List<Applied> items) {
+        static final Result NONE = new Result(0, 0, List.of());
+    }
+
+    /**
+     * 적용된 항목 1건
+     *
+     * @param rule   항목 규칙
+     * @param amount 계산 금액
+     */
+    public record Applied(PayrollPolicyRule rule, int amount) {}
+}
@@ -0,0 +1,135 @@
+package com.c4.hero.domain.payroll.policy.engine;
+
+import com.c4.hero.domain.payroll.common.type.BaseAmountType;
+import com.c4.hero.domain.payroll.common.type.CalcMethod;
+import com.c4.hero.domain.payroll.common.type.ItemType;
+import com.c4.hero.domain.payroll.common.type.RoundingModeType;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.List;
+
+/**
+ * <pre>
+ * Record Name : PayrollPolicyRule
+ * Description : 급여 정책 평가 계획(PayrollPolicyPlan)에 포함되는 컴파일된 항목 규칙 (불변)
+ *
+ * 구성
+ *  - 항목 정책(PayrollItemPolicy)의 계산 방식/기준 금액/반올림 설정
+ *  - 항목 마스터(수당/공제)에서 미리 조회한 항목명/과세 여부
+ *  - 적용 대상(PayrollItemPolicyTarget)을 유형별 ID 목록으로 정리한 값
+ *
+ * 배치 정책 스냅샷(tbl_batch_policy_snapshot.snapshot_json)에 그대로 직렬화됨
+ *
+ * History
+ *  2026/10/18 - 동근 최초 작성
+ *             - FORMULA 수식(formula) 추가
+ *             - FORMULA 금액도 RATE 와 같은 BigDecimal 반올림 사용
+ * </pre>
+ *
+ * @author 동근
+ * @version 1.2
+ *
+ * @param itemPolicyId   항목 정책 ID
+ * @param itemType       항목 유형 (수당 / 공제)
+ * @param itemCode       항목 코드
+ * @param itemName       항목명 (급여 항목 표시용)
+ * @param taxableYn      과세 여부 (Y/N)
+ * @param calcMethod     계산 방식 (FIXED / RATE / FORMULA)
+ * @param fixedAmount    고정 금액 (FIXED)
+ * @param rate           비율(%) (RATE)
+ * @param formula        수식 (FORMULA, PayrollFormula 문법)
+ * @param baseAmountType 기준 금액 유형 (RATE)
+ * @param roundingUnit   반올림 단위 (원)
+ * @param roundingMode   반올림 방식
+ * @param priority       계산 우선순위 (작을수록 먼저)
+ * @param allEmployees   전체 사원 적용 여부
+ * @param departmentIds  적용 부서 ID 목록
+ * @param gradeIds       적용 직급 ID 목록
+ * @param employeeIds    적용 사원 ID 목록
+ */
+public record PayrollPolicyRule(
+        Integer itemPolicyId,
+        ItemType itemType,
+        String itemCode,
+        String itemName,
+        String taxableYn,
+        CalcMethod calcMethod,
+        Integer fixedAmount,
+        BigDecimal rate,
+        String formula,
+        BaseAmountType baseAmountType,
+        Integer roundingUnit,
+        RoundingModeType roundingMode,
+        int priority,
+        boolean allEmployees,
+        List<Integer> departmentIds,
+        List<Integer> gradeIds,
+        List<Integer> employeeIds
+) {
+
+    private static final BigDecimal PERCENT = BigDecimal.valueOf(100);
+
+    public PayrollPolicyRule {
+        departmentIds = departmentIds == null ? List.of() : List.copyOf(departmentIds);
+        gradeIds = gradeIds == null ? List.of() : List.copyOf(gradeIds);
+        employeeIds = employeeIds == null ? List.of() : List.copyOf(employeeIds);
+    }
+
+    /**
+     * 항목 금액 계산 (FIXED / RATE)
+     *  - FIXED : 고정 금액
+     *  - RATE  : 기준 금액 × 비율(%)
+     *  - FORMULA 는 수식 평가 결과를 {@link #round(BigDecimal)} 로 정리 (PayrollPolicyPlan)
+     *  - 계산 결과는 반올림 단위/방식에 맞춰 정리
+     *
+     * @param baseAmount 기준 금액 (baseAmountType 기준으로 호출 측에서 결정)
+     * @return 항목 금액 (원)
+     */
+    public int amount(int baseAmount) {
+        BigDecimal raw = switch (calcMethod) {
+            case FIXED -> BigDecimal.valueOf(fixedAmount == null ? 0 : fixedAmount);
+            case RATE -> rate == null
+                    ? BigDecimal.ZERO
+                    : BigDecimal.valueOf(baseAmount).multiply(rate).divide(PERCENT);
+            case FORMULA -> BigDecimal.ZERO;
+        };
+        return round(raw);
+    }
+
+    /**
+     * 과세 대상 항목 여부
+     */
+    public boolean taxable() {
+        return "Y".equals(taxableYn);
+    }
+
+    /**
+     * 정책 지문 계산용 정규화 문자열 (필드 순서 고정, 비율은 후행 0 제거)
+     */
+    String canonical() {
+        return String.join("|",
+                String.valueOf(itemPolicyId), String.valueOf(itemType), itemCode, itemName, taxableYn,
+                String.valueOf(calcMethod), String.valueOf(fixedAmount),
+                rate == null ? "null" : rate.stripTrailingZeros().toPlainString(), String.valueOf(formula),
+                String.valueOf(baseAmountType), String.valueOf(roundingUnit), String.valueOf(roundingMode),
+                String.valueOf(priority), String.valueOf(allEmployees),
+                departmentIds.toString(), gradeIds.toString(), employeeIds.toString());
+    }
+
+    /**
+     * 계산 결과를 반올림 단위/방식에 맞춰 금액으로 정리 (RATE / FORMULA 공통)
+     *
+     * @param value 반올림 전 금액
+     * @return 항목 금액 (원)
+     */
+    public int round(BigDecimal value) {
+        BigDecimal unit = BigDecimal.valueOf(roundingUnit == null || roundingUnit < 1 ? 1 : roundingUnit);
+        RoundingMode mode = roundingMode == null ? RoundingMode.HALF_UP : switch (roundingMode) {
+            case HALF_UP -> RoundingMode.HALF_UP;
+            case FLOOR -> RoundingMode.FLOOR;
+            case CEIL -> RoundingMode.CEILING;
+        };
+        return value.divide(unit, 0, mode).multiply(unit).intValue();
+    }
+}
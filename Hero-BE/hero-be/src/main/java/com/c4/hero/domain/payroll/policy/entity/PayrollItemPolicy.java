@@ -29,10 +29,11 @@ import java.util.Objects;
  *
  * History
  *  2025/12/24 - 동근 최초 작성
+ *  2026/10/18 - 동근 FORMULA 수식(formula) 컬럼 추가
  * </pre>
  *
  * @author 동근
- * @version 1.0
+ * @version 1.1
  */
 @Entity
 @Table(name = "tbl_payroll_item_policy")
@@ -66,6 +67,10 @@ public class PayrollItemPolicy {
     @Column(name = "rate", precision = 10, scale = 4)
     private BigDecimal rate;
 
+    /** FORMULA 계산 수식 (PayrollFormula 문법) */
+    @Column(name = "formula", length = 500)
+    private String formula;
+
     @Enumerated(EnumType.STRING)
     @Column(name = "base_amount_type", nullable = false, length = 20)
     private BaseAmountType baseAmountType;
@@ -108,12 +113,12 @@ public class PayrollItemPolicy {
      *    유효성 검증 및 값 정규화를 보장한다.
      */
     public void applyAll(
-            CalcMethod calcMethod, Integer fixedAmount, BigDecimal rate,
+            CalcMethod calcMethod, Integer fixedAmount, BigDecimal rate, String formula,
             BaseAmountType baseAmountType, Integer roundingUnit, RoundingModeType roundingMode,
             String salaryMonthFrom, String salaryMonthTo,
             Integer priority, String activeYn
     ) {
-        changeCalculation(calcMethod, fixedAmount, rate);
+        changeCalculation(calcMethod, fixedAmount, rate, formula);
 
         this.baseAmountType = Objects.requireNonNull(baseAmountType, "baseAmountType는 필수입니다.");
         if (roundingUnit == null || roundingUnit <= 0) {
@@ -134,11 +139,11 @@ public class PayrollItemPolicy {
 
     /**
      * 계산 방식 변경 및 금액/비율 값 정합성 보장
-     *  - FIXED: fixedAmount 필수(0 이상), rate는 null
-     *  - RATE : rate 필수(0 이상), fixedAmount는 null
-     *  - FORMULA: MVP 범위에서는 별도 수식 컬럼이 없어 값 미사용(null 처리)
+     *  - FIXED: fixedAmount 필수(0 이상), rate/formula는 null
+     *  - RATE : rate 필수(0 이상), fixedAmount/formula는 null
+     *  - FORMULA: formula 필수(문법 검증은 서비스에서 PayrollFormula 컴파일로 수행), fixedAmount/rate는 null
      */
-    public void changeCalculation(CalcMethod calcMethod, Integer fixedAmount, BigDecimal rate) {
+    public void changeCalculation(CalcMethod calcMethod, Integer fixedAmount, BigDecimal rate, String formula) {
         this.calcMethod = Objects.requireNonNull(calcMethod, "calcMethod는 필수입니다.");
 
         switch (calcMethod) {
@@ -148,6 +153,7 @@ public class PayrollItemPolicy {
                 }
                 this.fixedAmount = fixedAmount;
                 this.rate = null;
+                this.formula = null;
             }
             case RATE -> {
                 if (rate == null || rate.compareTo(BigDecimal.ZERO) < 0) {
@@ -155,8 +161,13 @@ public class PayrollItemPolicy {
                 }
                 this.rate = rate;
                 this.fixedAmount = null;
+                this.formula = null;
             }
             case FORMULA -> {
+                if (formula == null || formula.isBlank()) {
+                    throw new IllegalArgumentException("FORMULA는 formula(수식)가 필요합니다.");
+                }
+                this.formula = formula.strip();
                 this.fixedAmount = null;
                 this.rate = null;
             }
@@ -13,10 +13,11 @@ import java.util.List;
  *
  * History
  *  2025/12/24 - 동근 최초 작성
+ *  2026/10/18 - 동근 정책 전체 활성 항목 조회 추가 (급여 정책 평가 계획 컴파일용)
  * </pre>
  *
  * @author 동근
- * @version 1.0
+ * @version 1.1
  */
 public interface PayrollItemPolicyRepository extends JpaRepository<PayrollItemPolicy, Integer> {
     /**
@@ -51,6 +52,18 @@ public interface PayrollItemPolicyRepository extends JpaRepository<PayrollItemPo
      */
     List<PayrollItemPolicy> findAllByPolicyId(Integer policyId);
 
+    /**
+     * 정책 ID, 활성 여부 기준으로 모든 항목 타입의 항목 정책 조회
+     *
+     * 용도
+     *  - 급여 배치 계산 시 정책 평가 계획 컴파일 (배치당 1회)
+     *
+     * @param policyId 급여 정책 ID
+     * @param activeYn 활성 여부 (Y/N)
+     * @return 항목 정책 목록
+     */
+    List<PayrollItemPolicy> findAllByPolicyIdAndActiveYn(Integer policyId, String activeYn);
+
     /**
      * 정책 ID 기준으로 모든 항목 정책 삭제
      *
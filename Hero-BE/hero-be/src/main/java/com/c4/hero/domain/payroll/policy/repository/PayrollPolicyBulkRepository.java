@@ -0,0 +1,158 @@
+package com.c4.hero.domain.payroll.policy.repository;
+
+import com.c4.hero.domain.payroll.policy.entity.PayrollItemPolicyTarget;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * <pre>
+ * Repository Name : PayrollPolicyBulkRepository
+ * Description     : 급여 정책 일괄 저장(INSERT ... SELECT / JDBC batch) 리포지토리
+ *
+ * 역할
+ *  - 정책 복사 : 설정 / 항목 정책 / 적용 대상을 테이블 단위 INSERT ... SELECT 1회씩으로 복사
+ *  - 적용 대상 변경 : 변경분만 IN 절 DELETE 1회 + batch INSERT 1회로 반영
+ *
+ * 설계 의도
+ *  - 항목/대상마다 save 를 반복하던 구조를 정책 크기와 무관한 고정 구문 수로 축소
+ *  - 호출 측 트랜잭션(JPA)에 참여하므로 복사/변경 전체가 하나의 트랜잭션으로 처리됨
+ *
+ * History
+ *  2026/10/18 - 동근 최초 작성
+ * </pre>
+ *
+ *  @author 동근
+ *  @version 1.0
+ */
+@Repository
+@RequiredArgsConstructor
+public class PayrollPolicyBulkRepository {
+
+    private static final String COPY_CONFIGS = """
+            INSERT INTO tbl_payroll_policy_config
+                (policy_id, config_key, value_type, config_value, description, active_yn, created_at, updated_at)
+            SELECT :targetPolicyId, c.config_key, c.value_type, c.config_value, c.description, c.active_yn, :now, :now
+              FROM tbl_payroll_policy_config c
+             WHERE c.policy_id = :sourcePolicyId
+             ORDER BY c.config_id
+            """;
+
+    private static final String COPY_ITEMS = """
+            INSERT INTO tbl_payroll_item_policy
+                (policy_id, item_type, item_code, calc_method, fixed_amount, rate, formula,
+                 base_amount_type, rounding_unit, rounding_mode, salary_month_from, salary_month_to,
+                 priority, active_yn)
+            SELECT :targetPolicyId, i.item_type, i.item_code, i.calc_method, i.fixed_amount, i.rate, i.formula,
+                   i.base_amount_type, i.rounding_unit, i.rounding_mode, i.salary_month_from, i.salary_month_to,
+                   i.priority, i.active_yn
+              FROM tbl_payroll_item_policy i
+             WHERE i.policy_id = :sourcePolicyId
+             ORDER BY i.item_policy_id
+            """;
+
+    /**
+     * 원본/복사본 항목 정책을 item_policy_id 순번으로 짝지어 대상 복사
+     *  - COPY_ITEMS 가 원본 ID 순서대로 INSERT 하므로, 한 구문 안에서 증가하는 자동 증가 ID 순번이 원본 순번과 일치
+     */
+    private static final String COPY_TARGETS = """
+            INSERT INTO tbl_payroll_item_policy_target
+                (item_policy_id, target_type, target_value)
+            SELECT n.item_policy_id, t.target_type, t.target_value
+              FROM tbl_payroll_item_policy_target t
+              JOIN (SELECT item_policy_id, ROW_NUMBER() OVER (ORDER BY item_policy_id) AS rn
+                      FROM tbl_payroll_item_policy
+                     WHERE policy_id = :sourcePolicyId) s
+                ON s.item_policy_id = t.item_policy_id
+              JOIN (SELECT item_policy_id, ROW_NUMBER() OVER (ORDER BY item_policy_id) AS rn
+                      FROM tbl_payroll_item_policy
+                     WHERE policy_id = :targetPolicyId) n
+                ON n.rn = s.rn
+             ORDER BY t.target_id
+            """;
+
+    private static final String INSERT_TARGET = """
+            INSERT INTO tbl_payroll_item_policy_target
+                (item_policy_id, target_type, target_value)
+            VALUES (?, ?, ?)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedJdbcTemplate;
+
+    /**
+     * 정책 설정 / 항목 정책 / 적용 대상 일괄 복사 (구문 3회, 정책 크기와 무관)
+     *  - 복사 대상 정책(targetPolicyId)은 항목 정책이 없는 신규 정책이어야 함
+     *
+     * @param sourcePolicyId 원본 정책 ID
+     * @param targetPolicyId 복사본 정책 ID
+     * @param now            설정 생성/수정 시각
+     * @return 복사된 항목 정책 수
+     */
+    public int copyPolicy(Integer sourcePolicyId, Integer targetPolicyId, LocalDateTime now) {
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("sourcePolicyId", sourcePolicyId)
+                .addValue("targetPolicyId", targetPolicyId)
+                .addValue("now", now);
+
+        namedJdbcTemplate.update(COPY_CONFIGS, params);
+        int items = namedJdbcTemplate.update(COPY_ITEMS, params);
+        if (items > 0) {
+            namedJdbcTemplate.update(COPY_TARGETS, params);
+        }
+        return items;
+    }
+
+    /**
+     * 적용 대상 일괄 추가 (batch INSERT)
+     *
+     * @param targets 추가할 대상 (itemPolicyId / 유형 / 값)
+     */
+    public void insertTargets(List<PayrollItemPolicyTarget> targets) {
+        if (targets.isEmpty()) return;
+
+        jdbcTemplate.batchUpdate(INSERT_TARGET, targets, targets.size(), (ps, t) -> {
+            ps.setInt(1, t.getItemPolicyId());
+            ps.setString(2, t.getPayrollTargetType().name());
+            ps.setString(3, t.getTargetValue());
+        });
+    }
+
+    /**
+     * 적용 대상 ID 목록 일괄 삭제 (IN 절 DELETE 1회)
+     *
+     * @param targetIds 삭제할 대상 ID 목록
+     */
+    public void deleteTargets(Collection<Integer> targetIds) {
+        if (targetIds.isEmpty()) return;
+
+        namedJdbcTemplate.update("""
+                        DELETE FROM tbl_payroll_item_policy_target
+                         WHERE target_id IN (:targetIds)
+                        """,
+                new MapSqlParameterSource()
+                        .addValue("targetIds", targetIds));
+    }
+
+    /**
+     * 항목 정책 ID 목록 기준 적용 대상 일괄 삭제 (IN 절 DELETE 1회)
+     *
+     * @param itemPolicyIds 항목 정책 ID 목록
+     */
+    public void deleteTargetsByItemPolicyIds(Collection<Integer> itemPolicyIds) {
+        if (itemPolicyIds.isEmpty()) return;
+
+        namedJdbcTemplate.update("""
+                        DELETE FROM tbl_payroll_item_policy_target
+                         WHERE item_policy_id IN (:itemPolicyIds)
+                        """,
+                new MapSqlParameterSource()
+                        .addValue("itemPolicyIds", itemPolicyIds));
+    }
+}
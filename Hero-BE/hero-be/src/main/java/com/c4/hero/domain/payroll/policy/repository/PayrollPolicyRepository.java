@@ -14,10 +14,11 @@ import java.util.Optional;
  *
  * History
  *  2025/12/24 - 동근 최초 작성
+ *  2026/10/18 - 동근 급여 계산용 활성 정책 조회(락 미적용) 추가
  * </pre>
  *
  * @author 동근
- * @version 1.0
+ * @version 1.1
  */
 public interface PayrollPolicyRepository extends JpaRepository<PayrollPolicy, Integer> {
 
@@ -51,4 +52,13 @@ public interface PayrollPolicyRepository extends JpaRepository<PayrollPolicy, In
     @Lock(LockModeType.PESSIMISTIC_WRITE)
     Optional<PayrollPolicy> findTop1ByStatusOrderByPolicyIdDesc(PolicyStatus status);
 
+    /**
+     * 특정 상태를 가진 가장 최근 정책 조회 (락 미적용)
+     *  - 급여 배치 계산 시 정책 평가 계획 컴파일 용도 (읽기 전용)
+     *
+     * @param status 조회할 정책 상태
+     * @return 해당 상태의 최신 정책 (없을 수 있음)
+     */
+    Optional<PayrollPolicy> findFirstByStatusOrderByPolicyIdDesc(PolicyStatus status);
+
 }
@@ -2,21 +2,27 @@ package com.c4.hero.domain.payroll.policy.service;
 
 import com.c4.hero.domain.auth.security.PayrollAdminOnly;
 import com.c4.hero.domain.payroll.common.type.BaseAmountType;
+import com.c4.hero.domain.payroll.common.type.CalcMethod;
 import com.c4.hero.domain.payroll.common.type.ItemType;
+import com.c4.hero.domain.payroll.common.type.PayrollTargetType;
 import com.c4.hero.domain.payroll.common.type.RoundingModeType;
 import com.c4.hero.domain.payroll.policy.dto.response.ItemPolicyResponseDTO;
 import com.c4.hero.domain.payroll.policy.dto.request.ItemPolicyTargetRequestDTO;
 import com.c4.hero.domain.payroll.policy.dto.request.ItemPolicyUpsertRequestDTO;
+import com.c4.hero.domain.payroll.policy.engine.PayrollFormula;
 import com.c4.hero.domain.payroll.policy.entity.PayrollItemPolicy;
 import com.c4.hero.domain.payroll.policy.entity.PayrollItemPolicyTarget;
 import com.c4.hero.domain.payroll.policy.repository.PayrollItemPolicyRepository;
 import com.c4.hero.domain.payroll.policy.repository.PayrollItemPolicyTargetRepository;
+import com.c4.hero.domain.payroll.policy.repository.PayrollPolicyBulkRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
-import java.util.HashSet;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -31,10 +37,12 @@ import java.util.stream.Collectors;
  * History
  *  2025/12/24 - 동근 최초 작성
  *  2026/01/03 - 동근 권한 인가 정책 추가
+ *  2026/10/18 - 동근 FORMULA 수식 저장/검증 추가
+ *             - 적용 대상 전체 삭제 후 단건 재등록 → 변경분만 일괄 삭제/추가 (diff 기반)
  * </pre>
  *
  * @author 동근
- * @version 1.1
+ * @version 1.3
  */
 @PayrollAdminOnly
 @Service
@@ -43,6 +51,7 @@ import java.util.stream.Collectors;
 public class ItemPolicyService {
     private final PayrollItemPolicyRepository itemPolicyRepository;
     private final PayrollItemPolicyTargetRepository targetRepository;
+    private final PayrollPolicyBulkRepository bulkRepository;
 
     /**
      * 특정 정책의 항목 정책 목록 조회
@@ -78,7 +87,7 @@ public class ItemPolicyService {
                 .build();
 
         entity.applyAll(
-                req.calcMethod(), req.fixedAmount(), req.rate(),
+                req.calcMethod(), req.fixedAmount(), req.rate(), req.formula(),
                 defaultBase(req.baseAmountType()),
                 defaultRoundingUnit(req.roundingUnit()),
                 defaultRoundingMode(req.roundingMode()),
@@ -106,7 +115,7 @@ public class ItemPolicyService {
                 .orElseThrow(() -> new IllegalArgumentException("itemPolicyId가 존재하지 않습니다."));
 
         item.applyAll(
-                req.calcMethod(), req.fixedAmount(), req.rate(),
+                req.calcMethod(), req.fixedAmount(), req.rate(), req.formula(),
                 defaultBase(req.baseAmountType()),
                 defaultRoundingUnit(req.roundingUnit()),
                 defaultRoundingMode(req.roundingMode()),
@@ -120,7 +129,7 @@ public class ItemPolicyService {
 
     /**
      * 항목 정책 적용 대상(Target) 목록 교체
-     *  - 기존 대상 전체 삭제 후, 전달받은 대상 목록을 재등록
+     *  - 기존 대상과 비교하여 빠진 대상만 삭제, 새 대상만 추가 (변경 없는 대상은 그대로 유지)
      *  - 대상 타입이 ALL이 아닌 경우 targetValue는 필수로 요구
      *
      * @param itemPolicyId 대상이 연결될 항목 정책 ID
@@ -128,21 +137,66 @@ public class ItemPolicyService {
      */
     @Transactional
     public void replaceTargets(Integer itemPolicyId, List<ItemPolicyTargetRequestDTO> targets) {
-        if (targets == null) targets = List.of();
-        targetRepository.deleteAllByItemPolicyId(itemPolicyId);
-
-        for (ItemPolicyTargetRequestDTO t : targets) {
-            if (t.payrollTargetType() == null) throw new IllegalArgumentException("targetType은 필수입니다.");
-            if (t.payrollTargetType().name().equals("ALL") == false) {
-                if (t.targetValue() == null || t.targetValue().isBlank()) {
-                    throw new IllegalArgumentException("targetValue는 필수입니다. (ALL 제외)");
+        Set<TargetKey> desired = new LinkedHashSet<>();
+        if (targets != null) {
+            for (ItemPolicyTargetRequestDTO t : targets) {
+                desired.add(TargetKey.of(t.payrollTargetType(), t.targetValue()));
+            }
+        }
+        syncTargets(Map.of(itemPolicyId, desired));
+    }
+
+    /**
+     * 항목 정책별 적용 대상 동기화 (diff 기반)
+     *  - 현재 대상 일괄 조회 1회 → 삭제 대상 IN 절 DELETE 1회 + 추가 대상 batch INSERT 1회
+     *  - 같은 대상이 중복 저장되어 있으면 1건만 남김
+     *
+     * @param desiredByItem 항목 정책 ID → 최종 적용 대상
+     */
+    private void syncTargets(Map<Integer, Set<TargetKey>> desiredByItem) {
+        if (desiredByItem.isEmpty()) return;
+
+        Map<Integer, List<PayrollItemPolicyTarget>> current = targetRepository
+                .findAllByItemPolicyIdIn(desiredByItem.keySet()).stream()
+                .collect(Collectors.groupingBy(PayrollItemPolicyTarget::getItemPolicyId));
+
+        List<Integer> deleteIds = new ArrayList<>();
+        List<PayrollItemPolicyTarget> inserts = new ArrayList<>();
+        desiredByItem.forEach((itemPolicyId, desired) -> {
+            Set<TargetKey> remaining = new LinkedHashSet<>(desired);
+            for (PayrollItemPolicyTarget t : current.getOrDefault(itemPolicyId, List.of())) {
+                if (!remaining.remove(new TargetKey(t.getPayrollTargetType(), t.getTargetValue()))) {
+                    deleteIds.add(t.getTargetId());
                 }
             }
-            targetRepository.save(PayrollItemPolicyTarget.builder()
-                    .itemPolicyId(itemPolicyId)
-                    .payrollTargetType(t.payrollTargetType())
-                    .targetValue(t.targetValue())
-                    .build());
+            for (TargetKey k : remaining) {
+                inserts.add(PayrollItemPolicyTarget.builder()
+                        .itemPolicyId(itemPolicyId)
+                        .payrollTargetType(k.type())
+                        .targetValue(k.value())
+                        .build());
+            }
+        });
+
+        bulkRepository.deleteTargets(deleteIds);
+        bulkRepository.insertTargets(inserts);
+    }
+
+    /**
+     * 적용 대상 비교 키 (유형 + 값)
+     */
+    private record TargetKey(PayrollTargetType type, String value) {
+
+        /**
+         * 요청값 검증 후 키 생성
+         *  - 대상 타입이 ALL이 아닌 경우 targetValue는 필수
+         */
+        static TargetKey of(PayrollTargetType type, String value) {
+            if (type == null) throw new IllegalArgumentException("targetType은 필수입니다.");
+            if (type != PayrollTargetType.ALL && (value == null || value.isBlank())) {
+                throw new IllegalArgumentException("targetValue는 필수입니다. (ALL 제외)");
+            }
+            return new TargetKey(type, value);
         }
     }
 
@@ -158,6 +212,7 @@ public class ItemPolicyService {
                 i.getCalcMethod(),
                 i.getFixedAmount(),
                 i.getRate(),
+                i.getFormula(),
                 i.getBaseAmountType(),
                 i.getRoundingUnit(),
                 i.getRoundingMode(),
@@ -199,8 +254,7 @@ public class ItemPolicyService {
                     throw new IllegalArgumentException("RATE는 baseAmountType이 필수입니다.");
                 }
             }
-            case FORMULA -> {
-            }
+            case FORMULA -> validateFormula(req);
         }
         if (req.roundingUnit() != null && req.roundingUnit() <= 0) {
             throw new IllegalArgumentException("roundingUnit은 1 이상이어야 합니다.");
@@ -210,6 +264,17 @@ public class ItemPolicyService {
         }
     }
 
+    /**
+     * FORMULA 수식 검증
+     *  - 저장 시점에 컴파일하여 허용되지 않은 변수/함수/문법 오류를 미리 차단
+     */
+    private void validateFormula(ItemPolicyUpsertRequestDTO req) {
+        if (req.formula() == null || req.formula().isBlank()) {
+            throw new IllegalArgumentException("FORMULA는 formula(수식)가 필요합니다.");
+        }
+        PayrollFormula.compile(req.formula());
+    }
+
     /** baseAmountType 기본값 보정 */
     private BaseAmountType defaultBase(BaseAmountType t) {
         return (t == null) ? BaseAmountType.BASE_SALARY : t;
@@ -225,6 +290,15 @@ public class ItemPolicyService {
         return (m == null) ? RoundingModeType.HALF_UP : m;
     }
 
+    /**
+     * 항목 정책 일괄 저장 (요청에 없는 기존 항목은 삭제)
+     *  - 항목 정책은 개별 저장(신규 ID 필요), 적용 대상은 전체 항목을 모아 diff 기반으로 한 번에 반영
+     *  - 삭제 항목의 대상/항목도 IN 절 DELETE 로 일괄 삭제
+     *
+     * @param policyId 급여 정책 ID
+     * @param type 항목 유형(수당/공제)
+     * @param reqs 항목 정책 요청 목록
+     */
     @Transactional
     public void upsertItems(Integer policyId, ItemType type, List<ItemPolicyUpsertRequestDTO> reqs) {
 
@@ -234,9 +308,10 @@ public class ItemPolicyService {
         Map<Integer, PayrollItemPolicy> existingById = existing.stream()
                 .collect(Collectors.toMap(PayrollItemPolicy::getItemPolicyId, it -> it));
 
-        Set<Integer> survivedIds = new HashSet<>();
+        Map<Integer, Set<TargetKey>> desiredTargets = new LinkedHashMap<>();
 
         for (ItemPolicyUpsertRequestDTO req : reqs) {
+            if (req.calcMethod() == CalcMethod.FORMULA) validateFormula(req);
 
             PayrollItemPolicy item;
 
@@ -246,6 +321,7 @@ public class ItemPolicyService {
                         req.calcMethod(),
                         req.fixedAmount(),
                         req.rate(),
+                        req.formula(),
                         req.baseAmountType(),
                         req.roundingUnit(),
                         req.roundingMode(),
@@ -262,6 +338,7 @@ public class ItemPolicyService {
                         .calcMethod(req.calcMethod())
                         .fixedAmount(req.fixedAmount())
                         .rate(req.rate())
+                        .formula(req.calcMethod() == CalcMethod.FORMULA ? req.formula().strip() : null)
                         .baseAmountType(req.baseAmountType())
                         .roundingUnit(req.roundingUnit())
                         .roundingMode(req.roundingMode())
@@ -273,25 +350,21 @@ public class ItemPolicyService {
 
                 itemPolicyRepository.save(item);
             }
-            survivedIds.add(item.getItemPolicyId());
-            targetRepository.deleteAllByItemPolicyId(item.getItemPolicyId());
+            Set<TargetKey> desired = desiredTargets.computeIfAbsent(item.getItemPolicyId(), id -> new LinkedHashSet<>());
             if (req.targets() != null) {
                 for (ItemPolicyUpsertRequestDTO.ItemPolicyTargetRequest t : req.targets()) {
-                    targetRepository.save(
-                            PayrollItemPolicyTarget.builder()
-                                    .itemPolicyId(item.getItemPolicyId())
-                                    .payrollTargetType(t.payrollTargetType())
-                                    .targetValue(t.targetValue())
-                                    .build()
-                    );
+                    desired.add(TargetKey.of(t.payrollTargetType(), t.targetValue()));
                 }
             }
         }
-        for (PayrollItemPolicy old : existing) {
-            if (!survivedIds.contains(old.getItemPolicyId())) {
-                targetRepository.deleteAllByItemPolicyId(old.getItemPolicyId());
-                itemPolicyRepository.delete(old);
-            }
+        syncTargets(desiredTargets);
+
+        List<PayrollItemPolicy> removed = existing.stream()
+                .filter(old -> !desiredTargets.containsKey(old.getItemPolicyId()))
+                .toList();
+        if (!removed.isEmpty()) {
+            bulkRepository.deleteTargetsByItemPolicyIds(removed.stream().map(PayrollItemPolicy::getItemPolicyId).toList());
+            itemPolicyRepository.deleteAllInBatch(removed);
         }
     }
 
@@ -303,7 +376,7 @@ public class ItemPolicyService {
         if (!Objects.equals(item.getPolicyId(), policyId)) {
             throw new IllegalArgumentException("해당 정책의 항목이 아닙니다.");
         }
-        targetRepository.deleteAllByItemPolicyId(itemPolicyId);
+        bulkRepository.deleteTargetsByItemPolicyIds(List.of(itemPolicyId));
         itemPolicyRepository.delete(item);
     }
 }
\ No newline at end of file
@@ -4,19 +4,15 @@ import com.c4.hero.domain.auth.security.PayrollAdminOnly;
 import com.c4.hero.domain.payroll.common.type.PolicyStatus;
 import com.c4.hero.domain.payroll.policy.dto.request.PolicyCopyRequestDTO;
 import com.c4.hero.domain.payroll.policy.dto.response.PolicyResponseDTO;
-import com.c4.hero.domain.payroll.policy.entity.PayrollItemPolicy;
-import com.c4.hero.domain.payroll.policy.entity.PayrollItemPolicyTarget;
 import com.c4.hero.domain.payroll.policy.entity.PayrollPolicy;
-import com.c4.hero.domain.payroll.policy.entity.PolicyConfig;
-import com.c4.hero.domain.payroll.policy.repository.PayrollItemPolicyRepository;
-import com.c4.hero.domain.payroll.policy.repository.PayrollItemPolicyTargetRepository;
+import com.c4.hero.domain.payroll.policy.repository.PayrollPolicyBulkRepository;
 import com.c4.hero.domain.payroll.policy.repository.PayrollPolicyRepository;
-import com.c4.hero.domain.payroll.policy.repository.PolicyConfigRepository;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.List;
+import java.time.LocalDateTime;
 
 /**
  * <pre>
@@ -26,23 +22,24 @@ import java.util.List;
  * History
  *  2025/12/24 - 동근 최초 작성
  *  2026/01/03 - 동근 권한 인가 정책 추가
+ *  2026/10/18 - 동근 설정/항목/대상 단건 save 반복 → INSERT ... SELECT 일괄 복사 (정책 크기와 무관하게 구문 3회)
  * </pre>
  *
  * @author 동근
- * @version 1.1
+ * @version 1.2
  */
+@Slf4j
 @PayrollAdminOnly
 @Service
 @RequiredArgsConstructor
 @Transactional
 public class PayrollPolicyCopyTxService {
     private final PayrollPolicyRepository policyRepository;
-    private final PolicyConfigRepository configRepository;
-    private final PayrollItemPolicyRepository itemPolicyRepository;
-    private final PayrollItemPolicyTargetRepository targetRepository;
+    private final PayrollPolicyBulkRepository bulkRepository;
 
     /**
      * 급여 정책 복사
+     *  - 신규 정책(DRAFT) 생성 후 설정 / 항목 정책 / 적용 대상을 DB 안에서 일괄 복사
      *
      * @param sourcePolicyId 복사 대상 원본 정책 ID
      * @param req 정책 복사 옵션 요청 DTO (null 가능)
@@ -71,50 +68,9 @@ public class PayrollPolicyCopyTxService {
                 .activeYn("Y")
                 .build());
 
-        Integer newPolicyId = copied.getPolicyId();
-
-        List<PolicyConfig> srcConfigs = configRepository.findAllByPolicyId(src.getPolicyId());
-        for (PolicyConfig c : srcConfigs) {
-            configRepository.save(PolicyConfig.builder()
-                    .policyId(newPolicyId)
-                    .configKey(c.getConfigKey())
-                    .valueType(c.getValueType())
-                    .configValue(c.getConfigValue())
-                    .description(c.getDescription())
-                    .activeYn(c.getActiveYn())
-                    .build());
-        }
-
-        List<PayrollItemPolicy> srcItems = itemPolicyRepository.findAllByPolicyId(src.getPolicyId());
-
-        for (PayrollItemPolicy item : srcItems) {
-            PayrollItemPolicy newItem = itemPolicyRepository.save(PayrollItemPolicy.builder()
-                    .policyId(newPolicyId)
-                    .itemType(item.getItemType())
-                    .itemCode(item.getItemCode())
-                    .calcMethod(item.getCalcMethod())
-                    .fixedAmount(item.getFixedAmount())
-                    .rate(item.getRate())
-                    .baseAmountType(item.getBaseAmountType())
-                    .roundingUnit(item.getRoundingUnit())
-                    .roundingMode(item.getRoundingMode())
-                    .salaryMonthFrom(item.getSalaryMonthFrom())
-                    .salaryMonthTo(item.getSalaryMonthTo())
-                    .priority(item.getPriority())
-                    .activeYn(item.getActiveYn())
-                    .build());
-
-            Integer newItemPolicyId = newItem.getItemPolicyId();
-
-            List<PayrollItemPolicyTarget> srcTargets = targetRepository.findAllByItemPolicyId(item.getItemPolicyId());
-            for (PayrollItemPolicyTarget t : srcTargets) {
-                targetRepository.save(PayrollItemPolicyTarget.builder()
-                        .itemPolicyId(newItemPolicyId)
-                        .payrollTargetType(t.getPayrollTargetType())
-                        .targetValue(t.getTargetValue())
-                        .build());
-            }
-        }
+        int copiedItems = bulkRepository.copyPolicy(src.getPolicyId(), copied.getPolicyId(), LocalDateTime.now());
+        log.info("급여 정책 복사 완료 - sourcePolicyId={}, policyId={}, items={}",
+                src.getPolicyId(), copied.getPolicyId(), copiedItems);
 
         return new PolicyResponseDTO(
                 copied.getPolicyId(),
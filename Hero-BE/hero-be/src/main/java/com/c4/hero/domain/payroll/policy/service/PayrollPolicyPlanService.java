@@ -0,0 +1,210 @@
+package com.c4.hero.domain.payroll.policy.service;
+
+import com.c4.hero.domain.auth.security.PayrollAdminOnly;
+import com.c4.hero.domain.payroll.allowance.entity.Allowance;
+import com.c4.hero.domain.payroll.allowance.repository.AllowanceRepository;
+import com.c4.hero.domain.payroll.batch.entity.PayrollBatch;
+import com.c4.hero.domain.payroll.common.type.CalcMethod;
+import com.c4.hero.domain.payroll.common.type.ItemType;
+import com.c4.hero.domain.payroll.common.type.PayrollTargetType;
+import com.c4.hero.domain.payroll.common.type.PolicyStatus;
+import com.c4.hero.domain.payroll.deduction.entity.Deduction;
+import com.c4.hero.domain.payroll.deduction.repository.DeductionRepository;
+import com.c4.hero.domain.payroll.policy.engine.PayrollFormula;
+import com.c4.hero.domain.payroll.policy.engine.PayrollPolicyPlan;
+import com.c4.hero.domain.payroll.policy.engine.PayrollPolicyRule;
+import com.c4.hero.domain.payroll.policy.entity.PayrollItemPolicy;
+import com.c4.hero.domain.payroll.policy.entity.PayrollItemPolicyTarget;
+import com.c4.hero.domain.payroll.policy.entity.PayrollPolicy;
+import com.c4.hero.domain.payroll.policy.repository.PayrollItemPolicyRepository;
+import com.c4.hero.domain.payroll.policy.repository.PayrollItemPolicyTargetRepository;
+import com.c4.hero.domain.payroll.policy.repository.PayrollPolicyRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import tools.jackson.databind.ObjectMapper;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * <pre>
+ * Class Name : PayrollPolicyPlanService
+ * Description : 급여 배치 계산용 정책 평가 계획(PayrollPolicyPlan) 컴파일 서비스
+ *
+ * 처리 흐름 (배치 계산 1회당 1번)
+ *  1. 급여월에 적용되는 ACTIVE 정책 조회
+ *  2. 정책의 활성 항목 정책 + 적용 대상 + 수당/공제 마스터 일괄 조회
+ *  3. 급여월 적용 기간 내 항목만 규칙으로 컴파일 → 우선순위 정렬/대상 인덱스 구성
+ *  4. 컴파일된 계획을 배치 정책 스냅샷(snapshot_json)으로 저장
+ *
+ * 대상 규칙
+ *  - targetValue 는 부서 ID / 직급(grade) ID / 사원 ID
+ *  - 대상이 없거나 ALL 대상이 있으면 전체 사원 적용
+ *  - FORMULA 항목은 수식을 미리 컴파일하여 검증, 수식 오류 항목은 경고 후 계획에서 제외
+ *
+ * History
+ *  2026/10/18 - 동근 최초 작성
+ *             - FORMULA 계산 방식 평가 지원
+ * </pre>
+ *
+ * @author 동근
+ * @version 1.1
+ */
+@Slf4j
+@PayrollAdminOnly
+@Service
+@RequiredArgsConstructor
+public class PayrollPolicyPlanService {
+
+    private final PayrollPolicyRepository policyRepository;
+    private final PayrollItemPolicyRepository itemPolicyRepository;
+    private final PayrollItemPolicyTargetRepository targetRepository;
+    private final AllowanceRepository allowanceRepository;
+    private final DeductionRepository deductionRepository;
+    private final PolicySnapshotTxService snapshotTxService;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * 배치 계산용 정책 평가 계획 준비 (컴파일 + 배치 정책 스냅샷 저장)
+     *
+     * @param batch 급여 배치 엔티티
+     * @return 평가 계획 (적용 정책이 없으면 빈 계획)
+     */
+    public PayrollPolicyPlan prepare(PayrollBatch batch) {
+        PayrollPolicyPlan plan = compile(batch.getSalaryMonth());
+
+        if (plan.getPolicyId() != null) {
+            snapshotTxService.saveSnapshot(batch.getBatchId(), plan.getPolicyId(), batch.getSalaryMonth(),
+                    objectMapper.writeValueAsString(plan));
+        }
+        log.info("급여 정책 평가 계획 준비 - batchId={}, policyId={}, rules={}",
+                batch.getBatchId(), plan.getPolicyId(), plan.getRules().size());
+        return plan;
+    }
+
+    /**
+     * 급여월 기준 정책 평가 계획 컴파일 (DB 조회 4~5회, 사원 수와 무관)
+     *
+     * @param salaryMonth 급여월 (YYYY-MM)
+     * @return 평가 계획
+     */
+    public PayrollPolicyPlan compile(String salaryMonth) {
+        Optional<PayrollPolicy> policy = policyRepository.findFirstByStatusOrderByPolicyIdDesc(PolicyStatus.ACTIVE)
+                .filter(p -> covers(p.getSalaryMonthFrom(), p.getSalaryMonthTo(), salaryMonth));
+        if (policy.isEmpty()) {
+            return PayrollPolicyPlan.empty(salaryMonth);
+        }
+        Integer policyId = policy.get().getPolicyId();
+
+        List<PayrollItemPolicy> items = itemPolicyRepository.findAllByPolicyIdAndActiveYn(policyId, "Y").stream()
+                .filter(i -> covers(i.getSalaryMonthFrom(), i.getSalaryMonthTo(), salaryMonth))
+                .toList();
+        if (items.isEmpty()) {
+            return new PayrollPolicyPlan(policyId, salaryMonth, List.of());
+        }
+
+        Map<Integer, List<PayrollItemPolicyTarget>> targets = targetRepository
+                .findAllByItemPolicyIdIn(items.stream().map(PayrollItemPolicy::getItemPolicyId).toList())
+                .stream()
+                .collect(Collectors.groupingBy(PayrollItemPolicyTarget::getItemPolicyId));
+        Map<String, Allowance> allowances = allowanceRepository.findAll().stream()
+                .collect(Collectors.toMap(Allowance::getAllowanceId, Function.identity()));
+        Map<String, Deduction> deductions = deductionRepository.findAll().stream()
+                .collect(Collectors.toMap(Deduction::getDeductionId, Function.identity()));
+
+        List<PayrollPolicyRule> rules = new ArrayList<>(items.size());
+        for (PayrollItemPolicy item : items) {
+            if (item.getCalcMethod() == CalcMethod.FORMULA && !validFormula(item)) continue;
+            rules.add(toRule(item, targets.getOrDefault(item.getItemPolicyId(), List.of()), allowances, deductions));
+        }
+        return new PayrollPolicyPlan(policyId, salaryMonth, rules);
+    }
+
+    /**
+     * FORMULA 수식 검증 (컴파일 결과는 PayrollFormula 캐시에 남아 계획 생성 시 재사용)
+     */
+    private static boolean validFormula(PayrollItemPolicy item) {
+        try {
+            PayrollFormula.compile(item.getFormula());
+            return true;
+        } catch (IllegalArgumentException e) {
+            log.warn("FORMULA 항목 수식 오류로 급여 계산에서 제외됩니다. itemPolicyId={}, itemCode={}, reason={}",
+                    item.getItemPolicyId(), item.getItemCode(), e.getMessage());
+            return false;
+        }
+    }
+
+    private PayrollPolicyRule toRule(
+            PayrollItemPolicy item,
+            List<PayrollItemPolicyTarget> targets,
+            Map<String, Allowance> allowances,
+            Map<String, Deduction> deductions
+    ) {
+        String itemName = item.getItemCode();
+        String taxableYn = item.getItemType() == ItemType.DEDUCTION ? "N" : "Y";
+        if (item.getItemType() == ItemType.DEDUCTION) {
+            Deduction d = deductions.get(item.getItemCode());
+            if (d != null) itemName = d.getDeductionName();
+        } else {
+            Allowance a = allowances.get(item.getItemCode());
+            if (a != null) {
+                itemName = a.getAllowanceName();
+                taxableYn = a.getTaxableYn();
+            }
+        }
+
+        boolean allEmployees = targets.isEmpty()
+                || targets.stream().anyMatch(t -> t.getPayrollTargetType() == PayrollTargetType.ALL);
+
+        return new PayrollPolicyRule(
+                item.getItemPolicyId(),
+                item.getItemType(),
+                item.getItemCode(),
+                itemName,
+                taxableYn,
+                item.getCalcMethod(),
+                item.getFixedAmount(),
+                item.getRate(),
+                item.getFormula(),
+                item.getBaseAmountType(),
+                item.getRoundingUnit(),
+                item.getRoundingMode(),
+                item.getPriority() == null ? 0 : item.getPriority(),
+                allEmployees,
+                targetIds(item, targets, PayrollTargetType.DEPARTMENT),
+                targetIds(item, targets, PayrollTargetType.POSITION),
+                targetIds(item, targets, PayrollTargetType.EMPLOYEE)
+        );
+    }
+
+    /**
+     * 대상 유형별 ID 목록 (숫자가 아닌 targetValue 는 경고 후 제외)
+     */
+    private static List<Integer> targetIds(
+            PayrollItemPolicy item, List<PayrollItemPolicyTarget> targets, PayrollTargetType type) {
+        List<Integer> ids = new ArrayList<>();
+        for (PayrollItemPolicyTarget t : targets) {
+            if (t.getPayrollTargetType() != type || t.getTargetValue() == null) continue;
+            try {
+                ids.add(Integer.valueOf(t.getTargetValue().trim()));
+            } catch (NumberFormatException e) {
+                log.warn("급여 항목 정책 대상 값이 ID 형식이 아닙니다. itemPolicyId={}, type={}, value={}",
+                        item.getItemPolicyId(), type, t.getTargetValue());
+            }
+        }
+        return ids;
+    }
+
+    /**
+     * 적용 기간(YYYY-MM) 포함 여부 (to 가 null 이면 무기한)
+     */
+    private static boolean covers(String from, String to, String salaryMonth) {
+        return (from == null || from.compareTo(salaryMonth) <= 0)
+                && (to == null || to.isBlank() || to.compareTo(salaryMonth) >= 0);
+    }
+}
@@ -8,7 +8,7 @@ import com.c4.hero.domain.payroll.policy.dto.response.PolicyResponseDTO;
 import com.c4.hero.domain.payroll.policy.entity.PayrollItemPolicy;
 import com.c4.hero.domain.payroll.policy.entity.PayrollPolicy;
 import com.c4.hero.domain.payroll.policy.repository.PayrollItemPolicyRepository;
-import com.c4.hero.domain.payroll.policy.repository.PayrollItemPolicyTargetRepository;
+import com.c4.hero.domain.payroll.policy.repository.PayrollPolicyBulkRepository;
 import com.c4.hero.domain.payroll.policy.repository.PayrollPolicyRepository;
 import com.c4.hero.domain.payroll.policy.repository.PolicyConfigRepository;
 import lombok.RequiredArgsConstructor;
@@ -26,10 +26,11 @@ import java.util.regex.Pattern;
  * History
  *  2025/12/24 - 동근 최초 작성
  *  2026/01/03 - 동근 권한 인가 정책 추가
+ *  2026/10/18 - 동근 정책 삭제 시 적용 대상 일괄 삭제 (항목별 반복 삭제 제거)
  * </pre>
  *
  * @author 동근
- * @version 1.1
+ * @version 1.2
  */
 @PayrollAdminOnly
 @Service
@@ -40,7 +41,7 @@ public class PayrollPolicyService {
     private final PayrollPolicyRepository policyRepository;
     private final PolicyConfigRepository configRepository;
     private final PayrollItemPolicyRepository itemPolicyRepository;
-    private final PayrollItemPolicyTargetRepository targetRepository;
+    private final PayrollPolicyBulkRepository bulkRepository;
 
     /** 급여월 포맷(YYYY-MM) 검증용 정규식 */
     private static final Pattern YM = Pattern.compile("^\\d{4}-(0[1-9]|1[0-2])$");
@@ -199,10 +200,7 @@ public class PayrollPolicyService {
         }
 
         List<PayrollItemPolicy> items = itemPolicyRepository.findAllByPolicyId(policyId);
-
-        for (PayrollItemPolicy item : items) {
-            targetRepository.deleteAllByItemPolicyId(item.getItemPolicyId());
-        }
+        bulkRepository.deleteTargetsByItemPolicyIds(items.stream().map(PayrollItemPolicy::getItemPolicyId).toList());
 
         itemPolicyRepository.deleteAllByPolicyId(policyId);
 
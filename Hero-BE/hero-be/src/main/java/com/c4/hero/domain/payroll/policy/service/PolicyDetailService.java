@@ -87,7 +87,7 @@ public class PolicyDetailService {
                     ItemPolicyResponseDTO item = new ItemPolicyResponseDTO(
                             i.getItemPolicyId(), i.getPolicyId(),
                             i.getItemType(), i.getItemCode(), i.getCalcMethod(),
-                            i.getFixedAmount(), i.getRate(),
+                            i.getFixedAmount(), i.getRate(), i.getFormula(),
                             i.getBaseAmountType(), i.getRoundingUnit(), i.getRoundingMode(),
                             i.getSalaryMonthFrom(), i.getSalaryMonthTo(),
                             i.getPriority(), i.getActiveYn()
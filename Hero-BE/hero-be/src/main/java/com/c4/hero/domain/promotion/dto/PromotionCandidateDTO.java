@@ -1,10 +1,12 @@
 package com.c4.hero.domain.promotion.dto;
 
+import com.c4.hero.domain.evaluation.dto.ai.promotion.PromotionAnalysisResultDTO;
 import com.c4.hero.domain.promotion.type.PromotionCandidateStatus;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import lombok.Setter;
 import lombok.ToString;
 
 /**
@@ -15,10 +17,11 @@ import lombok.ToString;
  * History
  * 2025/12/19 (승건) 최초 작성
  * 2025/12/22 (승건) 승진 후보자 ID 추가
+ * 2026/10/18 (승건) 저장된 AI 승진 추천 분석 결과 추가 (심사용 조회)
  * </pre>
  *
  * @author 승건
- * @version 1.1
+ * @version 1.2
  */
 
 @Builder
@@ -38,4 +41,6 @@ public class PromotionCandidateDTO {
     private PromotionCandidateStatus status; // 승인 여부
     private String rejectionReason;     // 반려 사유
     private Integer evaluationPoint;    // 평가 포인트
+    @Setter
+    private PromotionAnalysisResultDTO aiAnalysis; // 저장된 AI 분석 결과 (심사용 조회에서만, 없으면 null)
 }
@@ -4,8 +4,11 @@ import com.c4.hero.domain.promotion.entity.PromotionCandidate;
 import com.c4.hero.domain.promotion.type.PromotionCandidateStatus;
 import com.c4.hero.domain.promotion.entity.PromotionDetail;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -16,10 +19,11 @@ import java.util.Optional;
  * History
  * 2025/12/19 (승건) 최초 작성
  * 2025/12/22 (승건) 상태별 카운트 메서드 추가
+ * 2026/10/18 (승건) 승진 계획의 추천 후보자 사원 ID 조회 추가 (AI 승진 추천 분석 대상)
  * </pre>
  *
  * @author 승건
- * @version 1.1
+ * @version 1.2
  */
 public interface PromotionCandidateRepository extends JpaRepository<PromotionCandidate, Integer> {
 
@@ -40,4 +44,18 @@ public interface PromotionCandidateRepository extends JpaRepository<PromotionCan
      * @return 승진 후보자 (Optional)
      */
     Optional<PromotionCandidate> findByEmployee_EmployeeNumberAndStatus(String employeeNumber, PromotionCandidateStatus status);
+
+    /**
+     * 승진 계획에서 추천된(심사 대상) 후보자의 사원 ID 목록을 반환합니다.
+     *
+     * @param promotionPlanId 승진 계획 ID
+     * @return 사원 ID 목록
+     */
+    @Query("""
+        select distinct c.employee.employeeId
+          from PromotionCandidate c
+         where c.promotionDetail.promotionPlan.promotionPlanId = :promotionPlanId
+           and c.nominator is not null
+        """)
+    List<Integer> findNominatedEmployeeIdsByPromotionPlanId(@Param("promotionPlanId") Integer promotionPlanId);
 }
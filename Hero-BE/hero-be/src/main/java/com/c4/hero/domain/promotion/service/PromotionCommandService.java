@@ -9,10 +9,10 @@ import com.c4.hero.domain.approval.entity.ApprovalTemplate;
 import com.c4.hero.domain.approval.repository.ApprovalTemplateRepository;
 import com.c4.hero.domain.approval.service.ApprovalCommandService;
 import com.c4.hero.domain.auth.security.CustomUserDetails;
+import com.c4.hero.domain.department.graph.OrganizationGraph;
+import com.c4.hero.domain.department.graph.OrganizationGraphService;
 import com.c4.hero.domain.employee.entity.Employee;
-import com.c4.hero.domain.employee.entity.EmployeeDepartment;
 import com.c4.hero.domain.employee.entity.Grade;
-import com.c4.hero.domain.employee.repository.EmployeeDepartmentRepository;
 import com.c4.hero.domain.employee.repository.EmployeeGradeRepository;
 import com.c4.hero.domain.employee.repository.EmployeeRepository;
 import com.c4.hero.domain.employee.service.EmployeeCommandService;
@@ -60,10 +60,11 @@ import java.util.stream.Collectors;
  * 2025/12/24 (승건) 심사 로직 분리 및 최종 승인 시 직급 변경 로직 추가
  * 2025/12/27 (승건) 1차 심사 통과 시 결재 상신 로직 추가 (기본 결재선 적용)
  * 2025/12/28 (승건) 즉시 승진 로직 추가
+ * 2026/10/18 (승건) 하위 부서 / 부서장 조회를 조직 그래프 스냅샷으로 변경 (단계별 재귀 조회 제거)
  * </pre>
  *
  * @author 승건
- * @version 1.4
+ * @version 1.5
  */
 @Service
 @RequiredArgsConstructor
@@ -77,7 +78,7 @@ public class PromotionCommandService {
     private final PromotionCandidateRepository promotionCandidateRepository;
     private final EmployeeRepository employeeRepository;
     private final EmployeeGradeRepository gradeRepository;
-    private final EmployeeDepartmentRepository departmentRepository;
+    private final OrganizationGraphService organizationGraphService;
     private final ApprovalCommandService approvalCommandService;
     private final ObjectMapper objectMapper;
     private final ApprovalTemplateRepository templateRepository;
@@ -231,8 +232,8 @@ public class PromotionCommandService {
             throw new BusinessException(ErrorCode.INVALID_PROMOTION_TARGET_GRADE, "해당 직급으로는 승진 계획을 생성할 수 없습니다.");
         }
 
-        // 4. 대상 부서 및 모든 하위 부서 ID 조회
-        List<Integer> departmentIds = findAllSubDepartmentIds(promotionDetail.getDepartmentId());
+        // 4. 대상 부서 및 모든 하위 부서 ID 조회 (조직 그래프 스냅샷)
+        List<Integer> departmentIds = organizationGraphService.current().subtreeIds(promotionDetail.getDepartmentId());
 
         // 5. 조건에 맞는 승진 후보 직원 조회
         List<Employee> candidates = employeeRepository.findPromotionCandidates(
@@ -255,28 +256,6 @@ public class PromotionCommandService {
         }
     }
 
-    /**
-     * 지정된 부서 ID와 그 아래 모든 하위 부서의 ID 목록을 재귀적으로 조회합니다.
-     *
-     * @param departmentId 최상위 부서 ID
-     * @return 자기 자신을 포함한 모든 하위 부서 ID 목록
-     */
-    private List<Integer> findAllSubDepartmentIds(Integer departmentId) {
-        List<Integer> allSubDepartments = new ArrayList<>();
-        allSubDepartments.add(departmentId); // 자기 자신 포함
-
-        List<EmployeeDepartment> directChildren = departmentRepository.findByParentDepartmentId(departmentId);
-        List<Integer> directChildrenIds = directChildren.stream()
-                .map(EmployeeDepartment::getDepartmentId)
-                .toList();
-
-        for (Integer childId : directChildrenIds) {
-            allSubDepartments.addAll(findAllSubDepartmentIds(childId));
-        }
-
-        return allSubDepartments;
-    }
-
     /**
      * 승진 후보자를 1차 심사합니다. (승인 또는 반려)
      * 대기(WAITING) 상태인 후보자만 처리 가능합니다.
@@ -458,11 +437,13 @@ public class PromotionCommandService {
             defaultLines.sort(Comparator.comparing(SettingsApprovalLine::getSeq));
 
             if (!defaultLines.isEmpty()) {
+                OrganizationGraph graph = organizationGraphService.current();
                 for (SettingsApprovalLine line : defaultLines) {
                     if (line.getSeq() > 1) {
-                        Integer approverId = departmentRepository.findById(line.getDepartmentId())
-                                .map(EmployeeDepartment::getManagerId)
-                                .orElseThrow(() -> new BusinessException(ErrorCode.DEPARTMENT_NOT_FOUND, "기본 결재선의 부서 또는 부서장을 찾을 수 없습니다."));
+                        Integer approverId = graph.managerIdOf(line.getDepartmentId());
+                        if (approverId == null) {
+                            throw new BusinessException(ErrorCode.DEPARTMENT_NOT_FOUND, "기본 결재선의 부서 또는 부서장을 찾을 수 없습니다.");
+                        }
                         approvalLines.add(ApprovalLineDTO.builder().seq(line.getSeq()).approverId(approverId).build());
                     }
                 }
@@ -473,9 +454,9 @@ public class PromotionCommandService {
         // 기본 결재선이 없으면 기안자의 부서장으로 설정
         Integer approverId = 1; // 기본값: 관리자
         if (userDetails.getDepartmentId() != null) {
-            EmployeeDepartment department = departmentRepository.findById(userDetails.getDepartmentId()).orElse(null);
-            if (department != null && department.getManagerId() != null && !department.getManagerId().equals(userDetails.getEmployeeId())) {
-                approverId = department.getManagerId();
+            Integer managerId = organizationGraphService.current().managerIdOf(userDetails.getDepartmentId());
+            if (managerId != null && !managerId.equals(userDetails.getEmployeeId())) {
+                approverId = managerId;
             }
         }
         approvalLines.add(ApprovalLineDTO.builder().seq(2).approverId(approverId).build());
@@ -3,12 +3,18 @@ package com.c4.hero.domain.promotion.service;
 import com.c4.hero.common.exception.BusinessException;
 import com.c4.hero.common.exception.ErrorCode;
 import com.c4.hero.common.response.PageResponse;
+import com.c4.hero.domain.department.graph.OrganizationGraphService;
 import com.c4.hero.domain.employee.entity.EmployeeDepartment;
 import com.c4.hero.domain.employee.repository.EmployeeDepartmentRepository;
 import com.c4.hero.domain.employee.repository.EmployeeGradeRepository;
+import com.c4.hero.domain.evaluation.dto.ai.promotion.PromotionAnalysisResultDTO;
+import com.c4.hero.domain.evaluation.entity.PromotionAnalysisResult;
+import com.c4.hero.domain.evaluation.repository.PromotionAnalysisResultRepository;
+import com.c4.hero.domain.promotion.dto.PromotionCandidateDTO;
 import com.c4.hero.domain.promotion.dto.PromotionDepartmentDTO;
 import com.c4.hero.domain.promotion.dto.PromotionGradeDTO;
 import com.c4.hero.domain.promotion.dto.response.PromotionOptionsResponseDTO;
+import com.c4.hero.domain.promotion.dto.response.PromotionDetailForReviewResponseDTO;
 import com.c4.hero.domain.promotion.dto.response.PromotionPlanDetailResponseDTO;
 import com.c4.hero.domain.promotion.dto.response.PromotionPlanForReviewResponseDTO;
 import com.c4.hero.domain.promotion.dto.response.PromotionPlanResponseDTO;
@@ -36,10 +42,12 @@ import java.util.stream.Collectors;
  * 2025/12/22 (승건) 추천 가능 승진 계획 조회 로직 추가
  * 2025/12/23 (승건) 심사용 승진 계획 상세 조회 로직 추가
  * 2025/12/24 (승건) 심사용 승진 계획 목록 조회 로직 추가
+ * 2026/10/18 (승건) 심사용 상세 조회에 저장된 AI 승진 추천 분석 결과 포함
+ * 2026/10/18 (승건) 하위 부서 조회를 조직 그래프 스냅샷으로 변경 (단계별 재귀 조회 제거)
  * </pre>
  *
  * @author 승건
- * @version 1.3
+ * @version 1.5
  */
 @Service
 @RequiredArgsConstructor
@@ -48,7 +56,9 @@ public class PromotionQueryService {
 
     private final PromotionMapper promotionMapper;
     private final EmployeeDepartmentRepository departmentRepository;
+    private final OrganizationGraphService organizationGraphService;
     private final EmployeeGradeRepository gradeRepository;
+    private final PromotionAnalysisResultRepository analysisResultRepository;
 
     /**
      * 승진 계획 목록을 페이징하여 조회합니다.
@@ -178,8 +188,8 @@ public class PromotionQueryService {
      * @return 추천 가능한 승진 계획 목록
      */
     public List<PromotionPlanResponseDTO> getRecommendPromotionPlan(Integer departmentId) {
-        // 1. 현재 부서 및 모든 하위 부서 ID 목록 조회
-        List<Integer> departmentIds = findAllSubDepartmentIds(departmentId);
+        // 1. 현재 부서 및 모든 하위 부서 ID 목록 조회 (조직 그래프 스냅샷)
+        List<Integer> departmentIds = organizationGraphService.current().subtreeIds(departmentId);
 
         // 2. 부서 목록이 비어있으면 빈 리스트 반환
         if (departmentIds.isEmpty()) {
@@ -199,8 +209,8 @@ public class PromotionQueryService {
      * @return 필터링된 승진 계획 상세 정보
      */
     public PromotionPlanDetailResponseDTO getRecommendPromotionPlanDetail(Integer promotionId, Integer departmentId) {
-        // 1. 현재 부서 및 모든 하위 부서 ID 목록 조회
-        List<Integer> departmentIds = findAllSubDepartmentIds(departmentId);
+        // 1. 현재 부서 및 모든 하위 부서 ID 목록 조회 (조직 그래프 스냅샷)
+        List<Integer> departmentIds = organizationGraphService.current().subtreeIds(departmentId);
 
         // 2. 부서 목록이 비어있으면 예외 처리 (혹은 빈 결과 반환)
         if (departmentIds.isEmpty()) {
@@ -218,40 +228,38 @@ public class PromotionQueryService {
         return response;
     }
 
-    /**
-     * 주어진 부서 ID를 포함한 모든 하위 부서의 ID 목록을 재귀적으로 조회합니다.
-     *
-     * @param parentDepartmentId 시작 부서 ID
-     * @return 해당 부서 및 모든 하위 부서 ID 목록
-     */
-    private List<Integer> findAllSubDepartmentIds(Integer parentDepartmentId) {
-        List<Integer> allDepartmentIds = new ArrayList<>();
-        if (parentDepartmentId != null) {
-            allDepartmentIds.add(parentDepartmentId);
-            // 직속 하위 부서 목록 조회
-            List<EmployeeDepartment> subDepartments = departmentRepository.findByParentDepartmentId(parentDepartmentId);
-            // 각 하위 부서에 대해 재귀적으로 탐색
-            for (EmployeeDepartment subDept : subDepartments) {
-                allDepartmentIds.addAll(findAllSubDepartmentIds(subDept.getDepartmentId()));
-            }
-        }
-        return allDepartmentIds;
-    }
-
     /**
      * 심사용 승진 계획 상세 정보를 조회합니다. (승인 현황 포함)
+     * 후보자별 AI 승진 추천 분석 결과는 분석 작업에서 저장된 값을 사용합니다. (AI 서버 호출 없음)
      *
      * @param promotionId 승진 계획 ID
      * @return 심사용 승진 계획 상세 정보
      */
     public PromotionPlanForReviewResponseDTO getPromotionDetailForReview(Integer promotionId) {
-        // Mapper를 통해 조회 (Mapper XML에서 approvedCount 계산 필요)
+        // 1. Mapper를 통해 조회 (Mapper XML에서 approvedCount 계산 필요)
         PromotionPlanForReviewResponseDTO response = promotionMapper.selectPromotionDetailForReview(promotionId);
 
         if (response == null) {
             throw new BusinessException(ErrorCode.PROMOTION_PLAN_NOT_FOUND);
         }
 
+        // 2. 저장된 AI 분석 결과를 후보자에 연결
+        Map<Integer, PromotionAnalysisResult> analysisByEmployee = analysisResultRepository.findByPromotionId(promotionId)
+                .stream()
+                .collect(Collectors.toMap(PromotionAnalysisResult::getEmployeeId, result -> result, (a, b) -> b));
+
+        if (!analysisByEmployee.isEmpty() && response.getDetailPlan() != null) {
+            for (PromotionDetailForReviewResponseDTO detail : response.getDetailPlan()) {
+                if (detail.getCandidateList() == null) continue;
+                for (PromotionCandidateDTO candidate : detail.getCandidateList()) {
+                    PromotionAnalysisResult analysis = analysisByEmployee.get(candidate.getEmployeeId());
+                    if (analysis != null) {
+                        candidate.setAiAnalysis(PromotionAnalysisResultDTO.from(analysis));
+                    }
+                }
+            }
+        }
+
         return response;
     }
 
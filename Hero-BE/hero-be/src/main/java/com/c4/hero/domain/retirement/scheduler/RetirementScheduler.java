@@ -1,5 +1,7 @@
 package com.c4.hero.domain.retirement.scheduler;
 
+import com.c4.hero.domain.department.event.OrganizationChangedEvent;
+import com.c4.hero.domain.department.event.OrganizationEmployeesChangedEvent;
 import com.c4.hero.domain.employee.entity.Account;
 import com.c4.hero.domain.employee.entity.Employee;
 import com.c4.hero.domain.employee.entity.EmployeeDepartment;
@@ -9,6 +11,7 @@ import com.c4.hero.domain.employee.repository.EmployeeRepository;
 import com.c4.hero.domain.employee.type.EmployeeStatus;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
@@ -23,10 +26,11 @@ import java.util.List;
  *
  * History
  * 2025/12/30 (승건) 최초 작성
+ * 2026/10/18 (승건) 퇴직 처리 후 조직도 캐시 / 조직 그래프 갱신 이벤트 발행
  * </pre>
  *
  * @author 승건
- * @version 1.0
+ * @version 1.1
  */
 @Slf4j
 @Component
@@ -36,6 +40,7 @@ public class RetirementScheduler {
     private final EmployeeRepository employeeRepository;
     private final EmployeeAccountRepository accountRepository;
     private final EmployeeDepartmentRepository departmentRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * 매일 자정(00:00:00)에 실행되어 퇴사일이 지난 직원의 상태를 퇴직(RETIRED)으로 변경하고,
@@ -54,6 +59,7 @@ public class RetirementScheduler {
         );
 
         int employeeCount = 0;
+        boolean managerReleased = false;
         for (Employee employee : employeesToRetire) {
             // 1. 직원 상태 변경
             employee.changeStatus(EmployeeStatus.RETIRED);
@@ -63,6 +69,7 @@ public class RetirementScheduler {
             List<EmployeeDepartment> managingDepartments = departmentRepository.findByManagerId(employee.getEmployeeId());
             for (EmployeeDepartment dept : managingDepartments) {
                 dept.removeManager();
+                managerReleased = true;
             }
 
             // 3. 계정 비활성화 및 권한 제거
@@ -74,6 +81,15 @@ public class RetirementScheduler {
             });
         }
         
+        // 4. 커밋 후 조직도 캐시에서 퇴직자 제거 (부서장 해제 시 조직 그래프도 무효화)
+        if (!employeesToRetire.isEmpty()) {
+            eventPublisher.publishEvent(OrganizationEmployeesChangedEvent.of(
+                    employeesToRetire.stream().map(Employee::getEmployeeId).toList()));
+        }
+        if (managerReleased) {
+            eventPublisher.publishEvent(new OrganizationChangedEvent());
+        }
+
         log.info("Completed retirement processing. Processed {} employees.", employeeCount);
     }
 }
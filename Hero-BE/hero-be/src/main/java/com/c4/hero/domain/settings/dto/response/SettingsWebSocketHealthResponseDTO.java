@@ -5,6 +5,8 @@ import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
+import com.c4.hero.domain.notification.dto.NotificationNodeMetricsDTO;
+
 import java.time.LocalDateTime;
 import java.util.List;
 
@@ -15,10 +17,11 @@ import java.util.List;
  *
  * History
  * 2025/12/22 (혜원) 최초 작성
+ * 2026/10/18 (혜원) 클러스터 노드별 전송 지표 추가
  * </pre>
  *
  * @author 혜원
- * @version 1.0
+ * @version 1.1
  */
 @Getter
 @NoArgsConstructor
@@ -56,6 +59,11 @@ public class SettingsWebSocketHealthResponseDTO {
      */
     private List<WebSocketSessionInfo> sessions;
 
+    /**
+     * 노드별 실시간 알림 전송 지표 (relay 모드가 local 이면 현재 노드만)
+     */
+    private List<NotificationNodeMetricsDTO> nodes;
+
     /**
      * WebSocket 세션 정보
      */
@@ -0,0 +1,16 @@
+package com.c4.hero.domain.settings.event;
+
+/**
+ * <pre>
+ * Class Name: WorkSystemTemplatesChangedEvent
+ * Description: 근무제 템플릿 일괄 저장 이벤트 (커밋 후 근무제 템플릿 캐시 무효화)
+ *
+ * History
+ * 2026/10/18 (혜원) 최초 작성
+ * </pre>
+ *
+ * @author 혜원
+ * @version 1.0
+ */
+public record WorkSystemTemplatesChangedEvent() {
+}
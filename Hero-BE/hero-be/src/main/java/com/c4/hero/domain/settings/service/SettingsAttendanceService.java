@@ -4,11 +4,13 @@ import com.c4.hero.domain.attendance.entity.WorkSystemTemplate;
 import com.c4.hero.domain.attendance.entity.WorkSystemType;
 import com.c4.hero.domain.settings.dto.request.SettingWorkSystemRequestDTO;
 import com.c4.hero.domain.settings.dto.response.SettingWorkSystemResponseDTO;
+import com.c4.hero.domain.settings.event.WorkSystemTemplatesChangedEvent;
 import com.c4.hero.domain.settings.mapper.SettingsMapper;
 import com.c4.hero.domain.settings.repository.SettingAttTemplateRepository;
 import com.c4.hero.domain.settings.repository.SettingAttTypeRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -29,6 +31,7 @@ import java.util.stream.Collectors;
  * History
  * 2025/12/29 (지윤) 최초 작성 및 컨벤션 적용
  * 2026/01/07 (혜원) 신규 근무제 생성 시 WorkSystemType도 함께 생성하도록 수정
+ * 2026/10/18 (혜원) 근무제 템플릿 저장 시 템플릿 캐시 무효화 이벤트 발행
  * </pre>
  *
  * 근무제 템플릿(WorkSystemTemplate)에 대한 조회 및 일괄 저장(Upsert, Insert) 기능을 제공합니다.
@@ -48,6 +51,9 @@ public class SettingsAttendanceService {
     /** 근무제 유형(WorkSystemType) 저장/조회용 JPA Repository */
     private final SettingAttTypeRepository settingAttTypeRepository;
 
+    /** 근무제 템플릿 캐시 무효화 이벤트 발행 */
+    private final ApplicationEventPublisher eventPublisher;
+
     /**
      * 근무제 템플릿 목록을 조회합니다.
      *
@@ -202,6 +208,7 @@ public class SettingsAttendanceService {
 
         // 5) 일괄 저장
         settingAttTemplateRepository.saveAll(toSave);
+        eventPublisher.publishEvent(new WorkSystemTemplatesChangedEvent());
 
         log.info("근무제 템플릿 저장 완료 - 총 {}건 (신규: {}건, 수정: {}건)",
                 toSave.size(), newRequests.size(), updateRequests.size());
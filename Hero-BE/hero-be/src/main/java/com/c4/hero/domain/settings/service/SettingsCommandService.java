@@ -4,6 +4,8 @@ import com.c4.hero.common.exception.BusinessException;
 import com.c4.hero.common.exception.ErrorCode;
 import com.c4.hero.domain.approval.entity.ApprovalTemplate;
 import com.c4.hero.domain.approval.repository.ApprovalTemplateRepository;
+import com.c4.hero.domain.department.event.OrganizationChangedEvent;
+import com.c4.hero.domain.department.event.OrganizationEmployeesChangedEvent;
 import com.c4.hero.domain.employee.entity.Account;
 import com.c4.hero.domain.employee.entity.AccountRole;
 import com.c4.hero.domain.employee.entity.Employee;
@@ -32,6 +34,7 @@ import com.c4.hero.domain.settings.repository.SettingsDepartmentRepository;
 import com.c4.hero.domain.settings.repository.SettingsLoginPolicyRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -55,10 +58,12 @@ import static com.c4.hero.domain.settings.enums.TargetType.*;
  * 2025/12/19 (민철) 기본 결재선 / 참조 목록 설정적용
  * 2025/12/22 (혜원) 관리자 알림 발송 기능 추가
  * 2025/12/23 (혜원) 알림 관련 SettingsNotificationCommandService로 분리
+ * 2026/10/18 (승건) 부서 트리 저장 시 조직 구조 변경 이벤트 발행
+ * 2026/10/18 (승건) 직급 / 직책 저장 시 조직도 캐시 전체 재적재 이벤트 발행
  * </pre>
  *
  * @author 승건
- * @version 1.1
+ * @version 1.3
  */
 @Service
 @Transactional
@@ -80,6 +85,7 @@ public class SettingsCommandService {
     private final SettingsApprovalRefRepository settingsApprovalRefRepository;
 
     private final EmployeeCommandService employeeCommandService;
+    private final ApplicationEventPublisher eventPublisher;
 
     private static final int ADMIN_DEPARTMENT_ID = 0;
     private static final int TEMP_DEPARTMENT_ID = -1;
@@ -131,6 +137,9 @@ public class SettingsCommandService {
             departmentsToDelete.sort(Comparator.comparingInt(SettingsDepartment::getDepth).reversed());
             departmentRepository.deleteAll(departmentsToDelete);
         }
+
+        // 6. 커밋 후 조직 그래프 무효화
+        eventPublisher.publishEvent(new OrganizationChangedEvent());
     }
 
     /**
@@ -276,6 +285,9 @@ public class SettingsCommandService {
             employeeRepository.updateGradeByGradeIds(List.copyOf(existingGradeIds));
             gradeRepository.deleteAllById(existingGradeIds);
         }
+
+        // 직급명 변경은 해당 직급의 모든 직원 항목에 영향 : 커밋 후 조직도 캐시 전체 재적재
+        eventPublisher.publishEvent(OrganizationEmployeesChangedEvent.reloadAll());
     }
 
     /**
@@ -318,6 +330,9 @@ public class SettingsCommandService {
         if (!existingJobTitleIds.isEmpty()) {
             jobTitleRepository.deleteAllById(existingJobTitleIds);
         }
+
+        // 직책명 변경은 해당 직책의 모든 직원 항목에 영향 : 커밋 후 조직도 캐시 전체 재적재
+        eventPublisher.publishEvent(OrganizationEmployeesChangedEvent.reloadAll());
     }
 
     /**
@@ -5,6 +5,8 @@ import com.c4.hero.domain.settings.dto.response.SettingsNotificationHistoryRespo
 import com.c4.hero.domain.settings.dto.response.SettingsNotificationStatisticsResponseDTO;
 import com.c4.hero.domain.settings.dto.response.SettingsWebSocketHealthResponseDTO;
 import com.c4.hero.domain.settings.mapper.SettingsMapper;
+import com.c4.hero.domain.notification.dto.NotificationNodeMetricsDTO;
+import com.c4.hero.domain.notification.relay.ClusterSessionRegistry;
 import com.c4.hero.domain.notification.util.WebSocketSessionManager;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -25,10 +27,11 @@ import java.util.stream.Collectors;
  *
  * History
  * 2025/12/24 (혜원) 최초 작성
+ * 2026/10/18 (혜원) 클러스터 노드별 전송 지표 및 전체 노드 활성 연결 수 반영
  * </pre>
  *
  * @author 혜원
- * @version 1.0
+ * @version 1.1
  */
 @Service
 @Transactional(readOnly = true)
@@ -38,6 +41,7 @@ public class SettingsNotificationQueryService {
 
     private final SettingsMapper settingsMapper;
     private final WebSocketSessionManager webSocketSessionManager;
+    private final ClusterSessionRegistry clusterSessionRegistry;
 
     /**
      * 알림 발송 이력 조회 (페이징)
@@ -80,8 +84,8 @@ public class SettingsNotificationQueryService {
             statistics = createEmptyStatistics();
         }
 
-        // WebSocket 활성 연결 수 추가
-        statistics.setActiveConnections(webSocketSessionManager.getActiveConnectionCount());
+        // WebSocket 활성 연결 수 추가 (전체 노드 합계)
+        statistics.setActiveConnections(countClusterConnections());
 
         // 가장 많이 발송된 타입 조회 (통계가 있을 때만)
         if (statistics.getTotalCount() > 0) {
@@ -118,9 +122,35 @@ public class SettingsNotificationQueryService {
                 .averageResponseTime(webSocketSessionManager.getAverageResponseTime())
                 .lastCheckTime(LocalDateTime.now())
                 .sessions(sessions)
+                .nodes(findNodeMetrics())
                 .build();
     }
 
+    /**
+     * 전체 노드 활성 연결 수 합계 (레지스트리 조회 실패 시 현재 노드 기준)
+     */
+    private int countClusterConnections() {
+        List<NotificationNodeMetricsDTO> nodes = findNodeMetrics();
+        if (nodes.isEmpty()) {
+            return webSocketSessionManager.getActiveConnectionCount();
+        }
+        return nodes.stream()
+                .mapToInt(node -> node.getActiveConnections() == null ? 0 : node.getActiveConnections())
+                .sum();
+    }
+
+    /**
+     * 노드별 전송 지표 조회 (레지스트리 조회 실패 시 빈 목록)
+     */
+    private List<NotificationNodeMetricsDTO> findNodeMetrics() {
+        try {
+            return clusterSessionRegistry.clusterMetrics();
+        } catch (Exception e) {
+            log.warn("Failed to fetch cluster notification metrics: {}", e.getMessage());
+            return List.of();
+        }
+    }
+
     /**
      * 빈 통계 객체 생성
      */
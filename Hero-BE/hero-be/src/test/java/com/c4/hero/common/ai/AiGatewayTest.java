@@ -0,0 +1,134 @@
+package com.c4.hero.common.ai;
+
+import com.c4.hero.common.exception.BusinessException;
+import com.c4.hero.common.exception.ErrorCode;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import tools.jackson.databind.ObjectMapper;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * <pre>
+ * Class Name: AiGatewayTest
+ * Description: AI 서버 호출 게이트웨이 테스트
+ *
+ * History
+ * 2026/10/18 (김승민) 최초 작성
+ * </pre>
+ *
+ * @author 김승민
+ * @version 1.0
+ */
+@DisplayName("AI 서버 호출 게이트웨이 테스트")
+class AiGatewayTest {
+
+    private final AtomicLong now = new AtomicLong();
+
+    @Test
+    @DisplayName("같은 요청이 진행 중이면 한 번만 호출하고, 완료 후에는 캐시된 결과를 반환한다")
+    void call_coalescesInFlightAndCachesResult() {
+        // Given
+        AiGateway gateway = gateway(8, new AiCircuitBreaker(5, Duration.ofSeconds(30), now::get));
+        String key = gateway.cacheKey("member", Map.of("formItems", List.of("협업", 4)));
+        Sinks.One<String> response = Sinks.one();
+        AtomicInteger calls = new AtomicInteger();
+
+        // When
+        CompletableFuture<String> first = gateway.call(key, Duration.ofSeconds(5), () -> {
+            calls.incrementAndGet();
+            return response.asMono();
+        });
+        CompletableFuture<String> second = gateway.call(key, Duration.ofSeconds(5), () -> {
+            calls.incrementAndGet();
+            return response.asMono();
+        });
+        response.tryEmitValue("분석 결과");
+        CompletableFuture<String> reopened = gateway.call(key, Duration.ofSeconds(5), () -> {
+            calls.incrementAndGet();
+            return Mono.just("다시 분석");
+        });
+
+        // Then
+        assertThat(first.join()).isEqualTo("분석 결과");
+        assertThat(second.join()).isEqualTo("분석 결과");
+        assertThat(reopened.join()).isEqualTo("분석 결과");
+        assertThat(calls.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("연속 실패가 기준에 도달하면 차단 시간 동안 호출하지 않고, 이후 시험 호출 성공 시 복구된다")
+    void call_opensCircuitAfterConsecutiveFailures() {
+        // Given
+        AiCircuitBreaker circuitBreaker = new AiCircuitBreaker(2, Duration.ofSeconds(30), now::get);
+        AiGateway gateway = gateway(8, circuitBreaker);
+        AtomicInteger calls = new AtomicInteger();
+        WebClientResponseException serverError =
+                WebClientResponseException.create(HttpStatus.INTERNAL_SERVER_ERROR.value(), "error", HttpHeaders.EMPTY, new byte[0], null);
+
+        // When
+        for (int i = 0; i < 2; i++) {
+            CompletableFuture<String> failed = gateway.call("member:" + i, Duration.ofSeconds(5), () -> {
+                calls.incrementAndGet();
+                return Mono.error(serverError);
+            });
+            assertThatThrownBy(failed::join).hasCauseInstanceOf(BusinessException.class);
+        }
+        CompletableFuture<String> blocked = gateway.call("member:2", Duration.ofSeconds(5), () -> {
+            calls.incrementAndGet();
+            return Mono.just("분석 결과");
+        });
+
+        // Then
+        assertThatThrownBy(blocked::join)
+                .cause()
+                .extracting(e -> ((BusinessException) e).getErrorCode())
+                .isEqualTo(ErrorCode.AI_SERVER_UNAVAILABLE);
+        assertThat(calls.get()).isEqualTo(2);
+        assertThat(circuitBreaker.state()).isEqualTo(AiCircuitBreaker.State.OPEN);
+
+        now.addAndGet(Duration.ofSeconds(30).toNanos());
+        assertThat(gateway.<String>call("member:2", Duration.ofSeconds(5), () -> Mono.just("분석 결과")).join())
+                .isEqualTo("분석 결과");
+        assertThat(circuitBreaker.state()).isEqualTo(AiCircuitBreaker.State.CLOSED);
+    }
+
+    @Test
+    @DisplayName("동시 호출 한도를 넘으면 대기하지 않고 AI_SERVER_BUSY 로 실패한다")
+    void call_rejectsWhenConcurrencyLimitReached() {
+        // Given
+        AiGateway gateway = gateway(1, new AiCircuitBreaker(5, Duration.ofSeconds(30), now::get));
+        Sinks.One<String> response = Sinks.one();
+        CompletableFuture<String> running = gateway.call("member:a", Duration.ofSeconds(5), response::asMono);
+
+        // When
+        CompletableFuture<String> rejected = gateway.call("member:b", Duration.ofSeconds(5), () -> Mono.just("분석 결과"));
+
+        // Then
+        assertThatThrownBy(rejected::join)
+                .cause()
+                .extracting(e -> ((BusinessException) e).getErrorCode())
+                .isEqualTo(ErrorCode.AI_SERVER_BUSY);
+        response.tryEmitValue("분석 결과");
+        assertThat(running.join()).isEqualTo("분석 결과");
+        assertThat(gateway.<String>call("member:b", Duration.ofSeconds(5), () -> Mono.just("분석 결과")).join())
+                .isEqualTo("분석 결과");
+    }
+
+    private AiGateway gateway(int maxConcurrency, AiCircuitBreaker circuitBreaker) {
+        return new AiGateway(new ObjectMapper(), maxConcurrency, circuitBreaker, 100, Duration.ofHours(1), now::get);
+    }
+}
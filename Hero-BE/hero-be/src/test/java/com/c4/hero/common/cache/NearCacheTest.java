@@ -0,0 +1,68 @@
+package com.c4.hero.common.cache;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * <pre>
+ * Class Name: NearCacheTest
+ * Description: 노드 로컬 캐시 테스트
+ *
+ * History
+ * 2026/10/18 (혜원) 최초 작성 (NotificationSettingsCacheTest 에서 분리)
+ * 2026/10/18 (혜원) 항목별 만료 시간 테스트 추가
+ * </pre>
+ *
+ * @author 혜원
+ * @version 1.1
+ */
+@DisplayName("노드 로컬 캐시 테스트")
+class NearCacheTest {
+
+    @Test
+    @DisplayName("최대 건수를 넘으면 가장 오래 조회되지 않은 항목을 제거하고, 만료된 항목은 반환하지 않는다")
+    void nearCache_evictsLeastRecentlyUsedAndExpired() {
+        // Given
+        AtomicLong now = new AtomicLong();
+        NearCache<Integer, String> cache = new NearCache<>(2, Duration.ofNanos(100), now::get);
+        cache.put(1, "a");
+        cache.put(2, "b");
+        cache.get(1);
+
+        // When
+        cache.put(3, "c");
+
+        // Then
+        assertThat(cache.get(2)).isNull();
+        assertThat(cache.get(1)).isEqualTo("a");
+        now.set(100);
+        assertThat(cache.get(3)).isNull();
+        assertThat(cache.size()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("항목별 만료 시간으로 저장한 항목은 그 시간까지만 반환하고, 만료 시간이 없으면 저장하지 않는다")
+    void nearCache_perEntryTtl() {
+        // Given
+        AtomicLong now = new AtomicLong();
+        NearCache<String, String> cache = new NearCache<>(10, Duration.ofNanos(100), now::get);
+
+        // When
+        cache.put("short", "a", Duration.ofNanos(10));
+        cache.put("long", "b", Duration.ofNanos(1_000));
+        cache.put("none", "c", Duration.ZERO);
+
+        // Then
+        assertThat(cache.get("none")).isNull();
+        now.set(10);
+        assertThat(cache.get("short")).isNull();
+        assertThat(cache.get("long")).isEqualTo("b");
+        now.set(1_000);
+        assertThat(cache.get("long")).isNull();
+    }
+}
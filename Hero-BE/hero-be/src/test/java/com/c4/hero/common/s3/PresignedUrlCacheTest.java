@@ -0,0 +1,76 @@
+package com.c4.hero.common.s3;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * <pre>
+ * Class Name: PresignedUrlCacheTest
+ * Description: S3 키별 Presigned URL 캐시 테스트
+ *
+ * History
+ * 2026/10/18 (혜원) 최초 작성
+ * </pre>
+ *
+ * @author 혜원
+ * @version 1.0
+ */
+@DisplayName("Presigned URL 캐시 테스트")
+class PresignedUrlCacheTest {
+
+    @Test
+    @DisplayName("갱신 시점 전까지는 같은 URL을 재사용하고, 갱신 여유 시간 안으로 들어오면 새로 서명한다")
+    void get_reusesUntilRefreshMargin() {
+        // Given
+        AtomicLong now = new AtomicLong(0L);
+        AtomicInteger signs = new AtomicInteger();
+        PresignedUrlCache cache = new PresignedUrlCache(10, Duration.ofMillis(100), now::get);
+        Function<String, PresignedUrl> signer = key -> new PresignedUrl(
+                "https://bucket/" + key + "?sig=" + signs.incrementAndGet(),
+                Instant.ofEpochMilli(now.get() + 1_000L));
+
+        // When
+        PresignedUrl first = cache.get("employee/a.png", signer);
+        now.set(899L);
+        PresignedUrl reused = cache.get("employee/a.png", signer);
+        now.set(900L);
+        PresignedUrl refreshed = cache.get("employee/a.png", signer);
+
+        // Then
+        assertThat(reused).isSameAs(first);
+        assertThat(refreshed.url()).endsWith("sig=2");
+        assertThat(signs.get()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("최대 건수를 넘으면 가장 오래 사용되지 않은 키를 제거하고, 서명 결과가 없으면 저장하지 않는다")
+    void get_evictsLeastRecentlyUsed() {
+        // Given
+        PresignedUrlCache cache = new PresignedUrlCache(2, Duration.ZERO, () -> 0L);
+        Function<String, PresignedUrl> signer = key -> new PresignedUrl(key, Instant.ofEpochMilli(1_000L));
+        cache.get("a", signer);
+        cache.get("b", signer);
+        cache.get("a", signer);
+
+        // When
+        cache.get("c", signer);
+        cache.get("none", key -> null);
+
+        // Then
+        assertThat(cache.size()).isEqualTo(2);
+        AtomicInteger resigned = new AtomicInteger();
+        cache.get("b", key -> {
+            resigned.incrementAndGet();
+            return signer.apply(key);
+        });
+        assertThat(resigned.get()).isEqualTo(1);
+    }
+}
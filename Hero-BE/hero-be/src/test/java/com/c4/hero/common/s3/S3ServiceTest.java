@@ -0,0 +1,89 @@
+package com.c4.hero.common.s3;
+
+import com.amazonaws.services.s3.AmazonS3;
+import com.amazonaws.services.s3.transfer.TransferManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.net.URL;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+/**
+ * <pre>
+ * Class Name: S3ServiceTest
+ * Description: S3Service Presigned URL 일괄 생성/캐시 테스트
+ *
+ * History
+ * 2026/10/18 (혜원) 최초 작성
+ * </pre>
+ *
+ * @author 혜원
+ * @version 1.0
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("S3Service Presigned URL 테스트")
+class S3ServiceTest {
+
+    @Mock
+    private AmazonS3 amazonS3;
+    @Mock
+    private TransferManager transferManager;
+
+    private S3Service s3Service;
+
+    @BeforeEach
+    void setUp() {
+        s3Service = new S3Service(amazonS3, transferManager, "hero-bucket", Duration.ofDays(7), Duration.ofDays(1), 100);
+    }
+
+    @Test
+    @DisplayName("일괄 생성 시 빈 키는 제외하고 중복 키는 한 번만 서명한다")
+    void generatePresignedUrls_skipsBlankAndDuplicateKeys() throws Exception {
+        // Given
+        given(amazonS3.generatePresignedUrl(eq("hero-bucket"), anyString(), any(Date.class)))
+                .willAnswer(invocation -> new URL("https://hero-bucket.s3/" + invocation.getArgument(1)));
+
+        // When
+        Map<String, String> urls = s3Service.generatePresignedUrls(
+                Arrays.asList("approval/a.pdf", null, "", "approval/b.pdf", "approval/a.pdf"));
+
+        // Then
+        assertThat(urls).containsOnlyKeys("approval/a.pdf", "approval/b.pdf");
+        assertThat(urls.get("approval/a.pdf")).isEqualTo("https://hero-bucket.s3/approval/a.pdf");
+        verify(amazonS3, times(2)).generatePresignedUrl(eq("hero-bucket"), anyString(), any(Date.class));
+    }
+
+    @Test
+    @DisplayName("같은 키는 만료 전 갱신 여유 시간까지 캐시된 URL을 재사용하고, 삭제 시 캐시에서 제거한다")
+    void generatePresignedUrl_reusesCachedUrl() throws Exception {
+        // Given
+        given(amazonS3.generatePresignedUrl(eq("hero-bucket"), eq("employee/a.png"), any(Date.class)))
+                .willReturn(new URL("https://hero-bucket.s3/employee/a.png?sig=1"));
+
+        // When
+        String first = s3Service.generatePresignedUrl("employee/a.png");
+        Map<String, String> batch = s3Service.generatePresignedUrls(List.of("employee/a.png"));
+        s3Service.deleteFile("employee/a.png");
+        s3Service.generatePresignedUrl("employee/a.png");
+
+        // Then
+        assertThat(batch.get("employee/a.png")).isEqualTo(first);
+        verify(amazonS3, times(2)).generatePresignedUrl(eq("hero-bucket"), eq("employee/a.png"), any(Date.class));
+    }
+}
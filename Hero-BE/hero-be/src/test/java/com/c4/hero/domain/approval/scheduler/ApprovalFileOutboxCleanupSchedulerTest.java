@@ -0,0 +1,90 @@
+package com.c4.hero.domain.approval.scheduler;
+
+import com.c4.hero.common.s3.S3Service;
+import com.c4.hero.domain.approval.entity.ApprovalFileOutbox;
+import com.c4.hero.domain.approval.repository.ApprovalFileOutboxRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+/**
+ * <pre>
+ * Class Name  : ApprovalFileOutboxCleanupSchedulerTest
+ * Description : 첨부파일 outbox 정리 스케줄러 테스트 (정리 실패 재시도 지연 / 한도)
+ *
+ * History
+ *   2026/10/18 (민철) 최초 작성
+ * </pre>
+ *
+ * @author 민철
+ * @version 1.0
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("첨부파일 outbox 정리 스케줄러 테스트")
+class ApprovalFileOutboxCleanupSchedulerTest {
+
+    @Mock
+    private ApprovalFileOutboxRepository fileOutboxRepository;
+    @Mock
+    private S3Service s3Service;
+
+    @InjectMocks
+    private ApprovalFileOutboxCleanupScheduler scheduler;
+
+    @Test
+    @DisplayName("S3 삭제에 성공한 기록은 지우고, 실패한 기록은 시도 횟수를 올려 다음 시도 시각을 뒤로 미룬다")
+    void cleanup_defersFailedRows() {
+        // Given
+        ApprovalFileOutbox failing = outbox("approval/broken.pdf");
+        given(failing.getOutboxId()).willReturn(1L);
+        given(failing.getAttempts()).willReturn(2);
+        ApprovalFileOutbox ok = outbox("approval/ok.pdf");
+        given(fileOutboxRepository.findDue(any(), eq(ApprovalFileOutboxCleanupScheduler.MAX_ATTEMPTS), any()))
+                .willReturn(List.of(failing, ok));
+        willThrow(new RuntimeException("AccessDenied")).given(s3Service).deleteObject("approval/broken.pdf");
+        LocalDateTime before = LocalDateTime.now();
+
+        // When
+        scheduler.cleanup();
+
+        // Then
+        verify(fileOutboxRepository).deleteByS3KeyIn(List.of("approval/ok.pdf"));
+        ArgumentCaptor<LocalDateTime> retryAfter = ArgumentCaptor.forClass(LocalDateTime.class);
+        verify(fileOutboxRepository).markFailed(eq(1L), retryAfter.capture());
+        verify(ok, never()).getOutboxId();
+        assertThat(retryAfter.getValue()).isAfterOrEqualTo(before.plusMinutes(4));
+    }
+
+    @Test
+    @DisplayName("재시도 지연은 1분부터 두 배씩 늘어나고 1시간을 넘지 않는다")
+    void retryDelay_backsOffUpToOneHour() {
+        // When & Then
+        assertThat(ApprovalFileOutboxCleanupScheduler.retryDelay(1)).isEqualTo(Duration.ofMinutes(1));
+        assertThat(ApprovalFileOutboxCleanupScheduler.retryDelay(3)).isEqualTo(Duration.ofMinutes(4));
+        assertThat(ApprovalFileOutboxCleanupScheduler.retryDelay(7)).isEqualTo(Duration.ofHours(1));
+        assertThat(ApprovalFileOutboxCleanupScheduler.retryDelay(20)).isEqualTo(Duration.ofHours(1));
+    }
+
+    private ApprovalFileOutbox outbox(String s3Key) {
+        ApprovalFileOutbox outbox = mock(ApprovalFileOutbox.class);
+        given(outbox.getS3Key()).willReturn(s3Key);
+        return outbox;
+    }
+}
@@ -1,7 +1,7 @@
 package com.c4.hero.domain.approval.service;
 
-import com.c4.hero.common.s3.S3Service;
 import com.c4.hero.domain.approval.dto.ApprovalLineDTO;
+import com.c4.hero.domain.approval.dto.ApprovalUploadedFileDTO;
 import com.c4.hero.domain.approval.dto.request.ApprovalActionRequestDTO;
 import com.c4.hero.domain.approval.dto.request.ApprovalRequestDTO;
 import com.c4.hero.domain.approval.dto.response.ApprovalActionResponseDTO;
@@ -15,7 +15,6 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.context.ApplicationEventPublisher;
-import org.springframework.web.multipart.MultipartFile;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -49,7 +48,7 @@ class ApprovalCommandServiceTest {
     @Mock
     private ApplicationEventPublisher eventPublisher;
     @Mock
-    private S3Service s3Service;
+    private ApprovalFileOutboxRepository fileOutboxRepository;
     @Mock
     private EmployeeRepository employeeRepository;
 
@@ -97,7 +96,7 @@ class ApprovalCommandServiceTest {
         dto.setFormType("VACATION");
         dto.setTitle("휴가 신청");
         dto.setDetails("휴가 갑니다.");
-        List<MultipartFile> files = new ArrayList<>();
+        List<ApprovalUploadedFileDTO> files = new ArrayList<>();
         String status = "DRAFT";
 
         ApprovalTemplate template = ApprovalTemplate.builder().templateId(1).templateKey("VACATION").build();
@@ -0,0 +1,113 @@
+package com.c4.hero.domain.approval.service;
+
+import com.c4.hero.common.s3.S3Service;
+import com.c4.hero.domain.approval.dto.ApprovalUploadedFileDTO;
+import com.c4.hero.domain.approval.exception.ApprovalFileUploadException;
+import com.c4.hero.domain.approval.repository.ApprovalFileOutboxRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+/**
+ * <pre>
+ * Class Name  : ApprovalFileUploaderTest
+ * Description : 첨부파일 선 업로드 + outbox 확정/정리 테스트
+ *
+ * History
+ *   2026/10/18 (민철) 최초 작성
+ * </pre>
+ *
+ * @author 민철
+ * @version 1.0
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("결재 첨부파일 업로드 테스트")
+class ApprovalFileUploaderTest {
+
+    @Mock
+    private S3Service s3Service;
+    @Mock
+    private ApprovalFileOutboxRepository fileOutboxRepository;
+
+    private ApprovalFileUploader uploader;
+
+    private final MultipartFile first = new MockMultipartFile("files", "a.pdf", "application/pdf", new byte[10]);
+    private final MultipartFile second = new MockMultipartFile("files", "b.png", "image/png", new byte[20]);
+
+    @BeforeEach
+    void setUp() {
+        uploader = new ApprovalFileUploader(s3Service, fileOutboxRepository, 2, 4, Duration.ofHours(1));
+        given(s3Service.createObjectKey(first, "approval")).willReturn("approval/a.pdf");
+        given(s3Service.createObjectKey(second, "approval")).willReturn("approval/b.png");
+    }
+
+    @AfterEach
+    void tearDown() {
+        uploader.shutdown();
+    }
+
+    @Test
+    @DisplayName("outbox 기록 후 첨부파일을 모두 업로드하고, 요청 순서대로 문서 저장 작업에 전달한다")
+    void uploadAndApply_uploadsBeforeAction() {
+        // When
+        List<ApprovalUploadedFileDTO> received = uploader.uploadAndApply(List.of(first, second), uploaded -> uploaded);
+
+        // Then
+        assertThat(received).extracting(ApprovalUploadedFileDTO::s3Key)
+                .containsExactly("approval/a.pdf", "approval/b.png");
+        assertThat(received).extracting(ApprovalUploadedFileDTO::fileSize).containsExactly(10L, 20L);
+        InOrder order = inOrder(fileOutboxRepository, s3Service);
+        order.verify(fileOutboxRepository).saveAll(anyList());
+        order.verify(s3Service).upload("approval/a.pdf", first);
+        verify(s3Service).upload("approval/b.png", second);
+        verify(s3Service, never()).deleteObject("approval/a.pdf");
+    }
+
+    @Test
+    @DisplayName("업로드 일부가 실패하면 업로드한 파일과 outbox 기록을 정리하고 문서 저장 작업은 실행하지 않는다")
+    void uploadAndApply_discardsWhenUploadFails() {
+        // Given
+        willThrow(new RuntimeException("S3 오류")).given(s3Service).upload("approval/b.png", second);
+
+        // When & Then
+        assertThatThrownBy(() -> uploader.uploadAndApply(List.of(first, second), uploaded -> {
+            throw new AssertionError("문서 저장 작업이 실행되면 안 됨");
+        })).isInstanceOf(ApprovalFileUploadException.class);
+
+        verify(s3Service).deleteObject("approval/a.pdf");
+        verify(s3Service).deleteObject("approval/b.png");
+        verify(fileOutboxRepository).deleteByS3KeyIn(List.of("approval/a.pdf", "approval/b.png"));
+    }
+
+    @Test
+    @DisplayName("문서 저장 작업이 실패하면 업로드한 파일을 정리하고 예외를 그대로 전달한다")
+    void uploadAndApply_discardsWhenActionFails() {
+        // When & Then
+        assertThatThrownBy(() -> uploader.uploadAndApply(List.of(first, second), uploaded -> {
+            throw new IllegalStateException("트랜잭션 실패");
+        })).isInstanceOf(IllegalStateException.class);
+
+        verify(s3Service).deleteObject("approval/a.pdf");
+        verify(s3Service).deleteObject("approval/b.png");
+        verify(fileOutboxRepository).deleteByS3KeyIn(List.of("approval/a.pdf", "approval/b.png"));
+    }
+}
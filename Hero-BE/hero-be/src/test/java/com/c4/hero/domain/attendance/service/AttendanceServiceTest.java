@@ -1,5 +1,6 @@
 package com.c4.hero.domain.attendance.service;
 
+import com.c4.hero.common.exception.BusinessException;
 import com.c4.hero.common.response.PageResponse;
 import com.c4.hero.domain.attendance.dto.*;
 import com.c4.hero.domain.attendance.mapper.AttendanceMapper;
@@ -48,6 +49,9 @@ class AttendanceServiceTest {
     @Mock
     private EmployeeRepository employeeRepository;
 
+    @Mock
+    private AttendanceScoreRollupService attendanceScoreRollupService;
+
     @InjectMocks
     private AttendanceService attendanceService;
 
@@ -236,6 +240,102 @@ class AttendanceServiceTest {
         }
     }
 
+    @Nested
+    @DisplayName("개인/초과/정정/변경 목록(키셋 페이지네이션)")
+    class KeysetPagingTest {
+
+        private PersonalDTO personal(int attendanceId, LocalDate workDate) {
+            PersonalDTO dto = new PersonalDTO();
+            dto.setAttendanceId(attendanceId);
+            dto.setWorkDate(workDate);
+            return dto;
+        }
+
+        @Test
+        @DisplayName("개인 근태 목록: size + 1건을 조회해 다음 커서를 만들고, 커서로 다음 페이지를 조회한다")
+        void getPersonalListByCursor_NextCursorRoundTrip() {
+            // Given
+            Integer employeeId = 1;
+            int size = 2;
+
+            when(attendanceMapper.selectPersonalKeyset(employeeId, null, null, null, null, size + 1))
+                    .thenReturn(List.of(
+                            personal(30, LocalDate.of(2025, 1, 3)),
+                            personal(20, LocalDate.of(2025, 1, 2)),
+                            personal(10, LocalDate.of(2025, 1, 1))
+                    ));
+            when(attendanceMapper.selectPersonalKeyset(employeeId, null, null, LocalDate.of(2025, 1, 2), 20, size + 1))
+                    .thenReturn(List.of(personal(10, LocalDate.of(2025, 1, 1))));
+
+            // When
+            PageResponse<PersonalDTO> first =
+                    attendanceService.getPersonalListByCursor(employeeId, null, size, null, null, false, null);
+            PageResponse<PersonalDTO> second =
+                    attendanceService.getPersonalListByCursor(employeeId, first.getNextCursor(), size, null, null, false, null);
+
+            // Then
+            assertThat(first.getContent()).extracting(PersonalDTO::getAttendanceId).containsExactly(30, 20);
+            assertThat(first.isFirst()).isTrue();
+            assertThat(first.isLast()).isFalse();
+            assertThat(first.getTotalElements()).isEqualTo(-1L);
+
+            assertThat(second.getContent()).extracting(PersonalDTO::getAttendanceId).containsExactly(10);
+            assertThat(second.isFirst()).isFalse();
+            assertThat(second.isLast()).isTrue();
+            assertThat(second.getNextCursor()).isNull();
+
+            verify(attendanceMapper, never()).selectPersonalCount(any(), any(), any());
+            verify(attendanceMapper, never()).selectPersonalPage(any(), any(), any(), any(), any());
+        }
+
+        @Test
+        @DisplayName("초과 근무 목록: 전달받은 전체 개수가 있으면 count 조회를 생략한다")
+        void getOvertimeListByCursor_KnownTotal_SkipsCount() {
+            // Given
+            Integer employeeId = 1;
+
+            when(attendanceMapper.selectOvertimeKeyset(employeeId, null, null, null, null, 11))
+                    .thenReturn(List.of());
+
+            // When
+            PageResponse<OvertimeDTO> result =
+                    attendanceService.getOvertimeListByCursor(employeeId, null, 10, null, null, true, 42L);
+
+            // Then
+            assertThat(result.getTotalElements()).isEqualTo(42L);
+            assertThat(result.getTotalPages()).isEqualTo(5);
+            verify(attendanceMapper, never()).selectOvertimeCount(any(), any(), any());
+        }
+
+        @Test
+        @DisplayName("근태 정정 목록: 전체 개수를 요청하면 count 조회를 함께 수행한다")
+        void getCorrectionListByCursor_WithTotal_Counts() {
+            // Given
+            Integer employeeId = 1;
+
+            when(attendanceMapper.selectCorrectionKeyset(employeeId, null, null, null, null, 6))
+                    .thenReturn(List.of(mock(CorrectionDTO.class)));
+            when(attendanceMapper.selectCorrectionCount(employeeId, null, null)).thenReturn(1);
+
+            // When
+            PageResponse<CorrectionDTO> result =
+                    attendanceService.getCorrectionListByCursor(employeeId, null, 5, null, null, true, null);
+
+            // Then
+            assertThat(result.getTotalElements()).isEqualTo(1L);
+            assertThat(result.isLast()).isTrue();
+        }
+
+        @Test
+        @DisplayName("잘못된 커서가 전달되면 예외가 발생한다")
+        void getChangeLogListByCursor_InvalidCursor_Throws() {
+            // When & Then
+            assertThatThrownBy(() ->
+                    attendanceService.getChangeLogListByCursor(1, "not-a-cursor", 10, null, null, false, null))
+                    .isInstanceOf(BusinessException.class);
+        }
+    }
+
     /* =========================
        부서 근태 현황
        ========================= */
@@ -290,7 +390,7 @@ class AttendanceServiceTest {
     class DashboardTest {
 
         @Test
-        @DisplayName("month가 주어지면 해당 월 start/end로 Repository를 호출한다")
+        @DisplayName("month가 주어지면 재집계 없이 집계 월로 Repository를 호출한다")
         void getAttendanceDashboardList_WithMonth_UsesMonthRange() {
             // Given
             Integer departmentId = 10;
@@ -300,8 +400,7 @@ class AttendanceServiceTest {
             int size = 5;
 
             YearMonth ym = YearMonth.parse(month);
-            LocalDate expectedStart = ym.atDay(1);
-            LocalDate expectedEnd = ym.atEndOfMonth();
+            LocalDate expectedScoreMonth = ym.atDay(1);
 
             Page<AttendanceDashboardDTO> pageResult = new PageImpl<>(
                     List.of(mock(AttendanceDashboardDTO.class)),
@@ -312,7 +411,6 @@ class AttendanceServiceTest {
             when(attendanceDashboardRepository.findAttendanceDashboard(
                     eq(departmentId),
                     any(LocalDate.class),
-                    any(LocalDate.class),
                     anyString(),
                     any(Pageable.class)
             )).thenReturn(pageResult);
@@ -324,21 +422,20 @@ class AttendanceServiceTest {
             // Then
             assertThat(result).isNotNull();
 
-            ArgumentCaptor<LocalDate> startCaptor = ArgumentCaptor.forClass(LocalDate.class);
-            ArgumentCaptor<LocalDate> endCaptor = ArgumentCaptor.forClass(LocalDate.class);
+            verifyNoInteractions(attendanceScoreRollupService);
+
+            ArgumentCaptor<LocalDate> scoreMonthCaptor = ArgumentCaptor.forClass(LocalDate.class);
             ArgumentCaptor<String> sortCaptor = ArgumentCaptor.forClass(String.class);
             ArgumentCaptor<Pageable> pageableCaptor = ArgumentCaptor.forClass(Pageable.class);
 
             verify(attendanceDashboardRepository).findAttendanceDashboard(
                     eq(departmentId),
-                    startCaptor.capture(),
-                    endCaptor.capture(),
+                    scoreMonthCaptor.capture(),
                     sortCaptor.capture(),
                     pageableCaptor.capture()
             );
 
-            assertThat(startCaptor.getValue()).isEqualTo(expectedStart);
-            assertThat(endCaptor.getValue()).isEqualTo(expectedEnd);
+            assertThat(scoreMonthCaptor.getValue()).isEqualTo(expectedScoreMonth);
             assertThat(sortCaptor.getValue()).isEqualTo("ASC");
             assertThat(pageableCaptor.getValue()).isEqualTo(PageRequest.of(page - 1, size));
         }
@@ -354,7 +451,7 @@ class AttendanceServiceTest {
             int size = 10;
 
             when(attendanceDashboardRepository.findAttendanceDashboard(
-                    isNull(), any(LocalDate.class), any(LocalDate.class), anyString(), any(Pageable.class)
+                    isNull(), any(LocalDate.class), anyString(), any(Pageable.class)
             )).thenReturn(new PageImpl<>(List.of(), PageRequest.of(0, size), 0));
 
             // When
@@ -364,46 +461,34 @@ class AttendanceServiceTest {
             ArgumentCaptor<String> sortCaptor = ArgumentCaptor.forClass(String.class);
 
             verify(attendanceDashboardRepository).findAttendanceDashboard(
-                    isNull(), any(LocalDate.class), any(LocalDate.class), sortCaptor.capture(), any(Pageable.class)
+                    isNull(), any(LocalDate.class), sortCaptor.capture(), any(Pageable.class)
             );
 
             assertThat(sortCaptor.getValue()).isEqualTo("DESC");
         }
 
         @Test
-        @DisplayName("요약 조회: total은 month와 무관하게 countTotalEmployees로 조회한다")
-        void getAttendanceDashboardSummary_TotalIndependentOfMonth() {
+        @DisplayName("요약 조회: 재집계 없이 집계 테이블에서 전체/우수/위험 직원 수를 한 번에 조회한다")
+        void getAttendanceDashboardSummary_ReadsFromMonthlyScores() {
             // Given
             Integer departmentId = 10;
             String month = "2024-04";
-
-            when(attendanceDashboardSummaryRepository.countTotalEmployees(departmentId)).thenReturn(100L);
-            when(attendanceDashboardSummaryRepository.countExcellentEmployees(eq(departmentId), any(), any()))
-                    .thenReturn(12L);
-            when(attendanceDashboardSummaryRepository.countRiskyEmployees(eq(departmentId), any(), any()))
-                    .thenReturn(5L);
-
             YearMonth ym = YearMonth.parse(month);
-            LocalDate expectedStart = ym.atDay(1);
-            LocalDate expectedEnd = ym.atEndOfMonth();
+
+            when(attendanceDashboardSummaryRepository.summarizeScores(departmentId, ym.atDay(1)))
+                    .thenReturn(new AttendanceDashboardSummaryDTO(100L, 12L, 5L));
 
             // When
             AttendanceDashboardSummaryDTO result =
                     attendanceService.getAttendanceDashboardSummary(departmentId, month);
 
             // Then
-            assertThat(result).isNotNull();
-
-            verify(attendanceDashboardSummaryRepository).countTotalEmployees(departmentId);
-
-            ArgumentCaptor<LocalDate> startCaptor = ArgumentCaptor.forClass(LocalDate.class);
-            ArgumentCaptor<LocalDate> endCaptor = ArgumentCaptor.forClass(LocalDate.class);
-
-            verify(attendanceDashboardSummaryRepository).countExcellentEmployees(eq(departmentId), startCaptor.capture(), endCaptor.capture());
-            assertThat(startCaptor.getValue()).isEqualTo(expectedStart);
-            assertThat(endCaptor.getValue()).isEqualTo(expectedEnd);
+            assertThat(result.getTotalEmployees()).isEqualTo(100L);
+            assertThat(result.getExcellentEmployees()).isEqualTo(12L);
+            assertThat(result.getRiskyEmployees()).isEqualTo(5L);
 
-            verify(attendanceDashboardSummaryRepository).countRiskyEmployees(eq(departmentId), any(LocalDate.class), any(LocalDate.class));
+            verifyNoInteractions(attendanceScoreRollupService);
+            verify(attendanceDashboardSummaryRepository, never()).countTotalEmployees(any());
         }
     }
 
@@ -0,0 +1,97 @@
+package com.c4.hero.domain.auth.security;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.core.Authentication;
+
+import java.util.Base64;
+import java.util.Date;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * <pre>
+ * Class Name: JwtAuthenticationCacheTest
+ * Description: JWT 1회 파싱 인증 객체 생성 및 인증 객체 캐시 테스트
+ *
+ * History
+ * 2026/10/18 (승건) 최초 작성
+ * </pre>
+ *
+ * @author 이승건
+ * @version 1.0
+ */
+@DisplayName("JWT 인증 객체 캐시 테스트")
+class JwtAuthenticationCacheTest {
+
+    private static final String SECRET = Base64.getEncoder()
+            .encodeToString("hero-test-secret-key-for-hs256-signing!!".getBytes());
+
+    private JwtUtil jwtUtil;
+
+    @BeforeEach
+    void setUp() {
+        jwtUtil = new JwtUtil(SECRET, 60_000L, 600_000L);
+    }
+
+    @Test
+    @DisplayName("검증된 클레임 한 번으로 사용자 정보와 권한이 담긴 인증 객체를 만든다")
+    void getAuthentication_fromVerifiedClaims() {
+        // Given
+        String token = token(new Date(System.currentTimeMillis() + 60_000L));
+
+        // When
+        Claims claims = jwtUtil.parseVerifiedClaims(token);
+        Authentication authentication = jwtUtil.getAuthentication(claims);
+
+        // Then
+        CustomUserDetails principal = (CustomUserDetails) authentication.getPrincipal();
+        assertThat(principal.getEmployeeId()).isEqualTo(7);
+        assertThat(principal.getEmployeeNumber()).isEqualTo("2026007");
+        assertThat(principal.getDepartmentName()).isEqualTo("인사팀");
+        assertThat(authentication.getAuthorities()).extracting("authority")
+                .containsExactly("ROLE_EMPLOYEE", "ROLE_HR_MANAGER");
+        assertThat(jwtUtil.parseVerifiedClaims(token + "x")).isNull();
+    }
+
+    @Test
+    @DisplayName("캐시 항목은 토큰 만료 시각까지만 반환된다")
+    void get_returnsUntilTokenExpiration() {
+        // Given
+        AtomicLong now = new AtomicLong(1_000L);
+        JwtAuthenticationCache cache = new JwtAuthenticationCache(10, now::get);
+        String token = token(new Date(System.currentTimeMillis() + 60_000L));
+        Authentication authentication = jwtUtil.getAuthentication(jwtUtil.parseVerifiedClaims(token));
+
+        // When
+        cache.put(token, authentication, new Date(2_000L));
+
+        // Then
+        assertThat(cache.get(token)).isSameAs(authentication);
+        assertThat(cache.get(token + "x")).isNull();
+        now.set(2_000L);
+        assertThat(cache.get(token)).isNull();
+        assertThat(cache.size()).isZero();
+    }
+
+    private String token(Date expiration) {
+        return Jwts.builder()
+                .setSubject("2026007")
+                .claim("auth", "ROLE_EMPLOYEE,ROLE_HR_MANAGER")
+                .claim("employeeId", 7)
+                .claim("employeeNumber", "2026007")
+                .claim("employeeName", "이승건")
+                .claim("departmentId", 3)
+                .claim("departmentName", "인사팀")
+                .claim("passwordChangeRequired", false)
+                .setIssuedAt(new Date())
+                .setExpiration(expiration)
+                .signWith(jwtUtil.getKey(), SignatureAlgorithm.HS256)
+                .compact();
+    }
+}
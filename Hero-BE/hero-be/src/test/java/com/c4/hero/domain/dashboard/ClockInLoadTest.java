@@ -0,0 +1,122 @@
+package com.c4.hero.domain.dashboard;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * <pre>
+ * Class Name: ClockInLoadTest
+ * Description: 출근 API 동시 요청 부하 측정 (출근 시간대 요청 집중 재현)
+ *
+ * 실행 중인 서버에 직원별 토큰으로 출근 요청을 동시에 보내고 응답 시간 분포(p50/p95/p99)를 출력합니다.
+ * 기본 테스트 실행에서는 제외되며, 대상 서버를 지정한 경우에만 실행됩니다.
+ *
+ * 실행 예시:
+ * ./gradlew test --tests '*ClockInLoadTest' \
+ *     -Dclock.load.base-url=http://localhost:8080 \
+ *     -Dclock.load.tokens-file=/tmp/tokens.txt \
+ *     -Dclock.load.concurrency=1000
+ *
+ * - tokens-file: 직원 1명당 Access Token 1줄 (concurrency 이상 필요)
+ * - 같은 날 재실행 시 모두 "이미 출근"(400) 응답이 되므로 테스트 DB에서 당일 근태 기록 삭제 후 실행
+ *
+ * History
+ * 2026/10/18 (혜원) 최초 작성
+ * </pre>
+ *
+ * @author 혜원
+ * @version 1.0
+ */
+@EnabledIfSystemProperty(named = "clock.load.base-url", matches = ".+")
+@DisplayName("출근 API 부하 테스트")
+class ClockInLoadTest {
+
+    @Test
+    @DisplayName("동시 출근 요청의 응답 시간 분포를 측정한다")
+    void clockIn_concurrentLatency() throws Exception {
+        // Given
+        String baseUrl = System.getProperty("clock.load.base-url");
+        int concurrency = Integer.getInteger("clock.load.concurrency", 1000);
+        List<String> tokens = Files.readAllLines(Path.of(System.getProperty("clock.load.tokens-file"))).stream()
+                .map(String::trim)
+                .filter(line -> !line.isEmpty())
+                .limit(concurrency)
+                .toList();
+        assertThat(tokens).as("tokens-file 토큰 수").hasSize(concurrency);
+
+        HttpClient client = HttpClient.newBuilder()
+                .connectTimeout(Duration.ofSeconds(10))
+                .build();
+        ExecutorService senders = Executors.newFixedThreadPool(concurrency);
+        CountDownLatch start = new CountDownLatch(1);
+
+        // When
+        List<CompletableFuture<long[]>> calls = new ArrayList<>(concurrency);
+        for (String token : tokens) {
+            HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + "/api/dashboard/clock-in"))
+                    .timeout(Duration.ofSeconds(30))
+                    .header("Authorization", "Bearer " + token)
+                    .POST(HttpRequest.BodyPublishers.noBody())
+                    .build();
+
+            calls.add(CompletableFuture.supplyAsync(() -> {
+                try {
+                    start.await();
+                    long begin = System.nanoTime();
+                    HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+                    return new long[]{System.nanoTime() - begin, response.statusCode()};
+                } catch (Exception e) {
+                    return new long[]{-1L, -1L};
+                }
+            }, senders));
+        }
+
+        long wallStart = System.nanoTime();
+        start.countDown();
+        List<long[]> results = calls.stream().map(CompletableFuture::join).toList();
+        long wallMillis = (System.nanoTime() - wallStart) / 1_000_000L;
+        senders.shutdown();
+
+        // Then
+        long[] latencies = results.stream()
+                .filter(r -> r[0] >= 0)
+                .mapToLong(r -> r[0] / 1_000_000L)
+                .sorted()
+                .toArray();
+        long ok = results.stream().filter(r -> r[1] == 200).count();
+        long duplicate = results.stream().filter(r -> r[1] == 400).count();
+        long failed = results.size() - ok - duplicate;
+
+        System.out.printf(
+                "clock-in load: requests=%d, ok=%d, duplicate=%d, failed=%d, wall=%dms, "
+                        + "p50=%dms, p95=%dms, p99=%dms, max=%dms%n",
+                results.size(), ok, duplicate, failed, wallMillis,
+                percentile(latencies, 50), percentile(latencies, 95), percentile(latencies, 99),
+                latencies.length == 0 ? 0 : latencies[latencies.length - 1]);
+
+        assertThat(failed).as("200/400 이외 응답 또는 전송 실패 수").isZero();
+    }
+
+    private static long percentile(long[] sorted, int p) {
+        if (sorted.length == 0) return 0;
+        int index = (int) Math.ceil(p / 100.0 * sorted.length) - 1;
+        return sorted[Math.max(0, Math.min(index, sorted.length - 1))];
+    }
+}
@@ -0,0 +1,168 @@
+package com.c4.hero.domain.dashboard.service;
+
+import com.c4.hero.common.exception.BusinessException;
+import com.c4.hero.common.exception.ErrorCode;
+import com.c4.hero.domain.attendance.service.AttendanceScoreRollupService;
+import com.c4.hero.domain.dashboard.cache.WorkSystemTemplateCache;
+import com.c4.hero.domain.dashboard.dto.ClockInRequestDTO;
+import com.c4.hero.domain.dashboard.dto.ClockOutRequestDTO;
+import com.c4.hero.domain.dashboard.dto.ClockStatusDTO;
+import com.c4.hero.domain.dashboard.dto.WorkSystemTemplateDTO;
+import com.c4.hero.domain.dashboard.mapper.DashboardMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DuplicateKeyException;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * <pre>
+ * Class Name: DashboardServiceImplTest
+ * Description: 출퇴근 처리 / 근무제 템플릿 캐시 테스트
+ *
+ * History
+ * 2026/10/18 (혜원) 최초 작성
+ * </pre>
+ *
+ * @author 혜원
+ * @version 1.0
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("대시보드 출퇴근 서비스 테스트")
+class DashboardServiceImplTest {
+
+    private static final LocalDate WORK_DATE = LocalDate.of(2026, 10, 19);
+
+    @Mock
+    private DashboardMapper dashboardMapper;
+
+    @Mock
+    private AttendanceScoreRollupService attendanceScoreRollupService;
+
+    private DashboardServiceImpl dashboardService;
+
+    @BeforeEach
+    void setUp() {
+        dashboardService = new DashboardServiceImpl(
+                dashboardMapper,
+                attendanceScoreRollupService,
+                new WorkSystemTemplateCache(10, Duration.ofMinutes(5))
+        );
+    }
+
+    @Test
+    @DisplayName("출근은 상태 조회 없이 INSERT 한 번으로 처리하고 점수 집계를 갱신한다")
+    void clockIn_singleInsert() {
+        // Given
+        ClockInRequestDTO dto = clockIn();
+        when(dashboardMapper.insertClockIn(1, 10, dto)).thenReturn(1);
+
+        // When
+        dashboardService.clockIn(1, 10, dto);
+
+        // Then
+        assertThat(dto.getStartTime().getNano()).isZero();
+        verify(dashboardMapper, never()).selectTodayStatus(any(), any());
+        verify(attendanceScoreRollupService).refresh(1, WORK_DATE);
+    }
+
+    @Test
+    @DisplayName("같은 날 출근 기록이 있어 유니크 키 위반이 발생하면 이미 출근 예외로 변환한다")
+    void clockIn_duplicate() {
+        // Given
+        ClockInRequestDTO dto = clockIn();
+        when(dashboardMapper.insertClockIn(1, 10, dto))
+                .thenThrow(new DuplicateKeyException("uk_attendance_employee_work_date"));
+
+        // When & Then
+        assertThatThrownBy(() -> dashboardService.clockIn(1, 10, dto))
+                .isInstanceOf(BusinessException.class)
+                .extracting(e -> ((BusinessException) e).getErrorCode())
+                .isEqualTo(ErrorCode.ALREADY_CLOCKED_IN);
+        verify(attendanceScoreRollupService, never()).refresh(any(), any());
+    }
+
+    @Test
+    @DisplayName("퇴근은 UPDATE 한 번으로 처리하고 템플릿/상태를 조회하지 않는다")
+    void clockOut_singleUpdate() {
+        // Given
+        ClockOutRequestDTO dto = clockOut();
+        when(dashboardMapper.updateClockOut(1, dto)).thenReturn(1);
+
+        // When
+        dashboardService.clockOut(1, dto);
+
+        // Then
+        verify(dashboardMapper, never()).selectTodayStatus(any(), any());
+        verify(dashboardMapper, never()).selectWorkSystemTemplate(any());
+        verify(attendanceScoreRollupService).refresh(1, WORK_DATE);
+    }
+
+    @Test
+    @DisplayName("퇴근 UPDATE가 0건이면 상태를 조회해 이미 퇴근 / 출근 기록 없음을 구분한다")
+    void clockOut_resolvesFailureReason() {
+        // Given
+        ClockOutRequestDTO dto = clockOut();
+        when(dashboardMapper.updateClockOut(1, dto)).thenReturn(0);
+        when(dashboardMapper.updateClockOut(2, dto)).thenReturn(0);
+
+        ClockStatusDTO clockedOut = new ClockStatusDTO();
+        clockedOut.setIsClockedIn(true);
+        clockedOut.setIsClockedOut(true);
+        when(dashboardMapper.selectTodayStatus(1, WORK_DATE)).thenReturn(clockedOut);
+        when(dashboardMapper.selectTodayStatus(2, WORK_DATE)).thenReturn(null);
+
+        // When & Then
+        assertThatThrownBy(() -> dashboardService.clockOut(1, dto))
+                .extracting(e -> ((BusinessException) e).getErrorCode())
+                .isEqualTo(ErrorCode.ALREADY_CLOCKED_OUT);
+        assertThatThrownBy(() -> dashboardService.clockOut(2, dto))
+                .extracting(e -> ((BusinessException) e).getErrorCode())
+                .isEqualTo(ErrorCode.NOT_CLOCKED_IN);
+    }
+
+    @Test
+    @DisplayName("근무제 템플릿은 한 번 조회한 뒤 캐시에서 반환한다")
+    void getWorkSystemTemplate_cached() {
+        // Given
+        WorkSystemTemplateDTO template = new WorkSystemTemplateDTO();
+        template.setWorkSystemTemplateId(1);
+        when(dashboardMapper.selectWorkSystemTemplate(1)).thenReturn(template);
+
+        // When
+        dashboardService.getWorkSystemTemplate(1);
+        WorkSystemTemplateDTO result = dashboardService.getWorkSystemTemplate(1);
+
+        // Then
+        assertThat(result).isSameAs(template);
+        verify(dashboardMapper, times(1)).selectWorkSystemTemplate(1);
+    }
+
+    private ClockInRequestDTO clockIn() {
+        ClockInRequestDTO dto = new ClockInRequestDTO();
+        dto.setWorkDate(WORK_DATE);
+        dto.setStartTime(LocalTime.of(8, 55, 12, 345_000_000));
+        return dto;
+    }
+
+    private ClockOutRequestDTO clockOut() {
+        ClockOutRequestDTO dto = new ClockOutRequestDTO();
+        dto.setWorkDate(WORK_DATE);
+        dto.setEndTime(LocalTime.of(18, 3, 1, 500_000_000));
+        return dto;
+    }
+}
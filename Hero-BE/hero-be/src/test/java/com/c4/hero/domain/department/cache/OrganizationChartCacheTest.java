@@ -0,0 +1,183 @@
+package com.c4.hero.domain.department.cache;
+
+import com.c4.hero.common.s3.S3Service;
+import com.c4.hero.common.util.EncryptionUtil;
+import com.c4.hero.domain.department.event.OrganizationEmployeesChangedEvent;
+import com.c4.hero.domain.department.graph.OrganizationGraph;
+import com.c4.hero.domain.department.graph.OrganizationGraphService;
+import com.c4.hero.domain.employee.entity.Employee;
+import com.c4.hero.domain.employee.entity.EmployeeDepartment;
+import com.c4.hero.domain.employee.entity.JobTitle;
+import com.c4.hero.domain.employee.repository.EmployeeRepository;
+import com.c4.hero.domain.employee.type.EmployeeStatus;
+import com.c4.hero.domain.notification.relay.NotificationRelayTransport;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.ObjectMapper;
+
+import java.io.ByteArrayInputStream;
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+/**
+ * <pre>
+ * Class Name: OrganizationChartCacheTest
+ * Description: 조직도 응답 캐시 테스트 (직원 단위 부분 갱신 / ETag / gzip)
+ *
+ * History
+ * 2026/10/18 (승건) 최초 작성
+ * </pre>
+ *
+ * @author 승건
+ * @version 1.0
+ */
+@DisplayName("조직도 응답 캐시 테스트")
+class OrganizationChartCacheTest {
+
+    private final EmployeeRepository employeeRepository = mock(EmployeeRepository.class);
+    private final OrganizationGraphService organizationGraphService = mock(OrganizationGraphService.class);
+    private final S3Service s3Service = mock(S3Service.class);
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private OrganizationChartCache cache;
+
+    /**
+     * 1 경영지원본부 (부서장 200)
+     *  └ 2 인사팀
+     */
+    @BeforeEach
+    void setUp() {
+        @SuppressWarnings("unchecked")
+        ObjectProvider<NotificationRelayTransport> transportProvider = mock(ObjectProvider.class);
+
+        given(organizationGraphService.current()).willReturn(OrganizationGraph.of(1L, List.of(
+                new OrganizationGraph.Department(1, "경영지원본부", null, 1, null, 200),
+                new OrganizationGraph.Department(2, "인사팀", null, 2, 1, null))));
+        given(s3Service.generatePresignedUrl(any())).willReturn("http://image.url");
+
+        cache = new OrganizationChartCache(employeeRepository, organizationGraphService,
+                mock(EncryptionUtil.class), s3Service, objectMapper, transportProvider, Duration.ofHours(12));
+    }
+
+    @Test
+    @DisplayName("최초 조회 시 전체 직원으로 트리를 만들고, 부서장을 먼저 정렬하며, 이후 조회는 직원을 다시 조회하지 않는다")
+    void buildOnceAndReuse() {
+        // Given
+        List<Employee> employees = List.of(
+                employee(100, "김직원", 1, 5, EmployeeStatus.ACTIVE),
+                employee(200, "박부서장", 1, 1, EmployeeStatus.ACTIVE),
+                employee(300, "이인사", 2, null, EmployeeStatus.ACTIVE));
+        given(employeeRepository.findAllByStatusNot(EmployeeStatus.RETIRED)).willReturn(employees);
+
+        // When
+        OrganizationChartPayload first = cache.get();
+        OrganizationChartPayload second = cache.get();
+
+        // Then
+        JsonNode root = objectMapper.readTree(first.json()).get("data").get(0);
+        assertThat(root.get("departmentName").asText()).isEqualTo("경영지원본부");
+        assertThat(root.get("employees").get(0).get("employeeId").asInt()).isEqualTo(200);
+        assertThat(root.get("employees").get(1).get("employeeId").asInt()).isEqualTo(100);
+        assertThat(root.get("children").get(0).get("employees").get(0).get("employeeName").asText())
+                .isEqualTo("이인사");
+
+        assertThat(second).isSameAs(first);
+        verify(employeeRepository, times(1)).findAllByStatusNot(EmployeeStatus.RETIRED);
+    }
+
+    @Test
+    @DisplayName("변경 표시된 직원만 다시 조회해 이동은 반영하고 퇴직자는 제거한다")
+    void patchDirtyEmployees() {
+        // Given
+        List<Employee> employees = List.of(
+                employee(100, "김직원", 1, null, EmployeeStatus.ACTIVE),
+                employee(300, "이인사", 2, null, EmployeeStatus.ACTIVE));
+        given(employeeRepository.findAllByStatusNot(EmployeeStatus.RETIRED)).willReturn(employees);
+        OrganizationChartPayload before = cache.get();
+
+        List<Employee> changed = List.of(
+                employee(100, "김직원", 2, null, EmployeeStatus.ACTIVE),
+                employee(300, "이인사", 2, null, EmployeeStatus.RETIRED));
+        given(employeeRepository.findAllById(any())).willReturn(changed);
+
+        // When
+        cache.markDirty(OrganizationEmployeesChangedEvent.of(List.of(100, 300)));
+        OrganizationChartPayload after = cache.get();
+
+        // Then
+        assertThat(after.etag()).isNotEqualTo(before.etag());
+        verify(employeeRepository).findAllById(Set.of(100, 300));
+        verify(employeeRepository, times(1)).findAllByStatusNot(EmployeeStatus.RETIRED);
+
+        JsonNode root = objectMapper.readTree(after.json()).get("data").get(0);
+        JsonNode hr = root.get("children").get(0).get("employees");
+        assertThat(root.get("employees").size()).isZero();
+        assertThat(hr.size()).isEqualTo(1);
+        assertThat(hr.get(0).get("employeeId").asInt()).isEqualTo(100);
+    }
+
+    @Test
+    @DisplayName("전체 변경 표시 시 직원 전체를 다시 적재한다")
+    void reloadAll() {
+        // Given
+        List<Employee> employees = List.of(employee(100, "김직원", 1, null, EmployeeStatus.ACTIVE));
+        given(employeeRepository.findAllByStatusNot(EmployeeStatus.RETIRED)).willReturn(employees);
+        cache.get();
+
+        // When
+        cache.markDirty(OrganizationEmployeesChangedEvent.reloadAll());
+        cache.get();
+
+        // Then
+        verify(employeeRepository, times(2)).findAllByStatusNot(EmployeeStatus.RETIRED);
+        verify(employeeRepository, never()).findAllById(any());
+    }
+
+    @Test
+    @DisplayName("응답 본문의 ETag 는 If-None-Match 의 여러 값 / 약한 비교 / * 와 일치하고, gzip 본문은 원문으로 복원된다")
+    void payload() throws Exception {
+        // Given
+        OrganizationChartPayload payload = OrganizationChartPayload.of("{\"success\":true}".getBytes());
+        String opaque = payload.etag().substring(2);
+
+        // When & Then
+        assertThat(payload.etag()).startsWith("W/\"");
+        assertThat(payload.matches(payload.etag())).isTrue();
+        assertThat(payload.matches("\"other\", " + opaque)).isTrue();
+        assertThat(payload.matches("*")).isTrue();
+        assertThat(payload.matches("\"other\"")).isFalse();
+        assertThat(payload.matches(null)).isFalse();
+
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(payload.gzip()))) {
+            assertThat(in.readAllBytes()).isEqualTo(payload.json());
+        }
+    }
+
+    private Employee employee(int id, String name, int departmentId, Integer jobTitleId, EmployeeStatus status) {
+        EmployeeDepartment department = EmployeeDepartment.builder().departmentId(departmentId).build();
+        Employee employee = mock(Employee.class);
+        given(employee.getEmployeeId()).willReturn(id);
+        given(employee.getEmployeeName()).willReturn(name);
+        given(employee.getEmployeeDepartment()).willReturn(department);
+        given(employee.getStatus()).willReturn(status);
+        if (jobTitleId != null) {
+            JobTitle jobTitle = mock(JobTitle.class);
+            given(jobTitle.getJobTitleId()).willReturn(jobTitleId);
+            given(employee.getJobTitle()).willReturn(jobTitle);
+        }
+        return employee;
+    }
+}
@@ -0,0 +1,93 @@
+package com.c4.hero.domain.department.graph;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * <pre>
+ * Class Name: OrganizationGraphTest
+ * Description: 조직 그래프(부서 계층 스냅샷) 조회 테스트
+ *
+ * History
+ * 2026/10/18 (승건) 최초 작성
+ * </pre>
+ *
+ * @author 승건
+ * @version 1.0
+ */
+@DisplayName("조직 그래프 테스트")
+class OrganizationGraphTest {
+
+    /**
+     * 1 경영지원본부 (부서장 100)
+     *  ├ 3 인사팀
+     *  │  └ 5 채용파트 (부서장 500)
+     *  └ 4 재무팀
+     * 2 개발본부
+     */
+    private final OrganizationGraph graph = OrganizationGraph.of(7L, List.of(
+            department(5, "채용파트", 3, 3, 500),
+            department(4, "재무팀", 2, 1, null),
+            department(3, "인사팀", 2, 1, null),
+            department(2, "개발본부", 1, null, null),
+            department(1, "경영지원본부", 1, null, 100)
+    ));
+
+    @Test
+    @DisplayName("하위 부서 목록은 자기 자신을 포함해 전위 순회 순서로 반환하고, 포함 여부는 구간으로 판정한다")
+    void subtree() {
+        // When & Then
+        assertThat(graph.version()).isEqualTo(7L);
+        assertThat(graph.rootIds()).containsExactly(1, 2);
+        assertThat(graph.departmentIds()).containsExactly(1, 3, 5, 4, 2);
+        assertThat(graph.childIdsOf(1)).containsExactly(3, 4);
+        assertThat(graph.subtreeIds(1)).containsExactly(1, 3, 5, 4);
+        assertThat(graph.subtreeIds(3)).containsExactly(3, 5);
+        assertThat(graph.subtreeIds(2)).containsExactly(2);
+
+        assertThat(graph.isInSubtree(1, 5)).isTrue();
+        assertThat(graph.isInSubtree(3, 3)).isTrue();
+        assertThat(graph.isInSubtree(3, 4)).isFalse();
+        assertThat(graph.isInSubtree(2, 5)).isFalse();
+    }
+
+    @Test
+    @DisplayName("상위 부서와 가장 가까운 부서장을 조회한다")
+    void ancestorsAndManagers() {
+        // When & Then
+        assertThat(graph.ancestorIds(5)).containsExactly(3, 1);
+        assertThat(graph.parentIdOf(1)).isNull();
+        assertThat(graph.managerIdOf(3)).isNull();
+        assertThat(graph.nearestManagerIdOf(3)).isEqualTo(100);
+        assertThat(graph.nearestManagerIdOf(5)).isEqualTo(500);
+        assertThat(graph.nearestManagerIdOf(2)).isNull();
+    }
+
+    @Test
+    @DisplayName("없는 부서는 자기 자신만 하위 부서로 반환하고, 순환 참조 부서도 무한 탐색 없이 최상위로 분리한다")
+    void unknownAndCycle() {
+        // Given
+        OrganizationGraph cyclic = OrganizationGraph.of(1L, List.of(
+                department(1, "A", 1, 2, null),
+                department(2, "B", 2, 1, null),
+                department(3, "C", 1, 9, null)
+        ));
+
+        // When & Then
+        assertThat(graph.subtreeIds(99)).containsExactly(99);
+        assertThat(graph.subtreeIds(null)).isEmpty();
+
+        assertThat(cyclic.rootIds()).containsExactly(3, 1);
+        assertThat(cyclic.subtreeIds(1)).containsExactly(1, 2);
+        assertThat(cyclic.ancestorIds(2)).containsExactly(1);
+        assertThat(cyclic.parentIdOf(3)).isNull();
+    }
+
+    private OrganizationGraph.Department department(int id, String name, Integer depth, Integer parentId, Integer managerId) {
+        return new OrganizationGraph.Department(id, name, null, depth, parentId, managerId);
+    }
+}
@@ -4,6 +4,7 @@ import com.c4.hero.common.exception.BusinessException;
 import com.c4.hero.common.exception.ErrorCode;
 import com.c4.hero.common.s3.S3Service;
 import com.c4.hero.common.util.EncryptionUtil;
+import com.c4.hero.domain.department.event.OrganizationChangedEvent;
 import com.c4.hero.domain.employee.dto.request.SignupRequestDTO;
 import com.c4.hero.domain.employee.entity.*;
 import com.c4.hero.domain.employee.repository.*;
@@ -14,6 +15,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.mail.javamail.JavaMailSender;
 import org.springframework.mail.javamail.MimeMessageHelper;
 import org.springframework.security.crypto.password.PasswordEncoder;
@@ -59,6 +61,8 @@ class EmployeeCommandServiceImplTest {
     private S3Service s3Service;
     @Mock
     private EncryptionUtil encryptionUtil;
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
 
     @Test
     @DisplayName("회원가입 성공 테스트")
@@ -134,6 +138,7 @@ class EmployeeCommandServiceImplTest {
         // then
         verify(employee, times(1)).changeDepartment(newDept);
         verify(employeeDepartmentHistoryRepository, times(1)).save(any());
+        verify(eventPublisher, times(1)).publishEvent(any(OrganizationChangedEvent.class));
     }
 
     @Test
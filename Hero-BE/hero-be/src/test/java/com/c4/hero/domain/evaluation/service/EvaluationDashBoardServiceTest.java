@@ -0,0 +1,178 @@
+package com.c4.hero.domain.evaluation.service;
+
+import com.c4.hero.common.exception.BusinessException;
+import com.c4.hero.common.response.PageResponse;
+import com.c4.hero.domain.evaluation.dto.dashboard.DashBoardCriteriaResponseDTO;
+import com.c4.hero.domain.evaluation.dto.dashboard.DashBoardEvaluateeResponseDTO;
+import com.c4.hero.domain.evaluation.dto.dashboard.DashBoardEvaluationResponseDTO;
+import com.c4.hero.domain.evaluation.dto.dashboard.DashBoardEvaluationSummaryResponseDTO;
+import com.c4.hero.domain.evaluation.dto.dashboard.DashBoardFormItemResponseDTO;
+import com.c4.hero.domain.evaluation.dto.dashboard.DashBoardItemResponseDTO;
+import com.c4.hero.domain.evaluation.dto.dashboard.DashBoardResponseDTO;
+import com.c4.hero.domain.evaluation.dto.dashboard.DashBoardSummaryResponseDTO;
+import com.c4.hero.domain.evaluation.mapper.DashBoardMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * <pre>
+ * Class Name: EvaluationDashBoardServiceTest
+ * Description: 평가 대시보드 분할 조회/조립 테스트
+ *
+ * History
+ * 2026/10/18 (김승민) 최초 작성
+ * </pre>
+ *
+ * @author 김승민
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("평가 대시보드 조회 서비스 테스트")
+class EvaluationDashBoardServiceTest {
+
+    @Mock
+    private DashBoardMapper dashBoardMapper;
+
+    @InjectMocks
+    private EvaluationDashBoardService dashBoardService;
+
+    @Test
+    @DisplayName("키 단위로 나누어 조회한 데이터를 템플릿 → 평가 → 항목/피평가자 구조로 조립한다")
+    void getDashBoardPage_assemblesNestedStructure() {
+        // Given
+        when(dashBoardMapper.countDashBoardTemplates(3)).thenReturn(1L);
+        when(dashBoardMapper.selectDashBoardTemplateIds(3, 0, 5)).thenReturn(List.of(1));
+        when(dashBoardMapper.selectDashBoardTemplates(List.of(1))).thenReturn(List.of(template(1)));
+        when(dashBoardMapper.selectDashBoardEvaluations(List.of(1), 3)).thenReturn(List.of(evaluation(10, 1)));
+        when(dashBoardMapper.selectDashBoardItems(List.of(10))).thenReturn(List.of(item(100, 10, 1000)));
+        when(dashBoardMapper.selectDashBoardCriterias(List.of(1000)))
+                .thenReturn(List.of(criteria(1, 1000), criteria(2, 1000)));
+        when(dashBoardMapper.selectDashBoardEvaluatees(List.of(10)))
+                .thenReturn(List.of(evaluatee(500, 10), evaluatee(501, 10)));
+        when(dashBoardMapper.selectDashBoardFormItems(List.of(500, 501)))
+                .thenReturn(List.of(formItem(9000, 500), formItem(9001, 501), formItem(9002, 501)));
+
+        // When
+        PageResponse<DashBoardResponseDTO> result = dashBoardService.getDashBoardPage(3, 0, 5);
+
+        // Then
+        assertThat(result.getTotalElements()).isEqualTo(1L);
+        assertThat(result.getContent()).hasSize(1);
+
+        DashBoardEvaluationResponseDTO evaluation = result.getContent().get(0).getEvaluations().get(0);
+        assertThat(evaluation.getEvaluationItems()).hasSize(1);
+        assertThat(evaluation.getEvaluationItems().get(0).getCriterias())
+                .extracting(DashBoardCriteriaResponseDTO::getCriteriaId)
+                .containsExactly(1, 2);
+        assertThat(evaluation.getEvaluatees())
+                .extracting(e -> e.getFormItems().size())
+                .containsExactly(1, 2);
+    }
+
+    @Test
+    @DisplayName("피평가자 이력 조회는 평가 항목/평가 기준을 조회하지 않고, 평가가 없는 템플릿은 제외한다")
+    void getEvaluateeHistory_skipsItemsAndEmptyTemplates() {
+        // Given
+        when(dashBoardMapper.selectDashBoardTemplateIds(null, null, null)).thenReturn(List.of(2, 1));
+        when(dashBoardMapper.selectDashBoardTemplates(List.of(2, 1))).thenReturn(List.of(template(2), template(1)));
+        when(dashBoardMapper.selectDashBoardEvaluations(List.of(2, 1), null)).thenReturn(List.of(evaluation(10, 1)));
+        when(dashBoardMapper.selectDashBoardEvaluatees(List.of(10))).thenReturn(List.of());
+
+        // When
+        List<DashBoardResponseDTO> result = dashBoardService.getEvaluateeHistory();
+
+        // Then
+        assertThat(result).extracting(DashBoardResponseDTO::getEvaluationTemplateId).containsExactly(1);
+        assertThat(result.get(0).getEvaluations().get(0).getEvaluationItems()).isEmpty();
+        verify(dashBoardMapper, never()).selectDashBoardItems(anyCollection());
+        verify(dashBoardMapper, never()).selectDashBoardFormItems(anyCollection());
+    }
+
+    @Test
+    @DisplayName("평가 요약 조회는 요약을 보정하지 않고 평가서/항목 점수 없이 템플릿별로 묶는다")
+    void getDashBoardSummaries_groupsPrecomputedSummaries() {
+        // Given
+        DashBoardEvaluationSummaryResponseDTO summary = new DashBoardEvaluationSummaryResponseDTO();
+        summary.setEvaluationId(10);
+        summary.setEvaluationTemplateId(1);
+        summary.setEvaluateeCount(5);
+
+        when(dashBoardMapper.countDashBoardTemplates(null)).thenReturn(1L);
+        when(dashBoardMapper.selectDashBoardTemplateIds(null, 0, 10)).thenReturn(List.of(1));
+        when(dashBoardMapper.selectDashBoardSummaries(List.of(1), null)).thenReturn(List.of(summary));
+        when(dashBoardMapper.selectDashBoardTemplates(List.of(1))).thenReturn(List.of(template(1)));
+
+        // When
+        PageResponse<DashBoardSummaryResponseDTO> result = dashBoardService.getDashBoardSummaries(null, 0, 10);
+
+        // Then
+        verify(dashBoardMapper, never()).insertMissingEvaluationSummaries();
+        assertThat(result.getContent().get(0).getEvaluations())
+                .extracting(DashBoardEvaluationSummaryResponseDTO::getEvaluateeCount)
+                .containsExactly(5);
+        verify(dashBoardMapper, never()).selectDashBoardEvaluatees(any());
+    }
+
+    @Test
+    @DisplayName("페이지 크기가 허용 범위를 벗어나면 예외가 발생한다")
+    void getDashBoardPage_invalidSize() {
+        // When & Then
+        assertThatThrownBy(() -> dashBoardService.getDashBoardPage(null, 0, 500))
+                .isInstanceOf(BusinessException.class);
+    }
+
+    private DashBoardResponseDTO template(int templateId) {
+        DashBoardResponseDTO template = new DashBoardResponseDTO();
+        template.setEvaluationTemplateId(templateId);
+        return template;
+    }
+
+    private DashBoardEvaluationResponseDTO evaluation(int evaluationId, int templateId) {
+        DashBoardEvaluationResponseDTO evaluation = new DashBoardEvaluationResponseDTO();
+        evaluation.setEvaluationId(evaluationId);
+        evaluation.setEvaluationTemplateId(templateId);
+        return evaluation;
+    }
+
+    private DashBoardItemResponseDTO item(int selectedItemId, int evaluationId, int templateItemId) {
+        DashBoardItemResponseDTO item = new DashBoardItemResponseDTO();
+        item.setEvaluationItemId(selectedItemId);
+        item.setEvaluationId(evaluationId);
+        item.setTemplateItemId(templateItemId);
+        return item;
+    }
+
+    private DashBoardCriteriaResponseDTO criteria(int criteriaId, int itemId) {
+        DashBoardCriteriaResponseDTO criteria = new DashBoardCriteriaResponseDTO();
+        criteria.setCriteriaId(criteriaId);
+        criteria.setItemId(itemId);
+        return criteria;
+    }
+
+    private DashBoardEvaluateeResponseDTO evaluatee(int formId, int evaluationId) {
+        DashBoardEvaluateeResponseDTO evaluatee = new DashBoardEvaluateeResponseDTO();
+        evaluatee.setEvaluationFormId(formId);
+        evaluatee.setEvaluationId(evaluationId);
+        return evaluatee;
+    }
+
+    private DashBoardFormItemResponseDTO formItem(int formItemId, int formId) {
+        DashBoardFormItemResponseDTO formItem = new DashBoardFormItemResponseDTO();
+        formItem.setFormItemId(formItemId);
+        formItem.setFormId(formId);
+        return formItem;
+    }
+}
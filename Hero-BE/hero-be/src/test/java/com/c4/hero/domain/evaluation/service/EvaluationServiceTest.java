@@ -110,8 +110,9 @@ class EvaluationServiceTest {
     @Mock
     private EvaluationFormMapper evaluationFormMapper;
 
+    /** Service Mocks */
     @Mock
-    private DashBoardMapper dashBoardMapper;
+    private EvaluationDashBoardService dashBoardService;
 
     /** 테스트하려는 실제 evaluationService (내부 의존성들을 Mock 객체로 주입) */
     @InjectMocks
@@ -578,6 +579,7 @@ class EvaluationServiceTest {
             verify(selectedItemRepository).deleteByEvaluationId(10);
             verify(evaluateeRepository).deleteByEvaluationId(10);
             verify(evaluationRepository).deleteById(10);
+            verify(dashBoardService).deleteSummary(10);
         }
     }
 
@@ -725,6 +727,7 @@ class EvaluationServiceTest {
 
             verify(evaluateeRepository).save(evaluatee);
             assertThat(evaluatee.getStatus()).isEqualTo(2);
+            verify(dashBoardService).refreshSummary(7);
         }
     }
 
@@ -734,10 +737,10 @@ class EvaluationServiceTest {
     class DashboardTests {
 
         @Test
-        @DisplayName("selectAllDashBoard() mapper 결과 반환")
+        @DisplayName("selectAllDashBoard() 전체 부서 대시보드 반환")
         void selectAllDashBoard_success() {
             List<DashBoardResponseDTO> list = List.of(new DashBoardResponseDTO());
-            when(dashBoardMapper.selectAllDashBoard()).thenReturn(list);
+            when(dashBoardService.getDashBoard(null)).thenReturn(list);
 
             List<DashBoardResponseDTO> result = evaluationService.selectAllDashBoard();
 
@@ -745,10 +748,10 @@ class EvaluationServiceTest {
         }
 
         @Test
-        @DisplayName("selectDashBoard(deptId) mapper 결과 반환")
+        @DisplayName("selectDashBoard(deptId) 부서 대시보드 반환")
         void selectDashBoard_success() {
             List<DashBoardResponseDTO> list = List.of(new DashBoardResponseDTO());
-            when(dashBoardMapper.selectDashBoard(2)).thenReturn(list);
+            when(dashBoardService.getDashBoard(2)).thenReturn(list);
 
             List<DashBoardResponseDTO> result = evaluationService.selectDashBoard(2);
 
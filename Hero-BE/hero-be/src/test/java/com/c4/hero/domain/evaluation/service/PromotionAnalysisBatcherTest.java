@@ -0,0 +1,87 @@
+package com.c4.hero.domain.evaluation.service;
+
+import com.c4.hero.domain.evaluation.dto.dashboard.DashBoardEvaluateeResponseDTO;
+import com.c4.hero.domain.evaluation.dto.dashboard.DashBoardEvaluationResponseDTO;
+import com.c4.hero.domain.evaluation.dto.dashboard.DashBoardResponseDTO;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * <pre>
+ * Class Name: PromotionAnalysisBatcherTest
+ * Description: 승진 추천 분석 후보자 배치 분할 테스트
+ *
+ * History
+ * 2026/10/18 (김승민) 최초 작성
+ * </pre>
+ *
+ * @author 김승민
+ */
+@DisplayName("승진 추천 분석 배치 분할 테스트")
+class PromotionAnalysisBatcherTest {
+
+    @Test
+    @DisplayName("배치는 최대 3명이고 같은 이름은 다른 배치로 나누며, 평가 이력이 없는 후보자는 제외한다")
+    void split_limitsSizeAndSeparatesSameNames() {
+        // Given
+        List<DashBoardResponseDTO> dashboard = List.of(
+                template(1, evaluatee(1, "김하나"), evaluatee(2, "이둘"), evaluatee(3, "김하나"), evaluatee(9, "제외")),
+                template(2, evaluatee(1, "김하나"), evaluatee(4, "박넷"), evaluatee(5, "최다섯"))
+        );
+
+        // When
+        List<PromotionAnalysisBatcher.Batch> batches =
+                PromotionAnalysisBatcher.split(dashboard, List.of(1, 2, 3, 4, 5, 6), 10);
+
+        // Then
+        assertThat(batches).extracting(b -> b.employeeIdByName().values().stream().toList())
+                .containsExactly(List.of(1, 2), List.of(3, 4, 5));
+    }
+
+    @Test
+    @DisplayName("배치 요청 본문에는 해당 배치 후보자의 평가 이력만 담는다")
+    void split_payloadContainsOnlyBatchCandidates() {
+        // Given
+        List<DashBoardResponseDTO> dashboard = List.of(
+                template(1, evaluatee(1, "김하나"), evaluatee(2, "이둘")),
+                template(2, evaluatee(2, "이둘"))
+        );
+
+        // When
+        List<PromotionAnalysisBatcher.Batch> batches = PromotionAnalysisBatcher.split(dashboard, List.of(1, 2), 1);
+
+        // Then
+        assertThat(batches).hasSize(2);
+        List<Object> first = batches.get(0).payload();
+        assertThat(first).hasSize(1);
+        DashBoardResponseDTO template = (DashBoardResponseDTO) first.get(0);
+        assertThat(template.getEvaluationTemplateId()).isEqualTo(1);
+        assertThat(template.getEvaluations().get(0).getEvaluatees())
+                .extracting(DashBoardEvaluateeResponseDTO::getEvaluationEvaluateeId)
+                .containsExactly(1);
+        assertThat(batches.get(1).payload()).hasSize(2);
+    }
+
+    private DashBoardResponseDTO template(int templateId, DashBoardEvaluateeResponseDTO... evaluatees) {
+        DashBoardEvaluationResponseDTO evaluation = new DashBoardEvaluationResponseDTO();
+        evaluation.setEvaluationId(templateId * 10);
+        evaluation.setEvaluatees(List.of(evaluatees));
+
+        DashBoardResponseDTO template = new DashBoardResponseDTO();
+        template.setEvaluationTemplateId(templateId);
+        template.setEvaluations(List.of(evaluation));
+        return template;
+    }
+
+    private DashBoardEvaluateeResponseDTO evaluatee(int employeeId, String name) {
+        DashBoardEvaluateeResponseDTO evaluatee = new DashBoardEvaluateeResponseDTO();
+        evaluatee.setEvaluationEvaluateeId(employeeId);
+        evaluatee.setEvaluationEvaluateeName(name);
+        evaluatee.setEvaluationEvaluateeTotalScore(80f);
+        return evaluatee;
+    }
+}
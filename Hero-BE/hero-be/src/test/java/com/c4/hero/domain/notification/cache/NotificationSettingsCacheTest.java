@@ -0,0 +1,49 @@
+package com.c4.hero.domain.notification.cache;
+
+import com.c4.hero.domain.notification.dto.NotificationSettingsDTO;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * <pre>
+ * Class Name: NotificationSettingsCacheTest
+ * Description: 알림 설정 캐시 테스트
+ *
+ * History
+ * 2026/10/18 (혜원) 최초 작성
+ * 2026/10/18 (혜원) NearCache 테스트를 NearCacheTest 로 분리
+ * </pre>
+ *
+ * @author 혜원
+ * @version 1.1
+ */
+@DisplayName("알림 설정 캐시 테스트")
+class NotificationSettingsCacheTest {
+
+    @Test
+    @DisplayName("한 번 조회한 설정은 무효화 전까지 DB를 다시 조회하지 않는다")
+    void get_loadsOnceUntilEvicted() {
+        // Given
+        LocalNotificationSettingsCache cache = new LocalNotificationSettingsCache(100, Duration.ofMinutes(10));
+        AtomicInteger loads = new AtomicInteger();
+        Function<Integer, NotificationSettingsDTO> loader = id -> {
+            loads.incrementAndGet();
+            return NotificationSettingsDTO.builder().employeeId(id).attendanceEnabled(true).build();
+        };
+
+        // When
+        cache.get(1, loader);
+        cache.get(1, loader);
+        cache.evict(1);
+        cache.get(1, loader);
+
+        // Then
+        assertThat(loads.get()).isEqualTo(2);
+    }
+}
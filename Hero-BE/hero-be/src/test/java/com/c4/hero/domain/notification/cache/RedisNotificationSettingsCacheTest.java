@@ -0,0 +1,136 @@
+package com.c4.hero.domain.notification.cache;
+
+import com.c4.hero.domain.notification.dto.NotificationSettingsDTO;
+import com.c4.hero.domain.notification.relay.NotificationRelayTransport;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import tools.jackson.databind.ObjectMapper;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+
+/**
+ * <pre>
+ * Class Name: RedisNotificationSettingsCacheTest
+ * Description: 다중 노드 알림 설정 캐시 테스트 (무효화와 동시에 진행된 조회)
+ *
+ * History
+ * 2026/10/18 (혜원) 최초 작성
+ * </pre>
+ *
+ * @author 혜원
+ * @version 1.0
+ */
+@DisplayName("다중 노드 알림 설정 캐시 테스트")
+class RedisNotificationSettingsCacheTest {
+
+    private static final String KEY = "hero:notification:settings:1";
+
+    /** Redis 값 저장소 대역 (만료 시간은 검증 대상이 아니므로 무시) */
+    private final Map<String, String> redis = new ConcurrentHashMap<>();
+
+    private RedisNotificationSettingsCache cache;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        StringRedisTemplate redisTemplate = mock(StringRedisTemplate.class);
+        ValueOperations<String, String> ops = mock(ValueOperations.class);
+        given(redisTemplate.opsForValue()).willReturn(ops);
+        given(ops.get(anyString())).willAnswer(inv -> redis.get(inv.<String>getArgument(0)));
+        given(ops.setIfAbsent(anyString(), anyString(), any(Duration.class)))
+                .willAnswer(inv -> redis.putIfAbsent(inv.getArgument(0), inv.getArgument(1)) == null);
+        doAnswer(inv -> redis.put(inv.getArgument(0), inv.getArgument(1)))
+                .when(ops).set(anyString(), anyString(), any(Duration.class));
+
+        cache = new RedisNotificationSettingsCache(redisTemplate, mock(NotificationRelayTransport.class),
+                new ObjectMapper(), 100, Duration.ofMinutes(1), Duration.ofMinutes(30));
+    }
+
+    @Test
+    @DisplayName("한 번 조회한 설정은 로컬 캐시와 Redis에 저장되어 DB를 다시 조회하지 않는다")
+    void get_cachesLoadedSettings() {
+        // Given
+        AtomicInteger loads = new AtomicInteger();
+        Function<Integer, NotificationSettingsDTO> loader = id -> {
+            loads.incrementAndGet();
+            return settings(id, true);
+        };
+
+        // When
+        cache.get(1, loader);
+        NotificationSettingsDTO second = cache.get(1, loader);
+
+        // Then
+        assertThat(loads.get()).isEqualTo(1);
+        assertThat(second.getAttendanceEnabled()).isTrue();
+        assertThat(redis.get(KEY)).isNotEqualTo(RedisNotificationSettingsCache.TOMBSTONE);
+    }
+
+    @Test
+    @DisplayName("DB 조회 도중 무효화되면 조회한 이전 값은 Redis/로컬 캐시에 저장하지 않는다")
+    void evictDuringLoad_doesNotRepopulateStaleValue() {
+        // Given: DB 조회 직후(저장 전) 설정 변경 커밋 → 무효화
+        NotificationSettingsDTO stale = settings(1, true);
+        Function<Integer, NotificationSettingsDTO> racingLoader = id -> {
+            cache.evict(id);
+            return stale;
+        };
+
+        // When
+        NotificationSettingsDTO first = cache.get(1, racingLoader);
+        AtomicInteger loads = new AtomicInteger();
+        NotificationSettingsDTO second = cache.get(1, id -> {
+            loads.incrementAndGet();
+            return settings(id, false);
+        });
+
+        // Then
+        assertThat(first).isSameAs(stale);
+        assertThat(redis.get(KEY)).isEqualTo(RedisNotificationSettingsCache.TOMBSTONE);
+        assertThat(loads.get()).isEqualTo(1);
+        assertThat(second.getAttendanceEnabled()).isFalse();
+    }
+
+    @Test
+    @DisplayName("다른 노드의 무효화 메시지를 받으면 진행 중이던 조회 결과를 로컬 캐시에 저장하지 않는다")
+    void remoteEvictDuringLoad_skipsNearCache() {
+        // Given
+        redis.put(KEY, RedisNotificationSettingsCache.TOMBSTONE);
+        Function<Integer, NotificationSettingsDTO> racingLoader = id -> {
+            cache.onEvictMessage(String.valueOf(id));
+            return settings(id, true);
+        };
+
+        // When
+        cache.get(1, racingLoader);
+        AtomicInteger loads = new AtomicInteger();
+        cache.get(1, id -> {
+            loads.incrementAndGet();
+            return settings(id, false);
+        });
+
+        // Then
+        assertThat(loads.get()).isEqualTo(1);
+    }
+
+    private NotificationSettingsDTO settings(int employeeId, boolean attendanceEnabled) {
+        return NotificationSettingsDTO.builder()
+                .employeeId(employeeId)
+                .attendanceEnabled(attendanceEnabled)
+                .build();
+    }
+}
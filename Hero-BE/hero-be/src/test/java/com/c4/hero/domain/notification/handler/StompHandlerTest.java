@@ -0,0 +1,105 @@
+package com.c4.hero.domain.notification.handler;
+
+import com.c4.hero.domain.auth.security.JwtUtil;
+import com.c4.hero.domain.notification.relay.ClusterSessionRegistry;
+import com.c4.hero.domain.notification.util.WebSocketSessionManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.MessageBuilder;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+/**
+ * <pre>
+ * Class Name: StompHandlerTest
+ * Description: STOMP 연결/해제 시 세션 및 클러스터 세션 레지스트리 관리 테스트
+ *
+ * History
+ * 2026/10/18 (혜원) 최초 작성
+ * </pre>
+ *
+ * @author 혜원
+ * @version 1.0
+ */
+@DisplayName("STOMP 세션 관리 테스트")
+class StompHandlerTest {
+
+    private static final String TOKEN = "token";
+
+    private final JwtUtil jwtUtil = mock(JwtUtil.class);
+    private final ClusterSessionRegistry registry = mock(ClusterSessionRegistry.class);
+    private final MessageChannel channel = mock(MessageChannel.class);
+    private final WebSocketSessionManager sessionManager = new WebSocketSessionManager();
+
+    private StompHandler stompHandler;
+
+    @BeforeEach
+    void setUp() {
+        given(jwtUtil.validateToken(TOKEN)).willReturn(true);
+        given(jwtUtil.getEmployeeId(TOKEN)).willReturn(7);
+        given(jwtUtil.getEmployeeName(TOKEN)).willReturn("이혜원");
+        stompHandler = new StompHandler(jwtUtil, sessionManager, registry);
+    }
+
+    @Test
+    @DisplayName("새로고침 후 이전 세션 해제가 늦게 도착해도 새 세션과 레지스트리 등록은 유지된다")
+    void lateDisconnectAfterReconnect_keepsNewSession() {
+        // Given
+        stompHandler.preSend(connect("old-session"), channel);
+        stompHandler.preSend(connect("new-session"), channel);
+
+        // When
+        stompHandler.preSend(disconnect("old-session"), channel);
+
+        // Then
+        assertThat(sessionManager.hasSession(7)).isTrue();
+        assertThat(sessionManager.getActiveConnectionCount()).isEqualTo(1);
+        assertThat(sessionManager.getAllSessions()).extracting(WebSocketSessionManager.SessionInfo::getSessionId)
+                .containsExactly("new-session");
+        verify(registry, times(2)).register(7);
+        verify(registry, never()).unregister(7);
+    }
+
+    @Test
+    @DisplayName("마지막 세션이 해제되면 레지스트리에서 제거되고, 같은 세션의 중복 해제는 무시된다")
+    void lastDisconnect_unregisters() {
+        // Given
+        stompHandler.preSend(connect("tab-1"), channel);
+        stompHandler.preSend(connect("tab-2"), channel);
+
+        // When
+        stompHandler.preSend(disconnect("tab-2"), channel);
+        boolean afterFirst = sessionManager.hasSession(7);
+        stompHandler.preSend(disconnect("tab-1"), channel);
+        stompHandler.preSend(disconnect("tab-1"), channel);
+
+        // Then
+        assertThat(afterFirst).isTrue();
+        assertThat(sessionManager.hasSession(7)).isFalse();
+        assertThat(sessionManager.getActiveConnectionCount()).isZero();
+        verify(registry, times(1)).unregister(7);
+    }
+
+    private Message<byte[]> connect(String sessionId) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.create(StompCommand.CONNECT);
+        accessor.setSessionId(sessionId);
+        accessor.setNativeHeader(JwtUtil.AUTHORIZATION_HEADER, JwtUtil.BEARER_PREFIX + TOKEN);
+        return MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders());
+    }
+
+    private Message<byte[]> disconnect(String sessionId) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.create(StompCommand.DISCONNECT);
+        accessor.setSessionId(sessionId);
+        return MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders());
+    }
+}
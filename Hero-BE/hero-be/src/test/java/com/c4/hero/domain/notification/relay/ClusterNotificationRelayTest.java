@@ -0,0 +1,159 @@
+package com.c4.hero.domain.notification.relay;
+
+import com.c4.hero.domain.notification.dto.NotificationDTO;
+import com.c4.hero.domain.notification.dto.NotificationNodeMetricsDTO;
+import com.c4.hero.domain.notification.util.WebSocketSessionManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.ObjectMapper;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+/**
+ * <pre>
+ * Class Name: ClusterNotificationRelayTest
+ * Description: 다중 노드 알림 중계 테스트 (Redis 대신 인메모리 pub/sub / 세션 레지스트리 사용)
+ *
+ * History
+ * 2026/10/18 (혜원) 최초 작성
+ * </pre>
+ *
+ * @author 혜원
+ * @version 1.0
+ */
+@DisplayName("다중 노드 알림 중계 테스트")
+class ClusterNotificationRelayTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final InMemoryTransport transport = new InMemoryTransport();
+    private final InMemoryRegistry registry = new InMemoryRegistry();
+
+    private Node nodeA;
+    private Node nodeB;
+
+    @BeforeEach
+    void setUp() {
+        nodeA = new Node("node-a");
+        nodeB = new Node("node-b");
+    }
+
+    @Test
+    @DisplayName("다른 노드에 연결된 직원의 알림은 해당 노드 채널로만 중계되어 전송된다")
+    void send_relaysToOwningNodeOnly() {
+        // Given
+        registry.connect(7, "node-b");
+        NotificationDTO notification = NotificationDTO.builder()
+                .notificationId(1)
+                .employeeId(7)
+                .title("결재 요청")
+                .build();
+
+        // When
+        nodeA.relay.send(7, notification);
+
+        // Then
+        verify(nodeA.messagingTemplate, never()).convertAndSend(anyString(), any(Object.class));
+        verify(nodeB.messagingTemplate).convertAndSend(eq("/topic/notifications/7"), any(JsonNode.class));
+        assertThat(nodeA.metrics.snapshot().getPublished()).isEqualTo(1L);
+        assertThat(nodeB.metrics.snapshot().getReceived()).isEqualTo(1L);
+        assertThat(nodeB.metrics.snapshot().getDelivered()).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("현재 노드에 연결된 직원은 중계 없이 바로 전송하고, 연결이 없으면 전송을 생략한다")
+    void send_deliversLocallyOrSkipsOffline() {
+        // Given
+        registry.connect(3, "node-a");
+        NotificationDTO notification = NotificationDTO.builder().employeeId(3).build();
+
+        // When
+        nodeA.relay.send(3, notification);
+        nodeA.relay.send(99, notification);
+
+        // Then
+        verify(nodeA.messagingTemplate).convertAndSend("/topic/notifications/3", notification);
+        assertThat(transport.published).isEmpty();
+        NotificationNodeMetricsDTO metrics = nodeA.metrics.snapshot();
+        assertThat(metrics.getDelivered()).isEqualTo(1L);
+        assertThat(metrics.getOffline()).isEqualTo(1L);
+    }
+
+    /**
+     * 테스트용 노드 (노드별 SimpleBroker 전송 템플릿 + 지표 + 중계기)
+     */
+    private class Node {
+        final SimpMessagingTemplate messagingTemplate = mock(SimpMessagingTemplate.class);
+        final NotificationDeliveryMetrics metrics;
+        final ClusterNotificationRelay relay;
+
+        Node(String nodeId) {
+            metrics = new NotificationDeliveryMetrics(new WebSocketSessionManager(), nodeId);
+            relay = new ClusterNotificationRelay(messagingTemplate, registry, transport, metrics, objectMapper);
+        }
+    }
+
+    /**
+     * Redis pub/sub 대체 인메모리 채널 (발행 즉시 동기 전달)
+     */
+    private static class InMemoryTransport implements NotificationRelayTransport {
+        final Map<String, List<Consumer<String>>> subscribers = new ConcurrentHashMap<>();
+        final List<String> published = new ArrayList<>();
+
+        @Override
+        public void publish(String channel, String message) {
+            published.add(channel);
+            subscribers.getOrDefault(channel, List.of()).forEach(handler -> handler.accept(message));
+        }
+
+        @Override
+        public void subscribe(String channel, Consumer<String> handler) {
+            subscribers.computeIfAbsent(channel, key -> new ArrayList<>()).add(handler);
+        }
+    }
+
+    /**
+     * Redis 세션 레지스트리 대체 인메모리 구현
+     */
+    private static class InMemoryRegistry implements ClusterSessionRegistry {
+        final Map<Integer, Set<String>> nodesByEmployee = new ConcurrentHashMap<>();
+
+        void connect(Integer employeeId, String nodeId) {
+            nodesByEmployee.computeIfAbsent(employeeId, key -> new HashSet<>()).add(nodeId);
+        }
+
+        @Override
+        public void register(Integer employeeId) {
+        }
+
+        @Override
+        public void unregister(Integer employeeId) {
+        }
+
+        @Override
+        public Set<String> nodesOf(Integer employeeId) {
+            return nodesByEmployee.getOrDefault(employeeId, Set.of());
+        }
+
+        @Override
+        public List<NotificationNodeMetricsDTO> clusterMetrics() {
+            return List.of();
+        }
+    }
+}
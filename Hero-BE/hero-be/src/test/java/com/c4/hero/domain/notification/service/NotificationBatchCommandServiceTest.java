@@ -0,0 +1,134 @@
+package com.c4.hero.domain.notification.service;
+
+import com.c4.hero.domain.notification.dto.NotificationDTO;
+import com.c4.hero.domain.notification.dto.NotificationRegistDTO;
+import com.c4.hero.domain.notification.dto.NotificationSettingsDTO;
+import com.c4.hero.domain.notification.mapper.NotificationMapper;
+import com.c4.hero.domain.notification.relay.NotificationPushDispatcher;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+/**
+ * <pre>
+ * Class Name: NotificationBatchCommandServiceTest
+ * Description: 알림 일괄 생성 및 전송 테스트
+ *
+ * History
+ * 2026/10/18 (혜원) 최초 작성
+ * 2026/10/18 (혜원) 생성된 알림 ID 설정 / ID 개수 불일치 테스트 추가
+ * </pre>
+ *
+ * @author 혜원
+ * @version 1.1
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("알림 일괄 처리 테스트")
+class NotificationBatchCommandServiceTest {
+
+    @Mock
+    private NotificationMapper notificationMapper;
+
+    @Mock
+    private NotificationMySettingsService settingsService;
+
+    @Mock
+    private NotificationPushDispatcher pushDispatcher;
+
+    private NotificationBatchCommandService service;
+
+    @BeforeEach
+    void setUp() {
+        service = new NotificationBatchCommandService(notificationMapper, settingsService, pushDispatcher, 2);
+    }
+
+    @Test
+    @DisplayName("설정은 한 번에 조회하고, 비활성화된 직원을 제외한 뒤 청크 단위로 저장/전송한다")
+    void registAndSendAll_loadsSettingsOnceAndInsertsPerChunk() {
+        // Given
+        List<NotificationRegistDTO> requests = IntStream.rangeClosed(1, 5)
+                .mapToObj(id -> NotificationRegistDTO.builder()
+                        .employeeId(id)
+                        .type("attendance")
+                        .title("출근 미체크")
+                        .build())
+                .toList();
+        NotificationSettingsDTO disabled = NotificationSettingsDTO.builder()
+                .employeeId(3)
+                .attendanceEnabled(false)
+                .build();
+        given(settingsService.findSettingsByEmployeeIds(anyCollection())).willReturn(Map.of(3, disabled));
+        given(notificationMapper.insertNotifications(anyList())).willReturn(List.of(101, 102), List.of(103, 104));
+
+        // When
+        int saved = service.registAndSendAll(requests);
+
+        // Then
+        assertThat(saved).isEqualTo(4);
+        verify(settingsService, times(1)).findSettingsByEmployeeIds(anyCollection());
+
+        ArgumentCaptor<List<NotificationDTO>> inserted = ArgumentCaptor.captor();
+        verify(notificationMapper, times(2)).insertNotifications(inserted.capture());
+        assertThat(inserted.getAllValues())
+                .flatExtracting(chunk -> chunk.stream().map(NotificationDTO::getEmployeeId).toList())
+                .containsExactly(1, 2, 4, 5);
+        ArgumentCaptor<List<NotificationDTO>> pushed = ArgumentCaptor.captor();
+        verify(pushDispatcher, times(2)).dispatch(pushed.capture());
+        assertThat(pushed.getAllValues())
+                .flatExtracting(chunk -> chunk.stream().map(NotificationDTO::getNotificationId).toList())
+                .containsExactly(101, 102, 103, 104);
+    }
+
+    @Test
+    @DisplayName("생성된 ID 개수가 저장한 알림 수와 다르면 ID 없이 전송하지 않는다")
+    void registAndSendAll_skipsPushWhenIdsMissing() {
+        // Given
+        List<NotificationRegistDTO> requests = List.of(
+                NotificationRegistDTO.builder().employeeId(1).type("evaluation").build(),
+                NotificationRegistDTO.builder().employeeId(2).type("evaluation").build()
+        );
+        given(settingsService.findSettingsByEmployeeIds(anyCollection())).willReturn(Map.of());
+        given(notificationMapper.insertNotifications(anyList())).willReturn(List.of(101));
+
+        // When
+        int saved = service.registAndSendAll(requests);
+
+        // Then
+        assertThat(saved).isEqualTo(2);
+        verify(pushDispatcher, never()).dispatch(anyList());
+    }
+
+    @Test
+    @DisplayName("저장에 실패한 청크는 전송하지 않는다")
+    void registAndSendAll_skipsPushWhenInsertFails() {
+        // Given
+        List<NotificationRegistDTO> requests = List.of(
+                NotificationRegistDTO.builder().employeeId(1).type("evaluation").build()
+        );
+        given(settingsService.findSettingsByEmployeeIds(anyCollection())).willReturn(Map.of());
+        given(notificationMapper.insertNotifications(anyList())).willThrow(new RuntimeException("DB 오류"));
+
+        // When
+        int saved = service.registAndSendAll(requests);
+
+        // Then
+        assertThat(saved).isZero();
+        verify(pushDispatcher, never()).dispatch(anyList());
+    }
+}
@@ -0,0 +1,68 @@
+package com.c4.hero.domain.payroll.batch.dto;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * <pre>
+ * Class Name: PayrollInputSnapshotTest
+ * Description: 급여 계산 입력값 스냅샷 지문 테스트
+ *
+ * History
+ *   2026/10/18 - 동근 테스트 추가
+ *              - 부서/직급 이동 지문 검증 추가
+ * </pre>
+ *
+ * @author 동근
+ * @version 1.0
+ */
+@DisplayName("급여 입력값 스냅샷 지문 테스트")
+class PayrollInputSnapshotTest {
+
+    @Test
+    @DisplayName("입력값이 같으면 지문이 같고, 근태/조정이 바뀌면 지문이 달라진다")
+    void fingerprint_changesOnlyWhenInputsChange() {
+        // Given
+        List<Integer> ids = List.of(1, 2);
+        List<PayrollEmployeeInputRow> inputs = List.of(
+                new PayrollEmployeeInputRow(1, 3_000_000, 20, 9_600, 10, 3),
+                new PayrollEmployeeInputRow(2, 3_000_000, 20, 9_600, 10, 3)
+        );
+
+        // When
+        PayrollInputSnapshot first = PayrollInputSnapshot.of("2026-10", ids, inputs, List.of(), List.of());
+        PayrollInputSnapshot same = PayrollInputSnapshot.of("2026-10", ids, inputs, List.of(), List.of());
+        PayrollInputSnapshot corrected = PayrollInputSnapshot.of("2026-10", ids,
+                List.of(inputs.get(0), new PayrollEmployeeInputRow(2, 3_000_000, 20, 9_660, 10, 3)),
+                List.of(),
+                List.of(new PayrollEmployeeAmountRow(1, 50_000)));
+
+        // Then
+        assertThat(same.fingerprint(1)).isEqualTo(first.fingerprint(1));
+        assertThat(same.fingerprint(2)).isEqualTo(first.fingerprint(2));
+        assertThat(corrected.fingerprint(1)).isNotEqualTo(first.fingerprint(1)); // 조정 추가
+        assertThat(corrected.fingerprint(2)).isNotEqualTo(first.fingerprint(2)); // 근무시간 정정
+    }
+
+    @Test
+    @DisplayName("부서/직급이 바뀌면 급여 정책 대상이 달라질 수 있으므로 지문이 달라진다")
+    void fingerprint_changesOnDepartmentOrGradeMove() {
+        // Given
+        List<Integer> ids = List.of(1);
+
+        // When
+        PayrollInputSnapshot before = PayrollInputSnapshot.of("2026-10", ids,
+                List.of(new PayrollEmployeeInputRow(1, 3_000_000, 20, 9_600, 10, 3)), List.of(), List.of());
+        PayrollInputSnapshot moved = PayrollInputSnapshot.of("2026-10", ids,
+                List.of(new PayrollEmployeeInputRow(1, 3_000_000, 20, 9_600, 11, 3)), List.of(), List.of());
+
+        // Then
+        assertThat(moved.departmentId(1)).isEqualTo(11);
+        assertThat(moved.gradeId(1)).isEqualTo(3);
+        assertThat(moved.fingerprint(1)).isNotEqualTo(before.fingerprint(1));
+    }
+}
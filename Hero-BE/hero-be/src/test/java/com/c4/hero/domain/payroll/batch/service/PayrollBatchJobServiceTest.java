@@ -0,0 +1,96 @@
+package com.c4.hero.domain.payroll.batch.service;
+
+import com.c4.hero.common.exception.BusinessException;
+import com.c4.hero.common.exception.ErrorCode;
+import com.c4.hero.domain.payroll.batch.dto.PayrollBatchJobResponseDTO;
+import com.c4.hero.domain.payroll.batch.entity.PayrollBatchJob;
+import com.c4.hero.domain.payroll.batch.event.PayrollBatchJobSubmittedEvent;
+import com.c4.hero.domain.payroll.batch.repository.BatchRepository;
+import com.c4.hero.domain.payroll.batch.repository.PayrollBatchJobRepository;
+import com.c4.hero.domain.payroll.common.type.PayrollBatchJobStatus;
+import com.c4.hero.domain.payroll.common.type.PayrollBatchJobType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * <pre>
+ * Class Name: PayrollBatchJobServiceTest
+ * Description: 급여 배치 비동기 작업 등록 서비스 테스트
+ *
+ * History
+ *   2026/10/18 - 동근 테스트 추가
+ * </pre>
+ *
+ * @author 동근
+ * @version 1.0
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("급여 배치 비동기 작업 서비스 테스트")
+class PayrollBatchJobServiceTest {
+
+    @Mock
+    private PayrollBatchJobRepository jobRepository;
+
+    @Mock
+    private BatchRepository batchRepository;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @InjectMocks
+    private PayrollBatchJobService jobService;
+
+    @Test
+    @DisplayName("계산 작업을 QUEUED 로 등록하고 등록 이벤트를 발행한다")
+    void submit_queuesJobAndPublishesEvent() {
+        // Given
+        when(batchRepository.existsById(1)).thenReturn(true);
+        when(jobRepository.existsByBatchIdAndStatusIn(eq(1), anyCollection())).thenReturn(false);
+        when(jobRepository.save(any(PayrollBatchJob.class))).thenAnswer(inv -> {
+            PayrollBatchJob job = inv.getArgument(0);
+            ReflectionTestUtils.setField(job, "jobId", 10L);
+            return job;
+        });
+
+        // When
+        PayrollBatchJobResponseDTO result =
+                jobService.submit(PayrollBatchJobType.CALCULATE, 1, List.of(3, 5), 99);
+
+        // Then
+        assertThat(result.jobId()).isEqualTo(10L);
+        assertThat(result.status()).isEqualTo(PayrollBatchJobStatus.QUEUED);
+        verify(eventPublisher).publishEvent(new PayrollBatchJobSubmittedEvent(10L));
+    }
+
+    @Test
+    @DisplayName("배치에 진행 중인 작업이 있으면 새 작업을 등록하지 않는다")
+    void submit_rejectsWhenJobInProgress() {
+        // Given
+        when(batchRepository.existsById(1)).thenReturn(true);
+        when(jobRepository.existsByBatchIdAndStatusIn(eq(1), anyCollection())).thenReturn(true);
+
+        // When & Then
+        assertThatThrownBy(() -> jobService.submit(PayrollBatchJobType.PAY, 1, null, 99))
+                .isInstanceOf(BusinessException.class)
+                .extracting("errorCode")
+                .isEqualTo(ErrorCode.PAYROLL_BATCH_JOB_IN_PROGRESS);
+        verify(jobRepository, never()).save(any());
+    }
+}
@@ -0,0 +1,97 @@
+package com.c4.hero.domain.payroll.batch.service;
+
+import com.c4.hero.common.exception.BusinessException;
+import com.c4.hero.common.exception.ErrorCode;
+import net.javacrumbs.shedlock.core.LockConfiguration;
+import net.javacrumbs.shedlock.core.LockProvider;
+import net.javacrumbs.shedlock.core.SimpleLock;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.time.Duration;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * <pre>
+ * Class Name: PayrollBatchLockTest
+ * Description: 급여 배치 단위 락 획득/연장/해제 테스트
+ *
+ * History
+ *   2026/10/18 - 동근 테스트 추가
+ * </pre>
+ *
+ * @author 동근
+ * @version 1.0
+ */
+@DisplayName("급여 배치 락 테스트")
+class PayrollBatchLockTest {
+
+    private static final Duration LOCK_AT_MOST_FOR = Duration.ofMinutes(10);
+
+    private final LockProvider lockProvider = mock(LockProvider.class);
+    private final PayrollBatchLock batchLock = new PayrollBatchLock(lockProvider, LOCK_AT_MOST_FOR);
+
+    @Test
+    @DisplayName("배치 ID 기준 락 이름으로 획득하고, 연장 후 해제는 연장된 락에 대해 수행한다")
+    void runLocked_extendsAndUnlocks() {
+        // Given
+        SimpleLock first = mock(SimpleLock.class);
+        SimpleLock extended = mock(SimpleLock.class);
+        when(lockProvider.lock(any())).thenReturn(Optional.of(first));
+        when(first.extend(LOCK_AT_MOST_FOR, Duration.ZERO)).thenReturn(Optional.of(extended));
+
+        // When
+        String result = batchLock.runLocked(1, lock -> {
+            lock.extend();
+            return "done";
+        });
+
+        // Then
+        ArgumentCaptor<LockConfiguration> config = ArgumentCaptor.forClass(LockConfiguration.class);
+        verify(lockProvider).lock(config.capture());
+        assertThat(config.getValue().getName()).isEqualTo("payrollBatch-1");
+        assertThat(result).isEqualTo("done");
+        verify(first, never()).unlock();
+        verify(extended).unlock();
+    }
+
+    @Test
+    @DisplayName("다른 작업이 락을 잡고 있으면 실행하지 않고 진행 중 예외를 던진다")
+    void runLocked_whenLocked_throws() {
+        // Given
+        when(lockProvider.lock(any())).thenReturn(Optional.empty());
+        Runnable action = mock(Runnable.class);
+
+        // When & Then
+        assertThatThrownBy(() -> batchLock.runLocked(1, action))
+                .isInstanceOf(BusinessException.class)
+                .extracting("errorCode")
+                .isEqualTo(ErrorCode.PAYROLL_BATCH_JOB_IN_PROGRESS);
+        verify(action, never()).run();
+    }
+
+    @Test
+    @DisplayName("락이 만료되어 연장에 실패하면 예외를 던지고 해제를 시도하지 않는다")
+    void extend_whenExpired_throws() {
+        // Given
+        SimpleLock first = mock(SimpleLock.class);
+        when(lockProvider.lock(any())).thenReturn(Optional.of(first));
+        when(first.extend(LOCK_AT_MOST_FOR, Duration.ZERO)).thenReturn(Optional.empty());
+
+        // When & Then
+        assertThatThrownBy(() -> batchLock.runLocked(1, lock -> {
+            lock.extend();
+            return null;
+        })).isInstanceOf(BusinessException.class);
+        verify(first, never()).unlock();
+    }
+}
@@ -0,0 +1,118 @@
+package com.c4.hero.domain.payroll.batch.service;
+
+import com.c4.hero.domain.payroll.batch.dto.PayrollCalculationProgressDTO;
+import com.c4.hero.domain.payroll.batch.dto.PayrollInputSnapshot;
+import com.c4.hero.domain.payroll.batch.entity.PayrollBatch;
+import com.c4.hero.domain.payroll.common.type.PayrollCalculationOutcome;
+import com.c4.hero.domain.payroll.policy.engine.PayrollPolicyPlan;
+import com.c4.hero.domain.payroll.policy.service.PayrollPolicyPlanService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import javax.sql.DataSource;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * <pre>
+ * Class Name: PayrollCalculationServiceTest
+ * Description: 청크 분할 병렬 급여 계산 서비스 테스트
+ *
+ * History
+ *   2026/10/18 - 동근 테스트 추가
+ *              - 입력값 스냅샷 일괄 적재 검증 추가
+ *              - 청크 저장 실패 시 사원 단위 재처리 검증 추가
+ *              - 급여 정책 평가 계획 배치당 1회 준비 검증 추가
+ * </pre>
+ *
+ * @author 동근
+ * @version 1.0
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("급여 배치 병렬 계산 서비스 테스트")
+class PayrollCalculationServiceTest {
+
+    @Mock
+    private PayrollEmployeeCalculateTxService employeeTxService;
+
+    @Mock
+    private PayrollInputSnapshotService snapshotService;
+
+    @Mock
+    private PayrollPolicyPlanService policyPlanService;
+
+    @Mock
+    private DataSource dataSource;
+
+    private PayrollCalculationExecutor executor;
+    private PayrollCalculationService calculationService;
+
+    @BeforeEach
+    void setUp() {
+        executor = new PayrollCalculationExecutor(dataSource, 3, 0);
+        calculationService = new PayrollCalculationService(employeeTxService, executor, snapshotService, policyPlanService);
+        ReflectionTestUtils.setField(calculationService, "chunkSize", 10);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdown();
+    }
+
+    @Test
+    @DisplayName("전체 사원을 청크로 나눠 모두 계산하고 실패 건수를 집계한다")
+    void calculateEmployees_countsDoneAndFailed() {
+        // Given
+        PayrollBatch batch = PayrollBatch.create("2026-10", 1);
+        List<Integer> employeeIds = IntStream.rangeClosed(1, 35).boxed().toList();
+
+        PayrollInputSnapshot snapshot = PayrollInputSnapshot.of("2026-10", employeeIds, List.of(), List.of(), List.of());
+        when(snapshotService.load("2026-10", employeeIds)).thenReturn(snapshot);
+        PayrollPolicyPlan plan = PayrollPolicyPlan.empty("2026-10");
+        when(policyPlanService.prepare(batch)).thenReturn(plan);
+
+        // 7번 사원은 계산 실패, 21~30 청크는 저장 실패 → 사원 단위 재처리 (22번 사원 커밋 실패)
+        when(employeeTxService.calculateChunk(any(), anyList(), eq(snapshot), eq(plan))).thenAnswer(inv -> {
+            List<Integer> chunk = inv.getArgument(1);
+            if (chunk.contains(25)) throw new IllegalStateException("batch write failed");
+            return chunk.stream()
+                    .map(id -> id == 7 ? PayrollCalculationOutcome.FAILED : PayrollCalculationOutcome.CALCULATED)
+                    .toList();
+        });
+        when(employeeTxService.calculateOne(any(), anyInt(), eq(snapshot), eq(plan))).thenReturn(PayrollCalculationOutcome.CALCULATED);
+        when(employeeTxService.calculateOne(any(), eq(22), eq(snapshot), eq(plan))).thenThrow(new IllegalStateException("commit failed"));
+
+        List<PayrollCalculationProgressDTO> progresses = new CopyOnWriteArrayList<>();
+
+        // When
+        PayrollCalculationProgressDTO result =
+                calculationService.calculateEmployees(batch, employeeIds, progresses::add);
+
+        // Then
+        assertThat(result.total()).isEqualTo(35);
+        assertThat(result.done()).isEqualTo(35);
+        assertThat(result.failed()).isEqualTo(2);
+        assertThat(result.isCompleted()).isTrue();
+        assertThat(progresses).hasSize(4); // 10 + 10 + 10 + 5
+        verify(snapshotService, times(1)).load("2026-10", employeeIds);
+        verify(policyPlanService, times(1)).prepare(batch);
+        verify(employeeTxService, times(4)).calculateChunk(any(), anyList(), eq(snapshot), eq(plan));
+        verify(employeeTxService, times(10)).calculateOne(any(), anyInt(), eq(snapshot), eq(plan));
+    }
+}
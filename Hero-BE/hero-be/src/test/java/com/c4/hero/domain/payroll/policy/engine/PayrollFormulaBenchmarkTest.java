@@ -0,0 +1,98 @@
+package com.c4.hero.domain.payroll.policy.engine;
+
+import com.c4.hero.domain.payroll.common.type.BaseAmountType;
+import com.c4.hero.domain.payroll.common.type.CalcMethod;
+import com.c4.hero.domain.payroll.common.type.ItemType;
+import com.c4.hero.domain.payroll.common.type.RoundingModeType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * <pre>
+ * Class Name: PayrollFormulaBenchmarkTest
+ * Description: 급여 정책 평가(수식 항목) 처리 시간 측정
+ *
+ * 사원 5,000명 × 수식 항목 20개를 평가 계획으로 반복 평가하여 1회 평가 시간 분포(p50/p95/max)를 출력합니다.
+ * 워밍업 반복 후 측정하며, 기본 테스트 실행에서는 제외됩니다.
+ *
+ * 실행 예시:
+ * ./gradlew test --tests '*PayrollFormulaBenchmarkTest' \
+ *     -Dpayroll.formula.bench=true \
+ *     -Dpayroll.formula.employees=5000 \
+ *     -Dpayroll.formula.items=20
+ *
+ * History
+ *   2026/10/18 - 동근 최초 작성
+ * </pre>
+ *
+ * @author 동근
+ * @version 1.0
+ */
+@EnabledIfSystemProperty(named = "payroll.formula.bench", matches = "true")
+@DisplayName("급여 수식 평가 성능 측정")
+class PayrollFormulaBenchmarkTest {
+
+    private static final int WARMUP = 20;
+    private static final int MEASURE = 30;
+
+    @Test
+    @DisplayName("사원 5,000명 × 수식 항목 20개 평가 시간을 측정한다")
+    void evaluate_formulaBatch() {
+        // Given
+        int employees = Integer.getInteger("payroll.formula.employees", 5000);
+        int itemCount = Integer.getInteger("payroll.formula.items", 20);
+
+        List<PayrollPolicyRule> rules = new ArrayList<>(itemCount);
+        for (int i = 0; i < itemCount; i++) {
+            String formula = (i % 2 == 0)
+                    ? "max(baseSalary / 209 * overtimeHours * 0." + (i % 9 + 1) + ", 0) + workDays * " + (1000 + i)
+                    : "min(grossPay * 0.0" + (i % 9 + 1) + ", taxablePay / 10) + floor(workedMinutes / 60) * " + i;
+            rules.add(new PayrollPolicyRule(i + 1, i % 4 == 3 ? ItemType.DEDUCTION : ItemType.ALLOWANCE,
+                    "F" + i, "F" + i, "Y", CalcMethod.FORMULA, null, null, formula,
+                    BaseAmountType.BASE_SALARY, 10, RoundingModeType.HALF_UP, i,
+                    true, List.of(), List.of(), List.of()));
+        }
+        PayrollPolicyPlan plan = new PayrollPolicyPlan(1, "2026-10", rules);
+
+        PayrollPolicyPlan.Subject[] subjects = new PayrollPolicyPlan.Subject[employees];
+        for (int e = 0; e < employees; e++) {
+            int worked = 12_000 + (e % 40) * 60;
+            subjects[e] = new PayrollPolicyPlan.Subject(e + 1, e % 30, e % 8, 2_500_000 + (e % 50) * 20_000,
+                    0, worked, Math.max(0, worked - 209 * 60), 20 + e % 3);
+        }
+
+        // When
+        long checksum = 0;
+        for (int r = 0; r < WARMUP; r++) checksum += run(plan, subjects);
+
+        long[] nanos = new long[MEASURE];
+        for (int r = 0; r < MEASURE; r++) {
+            long start = System.nanoTime();
+            checksum += run(plan, subjects);
+            nanos[r] = System.nanoTime() - start;
+        }
+        Arrays.sort(nanos);
+
+        // Then
+        System.out.printf("payroll formula bench: employees=%d, items=%d, p50=%.2fms, p95=%.2fms, max=%.2fms (checksum=%d)%n",
+                employees, itemCount, nanos[MEASURE / 2] / 1e6, nanos[(int) (MEASURE * 0.95)] / 1e6,
+                nanos[MEASURE - 1] / 1e6, checksum);
+        assertThat(checksum).isNotZero();
+    }
+
+    private long run(PayrollPolicyPlan plan, PayrollPolicyPlan.Subject[] subjects) {
+        long sum = 0;
+        for (PayrollPolicyPlan.Subject s : subjects) {
+            PayrollPolicyPlan.Result result = plan.evaluate(s);
+            sum += result.allowanceTotal() - result.deductionTotal();
+        }
+        return sum;
+    }
+}
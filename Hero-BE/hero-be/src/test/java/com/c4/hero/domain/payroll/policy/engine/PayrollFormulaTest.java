@@ -0,0 +1,116 @@
+package com.c4.hero.domain.payroll.policy.engine;
+
+import com.c4.hero.domain.payroll.common.type.BaseAmountType;
+import com.c4.hero.domain.payroll.common.type.CalcMethod;
+import com.c4.hero.domain.payroll.common.type.ItemType;
+import com.c4.hero.domain.payroll.common.type.RoundingModeType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * <pre>
+ * Class Name: PayrollFormulaTest
+ * Description: 급여 항목 수식(FORMULA) 컴파일/평가 테스트
+ *
+ * History
+ *   2026/10/18 - 동근 테스트 추가
+ *              - BigDecimal 평가 / FLOOR·CEIL 금액 회귀 테스트 추가
+ * </pre>
+ *
+ * @author 동근
+ * @version 1.1
+ */
+@DisplayName("급여 항목 수식 테스트")
+class PayrollFormulaTest {
+
+    @Test
+    @DisplayName("연산자 우선순위/괄호/단항 음수/함수를 적용해 변수 값으로 평가한다")
+    void evaluate_precedenceAndFunctions() {
+        // Given
+        BigDecimal[] v = variables(3_000_000, "12.5", 20);
+
+        // When & Then
+        assertThat(PayrollFormula.compile("1 + 2 * 3").evaluate(v)).isEqualByComparingTo("7");
+        assertThat(PayrollFormula.compile("(1 + 2) * 3").evaluate(v)).isEqualByComparingTo("9");
+        assertThat(PayrollFormula.compile("-2 * -(3 - 5)").evaluate(v)).isEqualByComparingTo("-4");
+        assertThat(PayrollFormula.compile("baseSalary / 209 * overtimeHours * 0.5").evaluate(v))
+                .isEqualByComparingTo(BigDecimal.valueOf(3_000_000).divide(BigDecimal.valueOf(209), MathContext.DECIMAL128)
+                        .multiply(new BigDecimal("12.5")).multiply(new BigDecimal("0.5")));
+        assertThat(PayrollFormula.compile("min(workDays * 10000, 150000) + max(0, -1) + abs(-3)").evaluate(v))
+                .isEqualByComparingTo("150003");
+        assertThat(PayrollFormula.compile("floor(2.7) + ceil(2.1) + round(2.5)").evaluate(v)).isEqualByComparingTo("8");
+    }
+
+    @Test
+    @DisplayName("0으로 나누면 0으로 평가하고, 같은 수식은 캐시된 컴파일 결과를 재사용한다")
+    void evaluate_divisionByZeroAndCache() {
+        // Given
+        BigDecimal[] v = variables(3_000_000, "0", 0);
+
+        // When
+        PayrollFormula formula = PayrollFormula.compile("baseSalary / workDays");
+
+        // Then
+        assertThat(formula.evaluate(v)).isEqualByComparingTo("0");
+        assertThat(PayrollFormula.compile("  baseSalary / workDays ")).isSameAs(formula);
+    }
+
+    @Test
+    @DisplayName("허용되지 않은 변수/함수나 문법 오류는 컴파일 시 예외가 발생한다")
+    void compile_rejectsInvalidFormula() {
+        assertThatThrownBy(() -> PayrollFormula.compile("salary * 2"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("알 수 없는 변수");
+        assertThatThrownBy(() -> PayrollFormula.compile("exec(1)"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("알 수 없는 함수");
+        assertThatThrownBy(() -> PayrollFormula.compile("min(1)"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("인자 2개");
+        assertThatThrownBy(() -> PayrollFormula.compile("(1 + 2"))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> PayrollFormula.compile("1 +"))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> PayrollFormula.compile(" "))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("비어");
+    }
+
+    @Test
+    @DisplayName("소수 비율 수식도 오차 없이 계산되어 FLOOR / CEIL 반올림이 1원 틀어지지 않는다")
+    void evaluate_exactDecimalRounding() {
+        // Given
+        PayrollPolicyRule floor = rule("baseSalary * 0.29", RoundingModeType.FLOOR);
+        PayrollPolicyRule ceil = rule("baseSalary * 0.035", RoundingModeType.CEIL);
+
+        // When
+        // double 로는 100000 * 0.29 = 28999.999999999996, 3000000 * 0.035 = 105000.00000000001
+        int floored = floor.round(PayrollFormula.compile(floor.formula()).evaluate(variables(100_000, "0", 0)));
+        int ceiled = ceil.round(PayrollFormula.compile(ceil.formula()).evaluate(variables(3_000_000, "0", 0)));
+
+        // Then
+        assertThat(floored).isEqualTo(29_000);
+        assertThat(ceiled).isEqualTo(105_000);
+        assertThat(floor.amount(0)).isZero();
+    }
+
+    private PayrollPolicyRule rule(String formula, RoundingModeType roundingMode) {
+        return new PayrollPolicyRule(1, ItemType.ALLOWANCE, "RATE", "RATE", "Y", CalcMethod.FORMULA, null, null, formula,
+                BaseAmountType.BASE_SALARY, 1, roundingMode, 10, true, List.of(), List.of(), List.of());
+    }
+
+    private BigDecimal[] variables(int baseSalary, String overtimeHours, int workDays) {
+        BigDecimal[] v = new BigDecimal[PayrollFormulaVariable.COUNT];
+        v[PayrollFormulaVariable.BASE_SALARY.ordinal()] = BigDecimal.valueOf(baseSalary);
+        v[PayrollFormulaVariable.OVERTIME_HOURS.ordinal()] = new BigDecimal(overtimeHours);
+        v[PayrollFormulaVariable.WORK_DAYS.ordinal()] = BigDecimal.valueOf(workDays);
+        return v;
+    }
+}
@@ -0,0 +1,144 @@
+package com.c4.hero.domain.payroll.policy.engine;
+
+import com.c4.hero.domain.payroll.common.type.BaseAmountType;
+import com.c4.hero.domain.payroll.common.type.CalcMethod;
+import com.c4.hero.domain.payroll.common.type.ItemType;
+import com.c4.hero.domain.payroll.common.type.RoundingModeType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * <pre>
+ * Class Name: PayrollPolicyPlanTest
+ * Description: 급여 정책 평가 계획(대상 인덱스 / 우선순위 / 금액 계산) 테스트
+ *
+ * History
+ *   2026/10/18 - 동근 테스트 추가
+ *              - FORMULA 항목 평가 테스트 추가
+ * </pre>
+ *
+ * @author 동근
+ * @version 1.1
+ */
+@DisplayName("급여 정책 평가 계획 테스트")
+class PayrollPolicyPlanTest {
+
+    @Test
+    @DisplayName("전체/부서/직급/사원 대상 인덱스로 적용 항목을 고르고 우선순위 순으로 평가한다")
+    void evaluate_matchesTargetsInPriorityOrder() {
+        // Given
+        PayrollPolicyPlan plan = new PayrollPolicyPlan(1, "2026-10", List.of(
+                fixed(4, ItemType.ALLOWANCE, "POSITION", 30, false, List.of(), List.of(3), List.of(), 200_000),
+                fixed(1, ItemType.ALLOWANCE, "MEAL", 10, true, List.of(), List.of(), List.of(), 100_000),
+                fixed(2, ItemType.ALLOWANCE, "TEAM", 20, false, List.of(10), List.of(), List.of(), 50_000),
+                fixed(3, ItemType.DEDUCTION, "UNION", 40, false, List.of(), List.of(), List.of(7), 10_000)
+        ));
+
+        // When
+        PayrollPolicyPlan.Result dept10 = plan.evaluate(subject(5, 10, 1, 3_000_000, 0));
+        PayrollPolicyPlan.Result grade3Emp7 = plan.evaluate(subject(7, 20, 3, 3_000_000, 0));
+
+        // Then
+        assertThat(dept10.items()).extracting(a -> a.rule().itemCode()).containsExactly("MEAL", "TEAM");
+        assertThat(dept10.allowanceTotal()).isEqualTo(150_000);
+        assertThat(grade3Emp7.items()).extracting(a -> a.rule().itemCode()).containsExactly("MEAL", "POSITION", "UNION");
+        assertThat(grade3Emp7.allowanceTotal()).isEqualTo(300_000);
+        assertThat(grade3Emp7.deductionTotal()).isEqualTo(10_000);
+    }
+
+    @Test
+    @DisplayName("비율 항목은 기준 금액 유형에 따라 앞선 수당을 반영하고 반올림 단위/방식을 적용한다")
+    void evaluate_rateUsesBaseAmountAndRounding() {
+        // Given
+        PayrollPolicyPlan plan = new PayrollPolicyPlan(1, "2026-10", List.of(
+                fixed(1, ItemType.ALLOWANCE, "MEAL", 10, true, List.of(), List.of(), List.of(), 200_000),
+                rate(2, "PENSION", 20, new BigDecimal("4.5"), BaseAmountType.GROSS_PAY, 10, RoundingModeType.FLOOR),
+                rate(3, "HEALTH", 30, new BigDecimal("3.545"), BaseAmountType.BASE_SALARY, 10, RoundingModeType.CEIL)
+        ));
+
+        // When
+        PayrollPolicyPlan.Result result = plan.evaluate(subject(1, 0, 0, 3_000_001, 123_456));
+
+        // Then
+        // (3,000,001 + 123,456 + 200,000) × 4.5% = 149,555.565 → 10원 단위 버림
+        // 3,000,001 × 3.545% = 106,350.03545 → 10원 단위 올림
+        assertThat(result.items()).extracting(PayrollPolicyPlan.Applied::amount)
+                .containsExactly(200_000, 149_550, 106_360);
+        assertThat(result.deductionTotal()).isEqualTo(255_910);
+    }
+
+    @Test
+    @DisplayName("수식 항목은 근태 변수와 앞선 수당이 반영된 지급총액으로 평가한다")
+    void evaluate_formulaUsesVariables() {
+        // Given
+        PayrollPolicyPlan plan = new PayrollPolicyPlan(1, "2026-10", List.of(
+                fixed(1, ItemType.ALLOWANCE, "MEAL", 10, true, List.of(), List.of(), List.of(), 200_000),
+                formula(2, ItemType.ALLOWANCE, "NIGHT", 20, "floor(baseSalary / 209) * overtimeHours * 0.5", 10),
+                formula(3, ItemType.DEDUCTION, "SAVING", 30, "max(grossPay - 3000000, 0) * 0.1 + workDays * 1000", 1)
+        ));
+
+        // When
+        // 근무 13,440분(224시간) → 초과 15시간, 근무일수 21일
+        PayrollPolicyPlan.Result result = plan.evaluate(
+                new PayrollPolicyPlan.Subject(1, 0, 0, 2_090_000, 0, 13_440, 900, 21));
+
+        // Then
+        // floor(2,090,000 / 209) × 15 × 0.5 = 75,000
+        // (2,090,000 + 200,000 + 75,000 - 3,000,000 → 0) × 0.1 + 21 × 1,000 = 21,000
+        assertThat(result.items()).extracting(PayrollPolicyPlan.Applied::amount)
+                .containsExactly(200_000, 75_000, 21_000);
+        assertThat(result.allowanceTotal()).isEqualTo(275_000);
+        assertThat(result.deductionTotal()).isEqualTo(21_000);
+    }
+
+    @Test
+    @DisplayName("정책 내용이 바뀌면 정책 지문과 계산 지문이 달라진다")
+    void fingerprint_changesWithPolicy() {
+        // Given
+        PayrollPolicyPlan plan = new PayrollPolicyPlan(1, "2026-10", List.of(
+                fixed(1, ItemType.ALLOWANCE, "MEAL", 10, true, List.of(), List.of(), List.of(), 100_000)));
+        PayrollPolicyPlan same = new PayrollPolicyPlan(1, "2026-10", List.of(
+                fixed(1, ItemType.ALLOWANCE, "MEAL", 10, true, List.of(), List.of(), List.of(), 100_000)));
+        PayrollPolicyPlan raised = new PayrollPolicyPlan(1, "2026-10", List.of(
+                fixed(1, ItemType.ALLOWANCE, "MEAL", 10, true, List.of(), List.of(), List.of(), 120_000)));
+        PayrollPolicyPlan formulaA = new PayrollPolicyPlan(1, "2026-10", List.of(
+                formula(1, ItemType.ALLOWANCE, "MEAL", 10, "workDays * 10000", 1)));
+        PayrollPolicyPlan formulaB = new PayrollPolicyPlan(1, "2026-10", List.of(
+                formula(1, ItemType.ALLOWANCE, "MEAL", 10, "workDays * 12000", 1)));
+
+        // When & Then
+        assertThat(same.digest()).isEqualTo(plan.digest());
+        assertThat(same.fingerprint(42L)).isEqualTo(plan.fingerprint(42L));
+        assertThat(raised.fingerprint(42L)).isNotEqualTo(plan.fingerprint(42L));
+        assertThat(formulaB.fingerprint(42L)).isNotEqualTo(formulaA.fingerprint(42L));
+    }
+
+    private PayrollPolicyPlan.Subject subject(int employeeId, int departmentId, int gradeId,
+                                              int baseSalary, int overtimePay) {
+        return new PayrollPolicyPlan.Subject(employeeId, departmentId, gradeId, baseSalary, overtimePay, 0, 0, 0);
+    }
+
+    private PayrollPolicyRule fixed(int id, ItemType type, String code, int priority, boolean all,
+                                    List<Integer> departments, List<Integer> grades, List<Integer> employees,
+                                    int amount) {
+        return new PayrollPolicyRule(id, type, code, code, "Y", CalcMethod.FIXED, amount, null, null,
+                BaseAmountType.BASE_SALARY, 1, RoundingModeType.HALF_UP, priority,
+                all, departments, grades, employees);
+    }
+
+    private PayrollPolicyRule rate(int id, String code, int priority, BigDecimal rate,
+                                   BaseAmountType baseType, int unit, RoundingModeType mode) {
+        return new PayrollPolicyRule(id, ItemType.DEDUCTION, code, code, "N", CalcMethod.RATE, null, rate, null,
+                baseType, unit, mode, priority, true, List.of(), List.of(), List.of());
+    }
+
+    private PayrollPolicyRule formula(int id, ItemType type, String code, int priority, String formula, int unit) {
+        return new PayrollPolicyRule(id, type, code, code, "Y", CalcMethod.FORMULA, null, null, formula,
+                BaseAmountType.BASE_SALARY, unit, RoundingModeType.HALF_UP, priority, true, List.of(), List.of(), List.of());
+    }
+}
@@ -0,0 +1,109 @@
+package com.c4.hero.domain.payroll.policy.service;
+
+import com.c4.hero.domain.payroll.common.type.PayrollTargetType;
+import com.c4.hero.domain.payroll.policy.dto.request.ItemPolicyTargetRequestDTO;
+import com.c4.hero.domain.payroll.policy.entity.PayrollItemPolicyTarget;
+import com.c4.hero.domain.payroll.policy.repository.PayrollItemPolicyRepository;
+import com.c4.hero.domain.payroll.policy.repository.PayrollItemPolicyTargetRepository;
+import com.c4.hero.domain.payroll.policy.repository.PayrollPolicyBulkRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Collection;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * <pre>
+ * Class Name: ItemPolicyServiceTest
+ * Description: 급여 항목 정책 적용 대상 변경(diff 기반 일괄 반영) 테스트
+ *
+ * History
+ *   2026/10/18 - 동근 테스트 추가
+ * </pre>
+ *
+ * @author 동근
+ * @version 1.0
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("급여 항목 정책 서비스 테스트")
+class ItemPolicyServiceTest {
+
+    @Mock
+    PayrollItemPolicyRepository itemPolicyRepository;
+    @Mock
+    PayrollItemPolicyTargetRepository targetRepository;
+    @Mock
+    PayrollPolicyBulkRepository bulkRepository;
+
+    @InjectMocks
+    ItemPolicyService itemPolicyService;
+
+    @Test
+    @DisplayName("대상 교체 시 유지되는 대상은 그대로 두고, 빠진 대상만 삭제하고 새 대상만 추가한다")
+    void replaceTargets_appliesOnlyDiff() {
+        // Given
+        when(targetRepository.findAllByItemPolicyIdIn(anyCollection())).thenReturn(List.of(
+                target(1, 7, PayrollTargetType.DEPARTMENT, "10"),
+                target(2, 7, PayrollTargetType.DEPARTMENT, "20"),
+                target(3, 7, PayrollTargetType.DEPARTMENT, "10"),
+                target(4, 7, PayrollTargetType.EMPLOYEE, "100")
+        ));
+
+        // When
+        itemPolicyService.replaceTargets(7, List.of(
+                new ItemPolicyTargetRequestDTO(PayrollTargetType.DEPARTMENT, "10"),
+                new ItemPolicyTargetRequestDTO(PayrollTargetType.EMPLOYEE, "100"),
+                new ItemPolicyTargetRequestDTO(PayrollTargetType.POSITION, "3")
+        ));
+
+        // Then
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<Collection<Integer>> deleted = ArgumentCaptor.forClass(Collection.class);
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<PayrollItemPolicyTarget>> inserted = ArgumentCaptor.forClass(List.class);
+        verify(bulkRepository).deleteTargets(deleted.capture());
+        verify(bulkRepository).insertTargets(inserted.capture());
+
+        // 부서 20 제거 + 중복 저장된 부서 10 정리, 직급 3만 신규 추가
+        assertThat(deleted.getValue()).containsExactlyInAnyOrder(2, 3);
+        assertThat(inserted.getValue())
+                .extracting(PayrollItemPolicyTarget::getItemPolicyId, PayrollItemPolicyTarget::getPayrollTargetType,
+                        PayrollItemPolicyTarget::getTargetValue)
+                .containsExactly(tuple(7, PayrollTargetType.POSITION, "3"));
+    }
+
+    @Test
+    @DisplayName("ALL 이외 대상에 값이 없으면 저장 전에 예외가 발생한다")
+    void replaceTargets_requiresValue() {
+        // When & Then
+        assertThatThrownBy(() -> itemPolicyService.replaceTargets(7, List.of(
+                new ItemPolicyTargetRequestDTO(PayrollTargetType.DEPARTMENT, " "))))
+                .isInstanceOf(IllegalArgumentException.class);
+
+        verify(bulkRepository, never()).insertTargets(any());
+        verify(bulkRepository, never()).deleteTargets(any());
+    }
+
+    private PayrollItemPolicyTarget target(int targetId, int itemPolicyId, PayrollTargetType type, String value) {
+        return PayrollItemPolicyTarget.builder()
+                .targetId(targetId)
+                .itemPolicyId(itemPolicyId)
+                .payrollTargetType(type)
+                .targetValue(value)
+                .build();
+    }
+}
@@ -3,9 +3,10 @@ package com.c4.hero.domain.promotion.service;
 import com.c4.hero.common.exception.BusinessException;
 import com.c4.hero.domain.approval.service.ApprovalCommandService;
 import com.c4.hero.domain.auth.security.CustomUserDetails;
+import com.c4.hero.domain.department.graph.OrganizationGraph;
+import com.c4.hero.domain.department.graph.OrganizationGraphService;
 import com.c4.hero.domain.employee.entity.Employee;
 import com.c4.hero.domain.employee.entity.Grade;
-import com.c4.hero.domain.employee.repository.EmployeeDepartmentRepository;
 import com.c4.hero.domain.employee.repository.EmployeeGradeRepository;
 import com.c4.hero.domain.employee.repository.EmployeeRepository;
 import com.c4.hero.domain.promotion.dto.PromotionDetailPlanDTO;
@@ -53,7 +54,7 @@ class PromotionCommandServiceTest {
     @Mock
     private EmployeeGradeRepository gradeRepository;
     @Mock
-    private EmployeeDepartmentRepository departmentRepository;
+    private OrganizationGraphService organizationGraphService;
     @Mock
     private ApprovalCommandService approvalCommandService;
 
@@ -86,8 +87,9 @@ class PromotionCommandServiceTest {
         given(grade.getRequiredPoint()).willReturn(100);
         given(gradeRepository.findAll(any(org.springframework.data.domain.Sort.class))).willReturn(List.of(mock(Grade.class), mock(Grade.class), grade));
 
-        // Mocking departmentRepository for findAllSubDepartmentIds
-        given(departmentRepository.findByParentDepartmentId(anyInt())).willReturn(Collections.emptyList());
+        // 대상 부서 및 하위 부서 조회용 조직 그래프
+        given(organizationGraphService.current()).willReturn(OrganizationGraph.of(1L, List.of(
+                new OrganizationGraph.Department(1, "개발팀", null, 1, null, null))));
 
         // when
         promotionService.registerPromotionPlan(request);
@@ -1,11 +1,18 @@
 package com.c4.hero.domain.promotion.service;
 
 import com.c4.hero.common.response.PageResponse;
+import com.c4.hero.domain.department.graph.OrganizationGraph;
+import com.c4.hero.domain.department.graph.OrganizationGraphService;
 import com.c4.hero.domain.employee.entity.EmployeeDepartment;
 import com.c4.hero.domain.employee.entity.Grade;
 import com.c4.hero.domain.employee.repository.EmployeeDepartmentRepository;
 import com.c4.hero.domain.employee.repository.EmployeeGradeRepository;
+import com.c4.hero.domain.evaluation.entity.PromotionAnalysisResult;
+import com.c4.hero.domain.evaluation.repository.PromotionAnalysisResultRepository;
+import com.c4.hero.domain.promotion.dto.PromotionCandidateDTO;
+import com.c4.hero.domain.promotion.dto.response.PromotionDetailForReviewResponseDTO;
 import com.c4.hero.domain.promotion.dto.response.PromotionOptionsResponseDTO;
+import com.c4.hero.domain.promotion.dto.response.PromotionPlanForReviewResponseDTO;
 import com.c4.hero.domain.promotion.dto.response.PromotionPlanResponseDTO;
 import com.c4.hero.domain.promotion.mapper.PromotionMapper;
 import org.junit.jupiter.api.DisplayName;
@@ -39,7 +46,11 @@ class PromotionQueryServiceTest {
     @Mock
     private EmployeeDepartmentRepository departmentRepository;
     @Mock
+    private OrganizationGraphService organizationGraphService;
+    @Mock
     private EmployeeGradeRepository gradeRepository;
+    @Mock
+    private PromotionAnalysisResultRepository analysisResultRepository;
 
     @Test
     @DisplayName("승진 계획 목록 조회 테스트")
@@ -88,9 +99,9 @@ class PromotionQueryServiceTest {
         Integer departmentId = 1;
         EmployeeDepartment dept = new EmployeeDepartment();
         // Mocking department hierarchy logic if needed, or just simple return
-        // findAllSubDepartmentIds relies on departmentRepository.findByParentDepartmentId
-        
-        given(departmentRepository.findByParentDepartmentId(departmentId)).willReturn(Collections.emptyList());
+        // 하위 부서 목록은 조직 그래프 스냅샷에서 조회
+        given(organizationGraphService.current()).willReturn(OrganizationGraph.of(1L, List.of(
+                new OrganizationGraph.Department(departmentId, "개발팀", null, 1, null, null))));
         given(promotionMapper.selectRecommendPromotionPlan(anyList())).willReturn(Collections.singletonList(new PromotionPlanResponseDTO()));
 
         // when
@@ -99,4 +110,33 @@ class PromotionQueryServiceTest {
         // then
         assertEquals(1, result.size());
     }
+
+    @Test
+    @DisplayName("심사용 상세 조회 시 저장된 AI 분석 결과를 후보자에 연결한다")
+    void getPromotionDetailForReviewWithStoredAnalysisTest() {
+        // given
+        PromotionCandidateDTO analyzed = PromotionCandidateDTO.builder().candidateId(1).employeeId(10).build();
+        PromotionCandidateDTO notAnalyzed = PromotionCandidateDTO.builder().candidateId(2).employeeId(20).build();
+        PromotionPlanForReviewResponseDTO plan = PromotionPlanForReviewResponseDTO.builder()
+                .promotionId(1)
+                .detailPlan(List.of(PromotionDetailForReviewResponseDTO.builder()
+                        .promotionDetailId(1)
+                        .candidateList(List.of(analyzed, notAnalyzed))
+                        .build()))
+                .build();
+
+        given(promotionMapper.selectPromotionDetailForReview(1)).willReturn(plan);
+        given(analysisResultRepository.findByPromotionId(1)).willReturn(List.of(
+                PromotionAnalysisResult.of(5L, 1, 10, "대리", "과장", 4.5f, List.of("리더십", "문제 해결"), "성장세가 높음")
+        ));
+
+        // when
+        PromotionPlanForReviewResponseDTO result = promotionService.getPromotionDetailForReview(1);
+
+        // then
+        PromotionCandidateDTO first = result.getDetailPlan().get(0).getCandidateList().get(0);
+        assertEquals("과장", first.getAiAnalysis().getRecommendedGrade());
+        assertEquals(List.of("리더십", "문제 해결"), first.getAiAnalysis().getCoreCompetencies());
+        assertNull(result.getDetailPlan().get(0).getCandidateList().get(1).getAiAnalysis());
+    }
 }
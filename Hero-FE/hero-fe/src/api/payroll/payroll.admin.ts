@@ -12,10 +12,11 @@
  * 2025/12/23 - 동근 수당/공제 항목 API 연동 추가
  * 2025/12/26 - 동근 급여관리 사이드바 항목 반영
  * 2025/12/28 - 동근 급여 조회 API 연동 추가
+ * 2026/10/18 - 동근 계산/확정/지급을 비동기 작업 등록 API로 전환
  * </pre>
  *
  * @author 동근
- * @version 1.4
+ * @version 1.5
  */
 import client from '@/api/apiClient';
 
@@ -24,7 +25,9 @@ import type {
     PayrollBatchListResponse,
     PayrollEmployeeResultResponse,
     PayrollBatchStatus,
-    PayrollBatchTargetEmployee
+    PayrollBatchTargetEmployee,
+    PayrollBatchJobType,
+    PayrollBatchJobResponse
 } from '@/types/payroll/payroll.batch';
 
 import type {
@@ -89,39 +92,31 @@ export const payrollAdminApi = {
         return res.data; // batchId
     },
 
-    /**
-     *  전체 계산
-     * - body 없이 호출하면 서버가 targets(재직자) 기준으로 전체 계산
-     * POST /api/admin/payroll/batches/{batchId}/calculate
-     */
-    async calculateBatchAll(batchId: number) {
-        await client.post<void>(`${BASE}/${batchId}/calculate`);
+    async listBatchTargets() {
+        const res = await client.get<PayrollBatchTargetEmployee[]>(
+            '/admin/payroll/batches/targets'
+        );
+        return res.data;
     },
 
     /**
-     * 선택 계산
-     * - employeeIds만 계산
-     * POST /api/admin/payroll/batches/{batchId}/calculate  body: [employeeIds]
+     * 배치 작업 등록 (계산 / 확정 / 지급)
+     * - 서버는 작업을 백그라운드로 실행하고 jobId를 즉시 반환 (202)
+     * - employeeIds는 CALCULATE 전용, 없으면 배치 전체 계산
+     * POST /api/admin/payroll/batches/{batchId}/jobs/{jobType}  body: [employeeIds]
      */
-    async calculateBatchSelected(batchId: number, employeeIds: number[]) {
-        await client.post<void>(`${BASE}/${batchId}/calculate`, employeeIds);
-    },
-
-    // POST /api/admin/payroll/batches/{batchId}/confirm
-    async confirmBatch(batchId: number) {
-        await client.post<void>(`${BASE}/${batchId}/confirm`);
-    },
-
-    async listBatchTargets() {
-        const res = await client.get<PayrollBatchTargetEmployee[]>(
-            '/admin/payroll/batches/targets'
+    async submitBatchJob(batchId: number, jobType: PayrollBatchJobType, employeeIds?: number[]) {
+        const res = await client.post<PayrollBatchJobResponse>(
+            `${BASE}/${batchId}/jobs/${jobType}`,
+            employeeIds
         );
         return res.data;
     },
 
-    // POST /api/admin/payroll/batches/{batchId}/pay
-    async payBatch(batchId: number) {
-        await client.post<void>(`${BASE}/${batchId}/pay`);
+    // GET /api/admin/payroll/batches/jobs/{jobId}
+    async getBatchJob(jobId: number) {
+        const res = await client.get<PayrollBatchJobResponse>(`${BASE}/jobs/${jobId}`);
+        return res.data;
     },
 
     // ===== Allowance =====
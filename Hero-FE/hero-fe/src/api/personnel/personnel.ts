@@ -7,10 +7,11 @@
  * 2025/12/12 (승건) 최초 작성
  * 2025/12/28 (혜원) 프로필 조회 API 추가
  * 2025/12/28 (혜원) Security Context 기반으로 리팩토링
+ * 2026/10/18 (혜원) 프로필 이미지 URL 조회 API 추가
  * </pre>
  *
  * @author 승건
- * @version 2.0
+ * @version 2.1
  */
 
 import client from '@/api/apiClient';
@@ -125,6 +126,23 @@ export const fetchMyProfile = () => {
   return client.get<ApiResponse<EmployeeProfileResponse>>('/employee/profile');
 };
 
+/**
+ * 프로필 이미지 URL 응답 인터페이스
+ */
+export interface ProfileImageUrlResponse {
+  url: string | null;
+  expiresAt: string | null;
+}
+
+/**
+ * 현재 로그인한 사용자의 프로필 이미지 Presigned URL 조회
+ * Access Token에는 S3 키만 담기므로 화면 표시용 URL은 이 API로 발급받음
+ * @author 혜원
+ */
+export const fetchMyProfileImageUrl = () => {
+  return client.get<ApiResponse<ProfileImageUrlResponse>>('/employee/me/profile-image');
+};
+
 // ==================== 연락처 정보 ====================
 
 /**
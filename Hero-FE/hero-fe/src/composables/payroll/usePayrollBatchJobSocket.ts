@@ -0,0 +1,121 @@
+/**
+ * <pre>
+ * TypeScript Name: usePayrollBatchJobSocket
+ * Description: 급여 배치 비동기 작업 진행 현황 WebSocket Composable
+ *              STOMP /topic/payroll/batches/{batchId}/jobs 구독
+ *              - 계산 청크 완료마다 진행 현황(total/done/failed) 수신
+ *              - 작업 종료(COMPLETED/FAILED) 메시지 수신
+ *
+ * History
+ * 2026/10/18 (동근) 최초 작성
+ * </pre>
+ *
+ * @author 동근
+ * @version 1.0
+ */
+
+import { ref, Ref } from 'vue';
+import SockJS from 'sockjs-client';
+import { Client, IMessage, StompSubscription } from '@stomp/stompjs';
+import { useAuthStore } from '@/stores/auth';
+import type { PayrollBatchJobResponse } from '@/types/payroll/payroll.batch';
+
+interface UsePayrollBatchJobSocket {
+  isConnected: Ref<boolean>;
+  connect: (batchId: number, onMessage: (job: PayrollBatchJobResponse) => void) => void;
+  disconnect: () => void;
+}
+
+/**
+ * 급여 배치 작업 진행 현황 구독 Composable
+ *
+ * @description 연결이 끊기거나 메시지를 놓칠 수 있으므로
+ *              호출 측은 작업 상태 조회 API 폴링을 함께 사용해야 함
+ * @returns {UsePayrollBatchJobSocket} WebSocket 연결 상태 및 메서드
+ */
+export function usePayrollBatchJobSocket(): UsePayrollBatchJobSocket {
+  const isConnected: Ref<boolean> = ref(false);
+  let stompClient: Client | null = null;
+  let subscription: StompSubscription | null = null;
+
+  /**
+   * WebSocket 서버에 연결하고 배치 작업 토픽 구독
+   *
+   * @param batchId - 구독할 급여 배치 ID
+   * @param onMessage - 진행 현황 수신 시 실행할 콜백 함수
+   */
+  const connect = (
+    batchId: number,
+    onMessage: (job: PayrollBatchJobResponse) => void
+  ): void => {
+    const authStore = useAuthStore();
+    const token = authStore.accessToken;
+
+    if (!token) {
+      console.error('[PayrollJobSocket] JWT 토큰이 없습니다. 로그인이 필요합니다.');
+      return;
+    }
+
+    const apiUrl = import.meta.env.VITE_API_URL || 'http://localhost:5000/api';
+    const baseUrl = apiUrl.endsWith('/api')
+                ? apiUrl.slice(0, -4)
+                : apiUrl;
+    const topic = `/topic/payroll/batches/${batchId}/jobs`;
+
+    stompClient = new Client({
+      webSocketFactory: () => new SockJS(`${baseUrl}/ws/notifications`) as WebSocket,
+      connectHeaders: {
+        Authorization: `Bearer ${token}`
+      },
+      reconnectDelay: 5000,
+      heartbeatIncoming: 4000,
+      heartbeatOutgoing: 4000,
+    });
+
+    stompClient.onConnect = () => {
+      isConnected.value = true;
+      if (!stompClient) return;
+
+      subscription = stompClient.subscribe(topic, (message: IMessage) => {
+        try {
+          onMessage(JSON.parse(message.body) as PayrollBatchJobResponse);
+        } catch (error) {
+          console.error('[PayrollJobSocket] 메시지 파싱 실패:', error);
+        }
+      });
+    };
+
+    stompClient.onStompError = (frame) => {
+      console.error('[PayrollJobSocket] STOMP 에러 발생:', frame.headers['message']);
+      isConnected.value = false;
+    };
+
+    stompClient.onWebSocketClose = () => {
+      isConnected.value = false;
+    };
+
+    stompClient.activate();
+  };
+
+  /**
+   * 구독 해제 및 연결 종료
+   */
+  const disconnect = (): void => {
+    if (subscription && stompClient?.connected) {
+      subscription.unsubscribe();
+    }
+    subscription = null;
+
+    if (stompClient) {
+      stompClient.deactivate();
+      stompClient = null;
+      isConnected.value = false;
+    }
+  };
+
+  return {
+    isConnected,
+    connect,
+    disconnect,
+  };
+}
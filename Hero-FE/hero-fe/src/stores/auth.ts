@@ -34,7 +34,7 @@ interface JwtPayload {
     gradeName: string;       // 직급명
     jobTitleId: number;      // DB 직책 정보 인조키
     jobTitleName: string;    // 직책명
-    imagePath: string        // 프로필 이미지 경로
+    imagePath: string        // 프로필 이미지 S3 키 (URL은 /employee/me/profile-image 로 발급)
     auth: string[];            // 권한
 }
 
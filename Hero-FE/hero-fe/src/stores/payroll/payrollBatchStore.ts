@@ -7,24 +7,31 @@
  *   2025/12/09 - 동근 최초 작성 (급여 관련 API 연동 + Pinia 상태 관리 구성)
  *   2025/12/15 - 동근 배치 화면 연동 스토어 추가
  *   2025/12/23 - payrollAdminStore에서 payrollBatchStore로 이름 변경
+ *   2026/10/18 - 동근 계산/확정/지급을 비동기 작업 등록 + 진행 현황(STOMP, 상태 조회 폴링) 방식으로 전환
  * </pre>
  *
  * @module payroll-store
  * @author 동근
- * @version 1.2
+ * @version 1.3
  */
 
 import { defineStore } from 'pinia';
 import { ref, computed } from 'vue';
 import { payrollAdminApi } from '@/api/payroll/payroll.admin';
+import { usePayrollBatchJobSocket } from '@/composables/payroll/usePayrollBatchJobSocket';
 import type {
     PayrollBatchDetailResponse,
     PayrollBatchListResponse,
     PayrollEmployeeResultResponse,
     PayrollBatchStatus,
     PayrollBatchTargetEmployee,
+    PayrollBatchJobType,
+    PayrollBatchJobResponse,
 } from '@/types/payroll/payroll.batch';
 
+/** 작업 상태 조회 폴링 간격 (STOMP 메시지 유실/연결 실패 대비) */
+const JOB_POLL_INTERVAL_MS = 3000;
+
 export const usePayrollAdminStore = defineStore('payrollAdminStore', () => {
     const loading = ref(false);
     const errorMessage = ref<string | null>(null);
@@ -37,6 +44,9 @@ export const usePayrollAdminStore = defineStore('payrollAdminStore', () => {
     const targets = ref<PayrollBatchTargetEmployee[]>([]);
 
     const employeeCountByBatchId = ref<Record<number, number>>({});
+
+    /** 실행 중(또는 마지막으로 실행한) 배치 작업 진행 현황 */
+    const currentJob = ref<PayrollBatchJobResponse | null>(null);
     const selectedBatch = computed(() =>
         selectedBatchId.value == null
             ? null
@@ -171,91 +181,117 @@ export const usePayrollAdminStore = defineStore('payrollAdminStore', () => {
     }
 
     /* =========================
-     * 급여 계산
+     * 배치 작업 (계산 / 확정 / 지급)
      * ========================= */
 
+    const isJobFinished = (job: PayrollBatchJobResponse) =>
+        job.status === 'COMPLETED' || job.status === 'FAILED';
+
     /**
-     * 전체 계산
-     * @returns 
+     * 작업 종료까지 진행 현황 추적
+     * - STOMP 진행 현황 메시지로 currentJob 갱신
+     * - 구독 전에 끝났거나 메시지를 놓친 경우를 위해 작업 상태 조회 API 폴링 병행
      */
-    async function calculateAllBatch() {
+    function watchJob(job: PayrollBatchJobResponse) {
+        return new Promise<PayrollBatchJobResponse>((resolve, reject) => {
+            const socket = usePayrollBatchJobSocket();
+            let timer: ReturnType<typeof setInterval> | null = null;
+            let settled = false;
+
+            const finish = (next: PayrollBatchJobResponse | null, error?: unknown) => {
+                if (settled) return;
+                settled = true;
+                if (timer) clearInterval(timer);
+                socket.disconnect();
+                if (next) resolve(next);
+                else reject(error);
+            };
+
+            const update = (next: PayrollBatchJobResponse) => {
+                if (settled || next.jobId !== job.jobId) return;
+                currentJob.value = next;
+                if (isJobFinished(next)) finish(next);
+            };
+
+            socket.connect(job.batchId, update);
+            timer = setInterval(async () => {
+                try {
+                    update(await payrollAdminApi.getBatchJob(job.jobId));
+                } catch (e: unknown) {
+                    finish(null, e);
+                }
+            }, JOB_POLL_INTERVAL_MS);
+        });
+    }
+
+    /**
+     * 배치 작업 등록 후 종료까지 대기하고 배치를 재조회
+     *
+     * @param jobType 작업 유형
+     * @param employeeIds 계산 대상 사원 ID (CALCULATE 전용, 없으면 배치 전체)
+     * @param fallback 실패 시 기본 에러 메시지
+     */
+    async function runBatchJob(jobType: PayrollBatchJobType, fallback: string, employeeIds?: number[]) {
         if (!selectedBatchId.value) return;
 
+        const batchId = selectedBatchId.value;
         loading.value = true;
         resetError();
         try {
-            await payrollAdminApi.calculateBatchAll(selectedBatchId.value);
-            await selectBatch(selectedBatchId.value); // 재조회 타이밍 고정
+            currentJob.value = await payrollAdminApi.submitBatchJob(batchId, jobType, employeeIds);
+            const job = isJobFinished(currentJob.value)
+                ? currentJob.value
+                : await watchJob(currentJob.value);
+
+            await selectBatch(batchId); // 재조회 타이밍 고정
             await loadBatches(); // 목록 상태 뱃지/정렬 갱신용(선택)
+
+            if (job.status === 'FAILED') {
+                throw new Error(job.errorMessage ?? fallback);
+            }
+            return job;
         } catch (e: unknown) {
-            errorMessage.value = extractErrorMessage(e, '급여 전체 계산 실패');
+            errorMessage.value = extractErrorMessage(e, fallback);
             throw e;
         } finally {
             loading.value = false;
         }
     }
 
+    /**
+     * 전체 계산
+     * @returns 
+     */
+    async function calculateAllBatch() {
+        return runBatchJob('CALCULATE', '급여 전체 계산 실패');
+    }
+
     /**
      * 선택 계산
      */
     async function calculateSelectedBatch(employeeIds?: number[]) {
         if (!selectedBatchId.value) return;
 
-        loading.value = true;
-        resetError();
-        try {
-            let ids = employeeIds ?? [];
-
-            // 호출자가 ids를 안 넘기면, 화면에 보이는 목록 기준으로 선택 계산
-            if (ids.length === 0 && employees.value.length > 0) {
-                ids = employees.value.map(e => e.employeeId);
-            }
+        let ids = employeeIds ?? [];
 
-            if (ids.length === 0) {
-                // 서버가 INVALID_INPUT 던지게 둘 수도 있지만, UX상 프론트에서 1차 차단
-                throw new Error('계산 대상 사원이 없습니다.');
-            }
+        // 호출자가 ids를 안 넘기면, 화면에 보이는 목록 기준으로 선택 계산
+        if (ids.length === 0 && employees.value.length > 0) {
+            ids = employees.value.map(e => e.employeeId);
+        }
 
-            await payrollAdminApi.calculateBatchSelected(selectedBatchId.value, ids);
-            await selectBatch(selectedBatchId.value); // 재조회 타이밍 고정
-            await loadBatches(); // 목록 상태 뱃지/정렬 갱신용(선택)
-        } catch (e: unknown) {
-            errorMessage.value = extractErrorMessage(e, '급여 선택 계산 실패');
-            throw e;
-        } finally {
-            loading.value = false;
+        if (ids.length === 0) {
+            // 서버가 INVALID_INPUT 던지게 둘 수도 있지만, UX상 프론트에서 1차 차단
+            errorMessage.value = '계산 대상 사원이 없습니다.';
+            throw new Error('계산 대상 사원이 없습니다.');
         }
+
+        return runBatchJob('CALCULATE', '급여 선택 계산 실패', ids);
     }
     async function confirmSelectedBatch() {
-        if (!selectedBatchId.value) return;
-        loading.value = true;
-        resetError();
-        try {
-            await payrollAdminApi.confirmBatch(selectedBatchId.value);
-            await selectBatch(selectedBatchId.value);
-            await loadBatches();
-        } catch (e: unknown) {
-            errorMessage.value = extractErrorMessage(e, '배치 확정 실패');
-            throw e;
-        } finally {
-            loading.value = false;
-        }
+        return runBatchJob('CONFIRM', '배치 확정 실패');
     }
     async function paySelectedBatch() {
-        if (!selectedBatchId.value) return;
-
-        loading.value = true;
-        resetError();
-        try {
-            await payrollAdminApi.payBatch(selectedBatchId.value);
-            await selectBatch(selectedBatchId.value);
-            await loadBatches();
-        } catch (e: unknown) {
-            errorMessage.value = extractErrorMessage(e, '지급 처리 실패');
-            throw e;
-        } finally {
-            loading.value = false;
-        }
+        return runBatchJob('PAY', '지급 처리 실패');
     }
 
 
@@ -275,6 +311,7 @@ export const usePayrollAdminStore = defineStore('payrollAdminStore', () => {
         employees,
         targets,
         employeeCountByBatchId,
+        currentJob,
 
         loadBatches,
         selectBatch,
@@ -7,10 +7,11 @@
  * 2025/12/12 - 동근 최초 작성
  * 2025/12/15 - 동근 배치 API 연동 타입 추가
  * 2025/12/23 - 동근 타입 파일명 변경(payroll.admin.ts -> payroll.batch.ts)
+ * 2026/10/18 - 동근 배치 비동기 작업(계산/확정/지급) 타입 추가
  * </pre>
  *
  * @author 동근
- * @version 1.2
+ * @version 1.3
  */
 export type PayrollBatchStatus = 'READY' | 'CALCULATED' | 'CONFIRMED' | 'PAID';
 export type PayrollStatus = 'READY' | 'CALCULATED' | 'FAILED' | 'CONFIRMED';
@@ -79,4 +80,26 @@ export interface PayrollBatchTargetEmployee {
     employeeId: number;
     employeeName: string;
     departmentName: string | null;
-}
\ No newline at end of file
+}
+export type PayrollBatchJobType = 'CALCULATE' | 'CONFIRM' | 'PAY';
+export type PayrollBatchJobStatus = 'QUEUED' | 'RUNNING' | 'COMPLETED' | 'FAILED';
+
+/**
+ * 배치 비동기 작업 상태/진행 현황
+ * - 작업 등록 / 작업 상태 조회 응답
+ * - STOMP /topic/payroll/batches/{batchId}/jobs 메시지
+ */
+export interface PayrollBatchJobResponse {
+    jobId: number;
+    batchId: number;
+    jobType: PayrollBatchJobType;
+    status: PayrollBatchJobStatus;
+    total: number;
+    done: number;
+    failed: number;
+    skipped: number;
+    errorMessage: string | null;
+    createdAt: string | null;
+    startedAt: string | null;
+    finishedAt: string | null;
+}
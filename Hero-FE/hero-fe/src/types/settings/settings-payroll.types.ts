@@ -72,6 +72,7 @@ export interface ItemPolicy {
     calcMethod: CalcMethod;
     fixedAmount?: number | null;
     rate?: string | number | null;
+    formula?: string | null;
     baseAmountType?: string | null;
     roundingUnit?: number | null;
     roundingMode?: string | null;
@@ -99,6 +100,7 @@ export interface ItemPolicyUpsertRequest {
     calcMethod: CalcMethod;
     fixedAmount?: number | null;
     rate?: string | number | null;
+    formula?: string | null;
     baseAmountType?: string | null;
     roundingUnit?: number | null;
     roundingMode?: string | null;